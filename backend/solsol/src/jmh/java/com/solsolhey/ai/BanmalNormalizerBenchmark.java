@@ -0,0 +1,63 @@
+package com.solsolhey.ai;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 말투 정규화 1회 비용 (멘트 길이 수준의 입력) 및 스트리밍 세션 비용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class BanmalNormalizerBenchmark {
+
+    private static final String SHORT = "같이 공부합시다! 오늘 과제 먼저 하세요.";
+    private static final String LONG = "\"벌써 금요일이에요?\"\n주말 계획 세워봐요! 다음 주 시험 일정 확인해주세요. "
+            + "도서관에서 같이 하실래요? 산책은 어때요? 오늘도 화이팅해요!";
+
+    private BanmalNormalizer normalizer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        normalizer = new BanmalNormalizer();
+        ReflectionTestUtils.setField(normalizer, "rulesResource", new ClassPathResource("ai/banmal-rules.txt"));
+        normalizer.init();
+    }
+
+    @Benchmark
+    public String normalizeShort() {
+        return normalizer.normalize(SHORT);
+    }
+
+    @Benchmark
+    public String normalizeLong() {
+        return normalizer.normalize(LONG);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String normalizeLong8Threads() {
+        return normalizer.normalize(LONG);
+    }
+
+    @Benchmark
+    public String streamLongByThreeChars() {
+        BanmalNormalizer.StreamSession session = normalizer.openStream();
+        for (int i = 0; i < LONG.length(); i += 3) {
+            session.append(LONG.substring(i, Math.min(LONG.length(), i + 3)));
+        }
+        String rest = session.finish();
+        return rest == null ? session.text() : rest;
+    }
+}
@@ -0,0 +1,99 @@
+package com.solsolhey.common.security;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Rate Limit 판정 처리량 (8~64 스레드)
+ * - hot: 모든 스레드가 같은 버킷 (CAS 경합 최대)
+ * - spread: 스레드마다 IP 1만 개 중 임의 선택 (캐시 조회 + 드문 경합)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class RateLimitingBenchmark {
+
+    private static final int IP_COUNT = 10_000;
+
+    private RateLimitingService service;
+    private String[] ips;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        service = new RateLimitingService(new RateLimitPolicyProperties());
+        // 벤치마크 중 거절 로그가 측정을 오염시키지 않도록 한도를 충분히 크게
+        ReflectionTestUtils.setField(service, "generalRequestsPerMinute", Integer.MAX_VALUE / 2);
+        ReflectionTestUtils.setField(service, "loginAttemptsPer15Min", 5);
+        ReflectionTestUtils.setField(service, "cleanupIntervalHours", 1);
+        ReflectionTestUtils.setField(service, "cleanupTickMs", 60_000L);
+        service.init();
+        ips = new String[IP_COUNT];
+        for (int i = 0; i < IP_COUNT; i++) {
+            ips[i] = "10.0." + (i / 256) + "." + (i % 256);
+            service.isAllowedByIp(ips[i]);
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean hot08() {
+        return service.isAllowedByIp(ips[0]);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public boolean hot16() {
+        return service.isAllowedByIp(ips[0]);
+    }
+
+    @Benchmark
+    @Threads(32)
+    public boolean hot32() {
+        return service.isAllowedByIp(ips[0]);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean hot64() {
+        return service.isAllowedByIp(ips[0]);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean spread08() {
+        return service.isAllowedByIp(randomIp());
+    }
+
+    @Benchmark
+    @Threads(16)
+    public boolean spread16() {
+        return service.isAllowedByIp(randomIp());
+    }
+
+    @Benchmark
+    @Threads(32)
+    public boolean spread32() {
+        return service.isAllowedByIp(randomIp());
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean spread64() {
+        return service.isAllowedByIp(randomIp());
+    }
+
+    private String randomIp() {
+        return ips[ThreadLocalRandom.current().nextInt(IP_COUNT)];
+    }
+}
@@ -1,11 +1,14 @@
 package com.solsolhey.ai;
 
 import com.solsolhey.ai.dto.AiSpeechResponse;
+import com.solsolhey.ai.gemini.ResilientGeminiGateway;
 import com.solsolhey.auth.dto.response.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -16,6 +19,9 @@ import java.util.Map;
 public class AiController {
     private final AiMessageService aiMessageService;
     private final AiSpeechBufferService aiSpeechBufferService;
+    private final AiSpeechCache aiSpeechCache;
+    private final ResilientGeminiGateway geminiGateway;
+    private final AiSpeechStreamService aiSpeechStreamService;
 
     @PostMapping("/speech")
     public ResponseEntity<Map<String, Object>> generateSpeech(@AuthenticationPrincipal CustomUserDetails user) {
@@ -41,6 +47,22 @@ public class AiController {
         return ResponseEntity.ok(body);
     }
 
+    /**
+     * SSE: 버퍼/캐시 멘트는 즉시, 그 외에는 모델 출력을 스트리밍 ("delta" 이벤트 후 "done")
+     */
+    @GetMapping(value = "/speech/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSpeech(@AuthenticationPrincipal CustomUserDetails user) {
+        return aiSpeechStreamService.stream(user.getUserId());
+    }
+
+    @GetMapping("/speech/stream-status")
+    public ResponseEntity<Map<String, Object>> streamStatus() {
+        Map<String, Object> body = new HashMap<>();
+        body.put("success", Boolean.TRUE);
+        body.put("status", aiSpeechStreamService.getStatus());
+        return ResponseEntity.ok(body);
+    }
+
     @PostMapping("/speech/prefill")
     public ResponseEntity<Map<String, Object>> prefill(@AuthenticationPrincipal CustomUserDetails user,
                                                        @RequestParam(name = "perType", required = false, defaultValue = "2") int perType) {
@@ -51,4 +73,28 @@ public class AiController {
         body.put("message", "prefilled");
         return ResponseEntity.ok(body);
     }
+
+    @GetMapping("/speech/scheduler-status")
+    public ResponseEntity<Map<String, Object>> schedulerStatus() {
+        Map<String, Object> body = new HashMap<>();
+        body.put("success", Boolean.TRUE);
+        body.put("status", aiSpeechBufferService.getStatus());
+        return ResponseEntity.ok(body);
+    }
+
+    @GetMapping("/speech/cache-status")
+    public ResponseEntity<Map<String, Object>> cacheStatus() {
+        Map<String, Object> body = new HashMap<>();
+        body.put("success", Boolean.TRUE);
+        body.put("status", aiSpeechCache.getStatus());
+        return ResponseEntity.ok(body);
+    }
+
+    @GetMapping("/gemini/status")
+    public ResponseEntity<Map<String, Object>> geminiStatus() {
+        Map<String, Object> body = new HashMap<>();
+        body.put("success", Boolean.TRUE);
+        body.put("status", geminiGateway.getStatus());
+        return ResponseEntity.ok(body);
+    }
 }
@@ -1,7 +1,6 @@
 package com.solsolhey.ai;
 
-import com.google.genai.Client;
-import com.google.genai.types.GenerateContentResponse;
+import com.solsolhey.ai.gemini.GeminiGateway;
 import com.solsolhey.ai.model.AcademicContext;
 import com.solsolhey.challenge.repository.ChallengeRepository;
 import com.solsolhey.mascot.repository.MascotRepository;
@@ -15,33 +14,57 @@ import java.util.concurrent.ConcurrentHashMap;
 @RequiredArgsConstructor
 @Slf4j
 public class AiMessageService {
-    private final Client client;
+    private final GeminiGateway gemini;
     private final AcademicDummyProvider dummyProvider;
     private final ContextLoader contextLoader;
     private final PromptBuilder promptBuilder;
     private final MascotRepository mascotRepository;
     private final ChallengeRepository challengeRepository;
+    private final AiSpeechCache speechCache;
+    private final BanmalNormalizer banmalNormalizer;
 
-    // Vendor rate limit cooldown gate (ms since epoch). When in cooldown, skip model calls and use fallbacks.
-    private final java.util.concurrent.atomic.AtomicLong rateLimitUntilMs = new java.util.concurrent.atomic.AtomicLong(0);
-
+    // 벤더 쿼터/서킷 브레이커 게이트: 호출 불가 시 모델 호출을 건너뛰고 폴백 사용
     private boolean isRateLimitedNow() {
-        return System.currentTimeMillis() < rateLimitUntilMs.get();
-    }
-
-    private void onMaybeRateLimited(Exception e) {
-        String msg = e == null ? null : String.valueOf(e.getMessage());
-        if (msg != null && (msg.contains("429") || msg.toLowerCase().contains("too many requests"))) {
-            // Back off for 60 seconds
-            rateLimitUntilMs.set(System.currentTimeMillis() + 60_000);
-        }
+        return !gemini.isCallPermitted();
     }
 
     private enum SpeechType { ACADEMIC, CHALLENGE }
     private enum FocusType { ACADEMIC, TIME, PATTERN, MAJOR, ROLE, STREAK }
     private final ConcurrentHashMap<Long, java.util.Deque<FocusType>> recentFocusByUser = new ConcurrentHashMap<>();
 
+    /**
+     * 모델 호출 직전 단계의 멘트
+     * - text 가 있으면 바로 사용 가능 (공유 캐시 적중 또는 호출 불가 시 폴백)
+     * - 없으면 prompt 로 모델을 호출하고, 실패/공백 응답 시 fallback 사용
+     * - cacheKey 는 공유 캐시 키 (null 이면 공유 캐시를 쓰지 않음)
+     */
+    public record PreparedSpeech(String kind, String text, String prompt, String fallback, String cacheKey, boolean cached) {
+        static PreparedSpeech ready(SpeechType type, String text, boolean cached) {
+            return new PreparedSpeech(type.name(), text, null, null, null, cached);
+        }
+
+        static PreparedSpeech model(SpeechType type, String prompt, String fallback, String cacheKey) {
+            return new PreparedSpeech(type.name(), null, prompt, fallback, cacheKey, false);
+        }
+
+        public boolean isReady() {
+            return text != null;
+        }
+    }
+
     public com.solsolhey.ai.dto.AiSpeechGenResult generateSpeech(Long userId) {
+        PreparedSpeech prepared = prepareSpeech(userId);
+        String result = prepared.isReady() ? prepared.text() : callModel(prepared);
+
+        // 말투 정규화 + 상태 저장
+        String finalText = banmalNormalizer.normalize(result);
+        return new com.solsolhey.ai.dto.AiSpeechGenResult(finalText, prepared.kind());
+    }
+
+    /**
+     * 멘트 종류/포커스를 고르고 프롬프트를 구성 (모델은 호출하지 않음)
+     */
+    public PreparedSpeech prepareSpeech(Long userId) {
         var mascot = mascotRepository.findByUserId(userId).orElse(null);
         Integer level = null;
         if (mascot != null) {
@@ -50,117 +73,128 @@ public class AiMessageService {
         // 간단 분산: 무작위로 학사/챌린지 중 하나 우선 시도
         SpeechType desired = java.util.concurrent.ThreadLocalRandom.current().nextBoolean() ? SpeechType.ACADEMIC : SpeechType.CHALLENGE;
 
-        String result = null;
-        SpeechType produced = null;
-
         boolean avoidSocial = contextLoader.userNotesSuggestAvoidSocial(userId);
         String userSummary = contextLoader.getUserSummary(userId).orElse(null);
 
+        PreparedSpeech prepared;
         if (desired == SpeechType.ACADEMIC) {
-            var focus = chooseFocus(userId, desired);
-            result = tryAcademic(level, userId, avoidSocial, userSummary, focus);
-            if (result != null && !result.isBlank()) {
-                produced = SpeechType.ACADEMIC;
-            } else {
-                focus = chooseFocus(userId, SpeechType.CHALLENGE);
-                result = tryChallenge(level, userId, avoidSocial, userSummary, focus);
-                if (result != null && !result.isBlank()) produced = SpeechType.CHALLENGE;
+            prepared = prepareAcademic(level, userId, avoidSocial, userSummary, chooseFocus(userId, desired));
+            if (prepared == null) {
+                prepared = prepareChallenge(level, userId, avoidSocial, userSummary, chooseFocus(userId, SpeechType.CHALLENGE));
             }
         } else { // desired CHALLENGE
-            var focus = chooseFocus(userId, desired);
-            result = tryChallenge(level, userId, avoidSocial, userSummary, focus);
-            if (result != null && !result.isBlank()) {
-                produced = SpeechType.CHALLENGE;
-            } else {
-                focus = chooseFocus(userId, SpeechType.ACADEMIC);
-                result = tryAcademic(level, userId, avoidSocial, userSummary, focus);
-                if (result != null && !result.isBlank()) produced = SpeechType.ACADEMIC;
+            prepared = prepareChallenge(level, userId, avoidSocial, userSummary, chooseFocus(userId, desired));
+            if (prepared == null) {
+                prepared = prepareAcademic(level, userId, avoidSocial, userSummary, chooseFocus(userId, SpeechType.ACADEMIC));
             }
         }
 
-        if (result == null || result.isBlank()) {
+        if (prepared == null) {
             // 최종 폴백: 학사 기본 멘트
-            var academic = dummyProvider.getDummyContext();
-            result = fallbackMessage(academic);
-            produced = SpeechType.ACADEMIC;
+            prepared = PreparedSpeech.ready(SpeechType.ACADEMIC, fallbackMessage(dummyProvider.getDummyContext()), false);
         }
+        return prepared;
+    }
 
-        // 말투 정규화 + 상태 저장
-        String finalText = normalizeBanmal(result);
-        String kind = produced == null ? SpeechType.ACADEMIC.name() : produced.name();
-        return new com.solsolhey.ai.dto.AiSpeechGenResult(finalText, kind);
+    /**
+     * 스트리밍으로 받은 모델 응답을 공유 캐시에 반영
+     */
+    public void rememberModelText(PreparedSpeech prepared, String text) {
+        if (prepared.cacheKey() != null && text != null && !text.isBlank()) {
+            speechCache.store(prepared.cacheKey(), text.trim());
+        }
     }
 
-    private String tryAcademic(Integer level, Long userId, boolean avoidSocial, String userSummary, FocusType focus) {
+    private String callModel(PreparedSpeech prepared) {
+        try {
+            String text = gemini.generateText(prepared.prompt());
+            if (text != null && !text.isBlank()) {
+                rememberModelText(prepared, text);
+                return text.trim();
+            }
+        } catch (Exception e) {
+            log.warn("{} 메시지 생성 실패: {}", SpeechType.ACADEMIC.name().equals(prepared.kind()) ? "학사" : "챌린지", e.getMessage());
+        }
+        // 모델이 공백을 반환하거나 실패한 경우 폴백 사용
+        return prepared.fallback();
+    }
+
+    private PreparedSpeech prepareAcademic(Integer level, Long userId, boolean avoidSocial, String userSummary, FocusType focus) {
         // 미리 학사 컨텍스트를 확보하여 레이트리밋/예외 시에도 폴백을 즉시 반환
         AcademicContext academic = contextLoader.getAcademicContext().orElseGet(dummyProvider::getDummyContext);
-        if (isRateLimitedNow()) {
-            return fallbackMessage(academic);
-        }
         AcademicContext varied = selectRandomSubContext(academic);
         String[] focusKV = resolveFocusKV(userId, focus, varied);
-        String prompt = promptBuilder.buildPrompt(null, null, level, varied, userSummary, focusKV[0], focusKV[1])
+        String prompt = promptBuilder.buildPrompt(null, null, levelBand(level), varied, userSummary, focusKV[0], focusKV[1])
                 + (avoidSocial ? "\n소셜 언급 금지" : "");
-        try {
-            GenerateContentResponse res = client.models.generateContent(
-                    "gemini-2.5-flash",
-                    prompt,
-                    null
-            );
-            String text = res.text();
-            if (text != null && !text.isBlank()) return text.trim();
-        } catch (Exception e) {
-            log.warn("학사 메시지 생성 실패: {}", e.getMessage());
-            onMaybeRateLimited(e);
-            return fallbackMessage(academic);
+        String cacheKey = speechKey(SpeechType.ACADEMIC, levelBand(level), userSummary, focusKV, academicSubject(varied), avoidSocial);
+        var cached = speechCache.lookup(cacheKey);
+        if (cached.isPresent()) return PreparedSpeech.ready(SpeechType.ACADEMIC, cached.get(), true);
+        if (isRateLimitedNow()) {
+            return PreparedSpeech.ready(SpeechType.ACADEMIC, fallbackMessage(academic), false);
         }
-        // 모델이 공백을 반환한 경우에도 학사 폴백 사용
-        return fallbackMessage(academic);
+        return PreparedSpeech.model(SpeechType.ACADEMIC, prompt, fallbackMessage(academic), cacheKey);
     }
 
-    private String tryChallenge(Integer level, Long userId, boolean avoidSocial, String userSummary, FocusType focus) {
-        if (isRateLimitedNow()) {
-            // skip model; fallback to simple challenge message if available
-            try {
-                var now = java.time.LocalDateTime.now();
-                var challenges = challengeRepository.findAvailableChallenges(now);
-                if (challenges == null || challenges.isEmpty()) return fallbackChallengeMessage(null);
-                int idx = java.util.concurrent.ThreadLocalRandom.current().nextInt(challenges.size());
-                String challengeName = challenges.get(idx).getChallengeName();
-                return fallbackChallengeMessage(challengeName);
-            } catch (Exception ignored) {
-                return null;
-            }
-        }
+    private PreparedSpeech prepareChallenge(Integer level, Long userId, boolean avoidSocial, String userSummary, FocusType focus) {
         try {
             var now = java.time.LocalDateTime.now();
             var challenges = challengeRepository.findAvailableChallenges(now);
-            if (challenges == null || challenges.isEmpty()) return null;
+            if (challenges == null || challenges.isEmpty()) {
+                return isRateLimitedNow() ? PreparedSpeech.ready(SpeechType.CHALLENGE, fallbackChallengeMessage(null), false) : null;
+            }
             int idx = java.util.concurrent.ThreadLocalRandom.current().nextInt(challenges.size());
             var picked = challenges.get(idx);
             String challengeName = picked.getChallengeName();
             String[] focusKV = resolveFocusKV(userId, focus, null);
-            String prompt = promptBuilder.buildChallengePrompt(null, null, level, challengeName, userSummary, focusKV[0], focusKV[1])
+            String prompt = promptBuilder.buildChallengePrompt(null, null, levelBand(level), challengeName, userSummary, focusKV[0], focusKV[1])
                     + (avoidSocial ? "\n소셜 언급 금지" : "");
-            try {
-                GenerateContentResponse res = client.models.generateContent(
-                        "gemini-2.5-flash",
-                        prompt,
-                        null
-                );
-                String text = res.text();
-                if (text != null && !text.isBlank()) return text.trim();
-            } catch (Exception aiEx) {
-                log.warn("챌린지 메시지 생성 실패: {}", aiEx.getMessage());
-                onMaybeRateLimited(aiEx);
+            String cacheKey = speechKey(SpeechType.CHALLENGE, levelBand(level), userSummary, focusKV,
+                    "challenge:" + picked.getChallengeId(), avoidSocial);
+            var cached = speechCache.lookup(cacheKey);
+            if (cached.isPresent()) return PreparedSpeech.ready(SpeechType.CHALLENGE, cached.get(), true);
+            if (isRateLimitedNow()) {
+                // 모델 호출 생략: 단순 챌린지 멘트로 폴백
+                return PreparedSpeech.ready(SpeechType.CHALLENGE, fallbackChallengeMessage(challengeName), false);
             }
-            return fallbackChallengeMessage(challengeName);
+            return PreparedSpeech.model(SpeechType.CHALLENGE, prompt, fallbackChallengeMessage(challengeName), cacheKey);
         } catch (Exception listEx) {
             log.warn("챌린지 목록 조회 실패: {}", listEx.getMessage());
-            return null;
+            return isRateLimitedNow() ? PreparedSpeech.ready(SpeechType.CHALLENGE, fallbackChallengeMessage(null), false) : null;
         }
     }
 
+    /**
+     * 공유 캐시 키: (멘트 종류, 레벨 구간, 사용자 패싯 요약, 포커스 키/값, 고른 학사 항목 또는 챌린지 ID, 소셜 언급 금지 여부)
+     * 프롬프트를 결정하는 입력만으로 만들어, 패싯(전공/역할/시간대/패턴/연속일)이 같은 사용자끼리 멘트를 공유
+     */
+    private static String speechKey(SpeechType type, Integer levelBand, String userSummary, String[] focusKV,
+                                    String subject, boolean avoidSocial) {
+        return String.join("\u001f", type.name(), "lv" + levelBand, "u:" + (userSummary == null ? "" : userSummary),
+                String.valueOf(focusKV[0]), String.valueOf(focusKV[1]), subject, avoidSocial ? "nosocial" : "social");
+    }
+
+    // 무작위로 고른 학사 항목(일정/오늘 수업/공지 각 최대 1개)
+    private static String academicSubject(AcademicContext varied) {
+        if (varied == null) return "academic:none";
+        StringBuilder sb = new StringBuilder("academic");
+        if (varied.upcomingEvents() != null) {
+            for (var e : varied.upcomingEvents()) sb.append("|e:").append(e.title()).append('@').append(e.dueAtISO());
+        }
+        if (varied.todaySchedule() != null) {
+            for (var t : varied.todaySchedule()) sb.append("|t:").append(t.name()).append('@').append(t.startAtISO());
+        }
+        if (varied.notices() != null) {
+            for (var n : varied.notices()) sb.append("|n:").append(n.title()).append('@').append(n.postedAtISO());
+        }
+        return sb.toString();
+    }
+
+    // 프롬프트 공유를 위해 레벨을 구간 대표값으로 정규화 (1~5 → 1, 6~10 → 6, ...)
+    private static Integer levelBand(Integer level) {
+        int lv = level == null || level < 1 ? 1 : level;
+        return ((lv - 1) / 5) * 5 + 1;
+    }
+
     private String fallbackMessage(AcademicContext academic) {
         if (academic == null) return "오늘 할 일 하나 찜해볼까?";
         var rnd = java.util.concurrent.ThreadLocalRandom.current();
@@ -205,38 +239,6 @@ public class AiMessageService {
         return challengeName + " 한 번 해볼까?";
     }
 
-    // 간단한 말투 정규화: 존댓말 → 반말로 변환 (휴리스틱)
-    private String normalizeBanmal(String text) {
-        if (text == null) return "";
-        String s = text.trim();
-        // 따옴표 제거
-        s = s.replace("\n", " ").replaceAll("[“”\"']", "");
-        // 문장부호 앞 공백 정리
-        s = s.replaceAll("\s+([.!?])", "$1");
-        // 대표 종결어 변환
-        s = s.replaceAll("입니다([.!?])", "야$1");
-        s = s.replaceAll("입니다$", "야");
-        s = s.replaceAll("(이에요|예요|에요)([.!?])", "야$2");
-        s = s.replaceAll("(이에요|예요|에요)$", "야");
-        s = s.replaceAll("해주세요", "해줘");
-        s = s.replace("하실래요?", "할래?");
-        s = s.replace("하시겠어요?", "할래?");
-        s = s.replace("해볼까요?", "해볼까?");
-        s = s.replace("어때요?", "어때?");
-        s = s.replaceAll("봅시다", "보자");
-        s = s.replaceAll("합시다", "하자");
-        s = s.replaceAll("하십시오", "해줘");
-        s = s.replaceAll("하세요", "해");
-        s = s.replaceAll("좋아요", "좋아");
-        s = s.replaceAll("봐요", "봐");
-        // 문장 끝의 '요' 제거
-        s = s.replaceAll("요([.!?])", "$1");
-        s = s.replaceAll("요$", "");
-        // 공백 정리
-        s = s.replaceAll("\s{2,}", " ").trim();
-        return s;
-    }
-
     // 길이 제한 제거: ensureMaxLength/클램프 로직을 사용하지 않습니다.
 
     private AcademicContext selectRandomSubContext(AcademicContext ctx) {
@@ -3,162 +3,253 @@ package com.solsolhey.ai;
 import com.solsolhey.ai.dto.AiSpeechGenResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.time.Instant;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AiSpeechBufferService {
     private final AiMessageService aiMessageService;
+    private final AiSpeechScheduler scheduler;
 
     private static final int DEFAULT_PER_TYPE_TARGET = 2; // ACADEMIC 2 + CHALLENGE 2 = 4 total
     private static final long TTL_MILLIS = 180_000; // 180s
     private static final long IDLE_EVICT_MILLIS = 15 * 60_000; // 15m
+    private static final int ATTEMPTS_PER_TARGET = 6; // 보충 1회당 모델 호출 상한 (두 종류 합산)
 
-    private final Map<Long, Deque<Entry>> academicQ = new ConcurrentHashMap<>();
-    private final Map<Long, Deque<Entry>> challengeQ = new ConcurrentHashMap<>();
-    private final Map<Long, String> lastServed = new ConcurrentHashMap<>(); // "ACADEMIC" or "CHALLENGE"
-    private final Map<Long, Long> lastAccess = new ConcurrentHashMap<>();
+    @Value("${ai.speech.scheduler.interactive-timeout-ms:15000}")
+    private long interactiveTimeoutMs;
 
-    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final Map<Long, UserBuffer> buffers = new ConcurrentHashMap<>();
+    // 사용자별 진행 중인 보충은 최대 1개, 이후 요청은 목표치만 올림
+    private final Map<Long, Refill> inflightRefills = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong refillsStarted = new AtomicLong();
+    private final AtomicLong refillsCoalesced = new AtomicLong();
 
     public AiSpeechGenResult getNext(Long userId) {
-        long now = System.currentTimeMillis();
-        lastAccess.put(userId, now);
-        purgeExpired(userId, now);
-
-        // Prefer strict alternation: flip last served type
-        String prev = lastServed.getOrDefault(userId, "CHALLENGE");
-        String desired = Objects.equals(prev, "ACADEMIC") ? "CHALLENGE" : "ACADEMIC";
-        Entry e = pollByType(userId, desired);
-        if (e == null) {
-            // fallback to other type if desired empty
-            String other = Objects.equals(desired, "ACADEMIC") ? "CHALLENGE" : "ACADEMIC";
-            e = pollByType(userId, other);
-        }
-        if (e == null) {
-            // Synchronous single generation as last resort
-            var gen = aiMessageService.generateSpeech(userId);
-            offer(userId, gen);
-            e = pollByType(userId, desired);
-            if (e == null) e = pollByType(userId, Objects.equals(desired, "ACADEMIC") ? "CHALLENGE" : "ACADEMIC");
+        UserBuffer buffer = bufferOf(userId);
+        AiSpeechGenResult item = buffer.pollAlternating(System.currentTimeMillis());
+        if (item != null) {
+            hits.incrementAndGet();
+        } else {
+            // 버퍼가 비었으면 마지막 수단으로 INTERACTIVE 레인에서 생성
+            misses.incrementAndGet();
+            item = generateInteractive(userId);
+            if (item != null) buffer.markServed(item.getKind());
         }
-        // Refill in background toward target
+        // 목표치까지 백그라운드 보충
         refillAsync(userId, DEFAULT_PER_TYPE_TARGET);
-        if (e == null) {
-            // absolute fallback (shouldn't happen)
+        if (item == null) {
+            // 최종 폴백 (모델 호출 불가 또는 시간 초과)
             return new AiSpeechGenResult("오늘 할 일 하나 찜해볼까?", "CHALLENGE");
         }
-        lastServed.put(userId, e.item.getKind());
-        return e.item;
+        return item;
     }
 
-    public void prefill(Long userId, int perTypeTarget) {
-        long now = System.currentTimeMillis();
-        lastAccess.put(userId, now);
-        purgeExpired(userId, now);
+    /**
+     * 버퍼에 있는 멘트만 꺼냄 (생성하지 않음), 어느 경우든 보충은 예약
+     */
+    public AiSpeechGenResult pollBuffered(Long userId) {
+        AiSpeechGenResult item = bufferOf(userId).pollAlternating(System.currentTimeMillis());
+        if (item != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        refillAsync(userId, DEFAULT_PER_TYPE_TARGET);
+        return item;
+    }
+
+    /**
+     * 버퍼 밖에서 내준 멘트 기록 (ACADEMIC/CHALLENGE 교대 유지)
+     */
+    public void markServed(Long userId, String kind) {
+        bufferOf(userId).markServed(kind);
+    }
 
-        ensureTargetSync(userId, Math.max(1, perTypeTarget));
-        // kick one more async to smooth burst
+    public void prefill(Long userId, int perTypeTarget) {
+        bufferOf(userId);
         refillAsync(userId, Math.max(1, perTypeTarget));
     }
 
     public void refillAsync(Long userId, int perTypeTarget) {
-        executor.submit(() -> {
-            try {
-                ensureTargetSync(userId, perTypeTarget);
-                evictIfIdle(userId, System.currentTimeMillis());
-            } catch (Exception ex) {
-                log.warn("buffer refill failed: {}", ex.toString());
+        UserBuffer buffer = bufferOf(userId);
+        Refill created = new Refill(perTypeTarget);
+        Refill existing;
+        while ((existing = inflightRefills.putIfAbsent(userId, created)) != null) {
+            if (!existing.done.isDone()) {
+                existing.raiseTarget(perTypeTarget);
+                refillsCoalesced.incrementAndGet();
+                return;
             }
+            // 끝났지만 아직 등록 해제 전
+            inflightRefills.remove(userId, existing);
+        }
+        refillsStarted.incrementAndGet();
+        created.done.whenComplete((v, ex) -> {
+            inflightRefills.remove(userId, created);
+            evictIfIdle(userId, System.currentTimeMillis());
         });
+        refillStep(userId, buffer, created);
     }
 
-    private void ensureTargetSync(Long userId, int perTypeTarget) {
-        // cap attempts to avoid runaway model calls
-        int maxAttemptsPerType = perTypeTarget * 3;
+    public BufferStatus getStatus() {
+        long h = hits.get();
+        long m = misses.get();
+        return new BufferStatus(
+                buffers.size(),
+                inflightRefills.size(),
+                h,
+                m,
+                h + m == 0 ? 0.0 : (double) h / (h + m),
+                refillsStarted.get(),
+                refillsCoalesced.get(),
+                scheduler.getStatus()
+        );
+    }
 
-        while (sizeOf(academicQ, userId) < perTypeTarget && maxAttemptsPerType-- > 0) {
-            var gen = aiMessageService.generateSpeech(userId);
-            offer(userId, gen);
-        }
-        maxAttemptsPerType = perTypeTarget * 3;
-        while (sizeOf(challengeQ, userId) < perTypeTarget && maxAttemptsPerType-- > 0) {
-            var gen = aiMessageService.generateSpeech(userId);
-            offer(userId, gen);
+    // 단계마다 모델 호출 1건만 수행해 PREFILL 생성 사이에 INTERACTIVE 요청이 끼어들 수 있게 함
+    private void refillStep(Long userId, UserBuffer buffer, Refill refill) {
+        if (refill.attemptsLeft.getAndDecrement() <= 0
+                || buffer.isFilled(refill.target.get(), System.currentTimeMillis())) {
+            refill.done.complete(null);
+            return;
         }
+        scheduler.submit(AiSpeechScheduler.Lane.PREFILL, () -> aiMessageService.generateSpeech(userId))
+                .whenComplete((gen, ex) -> {
+                    if (ex != null) {
+                        log.warn("멘트 버퍼 보충 실패: {}", ex.toString());
+                        refill.done.complete(null);
+                        return;
+                    }
+                    buffer.offer(gen, System.currentTimeMillis() + TTL_MILLIS);
+                    refillStep(userId, buffer, refill);
+                });
     }
 
-    private Entry pollByType(Long userId, String type) {
-        if (Objects.equals(type, "ACADEMIC")) {
-            return pollNonExpired(academicQ.computeIfAbsent(userId, k -> new ArrayDeque<>()));
-        } else if (Objects.equals(type, "CHALLENGE")) {
-            return pollNonExpired(challengeQ.computeIfAbsent(userId, k -> new ArrayDeque<>()));
+    private AiSpeechGenResult generateInteractive(Long userId) {
+        CompletableFuture<AiSpeechGenResult> future =
+                scheduler.submit(AiSpeechScheduler.Lane.INTERACTIVE, () -> aiMessageService.generateSpeech(userId));
+        try {
+            return future.get(interactiveTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            log.warn("즉시 멘트 생성 시간 초과: {}ms", interactiveTimeoutMs);
+        } catch (ExecutionException e) {
+            log.warn("즉시 멘트 생성 실패: {}", e.getCause() == null ? e.toString() : e.getCause().toString());
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
         }
         return null;
     }
 
-    private void offer(Long userId, AiSpeechGenResult gen) {
-        String kind = gen.getKind();
-        long exp = System.currentTimeMillis() + TTL_MILLIS;
-        if (Objects.equals(kind, "ACADEMIC")) {
-            academicQ.computeIfAbsent(userId, k -> new ArrayDeque<>()).offerLast(new Entry(gen, exp));
-        } else if (Objects.equals(kind, "CHALLENGE")) {
-            challengeQ.computeIfAbsent(userId, k -> new ArrayDeque<>()).offerLast(new Entry(gen, exp));
-        } else {
-            // default bucket
-            academicQ.computeIfAbsent(userId, k -> new ArrayDeque<>()).offerLast(new Entry(gen, exp));
-        }
+    private UserBuffer bufferOf(Long userId) {
+        UserBuffer buffer = buffers.computeIfAbsent(userId, k -> new UserBuffer());
+        buffer.touch(System.currentTimeMillis());
+        return buffer;
     }
 
-    private void offerBack(Long userId, Entry entry) {
-        if (entry == null) return;
-        if (Objects.equals(entry.item.getKind(), "ACADEMIC")) {
-            academicQ.computeIfAbsent(userId, k -> new ArrayDeque<>()).offerFirst(entry);
-        } else {
-            challengeQ.computeIfAbsent(userId, k -> new ArrayDeque<>()).offerFirst(entry);
-        }
+    private void evictIfIdle(Long userId, long now) {
+        buffers.computeIfPresent(userId, (k, buffer) -> now - buffer.lastAccess > IDLE_EVICT_MILLIS ? null : buffer);
     }
 
-    private void purgeExpired(Long userId, long now) {
-        removeExpired(academicQ.computeIfAbsent(userId, k -> new ArrayDeque<>()), now);
-        removeExpired(challengeQ.computeIfAbsent(userId, k -> new ArrayDeque<>()), now);
-    }
+    private static final class Refill {
+        private final AtomicInteger target;
+        private final AtomicInteger attemptsLeft;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
 
-    private void evictIfIdle(Long userId, long now) {
-        Long last = lastAccess.get(userId);
-        if (last != null && now - last > IDLE_EVICT_MILLIS) {
-            academicQ.remove(userId);
-            challengeQ.remove(userId);
-            lastAccess.remove(userId);
+        private Refill(int target) {
+            this.target = new AtomicInteger(target);
+            this.attemptsLeft = new AtomicInteger(target * ATTEMPTS_PER_TARGET);
         }
-    }
 
-    private int sizeOf(Map<Long, Deque<Entry>> map, Long userId) {
-        return map.computeIfAbsent(userId, k -> new ArrayDeque<>()).size();
+        void raiseTarget(int requested) {
+            int previous = target.getAndAccumulate(requested, Math::max);
+            if (requested > previous) {
+                attemptsLeft.addAndGet((requested - previous) * ATTEMPTS_PER_TARGET);
+            }
+        }
     }
 
-    private Entry pollNonExpired(Deque<Entry> dq) {
-        long now = System.currentTimeMillis();
-        while (!dq.isEmpty()) {
-            Entry e = dq.pollFirst();
-            if (e.expiresAt > now) return e;
+    /**
+     * 사용자별 멘트 버퍼
+     * - 모든 접근은 모니터로 동기화 (요청 스레드는 poll, 스케줄러 스레드는 offer)
+     */
+    private static final class UserBuffer {
+        private final Deque<Entry> academic = new ArrayDeque<>();
+        private final Deque<Entry> challenge = new ArrayDeque<>();
+        private String lastServed = "CHALLENGE"; // "ACADEMIC" 또는 "CHALLENGE"
+        private volatile long lastAccess;
+
+        void touch(long now) {
+            lastAccess = now;
+        }
+
+        synchronized AiSpeechGenResult pollAlternating(long now) {
+            purgeExpired(now);
+            // 엄격한 교대 우선: 직전에 내준 종류의 반대
+            boolean wantAcademic = !Objects.equals(lastServed, "ACADEMIC");
+            Entry e = wantAcademic ? academic.pollFirst() : challenge.pollFirst();
+            if (e == null) {
+                // 원하는 종류가 비었으면 다른 종류로 대체
+                e = wantAcademic ? challenge.pollFirst() : academic.pollFirst();
+            }
+            if (e == null) return null;
+            lastServed = e.item.getKind();
+            return e.item;
         }
-        return null;
-    }
 
-    private void removeExpired(Deque<Entry> dq, long now) {
-        dq.removeIf(e -> e.expiresAt <= now);
+        synchronized void markServed(String kind) {
+            lastServed = kind;
+        }
+
+        synchronized void offer(AiSpeechGenResult gen, long expiresAt) {
+            if (Objects.equals(gen.getKind(), "CHALLENGE")) {
+                challenge.offerLast(new Entry(gen, expiresAt));
+            } else {
+                // ACADEMIC 및 기본 버킷
+                academic.offerLast(new Entry(gen, expiresAt));
+            }
+        }
+
+        synchronized boolean isFilled(int perTypeTarget, long now) {
+            purgeExpired(now);
+            return academic.size() >= perTypeTarget && challenge.size() >= perTypeTarget;
+        }
+
+        private void purgeExpired(long now) {
+            academic.removeIf(e -> e.expiresAt <= now);
+            challenge.removeIf(e -> e.expiresAt <= now);
+        }
     }
 
     private record Entry(AiSpeechGenResult item, long expiresAt) {}
+
+    public record BufferStatus(
+            int bufferedUsers,
+            int inflightRefills,
+            long hits,
+            long misses,
+            double hitRate,
+            long refillsStarted,
+            long refillsCoalesced,
+            AiSpeechScheduler.SchedulerStatus scheduler
+    ) {}
 }
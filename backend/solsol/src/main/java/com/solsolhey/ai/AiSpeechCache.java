@@ -0,0 +1,135 @@
+package com.solsolhey.ai;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자 간 공유 멘트 캐시
+ * - 키: {@link AiMessageService} 가 만든 정규화 키(멘트 종류, 레벨 구간, 패싯 요약, 포커스, 고른 항목, 소셜 플래그)의 지문
+ * - 프롬프트 입력(패싯 포함)이 같은 사용자끼리 생성 결과를 공유
+ * - 키마다 작은 다양성 풀을 유지: 채워지는 동안은 size/variety 확률로만 적중해 새 멘트를 계속 생성, 가득 차면 항상 적중
+ * - 모델 응답만 저장 (폴백은 저장하지 않음)
+ */
+@Component
+@Slf4j
+public class AiSpeechCache {
+
+    @Value("${ai.speech.cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    @Value("${ai.speech.cache.variety:5}")
+    private int variety;
+
+    @Value("${ai.speech.cache.max-keys:5000}")
+    private int maxKeys;
+
+    private final Map<String, Pool> pools = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong stores = new AtomicLong();
+
+    /**
+     * 키에 캐시된 멘트 조회 (비어 있으면 호출자가 생성 후 {@link #store})
+     */
+    public Optional<String> lookup(String key) {
+        Pool pool = pools.get(fingerprint(key));
+        String line = pool == null ? null : pool.pick(System.currentTimeMillis(), Math.max(1, variety));
+        if (line == null) {
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+        hits.incrementAndGet();
+        return Optional.of(line);
+    }
+
+    public void store(String key, String line) {
+        if (line == null || line.isBlank()) return;
+        String fingerprint = fingerprint(key);
+        Pool pool = pools.get(fingerprint);
+        if (pool == null) {
+            if (pools.size() >= maxKeys) {
+                evictExpired();
+                if (pools.size() >= maxKeys) return;
+            }
+            pool = pools.computeIfAbsent(fingerprint, k -> new Pool());
+        }
+        pool.add(line, System.currentTimeMillis() + ttlSeconds * 1000, Math.max(1, variety));
+        stores.incrementAndGet();
+    }
+
+    @Scheduled(fixedDelayString = "${ai.speech.cache.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        pools.values().removeIf(pool -> pool.purge(now));
+    }
+
+    public CacheStatus getStatus() {
+        long h = hits.get();
+        long m = misses.get();
+        return new CacheStatus(pools.size(), maxKeys, variety, ttlSeconds, h, m,
+                h + m == 0 ? 0.0 : (double) h / (h + m), stores.get());
+    }
+
+    static String fingerprint(String key) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 사용 불가", e);
+        }
+    }
+
+    private static final class Pool {
+        private final List<Line> lines = new ArrayList<>();
+
+        synchronized String pick(long now, int variety) {
+            purge(now);
+            if (lines.isEmpty()) return null;
+            var rnd = ThreadLocalRandom.current();
+            // 풀이 채워지는 중: 가끔 미스를 내 호출자가 새 멘트를 추가하게 함
+            if (lines.size() < variety && rnd.nextInt(variety) >= lines.size()) return null;
+            return lines.get(rnd.nextInt(lines.size())).text();
+        }
+
+        synchronized void add(String text, long expiresAt, int variety) {
+            purge(System.currentTimeMillis());
+            lines.removeIf(l -> l.text().equals(text));
+            if (lines.size() >= variety) lines.remove(0); // 가장 오래된 것 제거
+            lines.add(new Line(text, expiresAt));
+        }
+
+        // 만료 정리 후 풀이 비었으면 true
+        synchronized boolean purge(long now) {
+            lines.removeIf(l -> l.expiresAt() <= now);
+            return lines.isEmpty();
+        }
+    }
+
+    private record Line(String text, long expiresAt) {}
+
+    public record CacheStatus(
+            int keys,
+            int maxKeys,
+            int variety,
+            long ttlSeconds,
+            long hits,
+            long misses,
+            double hitRate,
+            long stores
+    ) {}
+}
@@ -0,0 +1,174 @@
+package com.solsolhey.ai;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 모델 호출 공용 스케줄러
+ * - 워커 수 = 벤더 동시 호출 한도 (동시에 그 이상 생성하지 않음)
+ * - INTERACTIVE(사용자가 기다리는 요청)는 대기 중인 PREFILL 보다 항상 먼저 시작
+ * - PREFILL 대기열은 상한이 있으며, 가득 차면 쌓지 않고 버림
+ */
+@Service
+@Slf4j
+public class AiSpeechScheduler {
+
+    public enum Lane { INTERACTIVE, PREFILL }
+
+    private final int maxConcurrency;
+    private final int prefillQueueCapacity;
+    private final ThreadPoolExecutor executor;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger running = new AtomicInteger();
+    private final LaneStats interactive = new LaneStats();
+    private final LaneStats prefill = new LaneStats();
+    private final AtomicLong prefillRejected = new AtomicLong();
+
+    public AiSpeechScheduler(@Value("${ai.speech.scheduler.max-concurrency:2}") int maxConcurrency,
+                             @Value("${ai.speech.scheduler.prefill-queue-capacity:200}") int prefillQueueCapacity) {
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.prefillQueueCapacity = Math.max(1, prefillQueueCapacity);
+        AtomicInteger threadIndex = new AtomicInteger();
+        ThreadFactory threadFactory = r -> {
+            Thread t = new Thread(r, "ai-speech-" + threadIndex.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+        this.executor = new ThreadPoolExecutor(this.maxConcurrency, this.maxConcurrency, 0L, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(), threadFactory);
+    }
+
+    /**
+     * 지정한 레인에 모델 호출 등록
+     * - 시작 전에 반환된 future 가 취소(또는 완료)되면 호출을 건너뜀
+     */
+    public <T> CompletableFuture<T> submit(Lane lane, Supplier<T> work) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        LaneStats stats = statsOf(lane);
+        if (lane == Lane.PREFILL && stats.queued.get() >= prefillQueueCapacity) {
+            prefillRejected.incrementAndGet();
+            result.completeExceptionally(new RejectedExecutionException("PREFILL 대기열 가득 참"));
+            return result;
+        }
+        stats.queued.incrementAndGet();
+        try {
+            executor.execute(new Task<>(lane, sequence.getAndIncrement(), System.nanoTime(), work, result));
+        } catch (RejectedExecutionException e) {
+            stats.queued.decrementAndGet();
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    public SchedulerStatus getStatus() {
+        return new SchedulerStatus(
+                maxConcurrency,
+                running.get(),
+                interactive.queued.get(),
+                prefill.queued.get(),
+                interactive.started.get(),
+                prefill.started.get(),
+                interactive.avgWaitMs(),
+                interactive.maxWaitMs(),
+                prefill.avgWaitMs(),
+                prefill.maxWaitMs(),
+                prefillRejected.get()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private LaneStats statsOf(Lane lane) {
+        return lane == Lane.INTERACTIVE ? interactive : prefill;
+    }
+
+    private final class Task<T> implements Runnable, Comparable<Task<?>> {
+        private final Lane lane;
+        private final long seq;
+        private final long enqueuedAtNanos;
+        private final Supplier<T> work;
+        private final CompletableFuture<T> result;
+
+        private Task(Lane lane, long seq, long enqueuedAtNanos, Supplier<T> work, CompletableFuture<T> result) {
+            this.lane = lane;
+            this.seq = seq;
+            this.enqueuedAtNanos = enqueuedAtNanos;
+            this.work = work;
+            this.result = result;
+        }
+
+        @Override
+        public void run() {
+            LaneStats stats = statsOf(lane);
+            stats.queued.decrementAndGet();
+            if (result.isDone()) return; // 대기 중 호출자가 포기함
+            stats.recordStart(System.nanoTime() - enqueuedAtNanos);
+            running.incrementAndGet();
+            try {
+                result.complete(work.get());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            } finally {
+                running.decrementAndGet();
+            }
+        }
+
+        @Override
+        public int compareTo(Task<?> other) {
+            int byLane = Integer.compare(lane.ordinal(), other.lane.ordinal());
+            return byLane != 0 ? byLane : Long.compare(seq, other.seq);
+        }
+    }
+
+    private static final class LaneStats {
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicLong started = new AtomicLong();
+        private final AtomicLong totalWaitNanos = new AtomicLong();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+
+        void recordStart(long waitNanos) {
+            started.incrementAndGet();
+            totalWaitNanos.addAndGet(waitNanos);
+            maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+        }
+
+        double avgWaitMs() {
+            long n = started.get();
+            return n == 0 ? 0.0 : totalWaitNanos.get() / 1_000_000.0 / n;
+        }
+
+        double maxWaitMs() {
+            return maxWaitNanos.get() / 1_000_000.0;
+        }
+    }
+
+    public record SchedulerStatus(
+            int maxConcurrency,
+            int running,
+            int interactiveQueued,
+            int prefillQueued,
+            long interactiveStarted,
+            long prefillStarted,
+            double interactiveAvgWaitMs,
+            double interactiveMaxWaitMs,
+            double prefillAvgWaitMs,
+            double prefillMaxWaitMs,
+            long prefillRejected
+    ) {}
+}
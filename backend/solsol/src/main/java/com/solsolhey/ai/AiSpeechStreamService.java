@@ -0,0 +1,220 @@
+package com.solsolhey.ai;
+
+import com.solsolhey.ai.dto.AiSpeechGenResult;
+import com.solsolhey.ai.gemini.GeminiGateway;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SSE 멘트 스트리밍
+ * - 버퍼/공유 캐시 멘트는 "done" 이벤트 하나로 즉시 전송
+ * - 그 외에는 모델 청크를 점진적으로 정규화해 "delta" 이벤트로 보내고,
+ *   "done" 에 정규화된 전체 멘트(최종본)와 소요 시간을 담음
+ * - 모델 스트림이 정상 완료되지 않으면 보낸 delta 를 폴백으로 교체("replace" 이벤트)하고
+ *   FALLBACK 으로 기록, 캐시하지 않음
+ * - 요청별 첫 토큰까지 시간(TTFT)과 전체 소요 시간 기록
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AiSpeechStreamService {
+
+    public enum Source { BUFFER, CACHE, MODEL, FALLBACK }
+
+    private final AiSpeechBufferService bufferService;
+    private final AiMessageService aiMessageService;
+    private final AiSpeechScheduler scheduler;
+    private final GeminiGateway gemini;
+    private final BanmalNormalizer normalizer;
+
+    @Value("${ai.speech.stream.emitter-timeout-ms:30000}")
+    private long emitterTimeoutMs;
+
+    private final Map<Source, AtomicLong> servedBySource = newSourceCounters();
+    private final LatencyStats firstTokenLatency = new LatencyStats();
+    private final LatencyStats totalLatency = new LatencyStats();
+
+    public SseEmitter stream(Long userId) {
+        long startNanos = System.nanoTime();
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+
+        AiSpeechGenResult buffered = bufferService.pollBuffered(userId);
+        if (buffered != null) {
+            finish(emitter, buffered.getMessage(), buffered.getKind(), Source.BUFFER, startNanos, startNanos);
+            return emitter;
+        }
+
+        // 버퍼가 비었으면 INTERACTIVE 레인에서 생성 (모델 동시 호출 수 제한 유지)
+        scheduler.submit(AiSpeechScheduler.Lane.INTERACTIVE, () -> {
+            generate(userId, emitter, startNanos);
+            return null;
+        }).whenComplete((v, ex) -> {
+            if (ex != null) {
+                log.warn("멘트 스트리밍 실패: {}", ex.toString());
+                emitter.completeWithError(ex);
+            }
+        });
+        return emitter;
+    }
+
+    public StreamStatus getStatus() {
+        Map<String, Long> served = new LinkedHashMap<>();
+        servedBySource.forEach((source, count) -> served.put(source.name(), count.get()));
+        return new StreamStatus(served,
+                firstTokenLatency.count(), firstTokenLatency.avgMs(), firstTokenLatency.maxMs(),
+                totalLatency.count(), totalLatency.avgMs(), totalLatency.maxMs());
+    }
+
+    private static Map<Source, AtomicLong> newSourceCounters() {
+        Map<Source, AtomicLong> counters = new EnumMap<>(Source.class);
+        for (Source source : Source.values()) counters.put(source, new AtomicLong());
+        return counters;
+    }
+
+    private void generate(Long userId, SseEmitter emitter, long startNanos) {
+        AiMessageService.PreparedSpeech prepared = aiMessageService.prepareSpeech(userId);
+        bufferService.markServed(userId, prepared.kind());
+        if (prepared.isReady()) {
+            Source source = prepared.cached() ? Source.CACHE : Source.FALLBACK;
+            finish(emitter, normalizer.normalize(prepared.text()), prepared.kind(), source, startNanos, System.nanoTime());
+            return;
+        }
+
+        BanmalNormalizer.StreamSession session = normalizer.openStream();
+        ClientChannel channel = new ClientChannel(emitter);
+        long[] firstTokenNanos = {0L};
+        boolean completed = false;
+        try {
+            gemini.streamText(prepared.prompt(), chunk -> {
+                synchronized (channel) {
+                    // 마감 시간에 포기한 호출도 청크를 늦게 보낼 수 있으므로 무시
+                    if (channel.closed) return;
+                    if (firstTokenNanos[0] == 0L) firstTokenNanos[0] = System.nanoTime();
+                    String delta = session.append(chunk);
+                    if (!delta.isEmpty()) channel.send("delta", Map.of("text", delta));
+                }
+            });
+            completed = true;
+        } catch (Exception e) {
+            log.warn("멘트 스트리밍 생성 실패: {}", e.getMessage());
+        }
+        synchronized (channel) {
+            channel.closed = true;
+        }
+
+        String raw = session.raw();
+        if (!completed || raw.isBlank()) {
+            // 중간 실패/시간 초과(일부만 수신) 또는 빈 응답: 이미 보낸 내용을 폴백으로 교체,
+            // 잘린 멘트는 캐시하지 않음
+            String fallback = normalizer.normalize(prepared.fallback());
+            if (channel.sentDelta) channel.send("replace", Map.of("text", fallback));
+            finish(emitter, fallback, prepared.kind(), Source.FALLBACK, startNanos, System.nanoTime());
+            return;
+        }
+
+        aiMessageService.rememberModelText(prepared, raw);
+        String rest = session.finish();
+        if (rest == null) {
+            channel.send("replace", Map.of("text", session.text()));
+        } else if (!rest.isEmpty()) {
+            channel.send("delta", Map.of("text", rest));
+        }
+        finish(emitter, session.text(), prepared.kind(), Source.MODEL, startNanos,
+                firstTokenNanos[0] == 0L ? System.nanoTime() : firstTokenNanos[0]);
+    }
+
+    private void finish(SseEmitter emitter, String message, String kind, Source source,
+                        long startNanos, long firstTokenNanos) {
+        long now = System.nanoTime();
+        double ttftMs = (firstTokenNanos - startNanos) / 1_000_000.0;
+        double totalMs = (now - startNanos) / 1_000_000.0;
+        servedBySource.get(source).incrementAndGet();
+        firstTokenLatency.record(firstTokenNanos - startNanos);
+        totalLatency.record(now - startNanos);
+        log.debug("멘트 스트리밍 완료 - source: {}, ttft: {}ms, total: {}ms", source, ttftMs, totalMs);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("message", message);
+        body.put("kind", kind);
+        body.put("source", source.name());
+        body.put("ttftMs", ttftMs);
+        body.put("totalMs", totalMs);
+        try {
+            emitter.send(SseEmitter.event().name("done").data(body, MediaType.APPLICATION_JSON));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 끊김
+            emitter.completeWithError(e);
+        }
+    }
+
+    /**
+     * 클라이언트 전송 채널
+     * - 연결이 끊긴 뒤의 전송 실패는 무시해 모델 호출은 끝까지 진행 (벤더 실패로 집계하지 않고 결과는 캐시 가능)
+     */
+    private static final class ClientChannel {
+        private final SseEmitter emitter;
+        private boolean disconnected;
+        private boolean sentDelta;
+        private boolean closed;
+
+        private ClientChannel(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void send(String event, Object data) {
+            if (disconnected) return;
+            try {
+                emitter.send(SseEmitter.event().name(event).data(data, MediaType.APPLICATION_JSON));
+                sentDelta = true;
+            } catch (IOException | IllegalStateException e) {
+                disconnected = true;
+            }
+        }
+    }
+
+    private static final class LatencyStats {
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void record(long nanos) {
+            count.incrementAndGet();
+            totalNanos.addAndGet(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        long count() {
+            return count.get();
+        }
+
+        double avgMs() {
+            long n = count.get();
+            return n == 0 ? 0.0 : totalNanos.get() / 1_000_000.0 / n;
+        }
+
+        double maxMs() {
+            return maxNanos.get() / 1_000_000.0;
+        }
+    }
+
+    public record StreamStatus(
+            Map<String, Long> servedBySource,
+            long firstTokenSamples,
+            double firstTokenAvgMs,
+            double firstTokenMaxMs,
+            long totalSamples,
+            double totalAvgMs,
+            double totalMaxMs
+    ) {}
+}
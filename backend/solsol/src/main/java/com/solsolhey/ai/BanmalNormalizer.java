@@ -0,0 +1,257 @@
+package com.solsolhey.ai;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 말투 정규화: 존댓말 → 반말 (휴리스틱)
+ * - 규칙은 리소스 파일(ai/banmal-rules.txt)에서 읽어 기동 시 한 번 트라이로 컴파일
+ * - 정규식 없이 입력을 한 번 훑으며 각 위치에서 가장 긴 규칙을 적용하고, 스레드별 버퍼를 재사용
+ */
+@Component
+@Slf4j
+public class BanmalNormalizer {
+
+    @Value("${ai.speech.normalizer.rules:classpath:ai/banmal-rules.txt}")
+    private Resource rulesResource;
+
+    private volatile Node root = new Node();
+    // 스트리밍 시 아직 바뀔 수 있는 출력 끝부분 길이
+    private volatile int streamHoldback = 0;
+
+    private final ThreadLocal<Buffers> buffers = ThreadLocal.withInitial(Buffers::new);
+
+    @PostConstruct
+    public void init() {
+        try {
+            List<Rule> rules = parse(rulesResource);
+            this.root = compile(rules);
+            this.streamHoldback = holdbackFor(rules);
+            log.info("말투 정규화 규칙 로드 완료 - {}개 ({})", rules.size(), rulesResource.getDescription());
+        } catch (IOException e) {
+            throw new IllegalStateException("말투 정규화 규칙을 읽을 수 없습니다: " + rulesResource.getDescription(), e);
+        }
+    }
+
+    public String normalize(String text) {
+        if (text == null) return "";
+        Buffers buf = buffers.get();
+        StringBuilder cleaned = buf.cleaned;
+        StringBuilder out = buf.out;
+        cleaned.setLength(0);
+        out.setLength(0);
+
+        // 1) 개행 → 공백, 따옴표 제거, 문장부호 앞 공백 제거
+        String s = text.trim();
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '\n') c = ' ';
+            if (c == '“' || c == '”' || c == '"' || c == '\'') continue;
+            if (isSentenceEnd(c)) {
+                int end = cleaned.length();
+                while (end > 0 && cleaned.charAt(end - 1) == ' ') end--;
+                cleaned.setLength(end);
+            }
+            cleaned.append(c);
+        }
+
+        // 2) 종결어 치환 (각 위치에서 가장 긴 규칙, 치환 결과는 재검사하지 않음)
+        Node trie = root;
+        int n = cleaned.length();
+        int i = 0;
+        while (i < n) {
+            Rule matched = null;
+            Node node = trie;
+            for (int j = i; j < n; j++) {
+                node = node.child(cleaned.charAt(j));
+                if (node == null) break;
+                Rule rule = node.rule;
+                if (rule != null && (!rule.atSentenceEnd() || j + 1 == n || isSentenceEnd(cleaned.charAt(j + 1)))) {
+                    matched = rule;
+                }
+            }
+            if (matched != null) {
+                out.append(matched.replacement());
+                i += matched.pattern().length();
+            } else {
+                out.append(cleaned.charAt(i++));
+            }
+        }
+
+        // 3) 연속 공백 정리
+        cleaned.setLength(0);
+        for (int k = 0; k < out.length(); k++) {
+            char c = out.charAt(k);
+            if (c == ' ' && cleaned.length() > 0 && cleaned.charAt(cleaned.length() - 1) == ' ') continue;
+            cleaned.append(c);
+        }
+        return cleaned.toString().trim();
+    }
+
+    /**
+     * 조각 단위로 들어오는 텍스트의 점진적 정규화 세션 (스레드 하나에서만 사용)
+     */
+    public StreamSession openStream() {
+        return new StreamSession();
+    }
+
+    public final class StreamSession {
+        private final StringBuilder raw = new StringBuilder();
+        private String emitted = "";
+        private boolean diverged = false;
+
+        /**
+         * 조각 추가 후 새로 확정된 정규화 결과 반환 (확정된 부분이 없으면 빈 문자열)
+         */
+        public String append(String chunk) {
+            if (chunk == null || chunk.isEmpty()) return "";
+            raw.append(chunk);
+            String out = normalize(raw.toString());
+            int stable = out.length() - streamHoldback;
+            if (stable <= emitted.length()) return "";
+            if (!out.startsWith(emitted)) {
+                diverged = true;
+                return "";
+            }
+            String delta = out.substring(emitted.length(), stable);
+            emitted = out.substring(0, stable);
+            return delta;
+        }
+
+        /**
+         * 남은 정규화 결과 반환. 이미 내보낸 부분과 최종 결과가 어긋나면 null (전체 교체 필요)
+         */
+        public String finish() {
+            String out = text();
+            if (diverged || !out.startsWith(emitted)) return null;
+            String rest = out.substring(emitted.length());
+            emitted = out;
+            return rest;
+        }
+
+        /** 지금까지 받은 원문 전체의 정규화 결과 */
+        public String text() {
+            return normalize(raw.toString());
+        }
+
+        /** 지금까지 받은 원문 */
+        public String raw() {
+            return raw.toString();
+        }
+    }
+
+    // 입력 끝에서 (가장 긴 패턴 + 뒤따르는 문자 + 공백) 만큼의 원문이 이후 조각에 따라 달라질 수 있음.
+    // 치환이 패턴보다 길어지는 규칙이 있으면 그만큼 출력이 늘어날 수 있으므로 비례해서 보류
+    static int holdbackFor(List<Rule> rules) {
+        int maxPattern = 0;
+        int maxGrowth = 1;
+        for (Rule rule : rules) {
+            maxPattern = Math.max(maxPattern, rule.pattern().length());
+            if (rule.replacement().length() > rule.pattern().length()) {
+                maxGrowth = Math.max(maxGrowth, rule.replacement().length());
+            }
+        }
+        return (maxPattern + 2) * maxGrowth;
+    }
+
+    private static boolean isSentenceEnd(char c) {
+        return c == '.' || c == '!' || c == '?';
+    }
+
+    static List<Rule> parse(Resource resource) throws IOException {
+        List<Rule> rules = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            int lineNo = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                if (line.isBlank() || line.startsWith("#")) continue;
+                String[] cols = line.split("\\|", -1);
+                if (cols.length < 2 || cols[0].isEmpty()) {
+                    throw new IOException("잘못된 규칙 형식 (" + lineNo + "행): " + line);
+                }
+                boolean atEnd = cols.length > 2 && "END".equalsIgnoreCase(cols[2].trim());
+                rules.add(new Rule(cols[0], cols[1], atEnd));
+            }
+        }
+        return rules;
+    }
+
+    static Node compile(List<Rule> rules) {
+        Builder root = new Builder();
+        for (Rule rule : rules) {
+            Builder node = root;
+            for (int i = 0; i < rule.pattern().length(); i++) {
+                node = node.children.computeIfAbsent(rule.pattern().charAt(i), k -> new Builder());
+            }
+            node.rule = rule;
+        }
+        return root.freeze();
+    }
+
+    record Rule(String pattern, String replacement, boolean atSentenceEnd) {}
+
+    /**
+     * 컴파일된 트라이 노드 (자식은 정렬된 문자 배열 + 이진 탐색, 조회 시 박싱 없음)
+     */
+    static final class Node {
+        private final char[] keys;
+        private final Node[] children;
+        private final Rule rule;
+
+        Node() {
+            this(new char[0], new Node[0], null);
+        }
+
+        private Node(char[] keys, Node[] children, Rule rule) {
+            this.keys = keys;
+            this.children = children;
+            this.rule = rule;
+        }
+
+        Node child(char c) {
+            int lo = 0, hi = keys.length - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                if (keys[mid] < c) lo = mid + 1;
+                else if (keys[mid] > c) hi = mid - 1;
+                else return children[mid];
+            }
+            return null;
+        }
+    }
+
+    private static final class Builder {
+        private final Map<Character, Builder> children = new TreeMap<>();
+        private Rule rule;
+
+        Node freeze() {
+            char[] keys = new char[children.size()];
+            Node[] nodes = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, Builder> e : children.entrySet()) {
+                keys[i] = e.getKey();
+                nodes[i++] = e.getValue().freeze();
+            }
+            return new Node(keys, nodes, rule);
+        }
+    }
+
+    private static final class Buffers {
+        private final StringBuilder cleaned = new StringBuilder(64);
+        private final StringBuilder out = new StringBuilder(64);
+    }
+}
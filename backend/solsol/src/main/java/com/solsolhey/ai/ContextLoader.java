@@ -4,17 +4,28 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.solsolhey.ai.context.AcademicCommon;
 import com.solsolhey.ai.context.UserContext;
 import com.solsolhey.ai.model.AcademicContext;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Component;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,28 +35,115 @@ public class ContextLoader {
     private static final DateTimeFormatter ISO = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
     private final ObjectMapper mapper = new ObjectMapper();
 
-    private UserContext userA;
-    private UserContext userB;
-    private AcademicCommon academicCommon;
+    @Value("${ai.context.data-dir:documents/data}")
+    private String dataDir;
 
-    public ContextLoader() {
-        // Lazy loading; will attempt on first access
+    @Value("${ai.context.watch-enabled:true}")
+    private boolean watchEnabled;
+
+    // 변경 이벤트가 몰릴 때 한 번만 다시 읽도록 대기하는 시간
+    @Value("${ai.context.reload-debounce-ms:300}")
+    private long reloadDebounceMs;
+
+    // 불변 스냅샷: 재적재 시 새로 만든 뒤 참조만 교체
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile WatchService watchService;
+    private Thread watcherThread;
+
+    @PostConstruct
+    public void init() {
+        reload();
+        if (watchEnabled) startWatcher();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        WatchService ws = watchService;
+        if (ws != null) {
+            try { ws.close(); } catch (IOException ignored) {}
+        }
+        if (watcherThread != null) watcherThread.interrupt();
     }
 
     public Optional<UserContext> getUserContextById(Long userId) {
-        loadIfNeeded();
+        return userEntry(userId).map(UserEntry::context);
+    }
+
+    public Optional<AcademicContext> getAcademicContext() {
+        Snapshot current = snapshot;
+        if (current.academicSource == null) return Optional.empty();
+        // today 가 지정되지 않은 데이터는 기본값이 날짜에 따라 달라지므로 날짜가 바뀌면 다시 구성
+        if (current.academicTodayDefaulted && !LocalDate.now().equals(current.academicBuiltFor)) {
+            current = rebuildAcademic(current);
+        }
+        return Optional.ofNullable(current.academic);
+    }
+
+    public Optional<String> getUserSummary(Long userId) {
+        return userEntry(userId).map(UserEntry::summary);
+    }
+
+    public Optional<UserFacets> getUserFacets(Long userId) {
+        return userEntry(userId).map(UserEntry::facets);
+    }
+
+    public boolean userNotesSuggestAvoidSocial(Long userId) {
+        return userEntry(userId).map(UserEntry::avoidSocial).orElse(false);
+    }
+
+    /**
+     * 컨텍스트 파일을 다시 읽어 스냅샷을 원자적으로 교체 (실패 시 기존 스냅샷 유지)
+     */
+    public synchronized void reload() {
+        try {
+            Sources sources = readSources();
+            this.snapshot = buildSnapshot(sources.academic, sources.userA, sources.userB);
+            log.info("컨텍스트 스냅샷 적재 - academic: {}, userA: {}, userB: {}",
+                    sources.academic != null, sources.userA != null, sources.userB != null);
+        } catch (Exception e) {
+            log.warn("컨텍스트 로딩 실패 (기존 스냅샷 유지): {}", e.getMessage());
+        }
+    }
+
+    private Optional<UserEntry> userEntry(Long userId) {
         if (userId == null) return Optional.empty();
+        Snapshot current = snapshot;
         // 간단 매핑: 짝수 → userA, 홀수 → userB (데모용)
         boolean even = (userId % 2L) == 0L;
-        UserContext chosen = even ? (userA != null ? userA : userB) : (userB != null ? userB : userA);
+        UserEntry chosen = even ? (current.userA != null ? current.userA : current.userB)
+                : (current.userB != null ? current.userB : current.userA);
         return Optional.ofNullable(chosen);
     }
 
-    public Optional<AcademicContext> getAcademicContext() {
-        loadIfNeeded();
-        if (academicCommon == null) return Optional.empty();
+    private synchronized Snapshot rebuildAcademic(Snapshot current) {
+        if (snapshot != current) return snapshot; // 다른 스레드가 이미 교체
+        Snapshot rebuilt = buildSnapshot(current.academicSource,
+                current.userA == null ? null : current.userA.context(),
+                current.userB == null ? null : current.userB.context());
+        this.snapshot = rebuilt;
+        return rebuilt;
+    }
+
+    private Snapshot buildSnapshot(AcademicCommon academicCommon, UserContext userA, UserContext userB) {
+        LocalDate now = LocalDate.now();
+        AcademicContext academic = academicCommon == null ? null : buildAcademic(academicCommon, now);
+        return new Snapshot(
+                academicCommon,
+                academic,
+                academicCommon != null && academicCommon.today == null,
+                now,
+                userA == null ? null : toEntry(userA),
+                userB == null ? null : toEntry(userB));
+    }
+
+    private UserEntry toEntry(UserContext u) {
+        return new UserEntry(u, summarizeUser(u), extractFacets(u),
+                u.notes != null && u.notes.contains("소셜") && u.notes.contains("회피"));
+    }
+
+    private AcademicContext buildAcademic(AcademicCommon academicCommon, LocalDate fallbackToday) {
         try {
-            LocalDate today = academicCommon.today != null ? LocalDate.parse(academicCommon.today) : LocalDate.now();
+            LocalDate today = academicCommon.today != null ? LocalDate.parse(academicCommon.today) : fallbackToday;
             var events = new java.util.ArrayList<AcademicContext.Event>();
             if (academicCommon.exam_period != null) {
                 if (academicCommon.exam_period.start != null) {
@@ -90,21 +188,14 @@ public class ContextLoader {
                 }
             }
 
-            return Optional.of(new AcademicContext(events, schedule, notices));
+            // 무작위 샘플링용 불변(RandomAccess) 목록
+            return new AcademicContext(List.copyOf(events), List.copyOf(schedule), List.copyOf(notices));
         } catch (Exception e) {
             log.warn("학사 공통 데이터 파싱 실패: {}", e.getMessage());
-            return Optional.empty();
+            return null;
         }
     }
 
-    public Optional<String> getUserSummary(Long userId) {
-        return getUserContextById(userId).map(this::summarizeUser);
-    }
-
-    public Optional<UserFacets> getUserFacets(Long userId) {
-        return getUserContextById(userId).map(this::extractFacets);
-    }
-
     private String summarizeUser(UserContext u) {
         StringBuilder sb = new StringBuilder();
         if (u.major_group != null && !u.major_group.isBlank()) {
@@ -170,50 +261,107 @@ public class ContextLoader {
         return f;
     }
 
-    public boolean userNotesSuggestAvoidSocial(Long userId) {
-        return getUserContextById(userId)
-                .map(u -> u.notes != null && u.notes.contains("소셜") && u.notes.contains("회피"))
-                .orElse(false);
+    private Sources readSources() throws IOException {
+        Sources src = new Sources();
+        // 0) 단일 파일 우선 (documents/data 또는 classpath)
+        Combined maybeCombined = readCombinedIfExists();
+        if (maybeCombined != null) {
+            src.academic = maybeCombined.academic;
+            src.userA = maybeCombined.userA;
+            src.userB = maybeCombined.userB;
+        }
+
+        // 1) documents/data 개별 파일 우선
+        File docDir = new File(dataDir);
+        if (docDir.exists()) {
+            File ua = new File(docDir, "userA.json");
+            File ub = new File(docDir, "userB.json");
+            File ac = new File(docDir, "academic_common.json");
+            if (src.userA == null && ua.exists()) src.userA = mapper.readValue(Files.readAllBytes(ua.toPath()), UserContext.class);
+            if (src.userB == null && ub.exists()) src.userB = mapper.readValue(Files.readAllBytes(ub.toPath()), UserContext.class);
+            if (src.academic == null && ac.exists()) src.academic = mapper.readValue(Files.readAllBytes(ac.toPath()), AcademicCommon.class);
+        }
+
+        // 2) classpath:ai/ 폴백 (단일 파일 먼저)
+        if (src.userA == null || src.userB == null || src.academic == null) {
+            Combined cp = readClasspathJson("ai/combined.json", Combined.class);
+            if (cp != null) {
+                if (src.academic == null) src.academic = cp.academic;
+                if (src.userA == null) src.userA = cp.userA;
+                if (src.userB == null) src.userB = cp.userB;
+            }
+        }
+        if (src.userA == null) src.userA = readClasspathJson("ai/userA.json", UserContext.class);
+        if (src.userB == null) src.userB = readClasspathJson("ai/userB.json", UserContext.class);
+        if (src.academic == null) src.academic = readClasspathJson("ai/academic_common.json", AcademicCommon.class);
+        return src;
     }
 
-    private void loadIfNeeded() {
-        if (userA == null || userB == null || academicCommon == null) {
-            try {
-                // 0) 단일 파일 우선 (documents/data 또는 classpath)
-                Combined maybeCombined = readCombinedIfExists();
-                if (maybeCombined != null) {
-                    if (maybeCombined.academic != null) academicCommon = maybeCombined.academic;
-                    if (maybeCombined.userA != null) userA = maybeCombined.userA;
-                    if (maybeCombined.userB != null) userB = maybeCombined.userB;
-                }
+    /**
+     * documents/data 및 (파일 시스템에 있는 경우) classpath:ai/ 디렉터리의 JSON 변경 감시
+     */
+    private void startWatcher() {
+        List<Path> dirs = new ArrayList<>();
+        Path docDir = Path.of(dataDir).toAbsolutePath();
+        if (Files.isDirectory(docDir)) dirs.add(docDir);
+        try {
+            var res = new ClassPathResource("ai/combined.json");
+            if (res.exists() && res.isFile()) {
+                Path cpDir = res.getFile().toPath().getParent().toAbsolutePath();
+                if (!dirs.contains(cpDir)) dirs.add(cpDir);
+            }
+        } catch (IOException ignored) {
+            // jar 내부 리소스는 감시 불가
+        }
+        if (dirs.isEmpty()) return;
 
-                // 1) documents/data 개별 파일 우선
-                File docDir = new File("documents/data");
-                if (docDir.exists()) {
-                    File ua = new File(docDir, "userA.json");
-                    File ub = new File(docDir, "userB.json");
-                    File ac = new File(docDir, "academic_common.json");
-                    if (userA == null && ua.exists()) userA = mapper.readValue(Files.readAllBytes(ua.toPath()), UserContext.class);
-                    if (userB == null && ub.exists()) userB = mapper.readValue(Files.readAllBytes(ub.toPath()), UserContext.class);
-                    if (academicCommon == null && ac.exists()) academicCommon = mapper.readValue(Files.readAllBytes(ac.toPath()), AcademicCommon.class);
-                }
+        try {
+            WatchService ws = FileSystems.getDefault().newWatchService();
+            for (Path dir : dirs) {
+                dir.register(ws, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+            }
+            this.watchService = ws;
+            watcherThread = new Thread(() -> watchLoop(ws), "context-watcher");
+            watcherThread.setDaemon(true);
+            watcherThread.start();
+            log.info("컨텍스트 파일 감시 시작: {}", dirs);
+        } catch (IOException e) {
+            log.warn("컨텍스트 파일 감시 시작 실패: {}", e.getMessage());
+        }
+    }
 
-                // 2) classpath:ai/ 폴백 (단일 파일 먼저)
-                if (userA == null || userB == null || academicCommon == null) {
-                    Combined cp = readClasspathJson("ai/combined.json", Combined.class);
-                    if (cp != null) {
-                        if (academicCommon == null) academicCommon = cp.academic;
-                        if (userA == null) userA = cp.userA;
-                        if (userB == null) userB = cp.userB;
-                    }
+    private void watchLoop(WatchService ws) {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = ws.take();
+                boolean changed = drainJsonEvents(key);
+                // 연속 저장 이벤트를 모아서 한 번만 재적재
+                Thread.sleep(reloadDebounceMs);
+                WatchKey more;
+                while ((more = ws.poll()) != null) {
+                    changed |= drainJsonEvents(more);
                 }
-                if (userA == null) userA = readClasspathJson("ai/userA.json", UserContext.class);
-                if (userB == null) userB = readClasspathJson("ai/userB.json", UserContext.class);
-                if (academicCommon == null) academicCommon = readClasspathJson("ai/academic_common.json", AcademicCommon.class);
-            } catch (IOException e) {
-                log.warn("컨텍스트 로딩 실패: {}", e.getMessage());
+                if (changed) reload();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException ignored) {
+            // 종료
+        }
+    }
+
+    private boolean drainJsonEvents(WatchKey key) {
+        boolean json = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            Object ctx = event.context();
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                    || (ctx instanceof Path p && p.toString().endsWith(".json"))) {
+                json = true;
             }
         }
+        key.reset();
+        return json;
     }
 
     private <T> T readClasspathJson(String path, Class<T> type) {
@@ -232,16 +380,34 @@ public class ContextLoader {
 
     private Combined readCombinedIfExists() {
         try {
-            File docDir = new File("documents/data");
+            File docDir = new File(dataDir);
             File combinedInDoc = new File(docDir, "combined.json");
             if (combinedInDoc.exists()) {
                 return mapper.readValue(Files.readAllBytes(combinedInDoc.toPath()), Combined.class);
             }
-            // classpath will be tried later in loadIfNeeded (so return null here)
+            // classpath will be tried later in readSources (so return null here)
         } catch (Exception ignored) {}
         return null;
     }
 
+    // 파일에서 읽은 원본 데이터
+    private static class Sources {
+        AcademicCommon academic;
+        UserContext userA;
+        UserContext userB;
+    }
+
+    private record UserEntry(UserContext context, String summary, UserFacets facets, boolean avoidSocial) {}
+
+    /**
+     * 불변 컨텍스트 스냅샷 (날짜 파싱/목록 구성/사용자 요약·패싯 계산은 생성 시 한 번만 수행)
+     */
+    private record Snapshot(AcademicCommon academicSource, AcademicContext academic,
+                            boolean academicTodayDefaulted, LocalDate academicBuiltFor,
+                            UserEntry userA, UserEntry userB) {
+        static final Snapshot EMPTY = new Snapshot(null, null, false, null, null, null);
+    }
+
     // 단일 파일(JSON) 파싱용 컨테이너
     public static class Combined {
         public AcademicCommon academic;
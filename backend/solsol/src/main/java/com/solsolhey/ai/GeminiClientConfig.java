@@ -1,10 +1,16 @@
 package com.solsolhey.ai;
 
 import com.google.genai.Client;
+import com.solsolhey.ai.gemini.GeminiGateway;
+import com.solsolhey.ai.gemini.GeminiProperties;
+import com.solsolhey.ai.gemini.GenAiGeminiGateway;
+import com.solsolhey.ai.gemini.ResilientGeminiGateway;
+import com.solsolhey.ai.gemini.StubGeminiGateway;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
-import java.util.Optional;
 
 @Configuration
 public class GeminiClientConfig {
@@ -16,6 +22,7 @@ public class GeminiClientConfig {
     }
 
     @Bean
+    @ConditionalOnProperty(name = "ai.gemini.mode", havingValue = "live", matchIfMissing = true)
     public Client geminiClient() {
         // Only use GEMINI_API_KEY (no fallback) to avoid ambiguity
         String apiKey = environment.getProperty("GEMINI_API_KEY");
@@ -29,4 +36,16 @@ public class GeminiClientConfig {
                 .apiKey(apiKey)
                 .build();
     }
+
+    /**
+     * 앱에서 쓰는 게이트웨이: 실제 클라이언트(ai.gemini.mode=stub 이면 오프라인 스텁)를
+     * 쿼터/마감 시간/서킷 브레이커 계층으로 감쌈
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ResilientGeminiGateway geminiGateway(GeminiProperties props, ObjectProvider<Client> clientProvider) {
+        GeminiGateway delegate = "stub".equalsIgnoreCase(props.getMode())
+                ? new StubGeminiGateway(props.getStubLatencyMs())
+                : new GenAiGeminiGateway(clientProvider.getObject(), props.getModel());
+        return new ResilientGeminiGateway(delegate, props);
+    }
 }
@@ -0,0 +1,34 @@
+package com.solsolhey.ai.gemini;
+
+import java.util.function.Consumer;
+
+/**
+ * Gemini 모델 텍스트 생성 진입점
+ * - 구현: 실제 GenAI 클라이언트, 오프라인 스텁, 그리고 둘 중 하나를 감싸는 복원력 래퍼
+ */
+public interface GeminiGateway {
+
+    /**
+     * 프롬프트로 텍스트 생성
+     *
+     * @return 생성된 텍스트 (모델이 아무것도 반환하지 않으면 null 또는 공백일 수 있음)
+     * @throws GeminiUnavailableException 호출이 허용되지 않을 때 (서킷 열림, 쿼터, 마감 시간)
+     */
+    String generateText(String prompt);
+
+    /**
+     * 프롬프트로 텍스트를 스트리밍 생성, 청크가 도착할 때마다 consumer 에 전달
+     * - 기본 구현은 전체 응답을 청크 하나로 전달
+     */
+    default void streamText(String prompt, Consumer<String> onChunk) {
+        String text = generateText(prompt);
+        if (text != null && !text.isEmpty()) onChunk.accept(text);
+    }
+
+    /**
+     * 지금 호출을 시도할 수 있는지 여부 (불가하면 호출자는 바로 폴백 사용)
+     */
+    default boolean isCallPermitted() {
+        return true;
+    }
+}
@@ -0,0 +1,33 @@
+package com.solsolhey.ai.gemini;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Gemini 클라이언트 설정 (ai.gemini.*)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "ai.gemini")
+@Getter
+@Setter
+public class GeminiProperties {
+
+    private String mode = "live";                 // live | stub
+    private String model = "gemini-2.5-flash";
+    private long callTimeoutMs = 8000;            // 호출당 마감 시간
+    private int maxConcurrentCalls = 2;           // 앱 전체 동시 진행 호출 수
+
+    // 벤더 쿼터에 맞춘 클라이언트 측 토큰 버킷
+    private int requestsPerMinute = 15;
+    private int burst = 5;
+
+    // 서킷 브레이커
+    private int failureThreshold = 5;             // 서킷을 여는 연속 실패 횟수
+    private long baseCooldownMs = 5000;           // 첫 차단 시간, 연속으로 열릴 때마다 2배
+    private long maxCooldownMs = 120000;
+
+    private long stubLatencyMs = 300;
+}
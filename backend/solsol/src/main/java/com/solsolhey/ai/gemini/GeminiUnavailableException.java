@@ -0,0 +1,20 @@
+package com.solsolhey.ai.gemini;
+
+/**
+ * 복원력 계층이 Gemini 호출을 시도하지 않았거나 중단함
+ */
+public class GeminiUnavailableException extends RuntimeException {
+
+    public enum Reason { CIRCUIT_OPEN, QUOTA_EXHAUSTED, CONCURRENCY_LIMIT, DEADLINE_EXCEEDED }
+
+    private final Reason reason;
+
+    public GeminiUnavailableException(Reason reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+}
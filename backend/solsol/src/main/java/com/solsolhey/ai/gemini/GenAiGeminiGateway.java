@@ -0,0 +1,37 @@
+package com.solsolhey.ai.gemini;
+
+import com.google.genai.Client;
+import com.google.genai.ResponseStream;
+import com.google.genai.types.GenerateContentResponse;
+
+import java.util.function.Consumer;
+
+/**
+ * GenAI SDK 클라이언트 기반 실제 게이트웨이
+ */
+public class GenAiGeminiGateway implements GeminiGateway {
+
+    private final Client client;
+    private final String model;
+
+    public GenAiGeminiGateway(Client client, String model) {
+        this.client = client;
+        this.model = model;
+    }
+
+    @Override
+    public String generateText(String prompt) {
+        GenerateContentResponse res = client.models.generateContent(model, prompt, null);
+        return res.text();
+    }
+
+    @Override
+    public void streamText(String prompt, Consumer<String> onChunk) {
+        try (ResponseStream<GenerateContentResponse> stream = client.models.generateContentStream(model, prompt, null)) {
+            for (GenerateContentResponse res : stream) {
+                String text = res.text();
+                if (text != null && !text.isEmpty()) onChunk.accept(text);
+            }
+        }
+    }
+}
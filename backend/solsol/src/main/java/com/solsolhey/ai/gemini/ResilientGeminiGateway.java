@@ -0,0 +1,291 @@
+package com.solsolhey.ai.gemini;
+
+import com.google.genai.errors.ApiException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * {@link GeminiGateway} 복원력 계층
+ * - 벤더 쿼터에 맞춘 클라이언트 측 토큰 버킷(GCRA): 쿼터 초과 호출은 즉시 실패
+ * - 동시 진행 호출 수 제한, 호출마다 마감 시간 적용
+ * - 서킷 브레이커: 벤더 제한(429) 또는 N회 연속 실패 시 열림,
+ *   지터를 준 지수 증가 대기 후 half-open 탐색 호출 1건만 통과
+ */
+@Slf4j
+public class ResilientGeminiGateway implements GeminiGateway {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final GeminiGateway delegate;
+    private final GeminiProperties props;
+    private final ThreadPoolExecutor callExecutor;
+
+    // 토큰 버킷: 이론적 도착 시각 (nanoTime)
+    private final AtomicLong tatNanos = new AtomicLong(System.nanoTime());
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+
+    // 서킷 브레이커 상태 (breakerLock 으로 보호)
+    private final Object breakerLock = new Object();
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private int consecutiveOpens;
+    private long openUntilMillis;
+    private boolean probeInFlight;
+
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong successes = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong throttled = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong shortCircuited = new AtomicLong();
+    private final AtomicLong quotaRejected = new AtomicLong();
+    private final AtomicLong concurrencyRejected = new AtomicLong();
+
+    public ResilientGeminiGateway(GeminiGateway delegate, GeminiProperties props) {
+        this.delegate = delegate;
+        this.props = props;
+        this.emissionIntervalNanos = TimeUnit.MINUTES.toNanos(1) / Math.max(1, props.getRequestsPerMinute());
+        this.burstToleranceNanos = emissionIntervalNanos * Math.max(1, props.getBurst());
+        int maxCalls = Math.max(1, props.getMaxConcurrentCalls());
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.callExecutor = new ThreadPoolExecutor(maxCalls, maxCalls, 60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), r -> {
+                    Thread t = new Thread(r, "gemini-call-" + threadIndex.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    @Override
+    public String generateText(String prompt) {
+        return guarded(() -> delegate.generateText(prompt));
+    }
+
+    /**
+     * 같은 쿼터/서킷 규칙을 따르는 스트리밍 호출 (마감 시간은 스트림 전체에 적용)
+     * - 청크는 호출 스레드에서 전달
+     */
+    @Override
+    public void streamText(String prompt, Consumer<String> onChunk) {
+        guarded(() -> {
+            delegate.streamText(prompt, onChunk);
+            return null;
+        });
+    }
+
+    private <T> T guarded(Callable<T> call) {
+        boolean probe = acquirePermission();
+        if (!tryAcquireToken()) {
+            releaseProbe(probe);
+            quotaRejected.incrementAndGet();
+            throw new GeminiUnavailableException(GeminiUnavailableException.Reason.QUOTA_EXHAUSTED,
+                    "Gemini 클라이언트 쿼터 소진");
+        }
+
+        Future<T> future;
+        try {
+            future = callExecutor.submit(call);
+        } catch (RejectedExecutionException e) {
+            releaseProbe(probe);
+            concurrencyRejected.incrementAndGet();
+            throw new GeminiUnavailableException(GeminiUnavailableException.Reason.CONCURRENCY_LIMIT,
+                    "Gemini 동시 호출 한도 도달");
+        }
+
+        calls.incrementAndGet();
+        try {
+            T result = future.get(props.getCallTimeoutMs(), TimeUnit.MILLISECONDS);
+            onSuccess();
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timeouts.incrementAndGet();
+            onFailure(false);
+            throw new GeminiUnavailableException(GeminiUnavailableException.Reason.DEADLINE_EXCEEDED,
+                    "Gemini 호출 시간 초과: " + props.getCallTimeoutMs() + "ms");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() == null ? e : e.getCause();
+            boolean throttle = isThrottle(cause);
+            if (throttle) throttled.incrementAndGet();
+            onFailure(throttle);
+            if (cause instanceof RuntimeException re) throw re;
+            throw new IllegalStateException(cause.getMessage(), cause);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            releaseProbe(probe);
+            Thread.currentThread().interrupt();
+            throw new GeminiUnavailableException(GeminiUnavailableException.Reason.DEADLINE_EXCEEDED,
+                    "Gemini 호출 중단됨");
+        }
+    }
+
+    @Override
+    public boolean isCallPermitted() {
+        synchronized (breakerLock) {
+            boolean breakerAllows = switch (state) {
+                case CLOSED -> true;
+                case OPEN -> System.currentTimeMillis() >= openUntilMillis;
+                case HALF_OPEN -> !probeInFlight;
+            };
+            if (!breakerAllows) return false;
+        }
+        return availableTokens() > 0;
+    }
+
+    public GatewayStatus getStatus() {
+        State currentState;
+        long cooldownRemaining;
+        int opens;
+        synchronized (breakerLock) {
+            currentState = state;
+            cooldownRemaining = state == State.OPEN ? Math.max(0, openUntilMillis - System.currentTimeMillis()) : 0;
+            opens = consecutiveOpens;
+        }
+        return new GatewayStatus(
+                props.getMode(),
+                currentState,
+                opens,
+                cooldownRemaining,
+                availableTokens(),
+                callExecutor.getActiveCount(),
+                calls.get(),
+                successes.get(),
+                failures.get(),
+                throttled.get(),
+                timeouts.get(),
+                shortCircuited.get(),
+                quotaRejected.get(),
+                concurrencyRejected.get()
+        );
+    }
+
+    public void shutdown() {
+        callExecutor.shutdownNow();
+    }
+
+    /**
+     * @return 이 호출이 half-open 탐색 호출이면 true
+     */
+    private boolean acquirePermission() {
+        synchronized (breakerLock) {
+            switch (state) {
+                case CLOSED:
+                    return false;
+                case OPEN:
+                    if (System.currentTimeMillis() < openUntilMillis) break;
+                    state = State.HALF_OPEN;
+                    probeInFlight = true;
+                    return true;
+                case HALF_OPEN:
+                    if (probeInFlight) break;
+                    probeInFlight = true;
+                    return true;
+            }
+        }
+        shortCircuited.incrementAndGet();
+        throw new GeminiUnavailableException(GeminiUnavailableException.Reason.CIRCUIT_OPEN, "Gemini 서킷 열림");
+    }
+
+    private void releaseProbe(boolean probe) {
+        if (!probe) return;
+        synchronized (breakerLock) {
+            probeInFlight = false;
+        }
+    }
+
+    private void onSuccess() {
+        successes.incrementAndGet();
+        synchronized (breakerLock) {
+            if (state != State.CLOSED) log.info("Gemini 서킷 닫힘");
+            state = State.CLOSED;
+            consecutiveFailures = 0;
+            consecutiveOpens = 0;
+            probeInFlight = false;
+        }
+    }
+
+    private void onFailure(boolean throttle) {
+        failures.incrementAndGet();
+        synchronized (breakerLock) {
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || throttle || consecutiveFailures >= props.getFailureThreshold()) {
+                open(throttle);
+            }
+        }
+    }
+
+    // 호출자가 breakerLock 보유
+    private void open(boolean throttle) {
+        consecutiveOpens++;
+        long base = Math.max(1, props.getBaseCooldownMs());
+        long cooldown = Math.min(props.getMaxCooldownMs(), base << Math.min(consecutiveOpens - 1, 20));
+        // [cooldown/2, cooldown] 범위 지터로 노드들이 동시에 탐색하지 않게 함
+        long jittered = cooldown / 2 + ThreadLocalRandom.current().nextLong(cooldown / 2 + 1);
+        openUntilMillis = System.currentTimeMillis() + jittered;
+        state = State.OPEN;
+        probeInFlight = false;
+        consecutiveFailures = 0;
+        log.warn("Gemini 서킷 열림: {}ms ({}, 연속 열림 {}회)",
+                jittered, throttle ? "벤더 제한" : "연속 실패", consecutiveOpens);
+    }
+
+    private boolean tryAcquireToken() {
+        while (true) {
+            long now = System.nanoTime();
+            long tat = tatNanos.get();
+            long newTat = Math.max(tat, now) + emissionIntervalNanos;
+            if (newTat - now > burstToleranceNanos) return false;
+            if (tatNanos.compareAndSet(tat, newTat)) return true;
+        }
+    }
+
+    private long availableTokens() {
+        long now = System.nanoTime();
+        long backlog = Math.max(tatNanos.get(), now) - now;
+        return Math.max(0, (burstToleranceNanos - backlog) / emissionIntervalNanos);
+    }
+
+    private static boolean isThrottle(Throwable t) {
+        for (Throwable cur = t; cur != null; cur = cur.getCause()) {
+            if (cur instanceof ApiException api && api.code() == 429) return true;
+            String msg = cur.getMessage();
+            if (msg != null) {
+                String lower = msg.toLowerCase(Locale.ROOT);
+                if (lower.contains("resource_exhausted") || lower.contains("too many requests")) return true;
+            }
+            if (cur.getCause() == cur) break;
+        }
+        return false;
+    }
+
+    public record GatewayStatus(
+            String mode,
+            State state,
+            int consecutiveOpens,
+            long cooldownRemainingMs,
+            long availableTokens,
+            int inFlight,
+            long calls,
+            long successes,
+            long failures,
+            long throttled,
+            long timeouts,
+            long shortCircuited,
+            long quotaRejected,
+            long concurrencyRejected
+    ) {}
+}
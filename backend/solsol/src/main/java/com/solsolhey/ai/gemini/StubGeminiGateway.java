@@ -0,0 +1,68 @@
+package com.solsolhey.ai.gemini;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 부하 테스트용 결정적 오프라인 게이트웨이 (ai.gemini.mode=stub)
+ * - 같은 프롬프트는 항상 같은 멘트, 지연 시간은 모의로 재현
+ */
+public class StubGeminiGateway implements GeminiGateway {
+
+    private static final List<String> LINES = List.of(
+            "오늘도 한 걸음만 가보자!",
+            "잠깐 쉬고 다시 달려볼까?",
+            "지금 하나만 끝내보자!",
+            "오늘 목표 딱 하나 정하자!",
+            "조금씩 해도 충분히 잘하고 있어!",
+            "마감 전에 미리 챙겨두자!"
+    );
+
+    private static final String CHALLENGE_MARKER = "챌린지: ";
+    private static final int STREAM_CHUNK_CHARS = 3;
+
+    private final long latencyMillis;
+
+    public StubGeminiGateway(long latencyMillis) {
+        this.latencyMillis = Math.max(0, latencyMillis);
+    }
+
+    @Override
+    public String generateText(String prompt) {
+        if (!sleep(latencyMillis)) return null;
+        return lineFor(prompt);
+    }
+
+    @Override
+    public void streamText(String prompt, Consumer<String> onChunk) {
+        // 첫 청크는 지연 시간의 절반 후, 나머지는 남은 시간에 나눠 전달
+        String line = lineFor(prompt);
+        int chunks = Math.max(1, (line.length() + STREAM_CHUNK_CHARS - 1) / STREAM_CHUNK_CHARS);
+        if (!sleep(latencyMillis / 2)) return;
+        for (int i = 0; i < line.length(); i += STREAM_CHUNK_CHARS) {
+            if (i > 0 && !sleep(latencyMillis / 2 / chunks)) return;
+            onChunk.accept(line.substring(i, Math.min(line.length(), i + STREAM_CHUNK_CHARS)));
+        }
+    }
+
+    private String lineFor(String prompt) {
+        int marker = prompt.indexOf(CHALLENGE_MARKER);
+        if (marker >= 0) {
+            int end = prompt.indexOf('\n', marker);
+            String name = prompt.substring(marker + CHALLENGE_MARKER.length(), end < 0 ? prompt.length() : end).trim();
+            if (!name.isEmpty()) return name + " 같이 해볼까?";
+        }
+        return LINES.get(Math.floorMod(prompt.hashCode(), LINES.size()));
+    }
+
+    private static boolean sleep(long millis) {
+        if (millis <= 0) return true;
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -1,23 +1,47 @@
 package com.solsolhey.auth.dto.response;
 
 import com.solsolhey.user.entity.User;
-import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.function.Supplier;
 
 /**
  * Spring Security UserDetails 구현체
+ * - 인증 캐시 적중 시에는 식별 정보(사용자 ID, 이메일)만으로 만들고, User 엔티티는 처음 필요할 때 요청 안에서 조회
  */
-@Getter
-@RequiredArgsConstructor
 public class CustomUserDetails implements UserDetails {
 
-    private final User user;
+    private final Long userId;
+    private final String email;
+    private final Supplier<User> userLoader;
+    private User user;
+
+    public CustomUserDetails(User user) {
+        this.userId = user.getUserId();
+        this.email = user.getEmail();
+        this.userLoader = null;
+        this.user = user;
+    }
+
+    public CustomUserDetails(Long userId, String email, Supplier<User> userLoader) {
+        this.userId = userId;
+        this.email = email;
+        this.userLoader = userLoader;
+    }
+
+    /**
+     * 사용자 엔티티 (식별 정보로 만든 경우 최초 호출 시 조회)
+     */
+    public synchronized User getUser() {
+        if (user == null) {
+            user = userLoader.get();
+        }
+        return user;
+    }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
@@ -28,41 +52,41 @@ public class CustomUserDetails implements UserDetails {
 
     @Override
     public String getPassword() {
-        return user.getPasswordHash();
+        return getUser().getPasswordHash();
     }
 
     @Override
     public String getUsername() {
         // Spring Security principal 문자열: 이메일 사용
-        return user.getEmail();
+        return email;
     }
 
     /**
      * 사용자 ID 반환
      */
     public Long getUserId() {
-        return user.getUserId();
+        return userId;
     }
 
     /**
      * 닉네임 반환
      */
     public String getNickname() {
-        return user.getNickname();
+        return getUser().getNickname();
     }
 
     /**
      * 이메일 반환
      */
     public String getEmail() {
-        return user.getEmail();
+        return email;
     }
 
     /**
      * 총 포인트 반환
      */
     public Integer getTotalPoints() {
-        return user.getTotalPoints();
+        return getUser().getTotalPoints();
     }
 
     @Override
@@ -82,6 +106,6 @@ public class CustomUserDetails implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return user.getIsActive(); // User 엔티티의 활성화 상태
+        return getUser().getIsActive(); // User 엔티티의 활성화 상태
     }
 }
@@ -2,6 +2,8 @@ package com.solsolhey.auth.jwt;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.solsolhey.common.exception.AuthException;
+import com.solsolhey.auth.dto.response.CustomUserDetails;
+import com.solsolhey.auth.service.AuthenticatedPrincipalCache;
 import com.solsolhey.auth.service.CustomUserDetailsService;
 import com.solsolhey.common.response.ApiResponse;
 import jakarta.servlet.FilterChain;
@@ -15,7 +17,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.lang.NonNull;
 import org.springframework.util.StringUtils;
@@ -32,6 +33,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final CustomUserDetailsService userDetailsService;
+    private final AuthenticatedPrincipalCache principalCache;
     private final ObjectMapper objectMapper;
     private final Environment environment;
 
@@ -41,25 +43,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, 
                                   @NonNull FilterChain filterChain) throws ServletException, IOException {
         
-        // 강제 확인용 출력 (로그 레벨 무관)
-        System.out.println("=== JWT FILTER START ===");
-        System.out.println("JWT FILTER >>> " + request.getMethod() + " " + request.getRequestURI());
-        if (request.getCookies() != null) {
-            for (var c : request.getCookies()) {
-                if ("ACCESS_TOKEN".equals(c.getName())) {
-                    System.out.println("ACCESS_TOKEN(cookie) PRESENT, length=" + c.getValue().length());
-                }
-            }
-        }
-        
         try {
             log.debug("=== JWT filter start: {} {}", request.getMethod(), request.getRequestURI());
 
             String token = extractTokenFromRequest(request);
-            if (StringUtils.hasText(token) && jwtTokenProvider.validateAccessToken(token)) {
-                Long userId = jwtTokenProvider.getUserIdFromToken(token);
-                UserDetails userDetails = userDetailsService.loadUserByUserId(userId);
-
+            CustomUserDetails userDetails = StringUtils.hasText(token) ? authenticate(token) : null;
+            if (userDetails != null) {
                 var authenticationToken = new UsernamePasswordAuthenticationToken(
                     userDetails, null, userDetails.getAuthorities());
                 authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -92,6 +81,33 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
     }
 
+    /**
+     * 토큰으로 인증 사용자 조회
+     * 캐시 적중 시 블랙리스트만 확인하고 User 엔티티는 요청 안에서 처음 필요할 때 조회,
+     * 미적중 시 토큰을 한 번만 검증/파싱한 뒤 사용자를 조회하여 식별 정보를 캐시
+     */
+    private CustomUserDetails authenticate(String token) {
+        AuthenticatedPrincipalCache.PrincipalIdentity cached = principalCache.get(token);
+        if (cached != null) {
+            // 다른 노드에서의 로그아웃은 블랙리스트(폐기 로그)로 반영됨
+            if (jwtTokenProvider.isBlacklisted(token)) {
+                principalCache.invalidateToken(token);
+                return null;
+            }
+            Long userId = cached.userId();
+            return new CustomUserDetails(userId, cached.email(),
+                    () -> ((CustomUserDetails) userDetailsService.loadUserByUserId(userId)).getUser());
+        }
+
+        JwtTokenProvider.VerifiedAccessToken verified = jwtTokenProvider.verifyAccessToken(token);
+        if (verified == null) {
+            return null;
+        }
+        CustomUserDetails userDetails = (CustomUserDetails) userDetailsService.loadUserByUserId(verified.userId());
+        principalCache.put(token, userDetails, verified.expiresAtMillis());
+        return userDetails;
+    }
+
     /**
      * 요청에서 JWT 토큰 추출
      * - 운영: 쿠키만
@@ -105,9 +121,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (cookies != null) {
             log.debug("쿠키 개수: {}", cookies.length);
             for (jakarta.servlet.http.Cookie cookie : cookies) {
-                log.debug("쿠키 검사: {} = {}", cookie.getName(), cookie.getValue());
                 if (ACCESS_TOKEN_COOKIE.equals(cookie.getName())) {
-                    log.debug("ACCESS_TOKEN 쿠키 발견: {}", cookie.getValue());
+                    log.debug("ACCESS_TOKEN 쿠키 발견");
                     return java.net.URLDecoder.decode(cookie.getValue(), java.nio.charset.StandardCharsets.UTF_8);
                 }
             }
@@ -118,10 +133,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 개발환경에서만 Authorization 헤더 fallback 허용
         if (isDevelopmentEnvironment()) {
             String bearer = request.getHeader("Authorization");
-            log.debug("Authorization 헤더: {}", bearer);
             if (org.springframework.util.StringUtils.hasText(bearer) && bearer.startsWith("Bearer ")) {
                 String token = bearer.substring(7);
-                log.debug("Bearer 토큰 추출: {}", token);
+                log.debug("Bearer 토큰 추출");
                 return token;
             }
         }
@@ -1,6 +1,7 @@
 package com.solsolhey.auth.jwt;
 
 import com.solsolhey.auth.service.TokenBlacklistService;
+import com.solsolhey.auth.service.TokenRevocationLogService;
 import com.solsolhey.common.exception.AuthException;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
@@ -25,17 +26,20 @@ public class JwtTokenProvider {
     private final long accessTokenValidityInMilliseconds;
     private final long refreshTokenValidityInMilliseconds;
     private final TokenBlacklistService tokenBlacklistService;
+    private final TokenRevocationLogService tokenRevocationLogService;
 
     public JwtTokenProvider(
             @Value("${jwt.secret-key}") String secretKey,
             @Value("${jwt.access-token-expiration}") long accessTokenExpiration,
             @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration,
-            TokenBlacklistService tokenBlacklistService) {
+            TokenBlacklistService tokenBlacklistService,
+            TokenRevocationLogService tokenRevocationLogService) {
         
         this.secretKey = Keys.hmacShaKeyFor(secretKey.getBytes());
         this.accessTokenValidityInMilliseconds = accessTokenExpiration;
         this.refreshTokenValidityInMilliseconds = refreshTokenExpiration;
         this.tokenBlacklistService = tokenBlacklistService;
+        this.tokenRevocationLogService = tokenRevocationLogService;
     }
 
     /**
@@ -179,6 +183,52 @@ public class JwtTokenProvider {
         return "access".equals(tokenType);
     }
 
+    /**
+     * Access Token 검증 후 사용자 ID/만료 시각 반환 (서명 검증 및 파싱 1회)
+     *
+     * @return 유효한 access 토큰이면 검증 결과, 아니면 null
+     * @throws AuthException.TokenExpiredException 만료된 토큰
+     */
+    public VerifiedAccessToken verifyAccessToken(String token) {
+        if (tokenBlacklistService.isBlacklisted(token)) {
+            log.warn("블랙리스트된 토큰 사용 시도");
+            return null;
+        }
+        try {
+            Claims claims = Jwts.parser()
+                    .verifyWith(secretKey)
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload();
+            if (!"access".equals(claims.get("tokenType", String.class))) {
+                return null;
+            }
+            Object userId = claims.get("userId");
+            Long id;
+            if (userId instanceof Integer integer) {
+                id = integer.longValue();
+            } else if (userId instanceof Long longValue) {
+                id = longValue;
+            } else {
+                log.error("Invalid userId in token");
+                return null;
+            }
+            return new VerifiedAccessToken(id, claims.getExpiration().getTime());
+        } catch (ExpiredJwtException e) {
+            log.error("Expired JWT token: {}", e.getMessage());
+            throw new AuthException.TokenExpiredException();
+        } catch (SecurityException e) {
+            log.error("Invalid JWT signature: {}", e.getMessage());
+        } catch (MalformedJwtException e) {
+            log.error("Invalid JWT token: {}", e.getMessage());
+        } catch (UnsupportedJwtException e) {
+            log.error("Unsupported JWT token: {}", e.getMessage());
+        } catch (IllegalArgumentException e) {
+            log.error("JWT claims string is empty: {}", e.getMessage());
+        }
+        return null;
+    }
+
     /**
      * Refresh Token 검증 (토큰 타입까지 확인)
      */
@@ -193,7 +243,7 @@ public class JwtTokenProvider {
 
     /**
      * 토큰을 블랙리스트에 추가
-     * 로그아웃 시 호출됨
+     * 로그아웃 시 호출됨 (다른 노드/재시작 후에도 유지되도록 폐기 로그에도 기록)
      */
     public void blacklistToken(String token) {
         try {
@@ -206,6 +256,12 @@ public class JwtTokenProvider {
                     .toLocalDateTime();
             
             tokenBlacklistService.blacklistToken(token, expirationTime);
+            try {
+                tokenRevocationLogService.append(tokenBlacklistService.digestHex(token), expirationDate.getTime());
+            } catch (Exception e) {
+                // 로컬 블랙리스트에는 반영되었으므로 로그아웃 자체는 진행
+                log.error("토큰 폐기 로그 기록 실패: {}", e.getMessage());
+            }
             log.info("토큰이 블랙리스트에 추가됨");
         } catch (SecurityException | MalformedJwtException | UnsupportedJwtException | IllegalArgumentException | ExpiredJwtException e) {
             log.error("토큰 블랙리스트 추가 실패: {}", e.getMessage());
@@ -223,10 +279,22 @@ public class JwtTokenProvider {
                 .toLocalDateTime();
     }
 
+    /**
+     * 토큰이 블랙리스트에 있는지 확인
+     */
+    public boolean isBlacklisted(String token) {
+        return tokenBlacklistService.isBlacklisted(token);
+    }
+
     /**
      * 토큰 블랙리스트 상태 조회
      */
     public TokenBlacklistService.BlacklistStatus getBlacklistStatus() {
         return tokenBlacklistService.getStatus();
     }
+
+    /**
+     * 검증된 Access Token 정보 (사용자 ID, 만료 시각 epoch millis)
+     */
+    public record VerifiedAccessToken(Long userId, long expiresAtMillis) {}
 }
@@ -19,6 +19,7 @@ import org.springframework.http.HttpStatus;
 import com.solsolhey.common.response.ApiResponse;
 import com.solsolhey.user.entity.User;
 import com.solsolhey.user.repository.UserRepository;
+import com.solsolhey.user.service.NicknameSearchIndex;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -37,6 +38,8 @@ public class AuthServiceImpl implements AuthService {
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthenticationManager authenticationManager;
     private final org.springframework.context.ApplicationEventPublisher eventPublisher;
+    private final AuthenticatedPrincipalCache principalCache;
+    private final NicknameSearchIndex nicknameSearchIndex;
 
     /**
      * 회원가입
@@ -67,6 +70,7 @@ public class AuthServiceImpl implements AuthService {
         User savedUser = userRepository.save(user);
         log.info("회원가입 완료: userId={}, email={}, nickname={}", 
                 savedUser.getUserId(), savedUser.getEmail(), savedUser.getNickname());
+        nicknameSearchIndex.onNicknameChanged(savedUser.getUserId(), savedUser.getNickname());
 
         // 커밋 후 금융 사용자 생성 트리거 이벤트 발행 (옵션 B)
         try {
@@ -166,6 +170,7 @@ public class AuthServiceImpl implements AuthService {
             
             // 토큰을 블랙리스트에 추가
             jwtTokenProvider.blacklistToken(accessToken);
+            principalCache.invalidateToken(accessToken);
             
             log.info("로그아웃 완료: 토큰이 블랙리스트에 추가됨");
             
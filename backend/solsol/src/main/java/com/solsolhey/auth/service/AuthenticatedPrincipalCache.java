@@ -0,0 +1,138 @@
+package com.solsolhey.auth.service;
+
+import com.solsolhey.auth.dto.response.CustomUserDetails;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 검증된 Access Token -> 인증 사용자 식별 정보 캐시
+ * - 토큰 다이제스트를 키로, min(토큰 만료, TTL) 동안 식별 정보(사용자 ID, 이메일)만 보관하여 요청마다 JWT 재검증을 생략
+ * - 포인트 등 변경 가능한 사용자 상태는 캐시하지 않음 (필요한 요청이 직접 조회)
+ * - 로그아웃/계정 비활성화 시 무효화
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AuthenticatedPrincipalCache {
+
+    private final TokenBlacklistService tokenBlacklistService;
+
+    @Value("${auth.principal-cache.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    @Value("${auth.principal-cache.max-entries:10000}")
+    private int maxEntries;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    // 통계 정보
+    private final AtomicLong hits = new AtomicLong(0);
+    private final AtomicLong misses = new AtomicLong(0);
+
+    /**
+     * 캐시된 인증 사용자 식별 정보 조회 (없거나 만료되었으면 null)
+     */
+    public PrincipalIdentity get(String token) {
+        String key = tokenBlacklistService.digestHex(token);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        if (entry.expiresAtMillis() <= System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return entry.identity();
+    }
+
+    /**
+     * 인증 사용자 식별 정보 저장
+     *
+     * @param tokenExpiresAtMillis 토큰 만료 시각 (캐시 만료 상한)
+     */
+    public void put(String token, CustomUserDetails userDetails, long tokenExpiresAtMillis) {
+        if (entries.size() >= maxEntries) {
+            evictExpired();
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+        long expiresAt = Math.min(tokenExpiresAtMillis, System.currentTimeMillis() + ttlSeconds * 1000);
+        entries.put(tokenBlacklistService.digestHex(token),
+                new Entry(new PrincipalIdentity(userDetails.getUserId(), userDetails.getEmail()), expiresAt));
+    }
+
+    /**
+     * 토큰 단위 무효화 (로그아웃)
+     */
+    public void invalidateToken(String token) {
+        if (token == null || token.isBlank()) return;
+        entries.remove(tokenBlacklistService.digestHex(token));
+    }
+
+    /**
+     * 사용자 단위 무효화 (계정 비활성화 등 인증 가능 여부가 바뀌는 변경)
+     * 트랜잭션 중이면 커밋 후에 한 번 더 무효화하여 커밋 전 상태가 다시 캐시되지 않도록 함
+     */
+    public void invalidateUser(Long userId) {
+        if (userId == null) return;
+        removeUser(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    removeUser(userId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 만료된 엔트리 정리
+     */
+    @Scheduled(fixedDelayString = "${auth.principal-cache.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+    }
+
+    /**
+     * 캐시 상태 정보 조회
+     */
+    public PrincipalCacheStatus getStatus() {
+        return new PrincipalCacheStatus(entries.size(), maxEntries, hits.get(), misses.get());
+    }
+
+    private void removeUser(Long userId) {
+        entries.values().removeIf(entry -> userId.equals(entry.identity().userId()));
+    }
+
+    private record Entry(PrincipalIdentity identity, long expiresAtMillis) {}
+
+    /**
+     * 인증 사용자 식별 정보 (권한은 현재 ROLE_USER 고정)
+     */
+    public record PrincipalIdentity(Long userId, String email) {}
+
+    /**
+     * 캐시 상태 정보를 담는 record
+     */
+    public record PrincipalCacheStatus(
+            int size,        // 현재 캐시 크기
+            int maxEntries,  // 최대 크기
+            long hits,       // 누적 적중 수
+            long misses      // 누적 미적중 수
+    ) {}
+}
@@ -1,37 +1,70 @@
 package com.solsolhey.auth.service;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import jakarta.annotation.PostConstruct;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 /**
  * JWT 토큰 블랙리스트 관리 서비스
  * 로그아웃된 토큰을 무효화하여 보안을 강화
+ * - 토큰은 SHA-256 앞 128비트 다이제스트로 식별 (해시코드 충돌로 무관한 토큰이 거부되지 않도록)
+ * - 조회는 Bloom 필터를 먼저 확인하므로 블랙리스트에 없는 대부분의 토큰은 맵을 조회하지 않음
+ * - 엔트리는 만료 시각 구간별 세그먼트에 보관하고, 구간이 지나면 세그먼트 단위로 통째로 제거
  */
 @Service
 @Slf4j
 public class TokenBlacklistService {
 
-    // 메모리 기반 블랙리스트 (토큰 -> 만료시간)
-    private final ConcurrentHashMap<String, LocalDateTime> blacklistedTokens = new ConcurrentHashMap<>();
-    
+    // 엔트리 1건당 대략적인 메모리 사용량 (다이제스트 record + ConcurrentHashMap 노드)
+    private static final long ESTIMATED_BYTES_PER_ENTRY = 80L;
+
+    @Value("${jwt.blacklist.segment-minutes:10}")
+    private long segmentMinutes;
+
+    @Value("${jwt.blacklist.bloom-expected-insertions:100000}")
+    private int bloomExpectedInsertions;
+
+    @Value("${jwt.blacklist.bloom-false-positive-rate:0.01}")
+    private double bloomFalsePositiveRate;
+
+    // 만료 구간 번호 -> 세그먼트 (토큰 다이제스트 집합)
+    private final ConcurrentSkipListMap<Long, Set<TokenDigest>> segments = new ConcurrentSkipListMap<>();
+
+    private volatile BloomFilter bloomFilter;
+    private long segmentMillis;
+
     // 통계 정보
     private final AtomicLong totalBlacklisted = new AtomicLong(0);
     private final AtomicLong totalCleaned = new AtomicLong(0);
+    private final AtomicLong bloomNegatives = new AtomicLong(0);
+    private final AtomicLong bloomFalsePositives = new AtomicLong(0);
 
     @PostConstruct
     public void init() {
-        log.info("TokenBlacklistService 초기화 완료");
+        this.segmentMillis = Math.max(1, segmentMinutes) * 60_000L;
+        this.bloomFilter = BloomFilter.create(bloomExpectedInsertions, bloomFalsePositiveRate);
+        log.info("TokenBlacklistService 초기화 완료 - segment: {}분, bloom: {} bits / {} hashes",
+                segmentMinutes, bloomFilter.bitSize(), bloomFilter.hashCount());
     }
 
     /**
      * 토큰을 블랙리스트에 추가
-     * 
+     *
      * @param token 블랙리스트에 추가할 JWT 토큰
      * @param expirationTime 토큰 만료 시간
      */
@@ -41,20 +74,36 @@ public class TokenBlacklistService {
             return;
         }
 
-        // 토큰 해시를 키로 사용 (메모리 효율성)
-        String tokenKey = generateTokenKey(token);
-        
-        blacklistedTokens.put(tokenKey, expirationTime);
-        totalBlacklisted.incrementAndGet();
-        
-        log.debug("토큰 블랙리스트 추가: {} (만료: {})", 
-                tokenKey.substring(0, Math.min(10, tokenKey.length())) + "...", 
-                expirationTime);
+        TokenDigest digest = TokenDigest.of(token);
+        long expiresAtMillis = expirationTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        add(digest, expiresAtMillis);
+
+        log.debug("토큰 블랙리스트 추가: {} (만료: {})", digest.shortHex(), expirationTime);
+    }
+
+    /**
+     * 토큰 다이제스트를 블랙리스트에 추가 (폐기 로그에서 읽어온 항목 반영용, 중복 추가는 무시)
+     *
+     * @param digestHex 32자리 16진수 다이제스트
+     * @param expiresAtMillis 토큰 만료 시각 (epoch millis)
+     */
+    public void blacklistDigest(String digestHex, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        add(TokenDigest.fromHex(digestHex), expiresAtMillis);
+    }
+
+    /**
+     * 토큰 다이제스트 (SHA-256 앞 128비트) 16진수 문자열
+     */
+    public String digestHex(String token) {
+        return TokenDigest.of(token).toHex();
     }
 
     /**
      * 토큰이 블랙리스트에 있는지 확인
-     * 
+     *
      * @param token 확인할 JWT 토큰
      * @return 블랙리스트에 있으면 true
      */
@@ -63,50 +112,46 @@ public class TokenBlacklistService {
             return false;
         }
 
-        String tokenKey = generateTokenKey(token);
-        boolean isBlacklisted = blacklistedTokens.containsKey(tokenKey);
-        
-        if (isBlacklisted) {
-            log.debug("블랙리스트된 토큰 사용 시도 감지: {}", 
-                    tokenKey.substring(0, Math.min(10, tokenKey.length())) + "...");
+        TokenDigest digest = TokenDigest.of(token);
+        if (!bloomFilter.mightContain(digest)) {
+            bloomNegatives.incrementAndGet();
+            return false;
         }
-        
-        return isBlacklisted;
-    }
 
-    /**
-     * 토큰 키 생성 (해시 기반)
-     * 메모리 효율성을 위해 토큰의 해시코드를 사용
-     */
-    private String generateTokenKey(String token) {
-        // JWT는 보통 길기 때문에 해시코드 사용
-        // 실제 프로덕션에서는 SHA-256 등을 고려할 수 있음
-        return String.valueOf(token.hashCode());
+        for (Set<TokenDigest> segment : segments.values()) {
+            if (segment.contains(digest)) {
+                log.debug("블랙리스트된 토큰 사용 시도 감지: {}", digest.shortHex());
+                return true;
+            }
+        }
+        bloomFalsePositives.incrementAndGet();
+        return false;
     }
 
     /**
      * 만료된 토큰들을 블랙리스트에서 자동 정리
-     * 매 시간마다 실행
+     * 만료 구간이 지난 세그먼트를 통째로 제거한 뒤 Bloom 필터를 남은 엔트리로 재구성
      */
-    @Scheduled(fixedRate = 3600000) // 1시간마다 (1000ms * 60 * 60)
+    @Scheduled(fixedRateString = "${jwt.blacklist.cleanup-interval-ms:600000}")
     public void cleanupExpiredTokens() {
-        LocalDateTime now = LocalDateTime.now();
-        int beforeSize = blacklistedTokens.size();
-        
-        // 만료된 토큰들 제거
-        blacklistedTokens.entrySet().removeIf(entry -> {
-            boolean expired = entry.getValue().isBefore(now);
-            if (expired) {
-                totalCleaned.incrementAndGet();
+        long currentSegment = System.currentTimeMillis() / segmentMillis;
+        Map<Long, Set<TokenDigest>> expired = segments.headMap(currentSegment);
+        if (expired.isEmpty()) {
+            return;
+        }
+
+        int cleaned = 0;
+        synchronized (this) {
+            for (Long key : expired.keySet().toArray(new Long[0])) {
+                Set<TokenDigest> segment = segments.remove(key);
+                if (segment != null) cleaned += segment.size();
             }
-            return expired;
-        });
-        
-        int afterSize = blacklistedTokens.size();
-        int cleaned = beforeSize - afterSize;
-        
+            rebuildBloomFilter();
+        }
+        totalCleaned.addAndGet(cleaned);
+
         if (cleaned > 0) {
-            log.info("만료된 토큰 정리 완료: {} 개 제거, 현재 블랙리스트 크기: {}", cleaned, afterSize);
+            log.info("만료된 토큰 정리 완료: {} 개 제거, 현재 블랙리스트 크기: {}", cleaned, currentSize());
         }
     }
 
@@ -114,28 +159,165 @@ public class TokenBlacklistService {
      * 블랙리스트 상태 정보 조회
      */
     public BlacklistStatus getStatus() {
+        int size = currentSize();
+        BloomFilter bloom = bloomFilter;
+        long bloomBytes = bloom.bitSize() / 8;
+        long entryBytes = size * ESTIMATED_BYTES_PER_ENTRY;
         return new BlacklistStatus(
-                blacklistedTokens.size(),
+                size,
                 totalBlacklisted.get(),
-                totalCleaned.get()
+                totalCleaned.get(),
+                segments.size(),
+                bloom.bitSize(),
+                bloom.hashCount(),
+                bloomNegatives.get(),
+                bloomFalsePositives.get(),
+                bloomBytes,
+                entryBytes,
+                bloomBytes + entryBytes
         );
     }
 
     /**
      * 전체 블랙리스트 초기화 (테스트용)
      */
-    public void clearAll() {
-        int size = blacklistedTokens.size();
-        blacklistedTokens.clear();
+    public synchronized void clearAll() {
+        int size = currentSize();
+        segments.clear();
+        rebuildBloomFilter();
         log.warn("전체 블랙리스트 초기화: {} 개 토큰 삭제", size);
     }
 
+    private synchronized void add(TokenDigest digest, long expiresAtMillis) {
+        // 만료 시각이 속한 구간의 다음 구간 시작 시 제거되도록 구간 번호로 분류
+        long segmentKey = expiresAtMillis / segmentMillis;
+        if (segments.computeIfAbsent(segmentKey, k -> ConcurrentHashMap.newKeySet()).add(digest)) {
+            totalBlacklisted.incrementAndGet();
+        }
+        bloomFilter.put(digest);
+    }
+
+    // 호출자는 모니터를 보유해야 함 (재구성 중 추가된 엔트리 유실 방지)
+    private void rebuildBloomFilter() {
+        int size = currentSize();
+        BloomFilter rebuilt = BloomFilter.create(Math.max(bloomExpectedInsertions, size * 2), bloomFalsePositiveRate);
+        for (Set<TokenDigest> segment : segments.values()) {
+            for (TokenDigest digest : segment) {
+                rebuilt.put(digest);
+            }
+        }
+        this.bloomFilter = rebuilt;
+    }
+
+    private int currentSize() {
+        int size = 0;
+        for (Set<TokenDigest> segment : segments.values()) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * 128비트 토큰 다이제스트
+     */
+    private record TokenDigest(long high, long low) {
+
+        static TokenDigest of(String token) {
+            try {
+                byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+                ByteBuffer buffer = ByteBuffer.wrap(hash);
+                return new TokenDigest(buffer.getLong(), buffer.getLong());
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+            }
+        }
+
+        static TokenDigest fromHex(String hex) {
+            return new TokenDigest(Long.parseUnsignedLong(hex.substring(0, 16), 16),
+                    Long.parseUnsignedLong(hex.substring(16, 32), 16));
+        }
+
+        String toHex() {
+            return String.format("%016x%016x", high, low);
+        }
+
+        String shortHex() {
+            return String.format("%016x", high).substring(0, 10) + "...";
+        }
+    }
+
+    /**
+     * 다이제스트 비트를 그대로 해시로 사용하는 Bloom 필터 (추가 해싱 없음, 이중 해싱)
+     */
+    private static final class BloomFilter {
+        private final AtomicLongArray bits;
+        private final long bitSize;
+        private final int hashCount;
+
+        private BloomFilter(long bitSize, int hashCount) {
+            this.bits = new AtomicLongArray((int) ((bitSize + 63) / 64));
+            this.bitSize = bitSize;
+            this.hashCount = hashCount;
+        }
+
+        static BloomFilter create(int expectedInsertions, double fpp) {
+            long n = Math.max(1, expectedInsertions);
+            double p = Math.min(0.5, Math.max(1e-9, fpp));
+            long m = Math.max(64, (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2))));
+            int k = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+            return new BloomFilter(m, k);
+        }
+
+        void put(TokenDigest digest) {
+            long combined = digest.high();
+            for (int i = 0; i < hashCount; i++) {
+                long index = Math.floorMod(combined, bitSize);
+                long mask = 1L << (index & 63);
+                int word = (int) (index >>> 6);
+                long current;
+                do {
+                    current = bits.get(word);
+                    if ((current & mask) != 0) break;
+                } while (!bits.compareAndSet(word, current, current | mask));
+                combined += digest.low();
+            }
+        }
+
+        boolean mightContain(TokenDigest digest) {
+            long combined = digest.high();
+            for (int i = 0; i < hashCount; i++) {
+                long index = Math.floorMod(combined, bitSize);
+                if ((bits.get((int) (index >>> 6)) & (1L << (index & 63))) == 0) {
+                    return false;
+                }
+                combined += digest.low();
+            }
+            return true;
+        }
+
+        long bitSize() {
+            return bitSize;
+        }
+
+        int hashCount() {
+            return hashCount;
+        }
+    }
+
     /**
      * 블랙리스트 상태 정보를 담는 record
      */
     public record BlacklistStatus(
-            int currentSize,      // 현재 블랙리스트 크기
-            long totalBlacklisted, // 총 블랙리스트 추가된 토큰 수
-            long totalCleaned     // 총 정리된 토큰 수
+            int currentSize,           // 현재 블랙리스트 크기
+            long totalBlacklisted,     // 총 블랙리스트 추가된 토큰 수
+            long totalCleaned,         // 총 정리된 토큰 수
+            int segmentCount,          // 만료 구간 세그먼트 수
+            long bloomBits,            // Bloom 필터 비트 수
+            int bloomHashes,           // Bloom 필터 해시 함수 수
+            long bloomNegatives,       // Bloom 필터에서 바로 통과된 조회 수
+            long bloomFalsePositives,  // Bloom 필터 오탐 수 (맵 조회 후 미존재)
+            long bloomBytes,           // Bloom 필터 메모리 (bytes)
+            long estimatedEntryBytes,  // 엔트리 메모리 추정치 (bytes)
+            long estimatedTotalBytes   // 전체 메모리 추정치 (bytes)
     ) {}
 }
@@ -0,0 +1,132 @@
+package com.solsolhey.auth.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JWT 폐기 로그 (token_revocations)
+ * - 로그아웃된 토큰의 다이제스트/만료 시각을 추가 전용으로 기록
+ * - 각 노드는 주기적으로 마지막으로 읽은 ID 이후의 로그만 읽어 메모리 블랙리스트에 반영
+ *   (요청마다 DB 를 조회하지 않고도 재시작/다중 인스턴스 환경에서 폐기 상태 유지)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationLogService {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO token_revocations (token_digest, expires_at) VALUES (?, ?)";
+
+    private static final String TAIL_SQL =
+            "SELECT revocation_id, token_digest, expires_at FROM token_revocations "
+            + "WHERE revocation_id > ? AND expires_at > ? ORDER BY revocation_id LIMIT ?";
+
+    private static final String PURGE_SQL =
+            "DELETE FROM token_revocations WHERE expires_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TokenBlacklistService tokenBlacklistService;
+
+    @Value("${jwt.revocation.tail-batch-size:1000}")
+    private int tailBatchSize;
+
+    // 동시 커밋으로 ID 가 늦게 보이는 경우를 위해 마지막 ID 이전 구간을 겹쳐 읽음 (중복 반영은 무시됨)
+    @Value("${jwt.revocation.tail-overlap:100}")
+    private long tailOverlap;
+
+    private final AtomicLong lastRevocationId = new AtomicLong(0);
+    private final AtomicLong totalApplied = new AtomicLong(0);
+    private volatile boolean loaded = false;
+
+    /**
+     * 폐기 로그 기록
+     *
+     * @param tokenDigest 토큰 다이제스트 (TokenBlacklistService.digestHex)
+     * @param expiresAtMillis 토큰 만료 시각 (epoch millis)
+     */
+    public void append(String tokenDigest, long expiresAtMillis) {
+        jdbcTemplate.update(INSERT_SQL, tokenDigest, expiresAtMillis);
+    }
+
+    /**
+     * 기동 시 만료되지 않은 폐기 로그 전체 반영
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        int applied = tail();
+        loaded = true;
+        log.info("토큰 폐기 로그 적재 완료 - {}건, 마지막 ID: {}", applied, lastRevocationId.get());
+    }
+
+    /**
+     * 마지막으로 읽은 ID 이후의 폐기 로그를 읽어 블랙리스트에 반영
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.tail-interval-ms:5000}")
+    public void tailScheduled() {
+        if (!loaded) return;
+        try {
+            int applied = tail();
+            if (applied > 0) {
+                log.debug("토큰 폐기 로그 반영 - {}건, 마지막 ID: {}", applied, lastRevocationId.get());
+            }
+        } catch (Exception e) {
+            log.warn("토큰 폐기 로그 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 만료된 폐기 로그 삭제
+     */
+    @Scheduled(fixedRateString = "${jwt.revocation.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        try {
+            int purged = jdbcTemplate.update(PURGE_SQL, System.currentTimeMillis());
+            if (purged > 0) {
+                log.info("만료된 토큰 폐기 로그 삭제: {}건", purged);
+            }
+        } catch (Exception e) {
+            log.warn("토큰 폐기 로그 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    public long getLastRevocationId() {
+        return lastRevocationId.get();
+    }
+
+    public long getTotalApplied() {
+        return totalApplied.get();
+    }
+
+    private synchronized int tail() {
+        int applied = 0;
+        long from = Math.max(0, lastRevocationId.get() - tailOverlap);
+        while (true) {
+            long now = System.currentTimeMillis();
+            List<Object[]> rows = jdbcTemplate.query(TAIL_SQL,
+                    (rs, i) -> new Object[] { rs.getLong(1), rs.getString(2).trim(), rs.getLong(3) },
+                    from, now, tailBatchSize);
+            for (Object[] row : rows) {
+                tokenBlacklistService.blacklistDigest((String) row[1], (Long) row[2]);
+                from = (Long) row[0];
+            }
+            applied += rows.size();
+            if (from > lastRevocationId.get()) {
+                lastRevocationId.set(from);
+            }
+            if (rows.size() < tailBatchSize) {
+                break;
+            }
+        }
+        totalApplied.addAndGet(applied);
+        return applied;
+    }
+}
@@ -6,6 +6,7 @@ import com.solsolhey.challenge.dto.response.*;
 import com.solsolhey.challenge.dto.request.*;
 import com.solsolhey.challenge.entity.*;
 import com.solsolhey.challenge.repository.*;
+import com.solsolhey.finance.service.CreditRatingCache;
 import com.solsolhey.user.entity.User;
 import com.solsolhey.point.service.PointService;
 import lombok.RequiredArgsConstructor;
@@ -36,6 +37,7 @@ public class ChallengeServiceImpl implements ChallengeService {
     private final ChallengeCategoryRepository categoryRepository;
     private final PointService pointService;
     private final com.solsolhey.exp.service.ExpDailyCounterService expDailyCounterService;
+    private final CreditRatingCache creditRatingCache;
 
     private static final ZoneId KST = ZoneId.of("Asia/Seoul");
 
@@ -261,6 +263,19 @@ public class ChallengeServiceImpl implements ChallengeService {
         Challenge challenge = challengeRepository.findById(challengeId)
                 .orElseThrow(() -> new EntityNotFoundException("챌린지", challengeId));
 
+        // 신용등급 챌린지: 캐시된 조회 결과로만 확인 (트랜잭션 안에서 외부 호출을 기다리지 않음).
+        // 사용자 키가 없거나 외부 API 장애로 확인할 수 없으면 기존처럼 payload 기준으로 처리
+        if (isCreditRatingChallenge(challenge) && isFinanceSuccessPayload(request.getPayload())) {
+            CreditRatingCache.Verification verification = creditRatingCache.verifyCached(user.getFinanceUserKey());
+            if (verification == CreditRatingCache.Verification.NOT_FOUND) {
+                log.warn("신용등급 챌린지 진행도 갱신 거부: 조회 결과 없음. challengeId={}, userId={}", challengeId, user.getUserId());
+                return ChallengeProgressResponseDto.failure("신용등급 조회를 완료한 뒤에 완료할 수 있습니다.");
+            }
+            if (verification == CreditRatingCache.Verification.UNAVAILABLE) {
+                log.info("신용등급 확인 불가 - payload 기준으로 처리. challengeId={}, userId={}", challengeId, user.getUserId());
+            }
+        }
+
         // 주기 분기
         if (challenge.getResetPolicy() != Challenge.ResetPolicy.NONE) {
             var cycle = ensureJoinAllowedAndGetCycle(user, challenge);
@@ -409,6 +424,16 @@ public class ChallengeServiceImpl implements ChallengeService {
         return getOrCreateCycleLocked(user, challenge, challenge.getResetPolicy(), key);
     }
 
+    private boolean isFinanceSuccessPayload(String payload) {
+        return payload != null && payload.startsWith("FINANCE_") && payload.endsWith("_SUCCESS");
+    }
+
+    private boolean isCreditRatingChallenge(Challenge challenge) {
+        if (challenge.getCategory().getCategoryName() != ChallengeCategory.CategoryType.FINANCE) return false;
+        String name = challenge.getChallengeName() != null ? challenge.getChallengeName() : "";
+        return name.contains("신용등급") || name.contains("신용 등급");
+    }
+
     private boolean isFinanceActionChallenge(Challenge challenge) {
         String name = challenge.getChallengeName() != null ? challenge.getChallengeName().toLowerCase() : "";
         return name.contains("환율 전체") || name.contains("전체 환율") || name.contains("환율전체")
@@ -26,7 +26,9 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import com.solsolhey.auth.jwt.JwtAuthenticationFilter;
+import com.solsolhey.auth.service.AuthenticatedPrincipalCache;
 import com.solsolhey.auth.service.CustomUserDetailsService;
+import com.solsolhey.common.security.IpRateLimitGuardFilter;
 import com.solsolhey.common.security.RateLimitingFilter;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
@@ -50,6 +52,7 @@ import com.solsolhey.auth.jwt.JwtTokenProvider;
 public class SecurityConfig {
 
     private final RateLimitingFilter rateLimitingFilter;
+    private final IpRateLimitGuardFilter ipRateLimitGuardFilter;
     private final Environment environment;
 
     @Bean
@@ -95,17 +98,20 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.POST, "/api/v1/friends/requests").authenticated()
                 .requestMatchers(HttpMethod.POST, "/api/v1/attendance").authenticated()
                 .requestMatchers(HttpMethod.GET, "/api/v1/attendance/**").authenticated()
+                .requestMatchers("/api/v1/test/rate-limit/status/user", "/api/v1/test/rate-limit/status/route/**").authenticated()
                 .anyRequest().permitAll()
             )
             .headers(headers -> headers.frameOptions(frameOptions -> frameOptions.sameOrigin()));
 
-        // Run your custom rate limit filter early (kept as before)
-        http.addFilterBefore(rateLimitingFilter, UsernamePasswordAuthenticationFilter.class);
-
         // JWT before UsernamePasswordAuthenticationFilter (only if present)
+        // 저비용 IP 상한은 JWT 파싱 전에, 사용자/라우트 정책은 JWT 직후에 적용
         JwtAuthenticationFilter jwtFilter = jwtFilterProvider.getIfAvailable();
         if (jwtFilter != null) {
             http.addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
+            http.addFilterBefore(ipRateLimitGuardFilter, JwtAuthenticationFilter.class);
+            http.addFilterAfter(rateLimitingFilter, JwtAuthenticationFilter.class);
+        } else {
+            http.addFilterBefore(rateLimitingFilter, UsernamePasswordAuthenticationFilter.class);
         }
 
         // ★ Ensure XSRF-TOKEN cookie is always issued/maintained
@@ -169,6 +175,17 @@ public class SecurityConfig {
         return registration;
     }
 
+    /**
+     * IpRateLimitGuardFilter 자동 등록 비활성화
+     */
+    @Bean
+    public FilterRegistrationBean<IpRateLimitGuardFilter> ipRateLimitGuardFilterRegistration(IpRateLimitGuardFilter filter) {
+        FilterRegistrationBean<IpRateLimitGuardFilter> registration = new FilterRegistrationBean<>();
+        registration.setFilter(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     /**
      * JWT 인증 필터 빈 등록
      */
@@ -176,9 +193,10 @@ public class SecurityConfig {
     public JwtAuthenticationFilter jwtAuthenticationFilter(
             JwtTokenProvider jwtTokenProvider,
             CustomUserDetailsService userDetailsService,
+            AuthenticatedPrincipalCache principalCache,
             ObjectMapper objectMapper,
             Environment environment) {
-        return new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService, objectMapper, environment);
+        return new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService, principalCache, objectMapper, environment);
     }
 
     /**
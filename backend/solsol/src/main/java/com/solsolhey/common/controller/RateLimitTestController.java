@@ -1,10 +1,12 @@
 package com.solsolhey.common.controller;
 
+import com.solsolhey.auth.dto.response.CustomUserDetails;
 import com.solsolhey.common.response.ApiResponse;
 import com.solsolhey.common.security.RateLimitingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 /**
@@ -35,6 +37,26 @@ public class RateLimitTestController {
         }
     }
 
+    /**
+     * 내 사용자별 Rate Limit 상태 확인 (인증 필요, 본인 것만)
+     */
+    @GetMapping("/status/user")
+    public ResponseEntity<ApiResponse<RateLimitingService.RateLimitStatus>> getUserRateLimitStatus(
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        return ResponseEntity.ok(ApiResponse.success("Rate limit status retrieved",
+                rateLimitingService.getUserStatus(userDetails.getUserId())));
+    }
+
+    /**
+     * 내 라우트 그룹별 Rate Limit 상태 확인 (인증 필요, subject 는 로그인 사용자로 고정)
+     */
+    @GetMapping("/status/route/{group}")
+    public ResponseEntity<ApiResponse<RateLimitingService.RateLimitStatus>> getRouteRateLimitStatus(
+            @AuthenticationPrincipal CustomUserDetails userDetails, @PathVariable String group) {
+        return ResponseEntity.ok(ApiResponse.success("Rate limit status retrieved",
+                rateLimitingService.getRouteStatus(group, "user:" + userDetails.getUserId())));
+    }
+
     /**
      * Rate Limit 테스트용 엔드포인트
      */
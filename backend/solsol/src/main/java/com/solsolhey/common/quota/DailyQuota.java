@@ -0,0 +1,266 @@
+package com.solsolhey.common.quota;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * KST 일자 단위 카운터 한 종류 (예: 교내 투표, 친구 좋아요, 카테고리 EXP)
+ * - long 키(사용자 ID 또는 사용자 쌍) 별 당일 사용량을 원시 타입 배열 기반 테이블에 보관
+ * - 키를 처음 조회할 때 seeder 로 DB 의 당일 값을 읽어 초기화
+ * - KST 자정이 지나면 테이블 전체를 새 일자 테이블로 교체
+ */
+public final class DailyQuota {
+
+    private static final int STRIPES = 16;
+
+    private final String name;
+    private final Seeder seeder;
+    private final DailyQuotaService clock;
+
+    private volatile DayTable table;
+
+    // 통계 정보
+    private final AtomicLong seeds = new AtomicLong(0);
+    private final AtomicLong acquired = new AtomicLong(0);
+    private final AtomicLong rejected = new AtomicLong(0);
+
+    DailyQuota(String name, Seeder seeder, DailyQuotaService clock) {
+        this.name = name;
+        this.seeder = seeder;
+        this.clock = clock;
+        this.table = new DayTable(clock.today(), clock.nextMidnightMillis());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 당일 사용량 조회
+     */
+    public int current(long key) {
+        DayTable t = currentTable();
+        return t.stripe(key).getOrSeed(key, t.day, this);
+    }
+
+    /**
+     * 한도 미만이면 1 증가시키고 true, 한도에 도달했으면 false
+     */
+    public boolean tryAcquire(long key, int limit) {
+        DayTable t = currentTable();
+        Stripe stripe = t.stripe(key);
+        stripe.getOrSeed(key, t.day, this);
+        boolean ok = stripe.incrementIfBelow(key, limit);
+        if (ok) {
+            acquired.incrementAndGet();
+        } else {
+            rejected.incrementAndGet();
+        }
+        return ok;
+    }
+
+    /**
+     * tryAcquire 후 현재 트랜잭션이 롤백되면 증가분을 되돌림
+     */
+    public boolean tryAcquireInTransaction(long key, int limit) {
+        if (!tryAcquire(key, limit)) return false;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            DayTable t = table;
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        release(t, key);
+                    }
+                }
+            });
+        }
+        return true;
+    }
+
+    /**
+     * 당일 사용량 1 감소 (접수 취소 시)
+     */
+    public void release(long key) {
+        release(table, key);
+    }
+
+    /**
+     * 상태 정보 조회
+     */
+    public QuotaStatus getStatus() {
+        DayTable t = table;
+        int tracked = 0;
+        for (Stripe s : t.stripes) {
+            tracked += s.size();
+        }
+        return new QuotaStatus(name, t.day, tracked, seeds.get(), acquired.get(), rejected.get());
+    }
+
+    /**
+     * 두 사용자 ID 를 하나의 long 키로 결합 (각각 32비트 이내여야 함, 호출 전 {@link #fitsPairKey} 로 확인)
+     */
+    public static long pairKey(long first, long second) {
+        if (!fitsPairKey(first, second)) {
+            throw new IllegalArgumentException("사용자 ID 범위를 벗어났습니다: " + first + ", " + second);
+        }
+        return (first << 32) | second;
+    }
+
+    /**
+     * 두 사용자 ID 를 pairKey 로 결합할 수 있는지 (각각 0 ~ 2^32-1)
+     */
+    public static boolean fitsPairKey(long first, long second) {
+        return first >= 0 && first <= 0xFFFFFFFFL && second >= 0 && second <= 0xFFFFFFFFL;
+    }
+
+    private void release(DayTable t, long key) {
+        // 자정을 넘긴 뒤의 취소는 새 일자에 영향을 주지 않음
+        if (t == table) {
+            t.stripe(key).decrement(key);
+        }
+    }
+
+    private DayTable currentTable() {
+        DayTable t = table;
+        if (clock.currentTimeMillis() < t.expiresAtMillis) {
+            return t;
+        }
+        synchronized (this) {
+            if (clock.currentTimeMillis() >= table.expiresAtMillis) {
+                table = new DayTable(clock.today(), clock.nextMidnightMillis());
+            }
+            return table;
+        }
+    }
+
+    /**
+     * 키의 당일 값을 DB 에서 읽어오는 함수
+     */
+    @FunctionalInterface
+    public interface Seeder {
+        int load(long key, LocalDate kstDay);
+    }
+
+    /**
+     * 카운터 상태 정보를 담는 record
+     */
+    public record QuotaStatus(
+            String name,       // 카운터 이름
+            LocalDate day,     // 현재 KST 일자
+            int trackedKeys,   // 당일 추적 중인 키 수
+            long seeds,        // DB 초기화 횟수
+            long acquired,     // 누적 승인 수
+            long rejected      // 누적 한도 초과 수
+    ) {}
+
+    private static final class DayTable {
+        final LocalDate day;
+        final long expiresAtMillis;
+        final Stripe[] stripes = new Stripe[STRIPES];
+
+        DayTable(LocalDate day, long expiresAtMillis) {
+            this.day = day;
+            this.expiresAtMillis = expiresAtMillis;
+            for (int i = 0; i < STRIPES; i++) {
+                stripes[i] = new Stripe();
+            }
+        }
+
+        Stripe stripe(long key) {
+            return stripes[(int) (mix(key) >>> 60)];
+        }
+    }
+
+    /**
+     * long -> int 개방 주소법 해시 테이블 (박싱 없음), 모니터로 보호
+     */
+    private static final class Stripe {
+        private static final int MISSING = -1;
+
+        private long[] keys = new long[16];
+        private int[] values = new int[16];
+        private boolean[] used = new boolean[16];
+        private int size = 0;
+
+        int getOrSeed(long key, LocalDate day, DailyQuota quota) {
+            synchronized (this) {
+                int v = get(key);
+                if (v != MISSING) return v;
+            }
+            // DB 조회는 락 밖에서 수행하고, 먼저 들어간 값을 우선
+            int seeded = Math.max(0, quota.seeder.load(key, day));
+            quota.seeds.incrementAndGet();
+            synchronized (this) {
+                int v = get(key);
+                if (v != MISSING) return v;
+                put(key, seeded);
+                return seeded;
+            }
+        }
+
+        synchronized boolean incrementIfBelow(long key, int limit) {
+            int v = get(key);
+            int base = v == MISSING ? 0 : v;
+            if (base >= limit) return false;
+            put(key, base + 1);
+            return true;
+        }
+
+        synchronized void decrement(long key) {
+            int v = get(key);
+            if (v > 0) put(key, v - 1);
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        private int get(long key) {
+            int mask = keys.length - 1;
+            for (int i = (int) mix(key) & mask; used[i]; i = (i + 1) & mask) {
+                if (keys[i] == key) return values[i];
+            }
+            return MISSING;
+        }
+
+        private void put(long key, int value) {
+            int mask = keys.length - 1;
+            int i = (int) mix(key) & mask;
+            while (used[i]) {
+                if (keys[i] == key) {
+                    values[i] = value;
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+            used[i] = true;
+            keys[i] = key;
+            values[i] = value;
+            if (++size * 4 > keys.length * 3) {
+                grow();
+            }
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            boolean[] oldUsed = used;
+            keys = new long[oldKeys.length * 2];
+            values = new int[oldKeys.length * 2];
+            used = new boolean[oldKeys.length * 2];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldUsed[i]) put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private static long mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 32);
+    }
+}
@@ -0,0 +1,69 @@
+package com.solsolhey.common.quota;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * KST 일자 단위 사용량 카운터 관리
+ * - 랭킹 투표, 친구 좋아요, EXP 일일 지급 등 "하루 N회" 규칙이 공통으로 사용
+ * - 한도 판정은 메모리 읽기로 처리하고, DB 는 키별 최초 접근 시 초기화에만 사용
+ */
+@Service
+@Slf4j
+public class DailyQuotaService {
+
+    public static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final Map<String, DailyQuota> quotas = new ConcurrentHashMap<>();
+
+    /**
+     * 카운터 등록 (같은 이름으로 다시 등록하면 기존 카운터 반환)
+     */
+    public DailyQuota register(String name, DailyQuota.Seeder seeder) {
+        return quotas.computeIfAbsent(name, n -> {
+            log.info("일일 카운터 등록 - name: {}", n);
+            return new DailyQuota(n, seeder, this);
+        });
+    }
+
+    /**
+     * 현재 KST 일자
+     */
+    public LocalDate today() {
+        return LocalDate.now(KST);
+    }
+
+    /**
+     * KST 일자의 시작/끝을 서버 시간대 LocalDateTime 으로 변환 (created_at 범위 조회용)
+     */
+    public LocalDateTime startOfDayInServerZone(LocalDate kstDay) {
+        return kstDay.atStartOfDay(KST).withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+    }
+
+    public LocalDateTime endOfDayInServerZone(LocalDate kstDay) {
+        return startOfDayInServerZone(kstDay.plusDays(1));
+    }
+
+    /**
+     * 등록된 카운터들의 상태 정보 조회
+     */
+    public List<DailyQuota.QuotaStatus> getStatuses() {
+        return quotas.values().stream().map(DailyQuota::getStatus).toList();
+    }
+
+    long nextMidnightMillis() {
+        return today().plusDays(1).atStartOfDay(KST).toInstant().toEpochMilli();
+    }
+
+    long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+}
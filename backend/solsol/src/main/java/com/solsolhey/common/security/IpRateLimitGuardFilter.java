@@ -0,0 +1,46 @@
+package com.solsolhey.common.security;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 인증 전 IP 상한 필터
+ * JWT 필터 앞에서 IP 단위 상한만 확인해, 무효 토큰을 대량으로 보내는 요청이 서명 검증/블랙리스트 조회 비용을 쓰기 전에 차단
+ * 사용자/라우트 정책은 JWT 필터 뒤의 RateLimitingFilter 가 적용
+ */
+@Component
+@RequiredArgsConstructor
+public class IpRateLimitGuardFilter implements Filter {
+
+    @Value("${RATE_LIMIT_ENABLED:true}")
+    private boolean rateLimitEnabled;
+
+    private final RateLimitingService rateLimitingService;
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        if (rateLimitEnabled && RateLimitingFilter.shouldApplyRateLimit(httpRequest)
+                && !rateLimitingService.isAllowedByIpGuard(RateLimitingFilter.getClientIpAddress(httpRequest))) {
+            HttpServletResponse httpResponse = (HttpServletResponse) response;
+            httpResponse.setHeader("Retry-After", "60");
+            httpResponse.setStatus(429);
+            httpResponse.setContentType("application/json");
+            httpResponse.getWriter().write("{\"message\":\"Too Many Requests\"}");
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,42 @@
+package com.solsolhey.common.security;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 라우트 그룹별 Rate Limit 정책 (rate-limit.routes.*)
+ * 그룹마다 별도 버킷(사용자 또는 IP 단위)을 두고, 엔드포인트별 비용만큼 차감
+ */
+@Configuration
+@ConfigurationProperties(prefix = "rate-limit")
+@Getter
+@Setter
+public class RateLimitPolicyProperties {
+
+    // 그룹 이름 -> 정책 (선언 순서대로 매칭, 먼저 일치한 엔드포인트 적용)
+    private Map<String, RoutePolicy> routes = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class RoutePolicy {
+        private int capacity = 60;          // 최대 누적 비용 (버스트)
+        private int refillPerMinute = 60;   // 분당 회복 비용
+        private List<Endpoint> endpoints = new ArrayList<>();
+    }
+
+    @Getter
+    @Setter
+    public static class Endpoint {
+        private String method;   // 비어있으면 모든 메서드
+        private String pattern;  // Ant 스타일 경로 패턴
+        private int cost = 1;    // 요청 1회당 차감 비용
+    }
+}
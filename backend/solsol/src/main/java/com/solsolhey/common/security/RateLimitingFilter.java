@@ -7,6 +7,10 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.solsolhey.auth.dto.response.CustomUserDetails;
 
 import jakarta.servlet.Filter;
 import jakarta.servlet.FilterChain;
@@ -54,9 +58,23 @@ public class RateLimitingFilter implements Filter {
             return;
         }
         
+        // 인증된 요청은 사용자 단위, 그 외는 IP 단위로 제한 (JWT 필터 이후 실행, IP 상한은 IpRateLimitGuardFilter 가 먼저 확인)
+        Long userId = currentUserId();
+        String subject = userId != null ? "user:" + userId : "ip:" + clientIp;
+        RateLimitingService.RouteRule route = isLoginEndpoint(requestPath)
+                ? null : rateLimitingService.matchRoute(httpRequest.getMethod(), requestPath);
+
         // Rate Limit 헤더 설정
-        httpResponse.setHeader("X-RateLimit-Limit", String.valueOf(rateLimitingService.getGeneralRequestsPerMinute()));
-        httpResponse.setHeader("X-RateLimit-Remaining", String.valueOf(Math.max(rateLimitingService.remainingGeneral(clientIp), 0)));
+        int remaining;
+        if (route != null) {
+            httpResponse.setHeader("X-RateLimit-Limit", String.valueOf(route.capacity()));
+            httpResponse.setHeader("X-RateLimit-Cost", String.valueOf(route.cost()));
+            remaining = rateLimitingService.remainingRoute(route, subject);
+        } else {
+            httpResponse.setHeader("X-RateLimit-Limit", String.valueOf(rateLimitingService.getGeneralRequestsPerMinute()));
+            remaining = userId != null ? rateLimitingService.remainingForUser(userId) : rateLimitingService.remainingGeneral(clientIp);
+        }
+        httpResponse.setHeader("X-RateLimit-Remaining", String.valueOf(Math.max(remaining, 0)));
         // Dev-only hint:
         httpResponse.setHeader("Retry-After", "60");
         
@@ -69,9 +87,18 @@ public class RateLimitingFilter implements Filter {
                 isAllowed = false;
                 errorMessage = "로그인 시도가 너무 많습니다. 15분 후 다시 시도해주세요.";
             }
+        } else if (route != null) {
+            // 무거운 엔드포인트는 라우트 그룹 버킷에서 비용만큼 차감 (일반 버킷과 분리)
+            if (!rateLimitingService.isAllowedByRoute(route, subject)) {
+                isAllowed = false;
+                errorMessage = "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.";
+            }
         } else {
             // 일반 API에 대한 Rate Limiting
-            if (!rateLimitingService.isAllowedByIp(clientIp)) {
+            boolean allowed = userId != null
+                    ? rateLimitingService.isAllowedForUser(userId)
+                    : rateLimitingService.isAllowedByIp(clientIp);
+            if (!allowed) {
                 isAllowed = false;
                 errorMessage = "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.";
             }
@@ -89,11 +116,22 @@ public class RateLimitingFilter implements Filter {
         chain.doFilter(request, response);
     }
 
+    /**
+     * 인증된 사용자 ID 추출 (미인증이면 null)
+     */
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getUserId();
+        }
+        return null;
+    }
+
     /**
      * 클라이언트 IP 주소 추출
      * 프록시나 로드밸런서를 고려한 실제 IP 추출
      */
-    private String getClientIpAddress(HttpServletRequest request) {
+    static String getClientIpAddress(HttpServletRequest request) {
         String xForwardedFor = request.getHeader("X-Forwarded-For");
         if (StringUtils.hasText(xForwardedFor)) {
             // 첫 번째 IP가 실제 클라이언트 IP
@@ -121,7 +159,7 @@ public class RateLimitingFilter implements Filter {
     /**
      * Rate Limiting을 적용할지 여부 결정
      */
-    private boolean shouldApplyRateLimit(HttpServletRequest request) {
+    static boolean shouldApplyRateLimit(HttpServletRequest request) {
         String method = request.getMethod();
         String path = request.getRequestURI();
         
@@ -1,84 +1,242 @@
 package com.solsolhey.common.security;
 
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
 
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Rate Limiting 서비스
  * 메모리 기반 Token Bucket 알고리즘 구현
+ * - 버킷 상태는 단일 long(이론적 도착 시각, nanoTime 기준)으로 표현하고 CAS 로 갱신 (락/요청당 객체 생성 없음)
+ * - 오래 사용되지 않은 버킷은 요청 스레드가 아닌 백그라운드 타이머 휠이 정리
+ * - rate-limit.routes.* 에 정의된 라우트 그룹은 (사용자 또는 IP, 그룹) 단위 별도 버킷에서 엔드포인트별 비용만큼 차감
  */
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class RateLimitingService {
 
+    // 타이머 휠 슬롯 수 (휠 한 바퀴 = 슬롯 수 x 틱 간격)
+    private static final int WHEEL_SLOTS = 64;
+
     @Value("${rate-limit.general.requests-per-minute:10}")
     private int generalRequestsPerMinute;
-    
+
+    // JWT 검증 전 IP 단위 상한 (NAT 뒤 여러 사용자를 고려해 일반 한도보다 넉넉하게)
+    @Value("${rate-limit.ip-guard.requests-per-minute:600}")
+    private int ipGuardRequestsPerMinute;
+
     @Value("${rate-limit.login.attempts-per-15min:5}")
     private int loginAttemptsPer15Min;
-    
+
     @Value("${rate-limit.cleanup.interval-hours:1}")
     private int cleanupIntervalHours;
 
+    @Value("${rate-limit.cleanup.tick-ms:60000}")
+    private long cleanupTickMs;
+
+    private final RateLimitPolicyProperties policyProperties;
+
     // IP별 일반 API 요청 제한 캐시
     private final Map<String, TokenBucket> ipBucketCache = new ConcurrentHashMap<>();
-    
+
+    // IP별 인증 전 상한 캐시 (JWT 파싱 전에 확인)
+    private final Map<String, TokenBucket> ipGuardBucketCache = new ConcurrentHashMap<>();
+
     // IP별 로그인 시도 제한 캐시
     private final Map<String, TokenBucket> loginBucketCache = new ConcurrentHashMap<>();
 
-    // 정리 작업을 위한 마지막 정리 시간
-    private volatile LocalDateTime lastCleanupTime = LocalDateTime.now();
+    // 사용자별 일반 API 요청 제한 캐시 (인증된 요청은 IP 대신 사용자 단위로 제한)
+    private final Map<String, TokenBucket> userBucketCache = new ConcurrentHashMap<>();
+
+    // (그룹, 사용자 또는 IP) 별 라우트 정책 캐시
+    private final Map<String, TokenBucket> routeBucketCache = new ConcurrentHashMap<>();
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private List<RouteRule> routeRules = List.of();
+
+    // 만료 검사 예약 (슬롯별 대기열)
+    @SuppressWarnings("unchecked")
+    private final ConcurrentLinkedQueue<WheelEntry>[] wheel = new ConcurrentLinkedQueue[WHEEL_SLOTS];
+    private final AtomicLong wheelTick = new AtomicLong(0);
+
+    private long idleNanos;
+    private long tickNanos;
+
+    // 시각 소스 (nanoTime, 테스트에서 교체)
+    LongSupplier nanoClock = System::nanoTime;
+
+    @PostConstruct
+    public void init() {
+        for (int i = 0; i < WHEEL_SLOTS; i++) {
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.idleNanos = TimeUnit.HOURS.toNanos(Math.max(1, cleanupIntervalHours));
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, cleanupTickMs));
+
+        List<RouteRule> rules = new ArrayList<>();
+        policyProperties.getRoutes().forEach((group, policy) -> {
+            int maxCost = policy.getEndpoints().stream().mapToInt(RateLimitPolicyProperties.Endpoint::getCost).max().orElse(1);
+            int capacity = policy.getCapacity();
+            if (capacity < maxCost) {
+                log.warn("Rate limit route group {} capacity {} is below max endpoint cost {} - raising capacity", group, capacity, maxCost);
+                capacity = maxCost;
+            }
+            double perSec = Math.max(1, policy.getRefillPerMinute()) / 60.0;
+            for (RateLimitPolicyProperties.Endpoint endpoint : policy.getEndpoints()) {
+                if (!StringUtils.hasText(endpoint.getPattern())) continue;
+                String method = StringUtils.hasText(endpoint.getMethod()) ? endpoint.getMethod().toUpperCase() : null;
+                rules.add(new RouteRule(group, method, endpoint.getPattern(), Math.max(1, endpoint.getCost()), capacity, perSec));
+            }
+        });
+        this.routeRules = List.copyOf(rules);
+        log.info("Rate limit route policies loaded - groups: {}, endpoints: {}", policyProperties.getRoutes().size(), routeRules.size());
+    }
 
     /**
      * IP별 일반 API 요청 제한 확인
      * 분당 설정값만큼 제한
-     * 
+     *
      * @param clientIp 클라이언트 IP
      * @return 요청 허용 여부
      */
     public boolean isAllowedByIp(String clientIp) {
-        cleanupExpiredEntries();
-        
-        int limit = generalRequestsPerMinute;        // e.g., 10
-        int cap   = Math.max(1, (int) Math.ceil(limit * 0.6)); // 60% of limit
-        double perSec = limit / 60.0;
-        
-        TokenBucket bucket = ipBucketCache.computeIfAbsent(clientIp,
-            k -> new TokenBucket(cap, perSec));
-        
-        boolean allowed = bucket.tryConsume(1);
+        long now = nanoClock.getAsLong();
+        TokenBucket bucket = ipBucketCache.get(clientIp);
+        if (bucket == null) {
+            int limit = generalRequestsPerMinute;        // e.g., 10
+            int cap   = Math.max(1, (int) Math.ceil(limit * 0.6)); // 60% of limit
+            double perSec = limit / 60.0;
+            bucket = getOrCreate(ipBucketCache, clientIp, cap, perSec, now);
+        }
+
+        boolean allowed = bucket.tryConsume(1, now);
         if (!allowed) {
             log.warn("Rate limit exceeded for IP: {}", clientIp);
         }
-        
+
         return allowed;
     }
 
     /**
-     * 로그인 시도 제한 확인  
+     * 인증 전 IP별 상한 확인
+     * JWT 서명 검증/블랙리스트 조회 전에 실행해 무효 토큰을 대량으로 보내는 요청을 먼저 거름
+     *
+     * @param clientIp 클라이언트 IP
+     * @return 요청 허용 여부
+     */
+    public boolean isAllowedByIpGuard(String clientIp) {
+        long now = nanoClock.getAsLong();
+        TokenBucket bucket = ipGuardBucketCache.get(clientIp);
+        if (bucket == null) {
+            int limit = Math.max(1, ipGuardRequestsPerMinute);
+            bucket = getOrCreate(ipGuardBucketCache, clientIp, limit, limit / 60.0, now);
+        }
+
+        boolean allowed = bucket.tryConsume(1, now);
+        if (!allowed) {
+            log.warn("Pre-auth rate limit exceeded for IP: {}", clientIp);
+        }
+
+        return allowed;
+    }
+
+    /**
+     * 사용자별 일반 API 요청 제한 확인
+     * 같은 IP(캠퍼스 NAT 등)를 공유하는 사용자끼리 한도를 나눠 쓰지 않도록 인증된 요청에 사용
+     *
+     * @param userId 사용자 ID
+     * @return 요청 허용 여부
+     */
+    public boolean isAllowedForUser(Long userId) {
+        long now = nanoClock.getAsLong();
+        String key = String.valueOf(userId);
+        TokenBucket bucket = userBucketCache.get(key);
+        if (bucket == null) {
+            int limit = generalRequestsPerMinute;
+            bucket = getOrCreate(userBucketCache, key, Math.max(1, (int) Math.ceil(limit * 0.6)), limit / 60.0, now);
+        }
+
+        boolean allowed = bucket.tryConsume(1, now);
+        if (!allowed) {
+            log.warn("Rate limit exceeded for user: {}", userId);
+        }
+
+        return allowed;
+    }
+
+    /**
+     * 요청에 적용되는 라우트 정책 조회
+     *
+     * @return 일치하는 정책, 없으면 null
+     */
+    public RouteRule matchRoute(String method, String path) {
+        for (RouteRule rule : routeRules) {
+            if (rule.method() != null && !rule.method().equalsIgnoreCase(method)) continue;
+            if (pathMatcher.match(rule.pattern(), path)) return rule;
+        }
+        return null;
+    }
+
+    /**
+     * 라우트 정책 제한 확인 (엔드포인트 비용만큼 차감)
+     *
+     * @param rule    matchRoute 결과
+     * @param subject 사용자 또는 IP 식별자 (예: user:1, ip:1.2.3.4)
+     * @return 요청 허용 여부
+     */
+    public boolean isAllowedByRoute(RouteRule rule, String subject) {
+        long now = nanoClock.getAsLong();
+        String key = rule.group() + "|" + subject;
+        TokenBucket bucket = routeBucketCache.get(key);
+        if (bucket == null) {
+            bucket = getOrCreate(routeBucketCache, key, rule.capacity(), rule.tokensPerSec(), now);
+        }
+
+        boolean allowed = bucket.tryConsume(rule.cost(), now);
+        if (!allowed) {
+            log.warn("Route rate limit exceeded - group: {}, subject: {}, cost: {}", rule.group(), subject, rule.cost());
+        }
+
+        return allowed;
+    }
+
+    /**
+     * 로그인 시도 제한 확인
      * IP별 15분당 5회 로그인 시도 제한
-     * 
+     *
      * @param clientIp 클라이언트 IP
      * @return 로그인 시도 허용 여부
      */
     public boolean isLoginAllowed(String clientIp) {
-        cleanupExpiredEntries();
-        
-        TokenBucket bucket = loginBucketCache.computeIfAbsent(clientIp, 
-            k -> new TokenBucket(loginAttemptsPer15Min, (double) loginAttemptsPer15Min / (15 * 60))); // 15분당 설정값만큼 토큰
-        
-        boolean allowed = bucket.tryConsume(1);
+        long now = nanoClock.getAsLong();
+        TokenBucket bucket = loginBucketCache.get(clientIp);
+        if (bucket == null) {
+            // 15분당 설정값만큼 토큰
+            bucket = getOrCreate(loginBucketCache, clientIp, loginAttemptsPer15Min,
+                (double) loginAttemptsPer15Min / (15 * 60), now);
+        }
+
+        boolean allowed = bucket.tryConsume(1, now);
         if (!allowed) {
             log.warn("Login rate limit exceeded for IP: {}", clientIp);
         }
-        
+
         return allowed;
     }
 
@@ -95,15 +253,42 @@ public class RateLimitingService {
      * 특정 IP의 Rate Limit 상태 조회 (디버깅용)
      */
     public RateLimitStatus getIpStatus(String clientIp) {
-        TokenBucket bucket = ipBucketCache.get(clientIp);
+        return toStatus(ipBucketCache.get(clientIp), 1);
+    }
+
+    /**
+     * 특정 사용자의 일반 API Rate Limit 상태 조회 (디버깅용)
+     */
+    public RateLimitStatus getUserStatus(Long userId) {
+        return toStatus(userBucketCache.get(String.valueOf(userId)), 1);
+    }
+
+    /**
+     * 특정 라우트 그룹의 Rate Limit 상태 조회 (디버깅용)
+     *
+     * @param subject 사용자 또는 IP 식별자 (예: user:1, ip:1.2.3.4)
+     */
+    public RateLimitStatus getRouteStatus(String group, String subject) {
+        return toStatus(routeBucketCache.get(group + "|" + subject), 1);
+    }
+
+    /**
+     * 라우트 그룹의 남은 비용 조회
+     */
+    public int remainingRoute(RouteRule rule, String subject) {
+        TokenBucket bucket = routeBucketCache.get(rule.group() + "|" + subject);
+        return bucket == null ? rule.capacity() : bucket.remaining(nanoClock.getAsLong());
+    }
+
+    /**
+     * 특정 사용자의 일반 API Rate Limit 남은 토큰 수 조회
+     */
+    public int remainingForUser(Long userId) {
+        TokenBucket bucket = userBucketCache.get(String.valueOf(userId));
         if (bucket == null) {
-            return new RateLimitStatus(true, -1, -1);
+            return generalRequestsPerMinute;
         }
-        
-        int availableTokens = bucket.remaining();
-        long timeToRefill = availableTokens == 0 ? 60 : 0; // 간단한 추정
-        
-        return new RateLimitStatus(availableTokens > 0, availableTokens, timeToRefill);
+        return bucket.remaining(nanoClock.getAsLong());
     }
 
     /**
@@ -114,7 +299,7 @@ public class RateLimitingService {
         if (bucket == null) {
             return generalRequestsPerMinute;
         }
-        return bucket.remaining();
+        return bucket.remaining(nanoClock.getAsLong());
     }
 
     /**
@@ -125,63 +310,117 @@ public class RateLimitingService {
     }
 
     /**
-     * 만료된 엔트리 정리 (1시간마다)
+     * 만료된 엔트리 정리 (타이머 휠 한 칸씩 진행)
+     * 현재 슬롯에 예약된 버킷만 검사하고, 아직 사용 중인 버킷은 다음 만료 예정 슬롯으로 재예약
      */
-    private void cleanupExpiredEntries() {
-        LocalDateTime now = LocalDateTime.now();
-        if (ChronoUnit.HOURS.between(lastCleanupTime, now) >= cleanupIntervalHours) {
-            // 설정된 시간 이상 사용되지 않은 엔트리 제거
-            ipBucketCache.entrySet().removeIf(entry -> 
-                ChronoUnit.HOURS.between(entry.getValue().getLastAccess(), now) >= cleanupIntervalHours);
-            loginBucketCache.entrySet().removeIf(entry -> 
-                ChronoUnit.HOURS.between(entry.getValue().getLastAccess(), now) >= cleanupIntervalHours);
-            
-            lastCleanupTime = now;
-            log.debug("Rate limit cache cleanup completed");
+    @Scheduled(fixedDelayString = "${rate-limit.cleanup.tick-ms:60000}")
+    public void advanceCleanupWheel() {
+        long tick = wheelTick.incrementAndGet();
+        ConcurrentLinkedQueue<WheelEntry> slot = wheel[(int) (tick % WHEEL_SLOTS)];
+
+        // 이번 틱에 처리할 항목만 분리 (처리 중 재예약된 항목과 섞이지 않도록)
+        List<WheelEntry> due = new ArrayList<>();
+        for (WheelEntry e = slot.poll(); e != null; e = slot.poll()) {
+            due.add(e);
+        }
+        if (due.isEmpty()) return;
+
+        long now = nanoClock.getAsLong();
+        int removed = 0;
+        for (WheelEntry entry : due) {
+            TokenBucket bucket = entry.cache().get(entry.key());
+            if (bucket == null) continue;
+            if (bucket.isIdle(now, idleNanos)) {
+                // 설정된 시간 이상 사용되지 않은 엔트리 제거
+                if (entry.cache().remove(entry.key(), bucket)) removed++;
+            } else {
+                schedule(entry, bucket.idleDeadline(idleNanos), now);
+            }
+        }
+        if (removed > 0) {
+            log.debug("Rate limit cache cleanup completed - removed: {}, ip: {}, ip-guard: {}, login: {}, user: {}, route: {}",
+                    removed, ipBucketCache.size(), ipGuardBucketCache.size(), loginBucketCache.size(),
+                    userBucketCache.size(), routeBucketCache.size());
+        }
+    }
+
+    private TokenBucket getOrCreate(Map<String, TokenBucket> cache, String key, int capacity, double tokensPerSec, long now) {
+        return cache.computeIfAbsent(key, k -> {
+            TokenBucket created = new TokenBucket(capacity, tokensPerSec, now);
+            schedule(new WheelEntry(cache, k), created.idleDeadline(idleNanos), now);
+            return created;
+        });
+    }
+
+    private RateLimitStatus toStatus(TokenBucket bucket, int permits) {
+        if (bucket == null) {
+            return new RateLimitStatus(true, -1, -1);
         }
+        long now = nanoClock.getAsLong();
+        int availableTokens = bucket.remaining(now);
+        long timeToRefill = TimeUnit.NANOSECONDS.toSeconds(bucket.nanosUntilAvailable(permits, now) + 999_999_999L);
+        return new RateLimitStatus(availableTokens >= permits, availableTokens, timeToRefill);
+    }
+
+    private void schedule(WheelEntry entry, long deadlineNanos, long now) {
+        long ticksAhead = (deadlineNanos - now + tickNanos - 1) / tickNanos;
+        ticksAhead = Math.max(1, Math.min(WHEEL_SLOTS - 1, ticksAhead));
+        wheel[(int) ((wheelTick.get() + ticksAhead) % WHEEL_SLOTS)].add(entry);
     }
 
+    private record WheelEntry(Map<String, TokenBucket> cache, String key) {}
+
     /**
-     * Token Bucket 구현
-     * 메모리 기반 Token Bucket 알고리즘
+     * 컴파일된 라우트 정책 (그룹, 메서드, 경로 패턴, 비용, 그룹 버킷 용량/회복 속도)
      */
-    private static class TokenBucket {
-        private final int capacity;
-        private final double tokensPerSec;
-        private double tokens;
-        private long lastRefillTime = System.currentTimeMillis();
-        private volatile java.time.LocalDateTime lastAccess = java.time.LocalDateTime.now();
+    public record RouteRule(String group, String method, String pattern, int cost, int capacity, double tokensPerSec) {}
 
-        TokenBucket(int capacity, double tokensPerSec) {
-            this.capacity = capacity;
-            this.tokensPerSec = tokensPerSec;
-            this.tokens = capacity; // start with a limited burst
-        }
+    /**
+     * Token Bucket 구현 (GCRA 방식)
+     * 상태는 "버킷이 가득 차는 이론적 시각(TAT)" 하나이며, 남은 토큰 수는 TAT 와 현재 시각의 차이로 계산
+     */
+    private static final class TokenBucket {
+        private final long intervalNanos; // 토큰 1개가 채워지는 데 걸리는 시간
+        private final long burstNanos;    // 용량만큼 채워지는 데 걸리는 시간
+        private final AtomicLong tat;
 
-        synchronized boolean tryConsume(int permits) {
-            long now = System.currentTimeMillis();
-            double deltaSec = (now - lastRefillTime) / 1000.0;
-            lastRefillTime = now;
+        TokenBucket(int capacity, double tokensPerSec, long now) {
+            this.intervalNanos = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / tokensPerSec));
+            this.burstNanos = intervalNanos * Math.max(1, capacity);
+            this.tat = new AtomicLong(now); // start with a limited burst
+        }
 
-            // refill - 더 정확한 계산
-            if (deltaSec > 0) {
-                double refillAmount = deltaSec * tokensPerSec;
-                tokens = Math.min(capacity, tokens + refillAmount);
+        boolean tryConsume(int permits, long now) {
+            long cost = intervalNanos * permits;
+            while (true) {
+                long current = tat.get();
+                long next = Math.max(current, now) + cost;
+                if (next - now > burstNanos) {
+                    return false;
+                }
+                if (tat.compareAndSet(current, next)) {
+                    return true;
+                }
             }
+        }
 
-            if (tokens >= permits) {
-                tokens -= permits;
-                lastAccess = java.time.LocalDateTime.now();
-                return true;
-            }
-            return false;
+        int remaining(long now) {
+            long used = Math.max(0L, tat.get() - now);
+            return (int) Math.max(0L, (burstNanos - used) / intervalNanos);
         }
 
-        synchronized int remaining() {
-            return Math.max(0, (int) Math.floor(tokens));
+        long nanosUntilAvailable(int permits, long now) {
+            long next = Math.max(tat.get(), now) + intervalNanos * permits;
+            return Math.max(0L, next - now - burstNanos);
         }
 
-        java.time.LocalDateTime getLastAccess() { return lastAccess; }
+        boolean isIdle(long now, long idleNanos) {
+            return now - tat.get() >= idleNanos;
+        }
+
+        long idleDeadline(long idleNanos) {
+            return tat.get() + idleNanos;
+        }
     }
 
     /**
@@ -15,6 +15,8 @@ public interface ExpDailyCounterRepository extends JpaRepository<ExpDailyCounter
 
     Optional<ExpDailyCounter> findByUserAndCounterDate(User user, LocalDate counterDate);
 
+    Optional<ExpDailyCounter> findByUser_UserIdAndCounterDate(Long userId, LocalDate counterDate);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     Optional<ExpDailyCounter> findWithLockByUserAndCounterDate(User user, LocalDate counterDate);
 }
@@ -1,6 +1,8 @@
 package com.solsolhey.exp.service;
 
 import com.solsolhey.challenge.entity.ChallengeCategory;
+import com.solsolhey.common.quota.DailyQuota;
+import com.solsolhey.common.quota.DailyQuotaService;
 import com.solsolhey.exp.entity.ExpDailyCounter;
 import com.solsolhey.exp.repository.ExpDailyCounterRepository;
 import com.solsolhey.mascot.domain.Mascot;
@@ -14,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 @Service
 @RequiredArgsConstructor
@@ -25,9 +28,16 @@ public class ExpDailyCounterServiceImpl implements ExpDailyCounterService {
 
     private final ExpDailyCounterRepository counterRepository;
     private final MascotRepository mascotRepository;
+    private final DailyQuotaService dailyQuotaService;
 
     @Override
     public Optional<ExpAwarded> awardAttendanceExp(User user, int consecutiveDays) {
+        // 오늘 이미 지급했고 7연속 보너스 대상일도 아니면 행 잠금 없이 종료
+        boolean streakDay = consecutiveDays % 7 == 0;
+        if (!streakDay && attendanceQuota().current(user.getUserId()) >= 1) {
+            return Optional.empty();
+        }
+
         Optional<Mascot> mascotOpt = mascotRepository.findByUserId(user.getUserId());
         if (mascotOpt.isEmpty()) {
             log.debug("마스코트 없음으로 출석 EXP 스킵: userId={}", user.getUserId());
@@ -41,6 +51,7 @@ public class ExpDailyCounterServiceImpl implements ExpDailyCounterService {
         if (!Boolean.TRUE.equals(counter.getAttendanceAwarded())) {
             amount += 5;
             counter.markAttendanceAwarded();
+            attendanceQuota().tryAcquireInTransaction(user.getUserId(), 1);
         }
         // 7연속 보너스: 정확히 7의 배수일에만 지급(7, 14, 21, ...)
         if (consecutiveDays % 7 == 0 && !Boolean.TRUE.equals(counter.getAttendanceStreak7Awarded())) {
@@ -104,6 +115,12 @@ public class ExpDailyCounterServiceImpl implements ExpDailyCounterService {
 
     @Override
     public Optional<ExpAwarded> awardChallengeCategoryExp(User user, ChallengeCategory.CategoryType categoryType) {
+        // 오늘 이미 지급된 카테고리는 행 잠금 없이 종료
+        DailyQuota categoryQuota = categoryQuota(categoryType);
+        if (categoryQuota != null && categoryQuota.current(user.getUserId()) >= 1) {
+            return Optional.empty();
+        }
+
         Optional<Mascot> mascotOpt = mascotRepository.findByUserId(user.getUserId());
         if (mascotOpt.isEmpty()) {
             log.debug("마스코트 없음으로 챌린지 카테고리 EXP 스킵: userId={}", user.getUserId());
@@ -131,6 +148,9 @@ public class ExpDailyCounterServiceImpl implements ExpDailyCounterService {
             case SOCIAL -> counter.markSocialAwarded();
             case EVENT -> counter.markEventAwarded();
         }
+        if (categoryQuota != null) {
+            categoryQuota.tryAcquireInTransaction(user.getUserId(), 1);
+        }
 
         int amount = 5;
         Mascot mascot = mascotOpt.get();
@@ -141,6 +161,36 @@ public class ExpDailyCounterServiceImpl implements ExpDailyCounterService {
         return Optional.of(new ExpAwarded(amount, "CHALLENGE_CATEGORY", categoryType.name(), mascot.getExp(), mascot.getLevel()));
     }
 
+    /**
+     * 당일(KST) 출석 EXP 지급 여부 (0/1), 최초 접근 시 exp_daily_counter 에서 초기화
+     */
+    private DailyQuota attendanceQuota() {
+        return dailyQuotaService.register("exp.attendance", flagSeeder(c -> Boolean.TRUE.equals(c.getAttendanceAwarded())));
+    }
+
+    /**
+     * 당일(KST) 챌린지 카테고리 EXP 지급 여부 (0/1)
+     */
+    private DailyQuota categoryQuota(ChallengeCategory.CategoryType categoryType) {
+        Predicate<ExpDailyCounter> awarded;
+        switch (categoryType) {
+            case FINANCE -> awarded = c -> Boolean.TRUE.equals(c.getCatFinanceAwarded());
+            case ACADEMIC -> awarded = c -> Boolean.TRUE.equals(c.getCatAcademicAwarded());
+            case SOCIAL -> awarded = c -> Boolean.TRUE.equals(c.getCatSocialAwarded());
+            case EVENT -> awarded = c -> Boolean.TRUE.equals(c.getCatEventAwarded());
+            default -> {
+                return null;
+            }
+        }
+        return dailyQuotaService.register("exp.category." + categoryType.name(), flagSeeder(awarded));
+    }
+
+    private DailyQuota.Seeder flagSeeder(Predicate<ExpDailyCounter> awarded) {
+        return (userId, day) -> counterRepository.findByUser_UserIdAndCounterDate(userId, day)
+                .map(c -> awarded.test(c) ? 1 : 0)
+                .orElse(0);
+    }
+
     private ExpDailyCounter getOrCreateLocked(User user, LocalDate kstDate) {
         return counterRepository.findWithLockByUserAndCounterDate(user, kstDate)
                 .orElseGet(() -> {
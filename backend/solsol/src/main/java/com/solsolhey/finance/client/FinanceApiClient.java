@@ -32,6 +32,8 @@ public class FinanceApiClient {
 
     @Qualifier("financeWebClient")
     private final WebClient webClient;
+    @Qualifier("financeMemberWebClient")
+    private final WebClient memberWebClient;
     private final FinanceApiProperties properties;
 
     public Mono<ExternalExchangeRateResponse> getExchangeRates() {
@@ -60,11 +62,10 @@ public class FinanceApiClient {
      * 금융 사용자 생성 (회원가입)
      */
     public Mono<MemberResponse> createMember(String financeEmail) {
-        String url = properties.getMemberBaseUrl() + "/member/"; // absolute URL
+        String url = "/member/";
         MemberCreateRequest request = new MemberCreateRequest(properties.getApiKey(), financeEmail);
         log.info("금융 회원 생성 API 호출: {} ({})", url, maskEmail(financeEmail));
-        return WebClient.create()
-                .post()
+        return memberWebClient.post()
                 .uri(url)
                 .bodyValue(request)
                 .exchangeToMono(clientResponse -> {
@@ -86,11 +87,10 @@ public class FinanceApiClient {
      * 금융 사용자 조회 (중복 시 userKey 회수)
      */
     public Mono<MemberResponse> searchMember(String financeEmail) {
-        String url = properties.getMemberBaseUrl() + "/member/search"; // absolute URL
+        String url = "/member/search";
         MemberSearchRequest request = new MemberSearchRequest(financeEmail, properties.getApiKey());
         log.info("금융 회원 조회 API 호출: {} ({})", url, maskEmail(financeEmail));
-        return WebClient.create()
-                .post()
+        return memberWebClient.post()
                 .uri(url)
                 .bodyValue(request)
                 .exchangeToMono(clientResponse -> {
@@ -148,7 +148,9 @@ public class FinanceApiClient {
                                 .flatMap(body -> {
                                     String msg = String.format("외부 API 오류(%s): %s", clientResponse.statusCode().value(), body);
                                     log.error(msg);
-                                    return Mono.error(new ExternalApiException("신용등급 조회에 실패했습니다: " + msg));
+                                    // 응답 상태를 보존해 사용자 오류(4xx)와 외부 장애(5xx)를 구분할 수 있도록
+                                    return Mono.error(new ExternalApiException("신용등급 조회에 실패했습니다: " + msg,
+                                            "EXTERNAL_API_ERROR", clientResponse.statusCode().value()));
                                 });
                     }
                     return clientResponse.bodyToMono(ExternalCreditRatingResponse.class);
@@ -18,4 +18,20 @@ public class FinanceApiProperties {
     private int timeout = 10;
     private String institutionCode = "00100";
     private String fintechAppNo = "001";
+    /**
+     * 멤버 API 전용 WebClient 커넥션 풀/타임아웃 및 프로비저닝 동시성
+     */
+    private MemberClient memberClient = new MemberClient();
+
+    @Data
+    public static class MemberClient {
+        private int maxConnections = 20;
+        private int pendingAcquireMaxCount = 200;
+        private long pendingAcquireTimeoutMs = 5_000;
+        private int connectTimeoutMs = 3_000;
+        private long responseTimeoutMs = 10_000;
+        private long maxIdleTimeMs = 30_000;
+        private long maxLifeTimeMs = 300_000;
+        private int provisioningConcurrency = 8;
+    }
 }
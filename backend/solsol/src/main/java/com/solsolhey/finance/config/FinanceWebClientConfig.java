@@ -1,12 +1,19 @@
 package com.solsolhey.finance.config;
 
+import io.netty.channel.ChannelOption;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 @Configuration
 @Slf4j
@@ -25,6 +32,39 @@ public class FinanceWebClientConfig {
                 .build();
     }
     
+    /**
+     * 멤버 API(회원 생성/조회) 전용 커넥션 풀
+     * - 최대 연결 수와 대기열을 제한하고, 유휴/수명 초과 연결은 백그라운드에서 정리
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider financeMemberConnectionProvider() {
+        FinanceApiProperties.MemberClient pool = properties.getMemberClient();
+        return ConnectionProvider.builder("finance-member")
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(Duration.ofMillis(pool.getPendingAcquireTimeoutMs()))
+                .maxIdleTime(Duration.ofMillis(pool.getMaxIdleTimeMs()))
+                .maxLifeTime(Duration.ofMillis(pool.getMaxLifeTimeMs()))
+                .evictInBackground(Duration.ofSeconds(30))
+                .build();
+    }
+
+    @Bean("financeMemberWebClient")
+    public WebClient financeMemberWebClient(@Qualifier("financeMemberConnectionProvider") ConnectionProvider connectionProvider) {
+        FinanceApiProperties.MemberClient pool = properties.getMemberClient();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, pool.getConnectTimeoutMs())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                .responseTimeout(Duration.ofMillis(pool.getResponseTimeoutMs()));
+        return WebClient.builder()
+                .baseUrl(properties.getMemberBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(loggingFilter())
+                .filter(errorHandlingFilter())
+                .build();
+    }
+    
     private ExchangeFilterFunction loggingFilter() {
         return ExchangeFilterFunction.ofRequestProcessor(clientRequest -> {
             log.info("외부 API 요청: {} {}", clientRequest.method(), clientRequest.url());
@@ -6,6 +6,9 @@ import com.solsolhey.finance.dto.response.ExchangeRateResponse;
 import com.solsolhey.finance.dto.response.CreditRatingResponse;
 import com.solsolhey.auth.dto.response.CustomUserDetails;
 import com.solsolhey.finance.dto.response.SingleExchangeRateResponse;
+import com.solsolhey.finance.service.CreditRatingCache;
+import com.solsolhey.finance.service.ExchangeEstimator;
+import com.solsolhey.finance.service.ExchangeRateStore;
 import com.solsolhey.finance.service.FinanceService;
 import com.solsolhey.finance.service.FinanceUserProvisioningService;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +17,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/v1/finance")
 @RequiredArgsConstructor
@@ -22,6 +28,9 @@ public class FinanceController {
 
     private final FinanceService financeService;
     private final FinanceUserProvisioningService financeUserProvisioningService;
+    private final ExchangeRateStore exchangeRateStore;
+    private final ExchangeEstimator exchangeEstimator;
+    private final CreditRatingCache creditRatingCache;
 
     // 환율 전체 조회
     @GetMapping("/exchange-rates")
@@ -40,6 +49,15 @@ public class FinanceController {
                 });
     }
 
+    // 환율 스냅샷 상태
+    @GetMapping("/exchange-rates/status")
+    public ResponseEntity<Map<String, Object>> exchangeRateStatus() {
+        Map<String, Object> body = new HashMap<>();
+        body.put("success", Boolean.TRUE);
+        body.put("status", exchangeRateStore.getStatus());
+        return ResponseEntity.ok(body);
+    }
+
     // 환율 단건 조회
     @GetMapping("/exchange-rate")
     public Mono<ResponseEntity<SingleExchangeRateResponse>> getExchangeRate(@RequestParam("currency") String currency) {
@@ -74,6 +92,15 @@ public class FinanceController {
     }
 
 
+    // 환전 예상 금액 계산/메모 상태
+    @GetMapping("/exchange/estimate/status")
+    public ResponseEntity<Map<String, Object>> estimateStatus() {
+        Map<String, Object> body = new HashMap<>();
+        body.put("success", Boolean.TRUE);
+        body.put("status", exchangeEstimator.getStatus());
+        return ResponseEntity.ok(body);
+    }
+
     // 신용등급 조회 (현재 로그인 사용자 기반)
     @GetMapping("/credit-rating")
     public Mono<ResponseEntity<CreditRatingResponse>> getMyCreditRating(@org.springframework.security.core.annotation.AuthenticationPrincipal CustomUserDetails userDetails) {
@@ -103,4 +130,13 @@ public class FinanceController {
                     return Mono.just(ResponseEntity.internalServerError().body(err));
                 });
     }
+
+    // 신용등급 캐시 상태
+    @GetMapping("/credit-rating/cache-status")
+    public ResponseEntity<Map<String, Object>> creditRatingCacheStatus() {
+        Map<String, Object> body = new HashMap<>();
+        body.put("success", Boolean.TRUE);
+        body.put("status", creditRatingCache.getStatus());
+        return ResponseEntity.ok(body);
+    }
 }
@@ -22,4 +22,6 @@ public class ExchangeEstimateResponse {
     private String targetCurrencyName; // 예: 엔화
     // 하위호환: 기존 필드 유지 (targetAmount와 동일하게 채움)
     private String estimatedAmount;  // 대상 통화로 환전 예상 금액 (문자열 그대로 유지)
+    // 계산 출처: UPSTREAM(외부 /exchange/estimate 결과) / LOCAL(환율표 기준 자체 계산 추정치, 외부 결과와 끝자리가 다를 수 있음)
+    private String estimateSource;
 }
@@ -24,15 +24,16 @@ public class ExchangeRateItem {
         return ExchangeRateItem.builder()
                 .id(external.getId())
                 .currencyCode(external.getCurrency())
-                .currencyName(getCurrencyName(external.getCurrency()))
+                .currencyName(currencyName(external.getCurrency()))
                 .exchangeRate(new BigDecimal(external.getExchangeRate().replace(",", "")))
                 .exchangeMin(new BigDecimal(external.getExchangeMin().replace(",", "")))
                 .created(external.getCreated())
                 .build();
     }
     
-    private static String getCurrencyName(String currencyCode) {
+    public static String currencyName(String currencyCode) {
         return switch (currencyCode) {
+            case "KRW" -> "원";
             case "USD" -> "달러";
             case "EUR" -> "유로";
             case "JPY" -> "엔화";
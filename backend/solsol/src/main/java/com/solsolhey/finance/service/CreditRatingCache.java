@@ -0,0 +1,332 @@
+package com.solsolhey.finance.service;
+
+import com.solsolhey.finance.client.FinanceApiClient;
+import com.solsolhey.finance.config.FinanceApiProperties;
+import com.solsolhey.finance.dto.response.CreditRatingResponse;
+import com.solsolhey.finance.dto.response.ExternalCreditRatingResponse;
+import com.solsolhey.finance.exception.ExternalApiException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 신용등급 조회 결과 캐시 (financeUserKey 기준)
+ * - TTL 이내: 캐시 값 반환
+ * - TTL 초과 ~ stale 구간: 캐시 값을 바로 반환하고 백그라운드에서 재조회 (stale-while-revalidate)
+ * - 그 이후 또는 없음: 외부 조회 후 반환
+ * - 결과는 credit_rating_cache 테이블에 저장해 재기동 후에도 유지, 같은 키의 동시 조회는 외부 호출 한 번으로 합침
+ * - 외부 장애 판정은 시간 초과/연결 실패/5xx 만 세며, 서로 다른 사용자 키에서 연달아 outage-threshold 번 실패해야 장애로 봄
+ *   (한 사용자의 잘못된 키로 인한 4xx 가 모든 사용자의 챌린지 확인을 생략시키지 않도록)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CreditRatingCache {
+
+    private static final String SELECT_SQL =
+            "SELECT rating_name, demand_deposit_asset_value, deposit_savings_asset_value, total_asset_value, fetched_at "
+            + "FROM credit_rating_cache WHERE finance_user_key = ?";
+
+    private static final String UPDATE_SQL =
+            "UPDATE credit_rating_cache SET rating_name = ?, demand_deposit_asset_value = ?, deposit_savings_asset_value = ?, "
+            + "total_asset_value = ?, fetched_at = ? WHERE finance_user_key = ?";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO credit_rating_cache (finance_user_key, rating_name, demand_deposit_asset_value, "
+            + "deposit_savings_asset_value, total_asset_value, fetched_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String PURGE_SQL =
+            "DELETE FROM credit_rating_cache WHERE fetched_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FinanceApiClient financeApiClient;
+    private final FinanceApiProperties properties;
+
+    @Value("${finance.credit-rating.ttl-ms:21600000}")
+    private long ttlMs;
+
+    // TTL 이후 재조회를 기다리지 않고 이전 값을 제공하는 구간
+    @Value("${finance.credit-rating.stale-ms:86400000}")
+    private long staleMs;
+
+    // 장애로 판정된 뒤 이 시간 동안은 챌린지 완료 확인을 생략 (fail-open)
+    @Value("${finance.credit-rating.outage-window-ms:300000}")
+    private long outageWindowMs;
+
+    // 장애 판정에 필요한 연속 외부 장애 실패 수 (서로 다른 사용자 키 기준)
+    @Value("${finance.credit-rating.outage-threshold:3}")
+    private int outageThreshold;
+
+    @Value("${finance.credit-rating.max-memory-entries:10000}")
+    private int maxMemoryEntries;
+
+    private final Map<String, Entry> memory = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Entry>> inflight = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong staleHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong loadsCoalesced = new AtomicLong();
+    private final AtomicLong loadFailures = new AtomicLong();
+
+    // 마지막 성공 이후 외부 장애로 실패한 사용자 키 (outageLock 아래에서만 변경)
+    private final Object outageLock = new Object();
+    private final Set<String> outageFailureKeys = new HashSet<>();
+    private volatile long outageDetectedAt = 0L;
+
+    public Mono<CreditRatingResponse> get(String userKey) {
+        return Mono.fromCallable(() -> Optional.ofNullable(lookup(userKey)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(cached -> {
+                    long now = System.currentTimeMillis();
+                    if (cached.isPresent()) {
+                        Entry entry = cached.get();
+                        long age = now - entry.fetchedAt();
+                        if (age <= ttlMs) {
+                            hits.incrementAndGet();
+                            return Mono.just(entry.toResponse());
+                        }
+                        if (age <= ttlMs + staleMs) {
+                            staleHits.incrementAndGet();
+                            startOrJoinLoad(userKey);
+                            return Mono.just(entry.toResponse());
+                        }
+                    }
+                    misses.incrementAndGet();
+                    // 구독자 취소가 공유 중인 조회를 취소하지 않도록 복사본을 구독
+                    return Mono.fromFuture(startOrJoinLoad(userKey).copy()).map(Entry::toResponse);
+                });
+    }
+
+    /**
+     * 챌린지 완료 확인용 (캐시만 확인하며 외부 호출을 기다리지 않음)
+     * - 유효한(stale 구간 포함) 조회 결과가 있으면 VERIFIED
+     * - 사용자 키가 없거나, 캐시를 읽을 수 없거나, 외부 API 장애로 판정된 구간이면 UNAVAILABLE
+     * - 그 외에는 NOT_FOUND 이며 백그라운드 조회를 시작해 다음 시도에 반영되도록 함
+     */
+    public Verification verifyCached(String userKey) {
+        if (userKey == null || userKey.isBlank()) return Verification.UNAVAILABLE;
+        Entry entry;
+        try {
+            entry = lookup(userKey);
+        } catch (Exception e) {
+            log.warn("신용등급 캐시 조회 실패: {}", e.getMessage());
+            return Verification.UNAVAILABLE;
+        }
+        if (entry != null && System.currentTimeMillis() - entry.fetchedAt() <= ttlMs + staleMs) {
+            hits.incrementAndGet();
+            return Verification.VERIFIED;
+        }
+        misses.incrementAndGet();
+        if (isOutage()) {
+            return Verification.UNAVAILABLE;
+        }
+        startOrJoinLoad(userKey);
+        return Verification.NOT_FOUND;
+    }
+
+    /**
+     * stale 구간까지 지난 결과 삭제
+     */
+    @Scheduled(fixedRateString = "${finance.credit-rating.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        long cutoff = System.currentTimeMillis() - ttlMs - staleMs;
+        memory.values().removeIf(entry -> entry.fetchedAt() < cutoff);
+        try {
+            int purged = jdbcTemplate.update(PURGE_SQL, cutoff);
+            if (purged > 0) {
+                log.info("만료된 신용등급 캐시 삭제: {}건", purged);
+            }
+        } catch (Exception e) {
+            log.warn("신용등급 캐시 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    public CacheStatus getStatus() {
+        return new CacheStatus(memory.size(), inflight.size(), ttlMs, staleMs,
+                hits.get(), staleHits.get(), misses.get(), loads.get(), loadsCoalesced.get(), loadFailures.get(),
+                isOutage());
+    }
+
+    private boolean isOutage() {
+        long detectedAt = outageDetectedAt;
+        return detectedAt > 0 && System.currentTimeMillis() - detectedAt <= outageWindowMs;
+    }
+
+    private void recordSuccess() {
+        synchronized (outageLock) {
+            outageFailureKeys.clear();
+            outageDetectedAt = 0L;
+        }
+    }
+
+    private void recordFailure(String userKey, Throwable error) {
+        loadFailures.incrementAndGet();
+        if (!isUpstreamOutage(error)) return; // 사용자별 오류(4xx, 빈 응답)는 장애로 보지 않음
+        synchronized (outageLock) {
+            outageFailureKeys.add(userKey);
+            if (outageFailureKeys.size() >= Math.max(1, outageThreshold)) {
+                if (!isOutage()) {
+                    log.warn("신용등급 외부 API 장애 판정: 연속 실패 사용자 {}명", outageFailureKeys.size());
+                }
+                outageDetectedAt = System.currentTimeMillis();
+            }
+        }
+    }
+
+    /**
+     * 시간 초과, 연결 실패, 5xx 응답만 외부 장애로 분류
+     */
+    static boolean isUpstreamOutage(Throwable error) {
+        Throwable e = Exceptions.unwrap(error);
+        if (e instanceof TimeoutException || e instanceof WebClientRequestException) return true;
+        if (e instanceof WebClientResponseException w) return w.getStatusCode().is5xxServerError();
+        if (e instanceof ExternalApiException x) return x.getHttpStatus() >= 500;
+        return false;
+    }
+
+    private CompletableFuture<Entry> startOrJoinLoad(String userKey) {
+        CompletableFuture<Entry> created = new CompletableFuture<>();
+        CompletableFuture<Entry> running = inflight.putIfAbsent(userKey, created);
+        if (running != null) {
+            loadsCoalesced.incrementAndGet();
+            return running;
+        }
+        loads.incrementAndGet();
+        financeApiClient.getMyCreditRating(userKey)
+                .timeout(Duration.ofSeconds(Math.max(1, properties.getTimeout())))
+                .map(Entry::of)
+                // 저장은 JDBC(블로킹)이므로 이벤트 루프가 아닌 별도 스레드에서 수행
+                .publishOn(Schedulers.boundedElastic())
+                .subscribe(
+                        entry -> {
+                            recordSuccess();
+                            save(userKey, entry);
+                            inflight.remove(userKey, created);
+                            created.complete(entry);
+                        },
+                        error -> {
+                            recordFailure(userKey, error);
+                            inflight.remove(userKey, created);
+                            created.completeExceptionally(error);
+                        },
+                        () -> {
+                            if (created.isDone()) return;
+                            ExternalApiException empty = emptyResponse();
+                            recordFailure(userKey, empty);
+                            inflight.remove(userKey, created);
+                            created.completeExceptionally(empty);
+                        });
+        return created;
+    }
+
+    private Entry lookup(String userKey) {
+        Entry entry = memory.get(userKey);
+        if (entry != null) return entry;
+        List<Entry> rows = jdbcTemplate.query(SELECT_SQL,
+                (rs, i) -> new Entry(rs.getString(1), rs.getString(2), rs.getString(3), rs.getString(4), rs.getLong(5)),
+                userKey);
+        if (rows.isEmpty()) return null;
+        remember(userKey, rows.get(0));
+        return rows.get(0);
+    }
+
+    private void save(String userKey, Entry entry) {
+        remember(userKey, entry);
+        try {
+            int updated = jdbcTemplate.update(UPDATE_SQL, entry.ratingName(), entry.demandDepositAssetValue(),
+                    entry.depositSavingsAssetValue(), entry.totalAssetValue(), entry.fetchedAt(), userKey);
+            if (updated == 0) {
+                try {
+                    jdbcTemplate.update(INSERT_SQL, userKey, entry.ratingName(), entry.demandDepositAssetValue(),
+                            entry.depositSavingsAssetValue(), entry.totalAssetValue(), entry.fetchedAt());
+                } catch (DuplicateKeyException e) {
+                    // 다른 노드가 먼저 추가한 경우
+                    jdbcTemplate.update(UPDATE_SQL, entry.ratingName(), entry.demandDepositAssetValue(),
+                            entry.depositSavingsAssetValue(), entry.totalAssetValue(), entry.fetchedAt(), userKey);
+                }
+            }
+        } catch (Exception e) {
+            // 저장 실패해도 조회 결과는 그대로 제공
+            log.warn("신용등급 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private void remember(String userKey, Entry entry) {
+        if (memory.size() >= maxMemoryEntries && !memory.containsKey(userKey)) return;
+        memory.merge(userKey, entry, (existing, incoming) -> incoming.fetchedAt() >= existing.fetchedAt() ? incoming : existing);
+    }
+
+    // 정상 응답이지만 조회 결과가 없는 경우 (사용자별 오류)
+    private static ExternalApiException emptyResponse() {
+        return new ExternalApiException("신용등급 정보를 가져올 수 없습니다.", "CREDIT_RATING_EMPTY", 404);
+    }
+
+    private record Entry(String ratingName, String demandDepositAssetValue, String depositSavingsAssetValue,
+                         String totalAssetValue, long fetchedAt) {
+
+        static Entry of(ExternalCreditRatingResponse external) {
+            if (external == null || external.getRec() == null) {
+                throw emptyResponse();
+            }
+            var rec = external.getRec();
+            return new Entry(rec.getRatingName(), rec.getDemandDepositAssetValue(), rec.getDepositSavingsAssetValue(),
+                    rec.getTotalAssetValue(), System.currentTimeMillis());
+        }
+
+        CreditRatingResponse toResponse() {
+            return CreditRatingResponse.builder()
+                    .code("success")
+                    .message("신용등급 조회 완료")
+                    .ratingName(ratingName)
+                    .demandDepositAssetValue(demandDepositAssetValue)
+                    .depositSavingsAssetValue(depositSavingsAssetValue)
+                    .totalAssetValue(totalAssetValue)
+                    .build();
+        }
+    }
+
+    /**
+     * 챌린지 완료 확인 결과
+     */
+    public enum Verification {
+        VERIFIED,    // 유효한 조회 결과 있음
+        NOT_FOUND,   // 조회 결과 없음 (외부 API 정상)
+        UNAVAILABLE  // 확인 불가 (사용자 키 없음, 캐시/외부 API 장애)
+    }
+
+    public record CacheStatus(
+            int memoryEntries,
+            int inflightLoads,
+            long ttlMs,
+            long staleMs,
+            long hits,
+            long staleHits,
+            long misses,
+            long loads,
+            long loadsCoalesced,
+            long loadFailures,
+            boolean outage
+    ) {}
+}
@@ -0,0 +1,202 @@
+package com.solsolhey.finance.service;
+
+import com.solsolhey.finance.client.FinanceApiClient;
+import com.solsolhey.finance.dto.request.EstimateRequest;
+import com.solsolhey.finance.dto.response.ExchangeEstimateResponse;
+import com.solsolhey.finance.dto.response.ExchangeRateItem;
+import com.solsolhey.finance.dto.response.ExternalExchangeEstimateResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 환전 예상 금액 계산
+ * - 신선한 환율 스냅샷이 있고 두 통화 모두 원화 환율을 알 수 있으면 외부 호출 없이 계산
+ * - 그 외에는 (통화, 대상 통화, 금액) 정규화 키 기준 짧은 TTL 메모를 거쳐 외부 /exchange/estimate 호출
+ * - 같은 키로 동시에 들어온 요청은 하나의 외부 호출 결과를 공유 (오류/빈 응답은 메모하지 않음)
+ * - 자체 계산 결과는 외부 API 의 반올림 규칙을 보장하지 않으므로 estimateSource=LOCAL 로 구분해 응답
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExchangeEstimator {
+
+    private static final String KRW = "KRW";
+    static final String SOURCE_LOCAL = "LOCAL";
+    static final String SOURCE_UPSTREAM = "UPSTREAM";
+
+    private final FinanceApiClient financeApiClient;
+    private final ExchangeRateStore exchangeRateStore;
+
+    @Value("${finance.exchange-estimate.local-enabled:true}")
+    private boolean localEnabled;
+
+    @Value("${finance.exchange-estimate.memo-ttl-ms:30000}")
+    private long memoTtlMs;
+
+    @Value("${finance.exchange-estimate.memo-max-entries:10000}")
+    private int memoMaxEntries;
+
+    private final Map<EstimateKey, Memo> memos = new ConcurrentHashMap<>();
+
+    private final AtomicLong localHits = new AtomicLong();
+    private final AtomicLong memoHits = new AtomicLong();
+    private final AtomicLong upstreamCalls = new AtomicLong();
+
+    public Mono<ExchangeEstimateResponse> estimate(EstimateRequest request) {
+        EstimateKey key = EstimateKey.of(request);
+        if (localEnabled && key.amount() != null) {
+            Optional<ExchangeEstimateResponse> local = exchangeRateStore.fresh().flatMap(snapshot -> estimateLocally(key, snapshot));
+            if (local.isPresent()) {
+                localHits.incrementAndGet();
+                return Mono.just(local.get());
+            }
+        }
+        return memoized(key);
+    }
+
+    @Scheduled(fixedDelayString = "${finance.exchange-estimate.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        memos.values().removeIf(memo -> memo.expiresAt() <= now);
+    }
+
+    public EstimatorStatus getStatus() {
+        return new EstimatorStatus(localEnabled, memos.size(), memoTtlMs,
+                localHits.get(), memoHits.get(), upstreamCalls.get());
+    }
+
+    private Mono<ExchangeEstimateResponse> memoized(EstimateKey key) {
+        long now = System.currentTimeMillis();
+        Memo memo = memos.get(key);
+        if (memo != null && memo.expiresAt() > now) {
+            memoHits.incrementAndGet();
+            return memo.shared();
+        }
+        if (memo == null && memos.size() >= memoMaxEntries) {
+            evictExpired();
+            if (memos.size() >= memoMaxEntries) return upstream(key);
+        }
+        Memo created = new Memo(upstream(key).cache(
+                value -> Duration.ofMillis(memoTtlMs),
+                error -> Duration.ZERO,
+                () -> Duration.ZERO), now + memoTtlMs);
+        Memo winner = memos.merge(key, created, (existing, fresh) -> existing.expiresAt() > now ? existing : fresh);
+        if (winner != created) memoHits.incrementAndGet();
+        return winner.shared();
+    }
+
+    private Mono<ExchangeEstimateResponse> upstream(EstimateKey key) {
+        return financeApiClient.estimateExchange(key.currency(), key.exchangeCurrency(), key.rawAmount())
+                .doOnSubscribe(s -> upstreamCalls.incrementAndGet())
+                .map(ExchangeEstimator::toResponse);
+    }
+
+    // 환율 테이블은 원화 기준(1 단위당 원화)이므로 원화를 거쳐 환산
+    private static Optional<ExchangeEstimateResponse> estimateLocally(EstimateKey key, ExchangeRateStore.Snapshot snapshot) {
+        Optional<BigDecimal> sourceRate = krwRate(key.currency(), snapshot);
+        Optional<BigDecimal> targetRate = krwRate(key.exchangeCurrency(), snapshot);
+        if (sourceRate.isEmpty() || targetRate.isEmpty()) return Optional.empty();
+
+        int scale = KRW.equals(key.exchangeCurrency()) ? 0 : 2;
+        BigDecimal target = key.amount()
+                .multiply(sourceRate.get())
+                .divide(targetRate.get(), scale, RoundingMode.DOWN);
+        String targetAmount = format(target);
+        return Optional.of(ExchangeEstimateResponse.builder()
+                .code("success")
+                .message("환전 예상 금액 계산 완료 (환율표 기준 추정치)")
+                .sourceCurrency(key.currency())
+                .sourceAmount(format(key.amount()))
+                .sourceCurrencyName(ExchangeRateItem.currencyName(key.currency()))
+                .targetCurrency(key.exchangeCurrency())
+                .targetAmount(targetAmount)
+                .targetCurrencyName(ExchangeRateItem.currencyName(key.exchangeCurrency()))
+                .estimatedAmount(targetAmount) // 하위호환 유지
+                .estimateSource(SOURCE_LOCAL)
+                .build());
+    }
+
+    private static Optional<BigDecimal> krwRate(String currency, ExchangeRateStore.Snapshot snapshot) {
+        if (KRW.equals(currency)) return Optional.of(BigDecimal.ONE);
+        return snapshot.find(currency)
+                .map(ExchangeRateStore.Quote::rate)
+                .filter(rate -> rate.signum() > 0);
+    }
+
+    private static String format(BigDecimal value) {
+        // DecimalFormat 은 스레드 안전하지 않으므로 호출마다 생성
+        return new DecimalFormat("#,##0.##").format(value);
+    }
+
+    static ExchangeEstimateResponse toResponse(ExternalExchangeEstimateResponse external) {
+        var rec = external.getRec();
+        var src = rec.getCurrency();
+        var dst = rec.getExchangeCurrency();
+        return ExchangeEstimateResponse.builder()
+                .code("success")
+                .message("환전 예상 금액 조회 완료")
+                .sourceCurrency(src.getCurrency())
+                .sourceAmount(src.getAmount())
+                .sourceCurrencyName(src.getCurrencyName())
+                .targetCurrency(dst.getCurrency())
+                .targetAmount(dst.getAmount())
+                .targetCurrencyName(dst.getCurrencyName())
+                .estimatedAmount(dst.getAmount()) // 하위호환 유지
+                .estimateSource(SOURCE_UPSTREAM)
+                .build();
+    }
+
+    /**
+     * 정규화된 요청 키: 통화코드 대문자, 금액은 쉼표 제거 후 숫자 기준 (100 == 100.0)
+     */
+    record EstimateKey(String currency, String exchangeCurrency, String rawAmount, BigDecimal amount) {
+
+        static EstimateKey of(EstimateRequest request) {
+            String raw = request.getAmount() == null ? null : request.getAmount().trim().replace(",", "");
+            BigDecimal amount = parseAmount(raw);
+            // 숫자로 읽히는 금액은 같은 값이면 같은 키가 되도록 정규 표기로 통일
+            String normalizedRaw = amount == null ? raw : amount.toPlainString();
+            return new EstimateKey(upper(request.getCurrency()), upper(request.getExchangeCurrency()), normalizedRaw, amount);
+        }
+
+        private static BigDecimal parseAmount(String raw) {
+            if (raw == null || raw.isEmpty()) return null;
+            try {
+                BigDecimal amount = new BigDecimal(raw).stripTrailingZeros();
+                if (amount.signum() <= 0) return null;
+                return amount.scale() < 0 ? amount.setScale(0) : amount;
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        private static String upper(String s) {
+            return s == null ? null : s.trim().toUpperCase(Locale.ROOT);
+        }
+    }
+
+    private record Memo(Mono<ExchangeEstimateResponse> shared, long expiresAt) {}
+
+    public record EstimatorStatus(
+            boolean localEnabled,
+            int memoEntries,
+            long memoTtlMs,
+            long localHits,
+            long memoHits,
+            long upstreamCalls
+    ) {}
+}
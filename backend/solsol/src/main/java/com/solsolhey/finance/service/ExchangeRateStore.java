@@ -0,0 +1,208 @@
+package com.solsolhey.finance.service;
+
+import com.solsolhey.finance.client.FinanceApiClient;
+import com.solsolhey.finance.config.FinanceApiProperties;
+import com.solsolhey.finance.dto.response.ExchangeRateItem;
+import com.solsolhey.finance.dto.response.ExternalExchangeRateResponse;
+import com.solsolhey.finance.exception.ExternalApiException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 환율 스냅샷 저장소
+ * - 외부 /exchangeRate 전체 목록을 주기적으로 받아 통화코드 → 환율 불변 맵으로 보관
+ * - 조회는 메모리에서 처리하고, 스냅샷이 max-age 보다 오래되면 조회 시점에 갱신
+ * - 동시에 들어온 갱신 요청은 외부 호출 한 번으로 합침
+ * - 갱신 실패 시 max-stale 이내의 스냅샷은 그대로 제공
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExchangeRateStore {
+
+    private final FinanceApiClient financeApiClient;
+    private final FinanceApiProperties properties;
+
+    @Value("${finance.exchange-rate.max-age-ms:1800000}")
+    private long maxAgeMs;
+
+    @Value("${finance.exchange-rate.max-stale-ms:21600000}")
+    private long maxStaleMs;
+
+    private volatile Snapshot snapshot;
+    private final AtomicReference<CompletableFuture<Snapshot>> inflight = new AtomicReference<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong staleServed = new AtomicLong();
+    private final AtomicLong refreshes = new AtomicLong();
+    private final AtomicLong refreshesCoalesced = new AtomicLong();
+    private final AtomicLong refreshFailures = new AtomicLong();
+
+    /**
+     * 조회용 스냅샷 (오래됐으면 갱신 후 반환)
+     */
+    public Mono<Snapshot> current() {
+        return Mono.defer(() -> {
+            Snapshot s = snapshot;
+            if (s != null && s.ageMillis(System.currentTimeMillis()) <= maxAgeMs) {
+                hits.incrementAndGet();
+                return Mono.just(s);
+            }
+            misses.incrementAndGet();
+            return refresh().onErrorResume(error -> {
+                Snapshot stale = snapshot;
+                if (stale != null && stale.ageMillis(System.currentTimeMillis()) <= maxStaleMs) {
+                    staleServed.incrementAndGet();
+                    log.warn("환율 갱신 실패, 이전 스냅샷 사용 ({}ms 경과): {}",
+                            stale.ageMillis(System.currentTimeMillis()), error.getMessage());
+                    return Mono.just(stale);
+                }
+                return Mono.error(error);
+            });
+        });
+    }
+
+    /**
+     * 갱신 없이 max-age 이내의 스냅샷만 반환
+     */
+    public Optional<Snapshot> fresh() {
+        Snapshot s = snapshot;
+        if (s == null || s.ageMillis(System.currentTimeMillis()) > maxAgeMs) return Optional.empty();
+        return Optional.of(s);
+    }
+
+    /**
+     * 강제 갱신 (진행 중인 갱신이 있으면 그 결과를 공유)
+     */
+    public Mono<Snapshot> refresh() {
+        // 구독자 취소가 공유 중인 갱신을 취소하지 않도록 복사본을 구독
+        return Mono.defer(() -> Mono.fromFuture(startOrJoinRefresh().copy()));
+    }
+
+    @Scheduled(fixedDelayString = "${finance.exchange-rate.refresh-interval-ms:600000}",
+            initialDelayString = "${finance.exchange-rate.initial-delay-ms:5000}")
+    public void scheduledRefresh() {
+        startOrJoinRefresh();
+    }
+
+    public StoreStatus getStatus() {
+        Snapshot s = snapshot;
+        long now = System.currentTimeMillis();
+        return new StoreStatus(
+                s == null ? 0 : s.byCurrency().size(),
+                s == null ? -1 : s.ageMillis(now),
+                maxAgeMs,
+                maxStaleMs,
+                inflight.get() != null,
+                hits.get(),
+                misses.get(),
+                staleServed.get(),
+                refreshes.get(),
+                refreshesCoalesced.get(),
+                refreshFailures.get()
+        );
+    }
+
+    private CompletableFuture<Snapshot> startOrJoinRefresh() {
+        CompletableFuture<Snapshot> created = new CompletableFuture<>();
+        CompletableFuture<Snapshot> running = inflight.compareAndExchange(null, created);
+        if (running != null) {
+            refreshesCoalesced.incrementAndGet();
+            return running;
+        }
+        refreshes.incrementAndGet();
+        financeApiClient.getExchangeRates()
+                .timeout(Duration.ofSeconds(Math.max(1, properties.getTimeout())))
+                .map(Snapshot::of)
+                .subscribe(
+                        fresh -> {
+                            snapshot = fresh;
+                            inflight.compareAndSet(created, null);
+                            created.complete(fresh);
+                            log.info("환율 스냅샷 갱신 완료: {} 개 통화", fresh.byCurrency().size());
+                        },
+                        error -> {
+                            refreshFailures.incrementAndGet();
+                            inflight.compareAndSet(created, null);
+                            created.completeExceptionally(error);
+                            log.warn("환율 스냅샷 갱신 실패: {}", error.getMessage());
+                        },
+                        () -> {
+                            if (created.isDone()) return;
+                            refreshFailures.incrementAndGet();
+                            inflight.compareAndSet(created, null);
+                            created.completeExceptionally(new ExternalApiException("환율 정보를 가져올 수 없습니다."));
+                        });
+        return created;
+    }
+
+    /**
+     * 한 번 받아온 환율 목록 (불변)
+     */
+    public record Snapshot(List<ExchangeRateItem> items, Map<String, Quote> byCurrency, long fetchedAtMillis) {
+
+        static Snapshot of(ExternalExchangeRateResponse external) {
+            if (external == null || external.getRec() == null) {
+                throw new ExternalApiException("환율 정보를 가져올 수 없습니다.");
+            }
+            List<ExchangeRateItem> items = new ArrayList<>(external.getRec().size());
+            Map<String, Quote> byCurrency = new HashMap<>();
+            for (ExternalExchangeRateResponse.ExchangeRate rate : external.getRec()) {
+                items.add(ExchangeRateItem.fromExternal(rate));
+                if (rate.getCurrency() != null) {
+                    // 목록에서 처음 나온 항목 우선 (기존 선형 탐색과 동일)
+                    byCurrency.putIfAbsent(rate.getCurrency().toUpperCase(Locale.ROOT),
+                            new Quote(rate.getCurrency(), rate.getExchangeRate(),
+                                    new BigDecimal(rate.getExchangeRate().replace(",", ""))));
+                }
+            }
+            return new Snapshot(List.copyOf(items), Map.copyOf(byCurrency), System.currentTimeMillis());
+        }
+
+        public Optional<Quote> find(String currency) {
+            if (currency == null) return Optional.empty();
+            return Optional.ofNullable(byCurrency.get(currency.trim().toUpperCase(Locale.ROOT)));
+        }
+
+        long ageMillis(long now) {
+            return now - fetchedAtMillis;
+        }
+    }
+
+    /**
+     * @param exchangeRate 외부 응답 문자열 그대로
+     * @param rate         1 단위당 원화 환율 (숫자)
+     */
+    public record Quote(String currencyCode, String exchangeRate, BigDecimal rate) {}
+
+    public record StoreStatus(
+            int currencies,
+            long ageMs,
+            long maxAgeMs,
+            long maxStaleMs,
+            boolean refreshing,
+            long hits,
+            long misses,
+            long staleServed,
+            long refreshes,
+            long refreshesCoalesced,
+            long refreshFailures
+    ) {}
+}
@@ -2,6 +2,7 @@ package com.solsolhey.finance.service;
 
 import com.solsolhey.auth.event.UserRegisteredEvent;
 import com.solsolhey.finance.client.FinanceApiClient;
+import com.solsolhey.finance.config.FinanceApiProperties;
 import com.solsolhey.finance.dto.response.MemberResponse;
 import com.solsolhey.user.entity.User;
 import com.solsolhey.user.repository.UserRepository;
@@ -9,8 +10,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionalEventListener;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.ZoneOffset;
 import java.util.List;
@@ -22,104 +25,116 @@ public class FinanceUserProvisioningService {
 
     private final UserRepository userRepository;
     private final FinanceApiClient financeApiClient;
+    private final FinanceApiProperties properties;
 
     /**
      * 회원가입 커밋 후 금융 사용자 생성 트리거 (옵션 B)
+     * - 외부 호출은 논블로킹으로 진행하여 가입 요청 스레드를 붙잡지 않음
      */
     @TransactionalEventListener(phase = org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT)
     public void onUserRegistered(UserRegisteredEvent event) {
         Long userId = event.getUserId();
-        try {
-            provisionFinanceUser(userId);
-        } catch (Exception e) {
-            log.error("금융 사용자 생성 트리거 실패(userId={}) - 다음 재시도에서 처리: {}", userId, e.getMessage());
-        }
+        Mono.fromCallable(() -> userRepository.findById(userId).map(Target::of).orElse(null))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(this::provision)
+                .subscribe(
+                        key -> { },
+                        e -> log.error("금융 사용자 생성 트리거 실패(userId={}) - 다음 재시도에서 처리: {}", userId, e.getMessage()));
     }
 
     /**
      * 주기적 재시도: financeUserKey 미부여 사용자 처리
+     * - 최대 provisioning-concurrency 건을 동시에 진행 (배치 전체가 끝난 뒤 다음 주기 시작)
      */
     @Scheduled(fixedDelay = 60_000)
     public void retryPendingFinanceUsers() {
-        List<User> targets = userRepository.findTop100ByFinanceUserKeyIsNullAndIsActiveTrueOrderByCreatedAtAsc();
-        for (User u : targets) {
-            try {
-                provisionFinanceUser(u.getUserId());
-            } catch (Exception e) {
-                log.warn("금융 사용자 생성 재시도 실패(userId={}): {}", u.getUserId(), e.getMessage());
-            }
-        }
-    }
-
-    /**
-     * 단일 사용자 처리 로직 (트랜잭션 분리)
-     */
-    @Transactional
-    public void provisionFinanceUser(Long userId) {
-        User user = userRepository.findById(userId).orElse(null);
-        if (user == null) {
-            log.warn("금융 사용자 생성: 사용자 없음(userId={})", userId);
-            return;
-        }
-        if (user.getFinanceUserKey() != null && !user.getFinanceUserKey().isBlank()) {
-            // 이미 처리됨
-            return;
-        }
-
-        String financeEmail = buildFinanceEmail(user.getEmail(), user.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli());
-
-        // 우선 생성 시도
-        String userKey = null;
-        try {
-            MemberResponse created = financeApiClient.createMember(financeEmail).block();
-            if (created != null && created.getUserKey() != null) {
-                userKey = created.getUserKey();
-            }
-        } catch (Exception createEx) {
-            log.info("금융 회원 생성 실패(중복 가능성): {} — 조회로 회수 시도", createEx.getMessage());
-            try {
-                MemberResponse found = financeApiClient.searchMember(financeEmail).block();
-                if (found != null && found.getUserKey() != null) {
-                    userKey = found.getUserKey();
-                }
-            } catch (Exception searchEx) {
-                log.warn("금융 회원 조회 실패(financeEmail={}): {}", maskEmail(financeEmail), searchEx.getMessage());
-            }
-        }
-
-        if (userKey == null || userKey.isBlank()) {
-            // 다음 재시도 대상로 남김
-            return;
-        }
+        List<Target> targets = userRepository.findTop100ByFinanceUserKeyIsNullAndIsActiveTrueOrderByCreatedAtAsc()
+                .stream()
+                .map(Target::of)
+                .toList();
+        if (targets.isEmpty()) return;
 
-        // 저장
-        user.setFinanceUserKey(userKey);
-        userRepository.save(user);
-        log.info("금융 userKey 저장 완료(userId={}, key={})", user.getUserId(), maskKey(userKey));
+        int concurrency = Math.max(1, properties.getMemberClient().getProvisioningConcurrency());
+        Long provisioned = Flux.fromIterable(targets)
+                .flatMap(target -> provision(target)
+                        .onErrorResume(e -> {
+                            log.warn("금융 사용자 생성 재시도 실패(userId={}): {}", target.userId(), e.getMessage());
+                            return Mono.empty();
+                        }), concurrency)
+                .count()
+                .block();
+        log.info("금융 사용자 생성 재시도 완료: {}/{}명", provisioned, targets.size());
     }
 
     /**
      * 동기 방식으로 financeUserKey를 보장하고, 최종 userKey를 반환한다.
      * - 이미 존재하면 그대로 반환
-     * - 없으면 생성/조회 로직을 수행한 뒤, DB에서 최신 값을 읽어 반환
+     * - 없으면 생성/조회 로직을 수행한 뒤, 확보한 키(또는 DB 최신 값)를 반환
      */
-    @Transactional
     public String provisionAndGetUserKey(Long userId) {
         User user = userRepository.findById(userId).orElse(null);
         if (user == null) return null;
-        if (user.getFinanceUserKey() != null && !user.getFinanceUserKey().isBlank()) {
+        Target target = Target.of(user);
+        if (target.alreadyProvisioned()) {
             return user.getFinanceUserKey();
         }
         try {
-            provisionFinanceUser(userId);
+            String userKey = provision(target).block();
+            if (userKey != null) return userKey;
         } catch (Exception e) {
             log.warn("동기 finance userKey 발급 실패(userId={}): {}", userId, e.getMessage());
         }
-        // 최신 값 재조회
+        // 다른 경로에서 먼저 처리됐을 수 있으므로 최신 값 재조회
         User refreshed = userRepository.findById(userId).orElse(null);
         return refreshed != null ? refreshed.getFinanceUserKey() : null;
     }
 
+    /**
+     * 생성 → (실패 시) 조회로 userKey 확보 후 저장. 이미 키가 있거나 확보하지 못하면 빈 결과
+     */
+    private Mono<String> provision(Target target) {
+        if (target.alreadyProvisioned()) return Mono.empty();
+        if (target.financeEmail() == null) {
+            log.warn("금융 사용자 생성: 이메일 없음(userId={})", target.userId());
+            return Mono.empty();
+        }
+        return resolveUserKey(target.financeEmail())
+                // 저장은 JPA(블로킹)이므로 이벤트 루프가 아닌 별도 스레드에서 수행
+                .publishOn(Schedulers.boundedElastic())
+                .map(userKey -> {
+                    saveUserKey(target.userId(), userKey);
+                    return userKey;
+                });
+    }
+
+    private Mono<String> resolveUserKey(String financeEmail) {
+        return financeApiClient.createMember(financeEmail)
+                .mapNotNull(MemberResponse::getUserKey)
+                .onErrorResume(createEx -> {
+                    log.info("금융 회원 생성 실패(중복 가능성): {} — 조회로 회수 시도", createEx.getMessage());
+                    return financeApiClient.searchMember(financeEmail)
+                            .mapNotNull(MemberResponse::getUserKey)
+                            .onErrorResume(searchEx -> {
+                                log.warn("금융 회원 조회 실패(financeEmail={}): {}", maskEmail(financeEmail), searchEx.getMessage());
+                                return Mono.empty();
+                            });
+                })
+                // 다음 재시도 대상로 남김
+                .filter(userKey -> !userKey.isBlank());
+    }
+
+    private void saveUserKey(Long userId, String userKey) {
+        User user = userRepository.findById(userId).orElse(null);
+        if (user == null) return;
+        if (user.getFinanceUserKey() != null && !user.getFinanceUserKey().isBlank()) {
+            // 동시에 다른 경로에서 이미 처리됨
+            return;
+        }
+        user.setFinanceUserKey(userKey);
+        userRepository.save(user);
+        log.info("금융 userKey 저장 완료(userId={}, key={})", userId, maskKey(userKey));
+    }
+
     static String buildFinanceEmail(String email, long createdAtEpochMs) {
         if (email == null || email.isBlank()) return null;
         int at = email.indexOf('@');
@@ -143,4 +158,12 @@ public class FinanceUserProvisioningService {
         if (at <= 1) return "*" + email.substring(Math.max(0, at));
         return email.charAt(0) + "****" + email.substring(at);
     }
+
+    private record Target(Long userId, String financeEmail, boolean alreadyProvisioned) {
+        static Target of(User user) {
+            boolean provisioned = user.getFinanceUserKey() != null && !user.getFinanceUserKey().isBlank();
+            String financeEmail = buildFinanceEmail(user.getEmail(), user.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli());
+            return new Target(user.getUserId(), financeEmail, provisioned);
+        }
+    }
 }
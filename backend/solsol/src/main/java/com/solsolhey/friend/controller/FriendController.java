@@ -6,6 +6,8 @@ import com.solsolhey.common.exception.EntityNotFoundException;
 import com.solsolhey.friend.dto.request.FriendAddRequest;
 import com.solsolhey.friend.dto.request.FriendInteractionRequest;
 import com.solsolhey.friend.dto.response.*;
+import com.solsolhey.friend.service.FriendGraphIndex;
+import com.solsolhey.friend.service.FriendNotificationHub;
 import com.solsolhey.friend.service.FriendService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -16,9 +18,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Map;
@@ -37,6 +41,8 @@ public class FriendController {
 
     private final FriendService friendService;
     private final UserRepository userRepository;
+    private final FriendGraphIndex friendGraphIndex;
+    private final FriendNotificationHub notificationHub;
 
     /**
      * 친구 요청 보내기
@@ -256,6 +262,49 @@ public class FriendController {
         }
     }
 
+    /**
+     * 받은 상호작용 목록 조회 (커서 페이지네이션)
+     */
+    @GetMapping("/interactions/cursor")
+    @Operation(summary = "받은 상호작용 목록(커서)", description = "최신순으로 받은 상호작용을 커서 기준으로 조회합니다. 응답의 nextCursor 를 다음 요청에 전달합니다")
+    public ResponseEntity<ApiResponse<FriendInteractionCursorResponse>> getReceivedInteractionsByCursor(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            log.info("받은 상호작용 목록(커서) API 호출: userId={}", userDetails.getUserId());
+            FriendInteractionCursorResponse interactions =
+                    friendService.getReceivedInteractions(userDetails.getUser(), cursor, size);
+            return ResponseEntity.ok(ApiResponse.success("받은 상호작용 목록을 조회했습니다.", interactions));
+        } catch (Exception e) {
+            log.error("받은 상호작용 목록(커서) 조회 중 오류 발생: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * 실시간 알림 구독 (SSE). 재연결 시 Last-Event-ID 이후 받은 상호작용을 먼저 전송
+     */
+    @GetMapping(value = "/notifications/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "실시간 알림 구독", description = "받은 상호작용(좋아요, 친구 요청 등)을 SSE 로 전달합니다. 재연결 시 Last-Event-ID 헤더 또는 lastEventId 파라미터로 이어받습니다")
+    public SseEmitter streamNotifications(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventIdHeader,
+            @RequestParam(value = "lastEventId", required = false) Long lastEventIdParam) {
+        log.info("실시간 알림 구독 API 호출: userId={}", userDetails.getUserId());
+        Long lastEventId = lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam;
+        return notificationHub.subscribe(userDetails.getUser(), lastEventId);
+    }
+
+    /**
+     * 실시간 알림 연결 상태
+     */
+    @GetMapping("/notifications/stream/status")
+    @Operation(summary = "실시간 알림 상태", description = "실시간 알림 연결 수와 전송 통계를 조회합니다")
+    public ResponseEntity<ApiResponse<FriendNotificationHub.HubStatus>> getNotificationStreamStatus() {
+        return ResponseEntity.ok(ApiResponse.success("실시간 알림 상태를 조회했습니다.", notificationHub.getStatus()));
+    }
+
     /**
      * 읽지 않은 상호작용 수 조회
      */
@@ -370,4 +419,13 @@ public class FriendController {
             throw e;
         }
     }
+
+    /**
+     * 친구 관계 인덱스 상태
+     */
+    @GetMapping("/graph-index/status")
+    @Operation(summary = "친구 관계 인덱스 상태", description = "메모리 친구 관계 인덱스의 적재 상태와 크기를 조회합니다")
+    public ResponseEntity<ApiResponse<FriendGraphIndex.IndexStatus>> getGraphIndexStatus() {
+        return ResponseEntity.ok(ApiResponse.success("친구 관계 인덱스 상태를 조회했습니다.", friendGraphIndex.getStatus()));
+    }
 }
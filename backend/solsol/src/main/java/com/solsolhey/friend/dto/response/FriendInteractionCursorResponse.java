@@ -0,0 +1,23 @@
+package com.solsolhey.friend.dto.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * 받은 상호작용 커서 페이지 응답 DTO
+ */
+@Builder
+public record FriendInteractionCursorResponse(
+    List<FriendInteractionResponse> items,
+    String nextCursor,
+    Boolean hasNext
+) {
+    public static FriendInteractionCursorResponse of(List<FriendInteractionResponse> items, String nextCursor) {
+        return FriendInteractionCursorResponse.builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+}
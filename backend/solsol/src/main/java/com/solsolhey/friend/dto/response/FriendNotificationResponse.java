@@ -0,0 +1,13 @@
+package com.solsolhey.friend.dto.response;
+
+/**
+ * 실시간 알림(SSE) 이벤트 데이터: 받은 상호작용 + 전송 시점의 읽지 않은 상호작용 수
+ */
+public record FriendNotificationResponse(
+    FriendInteractionResponse interaction,
+    Long unreadCount
+) {
+    public static FriendNotificationResponse of(FriendInteractionResponse interaction, Long unreadCount) {
+        return new FriendNotificationResponse(interaction, unreadCount);
+    }
+}
@@ -28,6 +28,36 @@ public interface FriendInteractionRepository extends JpaRepository<FriendInterac
     @Query("SELECT fi FROM FriendInteraction fi WHERE fi.toUser = :toUser AND fi.isRead = false ORDER BY fi.createdAt DESC")
     Page<FriendInteraction> findByToUserOrderByCreatedAtDesc(@Param("toUser") User toUser, Pageable pageable);
 
+    /**
+     * 받은(읽지 않은) 상호작용 첫 페이지 (커서 페이지네이션, 최신순)
+     */
+    @EntityGraph(attributePaths = {"fromUser"})
+    @Query("SELECT fi FROM FriendInteraction fi WHERE fi.toUser = :toUser AND fi.isRead = false " +
+           "ORDER BY fi.createdAt DESC, fi.interactionId DESC")
+    List<FriendInteraction> findInboxFirstPage(@Param("toUser") User toUser, Pageable pageable);
+
+    /**
+     * 받은(읽지 않은) 상호작용 다음 페이지: (createdAt, interactionId) 커서 이후
+     */
+    @EntityGraph(attributePaths = {"fromUser"})
+    @Query("SELECT fi FROM FriendInteraction fi WHERE fi.toUser = :toUser AND fi.isRead = false " +
+           "AND (fi.createdAt < :createdAt OR (fi.createdAt = :createdAt AND fi.interactionId < :interactionId)) " +
+           "ORDER BY fi.createdAt DESC, fi.interactionId DESC")
+    List<FriendInteraction> findInboxPageAfter(@Param("toUser") User toUser,
+                                               @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("interactionId") Long interactionId,
+                                               Pageable pageable);
+
+    /**
+     * 특정 상호작용 ID 이후에 받은 상호작용 (실시간 알림 재연결 시 놓친 이벤트 재전송용, 오래된 순)
+     */
+    @EntityGraph(attributePaths = {"fromUser", "toUser"})
+    @Query("SELECT fi FROM FriendInteraction fi WHERE fi.toUser = :toUser AND fi.interactionId > :afterId " +
+           "ORDER BY fi.interactionId ASC")
+    List<FriendInteraction> findReceivedAfter(@Param("toUser") User toUser,
+                                              @Param("afterId") Long afterId,
+                                              Pageable pageable);
+
     /**
      * 읽지 않은 상호작용 개수 조회
      */
@@ -126,6 +156,13 @@ public interface FriendInteractionRepository extends JpaRepository<FriendInterac
                                                          @Param("type") InteractionType type,
                                                          Pageable pageable);
 
+    /**
+     * 읽지 않은 상호작용 한 건 읽음 처리 (이미 읽었으면 0 반환)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE FriendInteraction fi SET fi.isRead = true WHERE fi.interactionId = :interactionId AND fi.isRead = false")
+    int markAsReadIfUnread(@Param("interactionId") Long interactionId);
+
     /**
      * 현재 사용자에게 온 모든 상호작용을 일괄 읽음 처리
      */
@@ -19,6 +19,11 @@ public interface FriendLikeDailyCounterRepository extends JpaRepository<FriendLi
                                                    @Param("to") User to,
                                                    @Param("date") LocalDate date);
 
+    @Query("SELECT c.likeCount FROM FriendLikeDailyCounter c WHERE c.fromUser.userId = :fromId AND c.toUser.userId = :toId AND c.likeDate = :date")
+    Optional<Integer> findLikeCount(@Param("fromId") Long fromId,
+                                    @Param("toId") Long toId,
+                                    @Param("date") LocalDate date);
+
     @Query("SELECT c FROM FriendLikeDailyCounter c WHERE c.fromUser = :from AND c.toUser = :to AND c.likeDate = :date")
     Optional<FriendLikeDailyCounter> findOne(@Param("from") User from,
                                              @Param("to") User to,
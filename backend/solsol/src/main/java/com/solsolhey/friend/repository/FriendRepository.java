@@ -11,6 +11,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -85,4 +87,48 @@ public interface FriendRepository extends JpaRepository<Friend, Long> {
      */
     @Query("SELECT f FROM Friend f WHERE f.user = :user AND f.friendUser = :friendUser AND f.status = :status")
     Optional<Friend> findByUserAndFriendUserAndStatus(@Param("user") User user, @Param("friendUser") User friendUser, @Param("status") FriendshipStatus status);
+
+    /**
+     * 관계 ID 목록으로 조회 (친구 목록 페이지용)
+     */
+    @EntityGraph(attributePaths = {"user", "friendUser"})
+    List<Friend> findWithUsersByFriendIdIn(Collection<Long> friendIds);
+
+    /**
+     * 한 사용자와 여러 사용자 사이의 친구 관계 일괄 조회 (방향/상태 무관)
+     */
+    @Query("SELECT f FROM Friend f WHERE " +
+           "(f.user = :user AND f.friendUser.userId IN :otherUserIds) OR " +
+           "(f.friendUser = :user AND f.user.userId IN :otherUserIds)")
+    List<Friend> findAllBetween(@Param("user") User user, @Param("otherUserIds") Collection<Long> otherUserIds);
+
+    /**
+     * 친구 대시보드 집계 (한 번의 쿼리, 각 항목은 단일 컬럼 인덱스를 타는 스칼라 서브쿼리)
+     * - 수락된 친구 수는 OR 대신 방향별로 나눠 합산
+     * - 읽지 않은 상호작용 수는 friend_unread_counters 값
+     * - 오늘 받은 상호작용은 [startOfDay, endOfDay) 범위
+     */
+    @Query(value = "SELECT " +
+            "(SELECT COUNT(*) FROM friends f WHERE f.user_id = :userId AND f.status = 'ACCEPTED') + " +
+            "(SELECT COUNT(*) FROM friends f WHERE f.friend_user_id = :userId AND f.status = 'ACCEPTED') AS \"totalFriends\", " +
+            "(SELECT COUNT(*) FROM friends f WHERE f.friend_user_id = :userId AND f.status = 'PENDING') AS \"pendingRequests\", " +
+            "(SELECT COUNT(*) FROM friends f WHERE f.user_id = :userId AND f.status = 'PENDING') AS \"sentRequests\", " +
+            "CAST(COALESCE((SELECT c.unread_count FROM friend_unread_counters c WHERE c.user_id = :userId), 0) AS BIGINT) AS \"unreadInteractions\", " +
+            "(SELECT COUNT(*) FROM friend_interactions fi WHERE fi.to_user_id = :userId " +
+            "AND fi.created_at >= :startOfDay AND fi.created_at < :endOfDay) AS \"todayInteractions\"",
+            nativeQuery = true)
+    FriendStatsView aggregateStats(@Param("userId") Long userId,
+                                   @Param("startOfDay") LocalDateTime startOfDay,
+                                   @Param("endOfDay") LocalDateTime endOfDay);
+
+    /**
+     * 친구 대시보드 집계 결과
+     */
+    interface FriendStatsView {
+        Long getTotalFriends();
+        Long getPendingRequests();
+        Long getSentRequests();
+        Long getUnreadInteractions();
+        Long getTodayInteractions();
+    }
 }
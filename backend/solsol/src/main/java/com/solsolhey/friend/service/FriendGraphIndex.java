@@ -0,0 +1,272 @@
+package com.solsolhey.friend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 수락된 친구 관계 인접 인덱스 (메모리)
+ * - 사용자별 친구 ID 를 정렬된 long 배열로 보관 (이진 탐색으로 친구 여부 판정, 쓰기 시 배열 교체)
+ * - 기동 시 friends 테이블에서 적재, 수락/거절/삭제는 트랜잭션 커밋 후 반영
+ * - 다른 인스턴스에서 일어난 변경은 주기적 재적재로 맞춤
+ * - 적재 전(isReady=false)에는 호출 측이 DB 조회로 대체
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FriendGraphIndex {
+
+    private static final String LOAD_SQL =
+            "SELECT friend_id, user_id, friend_user_id FROM friends WHERE status = 'ACCEPTED'";
+
+    private static final long[] EMPTY = new long[0];
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Map<Long, Adjacency> adjacency = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+
+    // 적재 중 커밋된 변경 (적재 완료 후 순서대로 재적용)
+    private final Object loadLock = new Object();
+    private List<Change> changesDuringLoad;
+
+    private final AtomicLong lookups = new AtomicLong();
+    private final AtomicLong changesApplied = new AtomicLong();
+    private final AtomicLong reloads = new AtomicLong();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * 전체 재적재 (다른 인스턴스 변경 반영)
+     */
+    @Scheduled(fixedDelayString = "${friend.graph-index.reload-interval-ms:300000}",
+            initialDelayString = "${friend.graph-index.reload-interval-ms:300000}")
+    public void reloadScheduled() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("친구 관계 인덱스 재적재 실패: {}", e.getMessage());
+        }
+    }
+
+    public synchronized void reload() {
+        synchronized (loadLock) {
+            changesDuringLoad = new ArrayList<>();
+        }
+        Map<Long, Adjacency> loaded;
+        int edges;
+        try {
+            Map<Long, Builder> builders = new HashMap<>();
+            int[] rows = {0};
+            jdbcTemplate.query(LOAD_SQL, rs -> {
+                long friendshipId = rs.getLong(1);
+                long userId = rs.getLong(2);
+                long friendUserId = rs.getLong(3);
+                builders.computeIfAbsent(userId, k -> new Builder()).add(friendUserId, friendshipId);
+                builders.computeIfAbsent(friendUserId, k -> new Builder()).add(userId, friendshipId);
+                rows[0]++;
+            });
+            loaded = new ConcurrentHashMap<>(Math.max(16, builders.size() * 4 / 3));
+            builders.forEach((userId, builder) -> loaded.put(userId, builder.build()));
+            edges = rows[0];
+        } catch (RuntimeException e) {
+            synchronized (loadLock) {
+                changesDuringLoad = null;
+            }
+            throw e;
+        }
+        synchronized (loadLock) {
+            for (Change change : changesDuringLoad) {
+                apply(loaded, change);
+            }
+            changesDuringLoad = null;
+            adjacency = loaded;
+            ready = true;
+        }
+        reloads.incrementAndGet();
+        log.info("친구 관계 인덱스 적재 완료 - 사용자 {}명, 관계 {}건", loaded.size(), edges);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean areFriends(long userId, long otherUserId) {
+        lookups.incrementAndGet();
+        Adjacency a = adjacency.get(userId);
+        return a != null && Arrays.binarySearch(a.friendUserIds(), otherUserId) >= 0;
+    }
+
+    public int friendCount(long userId) {
+        Adjacency a = adjacency.get(userId);
+        return a == null ? 0 : a.friendUserIds().length;
+    }
+
+    /**
+     * 친구 관계 ID(friends.friend_id) 오름차순 페이지 (관계가 맺어진 순서)
+     */
+    public long[] friendshipIdsPage(long userId, long offset, int limit) {
+        Adjacency a = adjacency.get(userId);
+        if (a == null || offset >= a.friendshipIds().length || limit <= 0) return EMPTY;
+        long[] ordered = a.friendshipIds().clone();
+        Arrays.sort(ordered);
+        int from = (int) offset;
+        return Arrays.copyOfRange(ordered, from, Math.min(ordered.length, from + limit));
+    }
+
+    /**
+     * 친구 관계 수락 반영 (트랜잭션이 있으면 커밋 후)
+     */
+    public void onAccepted(long friendshipId, long userId, long friendUserId) {
+        afterCommit(new Change(true, friendshipId, userId, friendUserId));
+    }
+
+    /**
+     * 친구 관계 해제(삭제/거절) 반영 (트랜잭션이 있으면 커밋 후)
+     */
+    public void onRemoved(long friendshipId, long userId, long friendUserId) {
+        afterCommit(new Change(false, friendshipId, userId, friendUserId));
+    }
+
+    public IndexStatus getStatus() {
+        Map<Long, Adjacency> current = adjacency;
+        long edges = 0;
+        for (Adjacency a : current.values()) edges += a.friendUserIds().length;
+        return new IndexStatus(ready, current.size(), edges / 2, lookups.get(), changesApplied.get(), reloads.get());
+    }
+
+    private void afterCommit(Change change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyLive(change);
+                }
+            });
+        } else {
+            applyLive(change);
+        }
+    }
+
+    private void applyLive(Change change) {
+        synchronized (loadLock) {
+            if (changesDuringLoad != null) changesDuringLoad.add(change);
+            apply(adjacency, change);
+        }
+        changesApplied.incrementAndGet();
+    }
+
+    private static void apply(Map<Long, Adjacency> target, Change change) {
+        if (change.accepted()) {
+            target.compute(change.userId(), (k, a) -> Adjacency.with(a, change.friendUserId(), change.friendshipId()));
+            target.compute(change.friendUserId(), (k, a) -> Adjacency.with(a, change.userId(), change.friendshipId()));
+        } else {
+            target.computeIfPresent(change.userId(), (k, a) -> a.without(change.friendUserId(), change.friendshipId()));
+            target.computeIfPresent(change.friendUserId(), (k, a) -> a.without(change.userId(), change.friendshipId()));
+        }
+    }
+
+    /**
+     * 한 사용자의 친구 목록 (불변). friendUserIds 오름차순, friendshipIds 는 같은 위치의 관계 ID
+     */
+    private record Adjacency(long[] friendUserIds, long[] friendshipIds) {
+
+        static Adjacency with(Adjacency current, long friendUserId, long friendshipId) {
+            long[] users = current == null ? EMPTY : current.friendUserIds;
+            long[] ships = current == null ? EMPTY : current.friendshipIds;
+            int pos = Arrays.binarySearch(users, friendUserId);
+            if (pos >= 0) return current; // 이미 친구 (중복 행은 먼저 반영된 관계 유지)
+            int insert = -pos - 1;
+            long[] nextUsers = new long[users.length + 1];
+            long[] nextShips = new long[ships.length + 1];
+            System.arraycopy(users, 0, nextUsers, 0, insert);
+            System.arraycopy(ships, 0, nextShips, 0, insert);
+            nextUsers[insert] = friendUserId;
+            nextShips[insert] = friendshipId;
+            System.arraycopy(users, insert, nextUsers, insert + 1, users.length - insert);
+            System.arraycopy(ships, insert, nextShips, insert + 1, ships.length - insert);
+            return new Adjacency(nextUsers, nextShips);
+        }
+
+        // 비면 null 을 반환해 맵에서 제거
+        Adjacency without(long friendUserId, long friendshipId) {
+            int pos = Arrays.binarySearch(friendUserIds, friendUserId);
+            if (pos < 0 || friendshipIds[pos] != friendshipId) return this;
+            if (friendUserIds.length == 1) return null;
+            long[] nextUsers = new long[friendUserIds.length - 1];
+            long[] nextShips = new long[friendshipIds.length - 1];
+            System.arraycopy(friendUserIds, 0, nextUsers, 0, pos);
+            System.arraycopy(friendshipIds, 0, nextShips, 0, pos);
+            System.arraycopy(friendUserIds, pos + 1, nextUsers, pos, friendUserIds.length - pos - 1);
+            System.arraycopy(friendshipIds, pos + 1, nextShips, pos, friendshipIds.length - pos - 1);
+            return new Adjacency(nextUsers, nextShips);
+        }
+    }
+
+    /**
+     * 적재용 가변 버퍼 (적재 후 정렬된 Adjacency 로 변환)
+     */
+    private static final class Builder {
+        private long[] users = new long[4];
+        private long[] ships = new long[4];
+        private int size;
+
+        void add(long friendUserId, long friendshipId) {
+            if (size == users.length) {
+                users = Arrays.copyOf(users, size * 2);
+                ships = Arrays.copyOf(ships, size * 2);
+            }
+            users[size] = friendUserId;
+            ships[size] = friendshipId;
+            size++;
+        }
+
+        Adjacency build() {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) order[i] = i;
+            // 친구 ID 오름차순, 같은 친구의 중복 행은 관계 ID 가 작은 것 하나만 유지
+            Arrays.sort(order, (x, y) -> users[x] != users[y]
+                    ? Long.compare(users[x], users[y])
+                    : Long.compare(ships[x], ships[y]));
+            long[] sortedUsers = new long[size];
+            long[] sortedShips = new long[size];
+            int n = 0;
+            for (int i = 0; i < size; i++) {
+                int idx = order[i];
+                if (n > 0 && sortedUsers[n - 1] == users[idx]) continue;
+                sortedUsers[n] = users[idx];
+                sortedShips[n] = ships[idx];
+                n++;
+            }
+            return new Adjacency(Arrays.copyOf(sortedUsers, n), Arrays.copyOf(sortedShips, n));
+        }
+    }
+
+    private record Change(boolean accepted, long friendshipId, long userId, long friendUserId) {}
+
+    public record IndexStatus(
+            boolean ready,
+            int users,
+            long friendships,
+            long lookups,
+            long changesApplied,
+            long reloads
+    ) {}
+}
@@ -0,0 +1,421 @@
+package com.solsolhey.friend.service;
+
+import com.solsolhey.common.exception.BusinessException;
+import com.solsolhey.friend.dto.response.FriendInteractionResponse;
+import com.solsolhey.friend.dto.response.FriendNotificationResponse;
+import com.solsolhey.friend.entity.FriendInteraction;
+import com.solsolhey.friend.repository.FriendInteractionRepository;
+import com.solsolhey.user.entity.User;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 친구 상호작용 실시간 알림 (SSE)
+ * - 받은 상호작용(좋아요, 친구 요청 등)을 트랜잭션 커밋 후 수신자의 연결들로 전송 ("interaction" 이벤트)
+ * - 이벤트 ID 는 상호작용 ID. 재연결 시 Last-Event-ID 이후 받은 상호작용을 DB 에서 재전송
+ *   (재전송 한도를 넘거나 전송 버퍼가 넘치면 "resync" 이벤트로 목록 재조회를 요청)
+ * - 연결마다 크기 제한 버퍼를 두고 소수의 전송 스레드가 비움
+ *   버퍼는 발행 측(상호작용 트랜잭션)만 느린 클라이언트로부터 격리함. 전송 스레드는 send 가 막히면 함께 멈추므로
+ *   send 가 send-timeout-ms 를 넘긴 연결은 주기 점검에서 끊고 전송 스레드를 인터럽트해 다른 연결 전송을 이어감
+ * - 대기 중인 연결은 서블릿 비동기 요청이라 스레드를 점유하지 않음, 주기적 heartbeat 로 끊긴 연결 정리
+ * - 연결은 인스턴스 로컬. 다른 인스턴스에서 발생한 이벤트는 재연결 시 재전송으로 받음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FriendNotificationHub {
+
+    private static final String EVENT_INTERACTION = "interaction";
+    private static final String EVENT_RESYNC = "resync";
+
+    private final FriendInteractionRepository friendInteractionRepository;
+    private final FriendUnreadCounter unreadCounter;
+
+    @Value("${friend.notification.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    @Value("${friend.notification.buffer-size:64}")
+    private int bufferSize;
+
+    @Value("${friend.notification.replay-max:100}")
+    private int replayMax;
+
+    @Value("${friend.notification.max-connections-per-user:5}")
+    private int maxConnectionsPerUser;
+
+    @Value("${friend.notification.max-connections:20000}")
+    private int maxConnections;
+
+    @Value("${friend.notification.sender-threads:4}")
+    private int senderThreads;
+
+    @Value("${friend.notification.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    private final Map<Long, CopyOnWriteArrayList<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private ExecutorService sender;
+
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong replayed = new AtomicLong();
+    private final AtomicLong resyncs = new AtomicLong();
+    private final AtomicLong stalled = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        ThreadFactory threadFactory = r -> {
+            Thread t = new Thread(r, "friend-sse-" + threadIndex.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+        int threads = Math.max(1, senderThreads);
+        sender = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), threadFactory);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.values().forEach(list -> list.forEach(sub -> sub.emitter.complete()));
+        sender.shutdownNow();
+    }
+
+    /**
+     * 알림 구독. lastEventId 가 있으면 그 이후 받은 상호작용을 먼저 전송
+     */
+    public SseEmitter subscribe(User user, Long lastEventId) {
+        if (connections.get() >= maxConnections) {
+            throw new BusinessException("실시간 알림 연결이 많아 잠시 후 다시 시도해주세요.",
+                    HttpStatus.SERVICE_UNAVAILABLE, "NOTIFICATION_CAPACITY");
+        }
+        long userId = user.getUserId();
+        SseEmitter emitter = createEmitter();
+        Subscriber sub = new Subscriber(userId, emitter, Math.max(1, bufferSize));
+        emitter.onCompletion(() -> remove(sub));
+        emitter.onTimeout(() -> remove(sub));
+        emitter.onError(e -> remove(sub));
+
+        // 먼저 등록해 재전송 조회 중 커밋된 이벤트도 버퍼에 받아둠 (재전송이 끝날 때까지 전송 보류)
+        Subscriber evicted = add(sub);
+        if (evicted != null) evicted.emitter.complete();
+
+        if (lastEventId == null) {
+            sub.finishReplay(List.of(), false);
+        } else {
+            try {
+                List<FriendInteraction> missed = friendInteractionRepository.findReceivedAfter(
+                        user, lastEventId, Pageable.ofSize(replayMax + 1));
+                boolean truncated = missed.size() > replayMax;
+                List<FriendInteraction> replay = truncated ? missed.subList(0, replayMax) : missed;
+                Long unread = replay.isEmpty() ? null : unreadCounter.get(userId);
+                List<Outbound> events = replay.stream()
+                        .map(fi -> Outbound.interaction(fi.getInteractionId(),
+                                FriendNotificationResponse.of(FriendInteractionResponse.from(fi), unread)))
+                        .toList();
+                replayed.addAndGet(events.size());
+                if (truncated) resyncs.incrementAndGet();
+                sub.finishReplay(events, truncated);
+            } catch (RuntimeException e) {
+                // 재전송 실패 시 클라이언트가 목록을 다시 조회하도록
+                log.warn("실시간 알림 재전송 조회 실패: userId={}, err={}", userId, e.getMessage());
+                resyncs.incrementAndGet();
+                sub.finishReplay(List.of(), true);
+            }
+        }
+        schedule(sub);
+        return emitter;
+    }
+
+    /**
+     * 받은 상호작용 알림 발행 (트랜잭션이 있으면 커밋 후 전송)
+     */
+    public void publishReceived(FriendInteraction interaction) {
+        long toUserId = interaction.getToUser().getUserId();
+        FriendInteractionResponse payload = FriendInteractionResponse.from(interaction);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deliver(toUserId, payload);
+                }
+            });
+        } else {
+            deliver(toUserId, payload);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${friend.notification.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        for (List<Subscriber> list : subscribers.values()) {
+            for (Subscriber sub : list) {
+                if (sub.offer(Outbound.HEARTBEAT)) schedule(sub);
+            }
+        }
+    }
+
+    /**
+     * send 가 send-timeout-ms 를 넘겨 막힌 연결 정리 (연결 제거 후 전송 스레드 인터럽트)
+     * emitter 종료는 send 와 같은 잠금을 쓰므로 여기서 하지 않고, 깨어난 전송 스레드가 처리
+     */
+    @Scheduled(fixedDelayString = "${friend.notification.stall-check-interval-ms:2000}")
+    public void closeStalledConnections() {
+        long now = System.nanoTime();
+        long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        for (List<Subscriber> list : subscribers.values()) {
+            for (Subscriber sub : list) {
+                if (sub.interruptIfStalled(now, timeoutNanos)) {
+                    stalled.incrementAndGet();
+                    log.info("실시간 알림 전송 지연으로 연결 종료: userId={}", sub.userId);
+                    remove(sub);
+                }
+            }
+        }
+    }
+
+    public HubStatus getStatus() {
+        return new HubStatus(connections.get(), subscribers.size(), bufferSize, published.get(), delivered.get(),
+                dropped.get(), replayed.get(), resyncs.get(), stalled.get());
+    }
+
+    /**
+     * 연결용 emitter 생성 (테스트에서 전송 내용을 기록하는 emitter 로 대체)
+     */
+    SseEmitter createEmitter() {
+        return new SseEmitter(emitterTimeoutMs);
+    }
+
+    private void deliver(long userId, FriendInteractionResponse payload) {
+        List<Subscriber> list = subscribers.get(userId);
+        if (list == null || list.isEmpty()) return; // 이 인스턴스에 연결이 없으면 생략 (재연결 시 재전송)
+        published.incrementAndGet();
+        Long unread;
+        try {
+            unread = unreadCounter.get(userId);
+        } catch (Exception e) {
+            unread = null;
+        }
+        Outbound event = Outbound.interaction(payload.interactionId(), FriendNotificationResponse.of(payload, unread));
+        for (Subscriber sub : list) {
+            if (sub.offer(event)) schedule(sub);
+        }
+    }
+
+    private void schedule(Subscriber sub) {
+        try {
+            sender.execute(() -> drain(sub));
+        } catch (Exception e) {
+            sub.emitter.complete();
+        }
+    }
+
+    private void drain(Subscriber sub) {
+        while (true) {
+            Outbound next;
+            boolean resync;
+            synchronized (sub) {
+                resync = sub.overflowed;
+                sub.overflowed = false;
+                next = resync ? null : sub.queue.pollFirst();
+                if (!resync && next == null) {
+                    sub.draining = false;
+                    return;
+                }
+            }
+            sub.beginSend(System.nanoTime());
+            try {
+                if (resync) {
+                    sub.emitter.send(SseEmitter.event().name(EVENT_RESYNC).data("{}", MediaType.APPLICATION_JSON));
+                } else if (next.id() < 0) {
+                    sub.emitter.send(SseEmitter.event().comment("ping"));
+                } else {
+                    sub.emitter.send(SseEmitter.event()
+                            .id(String.valueOf(next.id()))
+                            .name(EVENT_INTERACTION)
+                            .data(next.data(), MediaType.APPLICATION_JSON));
+                    delivered.incrementAndGet();
+                }
+            } catch (IOException | RuntimeException e) {
+                // 클라이언트 연결 끊김 또는 지연으로 인터럽트됨
+                sub.endSend();
+                Thread.interrupted();
+                remove(sub);
+                sub.emitter.completeWithError(e);
+                return;
+            }
+            boolean timedOut = sub.endSend();
+            Thread.interrupted(); // send 직후에 들어온 인터럽트가 다음 연결 전송에 남지 않도록
+            if (timedOut) {
+                // 인터럽트 전에 send 가 끝난 경우. 연결은 이미 제거됨
+                sub.emitter.completeWithError(new IOException("send timeout"));
+                return;
+            }
+        }
+    }
+
+    /**
+     * 사용자별 연결 수 한도를 넘으면 가장 오래된 연결을 반환 (호출 측에서 종료)
+     */
+    private Subscriber add(Subscriber sub) {
+        Subscriber[] evicted = {null};
+        subscribers.compute(sub.userId, (k, list) -> {
+            CopyOnWriteArrayList<Subscriber> next = list == null ? new CopyOnWriteArrayList<>() : list;
+            if (next.size() >= Math.max(1, maxConnectionsPerUser)) {
+                evicted[0] = next.remove(0);
+                evicted[0].removed = true;
+                connections.decrementAndGet();
+            }
+            next.add(sub);
+            return next;
+        });
+        connections.incrementAndGet();
+        return evicted[0];
+    }
+
+    private void remove(Subscriber sub) {
+        subscribers.computeIfPresent(sub.userId, (k, list) -> {
+            if (!sub.removed && list.remove(sub)) {
+                sub.removed = true;
+                connections.decrementAndGet();
+            }
+            return list.isEmpty() ? null : list;
+        });
+        synchronized (sub) {
+            sub.closed = true;
+            sub.queue.clear();
+        }
+    }
+
+    /**
+     * 연결 하나. 버퍼와 전송 상태는 this 잠금 아래에서만 변경
+     */
+    private final class Subscriber {
+        private final long userId;
+        private final SseEmitter emitter;
+        private final int capacity;
+        private final ArrayDeque<Outbound> queue = new ArrayDeque<>();
+        private boolean replaying = true;
+        private boolean draining;
+        private boolean overflowed;
+        private boolean closed;
+        private volatile boolean removed;
+        private Thread sendingThread;
+        private long sendStartedAt;
+        private boolean timedOut;
+
+        private Subscriber(long userId, SseEmitter emitter, int capacity) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.capacity = capacity;
+        }
+
+        /**
+         * 버퍼에 추가. 전송 작업을 새로 시작해야 하면 true
+         */
+        synchronized boolean offer(Outbound event) {
+            if (closed) return false;
+            if (queue.size() >= capacity) {
+                // 오래된 이벤트를 버리고 클라이언트에 재조회 요청
+                queue.pollFirst();
+                overflowed = true;
+                dropped.incrementAndGet();
+            }
+            queue.addLast(event);
+            return startDraining();
+        }
+
+        /**
+         * 재전송 이벤트를 버퍼 앞에 두고(이미 받은 실시간 이벤트와 중복 제거) 전송 시작
+         */
+        synchronized void finishReplay(List<Outbound> events, boolean truncated) {
+            long lastReplayedId = events.isEmpty() ? -1 : events.get(events.size() - 1).id();
+            ArrayDeque<Outbound> merged = new ArrayDeque<>(events);
+            for (Outbound live : queue) {
+                if (live.id() < 0 || live.id() > lastReplayedId) merged.addLast(live);
+            }
+            queue.clear();
+            queue.addAll(merged);
+            if (truncated) overflowed = true;
+            replaying = false;
+            draining = true;
+        }
+
+        synchronized void beginSend(long now) {
+            sendingThread = Thread.currentThread();
+            sendStartedAt = now;
+        }
+
+        /**
+         * send 종료 표시. 그 사이 지연으로 끊긴 연결이면 true
+         */
+        synchronized boolean endSend() {
+            sendingThread = null;
+            return timedOut;
+        }
+
+        /**
+         * 진행 중인 send 가 timeout 을 넘겼으면 전송 스레드를 인터럽트하고 true (연결당 한 번)
+         */
+        synchronized boolean interruptIfStalled(long now, long timeoutNanos) {
+            if (timedOut || sendingThread == null || now - sendStartedAt < timeoutNanos) return false;
+            timedOut = true;
+            sendingThread.interrupt();
+            return true;
+        }
+
+        private boolean startDraining() {
+            if (replaying || draining) return false;
+            draining = true;
+            return true;
+        }
+    }
+
+    /**
+     * 전송 대기 이벤트. id 가 음수면 heartbeat
+     */
+    private record Outbound(long id, Object data) {
+        static final Outbound HEARTBEAT = new Outbound(-1, null);
+
+        static Outbound interaction(long id, FriendNotificationResponse data) {
+            return new Outbound(id, data);
+        }
+    }
+
+    public record HubStatus(
+            int connections,
+            int users,
+            int bufferSize,
+            long published,
+            long delivered,
+            long dropped,
+            long replayed,
+            long resyncs,
+            long stalled
+    ) {}
+}
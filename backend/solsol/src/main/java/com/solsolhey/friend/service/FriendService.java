@@ -2,6 +2,7 @@ package com.solsolhey.friend.service;
 
 import com.solsolhey.friend.dto.request.FriendAddRequest;
 import com.solsolhey.friend.dto.request.FriendInteractionRequest;
+import com.solsolhey.friend.dto.response.FriendInteractionCursorResponse;
 import com.solsolhey.friend.dto.response.*;
 import com.solsolhey.user.entity.User;
 import org.springframework.data.domain.Page;
@@ -69,6 +70,11 @@ public interface FriendService {
      */
     Page<FriendInteractionResponse> getReceivedInteractions(User user, Pageable pageable);
 
+    /**
+     * 받은 상호작용 목록 조회 (커서 페이지네이션, cursor 가 없으면 첫 페이지)
+     */
+    FriendInteractionCursorResponse getReceivedInteractions(User user, String cursor, int size);
+
     /**
      * 읽지 않은 상호작용 수 조회
      */
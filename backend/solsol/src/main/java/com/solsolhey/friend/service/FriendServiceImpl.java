@@ -3,19 +3,30 @@ package com.solsolhey.friend.service;
 import java.time.LocalDateTime;
 import java.time.LocalDate;
 import java.time.ZoneId;
-import java.time.LocalTime;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.solsolhey.common.exception.BusinessException;
+import com.solsolhey.common.quota.DailyQuota;
+import com.solsolhey.common.quota.DailyQuotaService;
 import com.solsolhey.common.exception.EntityNotFoundException;
 import com.solsolhey.friend.dto.request.FriendAddRequest;
 import com.solsolhey.friend.dto.request.FriendInteractionRequest;
+import com.solsolhey.friend.dto.response.FriendInteractionCursorResponse;
 import com.solsolhey.friend.dto.response.FriendInteractionResponse;
 import com.solsolhey.friend.dto.response.FriendResponse;
 import com.solsolhey.friend.dto.response.FriendSearchResponse;
@@ -35,6 +46,7 @@ import com.solsolhey.mascot.dto.view.MascotViewResponse;
 import com.solsolhey.mascot.service.MascotViewService;
 import com.solsolhey.user.entity.User;
 import com.solsolhey.user.repository.UserRepository;
+import com.solsolhey.user.service.NicknameSearchIndex;
 import com.solsolhey.exp.service.ExpDailyCounterService;
 
 import lombok.RequiredArgsConstructor;
@@ -50,6 +62,8 @@ import lombok.extern.slf4j.Slf4j;
 public class FriendServiceImpl implements FriendService {
 
     private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final int DAILY_LIKE_LIMIT = 3;
+    private static final int MAX_INBOX_PAGE_SIZE = 50;
 
     private final FriendRepository friendRepository;
     private final FriendInteractionRepository friendInteractionRepository;
@@ -58,6 +72,11 @@ public class FriendServiceImpl implements FriendService {
     private final UserRepository userRepository;
     private final ExpDailyCounterService expDailyCounterService;
     private final MascotViewService mascotViewService;
+    private final DailyQuotaService dailyQuotaService;
+    private final FriendGraphIndex friendGraphIndex;
+    private final NicknameSearchIndex nicknameSearchIndex;
+    private final FriendUnreadCounter unreadCounter;
+    private final FriendNotificationHub notificationHub;
 
     @Override
     public FriendResponse sendFriendRequest(User user, FriendAddRequest request) {
@@ -107,6 +126,8 @@ public class FriendServiceImpl implements FriendService {
                         .referenceId(revived.getFriendId())
                         .build();
                 friendInteractionRepository.save(reqNotice);
+                notificationHub.publishReceived(reqNotice);
+                unreadCounter.increment(friendUser.getUserId()); // 카운터 행 잠금은 커밋까지 유지되므로 마지막에
             } catch (Exception e) {
                 log.warn("친구 요청 알림 생성 실패(revive-multi): from={}, to={}, err={}", user.getUserId(), friendUser.getUserId(), e.getMessage());
             }
@@ -133,6 +154,8 @@ public class FriendServiceImpl implements FriendService {
                     .referenceId(savedFriend.getFriendId())
                     .build();
             friendInteractionRepository.save(reqNotice);
+            notificationHub.publishReceived(reqNotice);
+            unreadCounter.increment(friendUser.getUserId()); // 카운터 행 잠금은 커밋까지 유지되므로 마지막에
         } catch (Exception e) {
             log.warn("친구 요청 알림 생성 실패: from={}, to={}, err={}", user.getUserId(), friendUser.getUserId(), e.getMessage());
         }
@@ -156,6 +179,7 @@ public class FriendServiceImpl implements FriendService {
         }
 
         friend.accept();
+        friendGraphIndex.onAccepted(friend.getFriendId(), friend.getUser().getUserId(), user.getUserId());
 
         // 수신자(user) 관점의 친구요청 알림 메시지 갱신 + 읽음 처리
         try {
@@ -165,7 +189,7 @@ public class FriendServiceImpl implements FriendService {
                 FriendInteraction notice = notices.get(0);
                 String fromNickname = friend.getUser().getNickname();
                 notice.setMessage("이제 " + fromNickname + "님과 친구가 되었습니다.");
-                notice.markAsRead();
+                markAsRead(notice);
             }
         } catch (Exception e) {
             log.warn("친구요청 수락 알림 갱신 실패: toUser={}, friendId={}, err={}", user.getUserId(), friendId, e.getMessage());
@@ -186,12 +210,16 @@ public class FriendServiceImpl implements FriendService {
         }
 
         friend.reject();
+        friendGraphIndex.onRemoved(friend.getFriendId(), friend.getUser().getUserId(), user.getUserId());
 
         // 수신자(user) 관점의 친구요청 알림 삭제(인박스에서 사라짐)
         try {
             List<FriendInteraction> notices = friendInteractionRepository
                     .findByToUserAndTypeAndReferenceId(user, InteractionType.FRIEND_REQUEST, friendId);
             for (FriendInteraction n : notices) {
+                if (!Boolean.TRUE.equals(n.getIsRead())) {
+                    unreadCounter.decrement(user.getUserId(), 1);
+                }
                 friendInteractionRepository.delete(n);
             }
         } catch (Exception e) {
@@ -212,11 +240,34 @@ public class FriendServiceImpl implements FriendService {
         }
 
         friendRepository.delete(friend);
+        friendGraphIndex.onRemoved(friend.getFriendId(), friend.getUser().getUserId(), friend.getFriendUser().getUserId());
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<FriendResponse> getFriends(User user, Pageable pageable) {
+        // 인덱스로 페이지에 해당하는 관계 ID 를 정한 뒤 해당 행만 PK 로 조회 (OR 조건 전체 스캔 회피)
+        if (friendGraphIndex.isReady() && pageable.getSort().isUnsorted()) {
+            long userId = user.getUserId();
+            int total = friendGraphIndex.friendCount(userId);
+            long[] ids = pageable.isPaged()
+                    ? friendGraphIndex.friendshipIdsPage(userId, pageable.getOffset(), pageable.getPageSize())
+                    : friendGraphIndex.friendshipIdsPage(userId, 0, total);
+            if (ids.length == 0) {
+                return new PageImpl<>(List.of(), pageable, total);
+            }
+            Map<Long, Friend> rows = friendRepository.findWithUsersByFriendIdIn(
+                            Arrays.stream(ids).boxed().toList()).stream()
+                    .collect(Collectors.toMap(Friend::getFriendId, Function.identity()));
+            List<FriendResponse> content = new ArrayList<>(ids.length);
+            for (long id : ids) {
+                Friend friend = rows.get(id);
+                if (friend == null || friend.getStatus() != FriendshipStatus.ACCEPTED) continue;
+                boolean isRequestReceivedByMe = friend.getFriendUser().getUserId().equals(user.getUserId());
+                content.add(FriendResponse.from(friend, isRequestReceivedByMe));
+            }
+            return new PageImpl<>(content, pageable, total);
+        }
         Page<Friend> friends = friendRepository.findAcceptedFriends(user, FriendshipStatus.ACCEPTED, pageable);
         return friends.map(friend -> {
             boolean isRequestReceivedByMe = friend.getFriendUser().getUserId().equals(user.getUserId());
@@ -243,17 +294,30 @@ public class FriendServiceImpl implements FriendService {
     public List<FriendSearchResponse> searchFriends(User user, String keyword) {
         log.debug("친구 검색: userId={}, keyword={}", user.getUserId(), keyword);
         
-        List<User> users = userRepository.findByNickname(keyword);
-        
-        return users.stream()
+        // 인덱스 적재 전에는 기존 완전 일치 조회
+        List<User> users = (nicknameSearchIndex.isReady()
+                ? userRepository.findAllByIdInOrder(nicknameSearchIndex.search(keyword))
+                : userRepository.findByNickname(keyword)).stream()
                 .filter(u -> !u.getUserId().equals(user.getUserId()))
+                .toList();
+        if (users.isEmpty()) {
+            return List.of();
+        }
+
+        // 결과 사용자들과의 관계를 한 번에 조회 (수락된 관계가 있으면 우선)
+        Map<Long, FriendshipStatus> statusByUserId = new HashMap<>();
+        for (Friend f : friendRepository.findAllBetween(user, users.stream().map(User::getUserId).toList())) {
+            Long otherUserId = f.getUser().getUserId().equals(user.getUserId())
+                    ? f.getFriendUser().getUserId() : f.getUser().getUserId();
+            statusByUserId.merge(otherUserId, f.getStatus(),
+                    (a, b) -> a == FriendshipStatus.ACCEPTED ? a : b);
+        }
+
+        return users.stream()
                 .map(u -> {
-                    boolean isAlreadyFriend = friendRepository.existsMutualFriendship(user, u);
-                    boolean hasPendingRequest = friendRepository.findFriendshipBetween(user, u)
-                            .map(f -> f.getStatus() == FriendshipStatus.PENDING)
-                            .orElse(false);
-                    
-                    return FriendSearchResponse.from(u, isAlreadyFriend, hasPendingRequest);
+                    FriendshipStatus status = statusByUserId.get(u.getUserId());
+                    return FriendSearchResponse.from(u, status == FriendshipStatus.ACCEPTED,
+                            status == FriendshipStatus.PENDING);
                 })
                 .toList();
     }
@@ -261,23 +325,13 @@ public class FriendServiceImpl implements FriendService {
     @Override
     @Transactional(readOnly = true)
     public FriendStatsResponse getFriendStats(User user) {
-        Long totalFriends = friendRepository.countFriendsByUser(user);
-        
-        Long pendingRequests = (long) friendRepository.findByFriendUserAndStatus(
-                user, FriendshipStatus.PENDING, Pageable.unpaged()).getContent().size();
-        
-        Long sentRequests = (long) friendRepository.findByUserAndStatus(
-                user, FriendshipStatus.PENDING, Pageable.unpaged()).getContent().size();
-        
-        Long unreadInteractions = friendInteractionRepository.countUnreadByToUser(user);
-        
-        LocalDateTime startOfDay = LocalDateTime.of(LocalDateTime.now().toLocalDate(), LocalTime.MIN);
-        LocalDateTime endOfDay = LocalDateTime.of(LocalDateTime.now().toLocalDate(), LocalTime.MAX);
-        Long todayInteractions = friendInteractionRepository.countTodayInteractionsByToUser(
-                user, startOfDay, endOfDay);
+        // 오늘 = KST 기준 하루 (created_at 은 서버 시간대로 저장)
+        LocalDate today = dailyQuotaService.today();
+        FriendRepository.FriendStatsView stats = friendRepository.aggregateStats(user.getUserId(),
+                dailyQuotaService.startOfDayInServerZone(today), dailyQuotaService.endOfDayInServerZone(today));
 
-        return FriendStatsResponse.of(totalFriends, pendingRequests, sentRequests, 
-                                    unreadInteractions, todayInteractions);
+        return FriendStatsResponse.of(stats.getTotalFriends(), stats.getPendingRequests(), stats.getSentRequests(),
+                                    stats.getUnreadInteractions(), stats.getTodayInteractions());
     }
 
     @Override
@@ -285,7 +339,7 @@ public class FriendServiceImpl implements FriendService {
         if (user1.getUserId().equals(user2.getUserId())) {
             return false; // 자기 자신은 친구가 아님
         }
-        return friendRepository.existsMutualFriendship(user1, user2);
+        return areFriends(user1, user2);
     }
 
     @Override
@@ -313,7 +367,7 @@ public class FriendServiceImpl implements FriendService {
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
 
         // 친구 관계 확인
-        if (!friendRepository.existsMutualFriendship(user, toUser)) {
+        if (!areFriends(user, toUser)) {
             throw new BusinessException("친구 관계가 아닌 사용자에게는 상호작용을 보낼 수 없습니다.");
         }
 
@@ -329,13 +383,18 @@ public class FriendServiceImpl implements FriendService {
                 throw new BusinessException("상대의 좋아요 이후에만 추가 좋아요가 가능합니다.");
             }
 
-            // 1) 일일 상한(3회) 먼저 강제
+            // 1) 일일 상한(3회) 먼저 강제 — 메모리 카운터로 판정 후 DB 카운터로 재확인 (롤백 시 메모리 반영 취소)
+            //    32비트를 넘는 ID 쌍은 메모리 키로 표현할 수 없으므로 DB 카운터로만 판정
+            if (DailyQuota.fitsPairKey(user.getUserId(), toUser.getUserId())
+                    && !likeQuota().tryAcquireInTransaction(likeKey(user, toUser), DAILY_LIKE_LIMIT)) {
+                throw new BusinessException("오늘 해당 친구에게 보낼 수 있는 좋아요 3회 한도를 초과했습니다.");
+            }
             LocalDate today = LocalDate.now(KST);
             FriendLikeDailyCounter counter = likeDailyCounterRepository
                     .findForUpdate(user, toUser, today)
                     .orElseGet(() -> new FriendLikeDailyCounter(user, toUser, today));
             int current = counter.getLikeCount() == null ? 0 : counter.getLikeCount();
-            if (current >= 3) {
+            if (current >= DAILY_LIKE_LIMIT) {
                 throw new BusinessException("오늘 해당 친구에게 보낼 수 있는 좋아요 3회 한도를 초과했습니다.");
             }
 
@@ -361,6 +420,7 @@ public class FriendServiceImpl implements FriendService {
                 .build();
 
         FriendInteraction savedInteraction = friendInteractionRepository.save(interaction);
+        notificationHub.publishReceived(savedInteraction);
         Optional<ExpDailyCounterService.ExpAwarded> activeAwarded = Optional.empty();
         try {
             // 방문자(발신자): active 규칙(1~3회 +3, 이후 +1)
@@ -374,7 +434,9 @@ public class FriendServiceImpl implements FriendService {
         } catch (Exception e) {
             log.warn("친구 Passive EXP 적립 실패: toUserId={}, err={}", toUser.getUserId(), e.getMessage());
         }
-        
+        // 수신자 카운터 행 잠금은 커밋까지 유지되므로 EXP 적립 등 나머지 작업을 마친 뒤 마지막에 증가
+        unreadCounter.increment(toUser.getUserId());
+
         return FriendInteractionResponse.builder()
                 .interactionId(savedInteraction.getInteractionId())
                 .fromUserId(savedInteraction.getFromUser().getUserId())
@@ -405,7 +467,7 @@ public class FriendServiceImpl implements FriendService {
 
         // 친구 여부 검증 (양방향)
         User target = original.getFromUser();
-        if (!friendRepository.existsMutualFriendship(user, target)) {
+        if (!areFriends(user, target)) {
             throw new BusinessException("친구 관계가 아닌 사용자입니다.");
         }
 
@@ -417,7 +479,7 @@ public class FriendServiceImpl implements FriendService {
 
         // 원본 알림 읽음 처리
         try {
-            original.markAsRead();
+            markAsRead(original);
         } catch (Exception e) {
             log.warn("좋아요 답장 후 원본 읽음처리 실패: interactionId={}, err={}", interactionId, e.getMessage());
         }
@@ -433,10 +495,34 @@ public class FriendServiceImpl implements FriendService {
         return interactions.map(FriendInteractionResponse::from);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public FriendInteractionCursorResponse getReceivedInteractions(User user, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_INBOX_PAGE_SIZE));
+        // 한 건 더 읽어 다음 페이지 여부 판단
+        Pageable limit = Pageable.ofSize(pageSize + 1);
+        List<FriendInteraction> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = friendInteractionRepository.findInboxFirstPage(user, limit);
+        } else {
+            InboxCursor after = InboxCursor.decode(cursor);
+            rows = friendInteractionRepository.findInboxPageAfter(user, after.createdAt(), after.interactionId(), limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<FriendInteraction> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            FriendInteraction last = page.get(page.size() - 1);
+            nextCursor = new InboxCursor(last.getCreatedAt(), last.getInteractionId()).encode();
+        }
+        return FriendInteractionCursorResponse.of(page.stream().map(FriendInteractionResponse::from).toList(), nextCursor);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Long getUnreadInteractionCount(User user) {
-        return friendInteractionRepository.countUnreadByToUser(user);
+        return unreadCounter.get(user.getUserId());
     }
 
     @Override
@@ -448,13 +534,15 @@ public class FriendServiceImpl implements FriendService {
             throw new BusinessException("상호작용을 읽을 권한이 없습니다.");
         }
 
-        interaction.markAsRead();
+        markAsRead(interaction);
     }
 
     @Override
     public void markAllReceivedInteractionsAsRead(User user) {
         log.debug("상호작용 모두 읽음 처리: userId={}", user.getUserId());
-        friendInteractionRepository.markAllAsReadByToUser(user);
+        // 0 으로 덮어쓰지 않고 실제 읽음 처리된 수만큼 차감 (동시에 도착한 상호작용 보존)
+        int updated = friendInteractionRepository.markAllAsReadByToUser(user);
+        unreadCounter.decrement(user.getUserId(), updated);
     }
 
     @Override
@@ -464,7 +552,7 @@ public class FriendServiceImpl implements FriendService {
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
 
         boolean self = viewer.getUserId().equals(owner.getUserId());
-        boolean isFriend = self || friendRepository.existsMutualFriendship(viewer, owner);
+        boolean isFriend = self || areFriends(viewer, owner);
         if (!isFriend) {
             throw new BusinessException("친구 관계가 아닌 사용자입니다.");
         }
@@ -478,14 +566,13 @@ public class FriendServiceImpl implements FriendService {
 
         // Today (KST) unified count via counter + receivedToday for display, and ping-pong gating for canLikeNow
         LocalDate today = LocalDate.now(KST);
-        int sentToday = likeDailyCounterRepository.findOne(viewer, owner, today)
-                .map(FriendLikeDailyCounter::getLikeCount)
-                .orElse(0);
+        // 보낸 수는 DB 카운터 기준 (메모리 카운터는 노드별이라 다른 인스턴스에서 보낸 좋아요를 모를 수 있음)
+        int sentToday = likeDailyCounterRepository.findLikeCount(viewer.getUserId(), owner.getUserId(), today).orElse(0);
         LocalDateTime startOfDay = today.atStartOfDay();
         LocalDateTime endOfDay = today.plusDays(1).atStartOfDay();
         long receivedToday = friendInteractionRepository.countDirectionalByTypeAndCreatedAtBetween(
                 owner, viewer, InteractionType.LIKE, startOfDay, endOfDay);
-        int allowedMax = 3;
+        int allowedMax = DAILY_LIKE_LIMIT;
         int remaining = Math.max(0, allowedMax - sentToday);
         boolean alternationOk = true;
         List<FriendInteraction> latestPair = friendInteractionRepository
@@ -512,4 +599,57 @@ public class FriendServiceImpl implements FriendService {
                 .isOwner(self)
                 .build();
     }
+
+    /**
+     * 친구 여부: 인덱스 적재 후에는 메모리에서 판정, 적재 전에는 DB 조회
+     */
+    private boolean areFriends(User user, User other) {
+        if (friendGraphIndex.isReady()) {
+            return friendGraphIndex.areFriends(user.getUserId(), other.getUserId());
+        }
+        return friendRepository.existsMutualFriendship(user, other);
+    }
+
+    /**
+     * 읽지 않은 상호작용 읽음 처리 + 카운터 차감 (이미 읽은 경우 차감하지 않음)
+     */
+    private void markAsRead(FriendInteraction interaction) {
+        if (friendInteractionRepository.markAsReadIfUnread(interaction.getInteractionId()) > 0) {
+            unreadCounter.decrement(interaction.getToUser().getUserId(), 1);
+        }
+        interaction.markAsRead();
+    }
+
+    /**
+     * 발신자 -> 수신자 당일(KST) 좋아요 수 카운터 (최초 접근 시 friend_like_daily_counter 에서 초기화)
+     */
+    private DailyQuota likeQuota() {
+        return dailyQuotaService.register("friend.like", (key, day) ->
+                likeDailyCounterRepository.findLikeCount(key >>> 32, key & 0xFFFFFFFFL, day).orElse(0));
+    }
+
+    private static long likeKey(User from, User to) {
+        return DailyQuota.pairKey(from.getUserId(), to.getUserId());
+    }
+
+    /**
+     * 받은 상호작용 커서: 마지막 항목의 (createdAt, interactionId) 를 URL-safe Base64 로 인코딩
+     */
+    private record InboxCursor(LocalDateTime createdAt, Long interactionId) {
+
+        String encode() {
+            String raw = createdAt + "_" + interactionId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static InboxCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int sep = raw.lastIndexOf('_');
+                return new InboxCursor(LocalDateTime.parse(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+            } catch (RuntimeException e) {
+                throw new BusinessException("잘못된 커서입니다.");
+            }
+        }
+    }
 }
@@ -0,0 +1,70 @@
+package com.solsolhey.friend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 사용자별 읽지 않은 친구 상호작용 수 (friend_unread_counters)
+ * - 배지 조회는 COUNT 대신 행 하나 조회
+ * - 증감은 호출 측 트랜잭션 안에서 원자적 UPDATE 로 처리해 상호작용 변경과 함께 커밋/롤백
+ * - UPDATE 의 행 잠금은 호출 측 커밋까지 유지되므로 증가는 트랜잭션의 마지막 작업으로 호출
+ *   (같은 수신자에게 동시에 보내는 요청이 EXP 적립 등을 기다리지 않도록)
+ * - 행이 없으면 0 으로 보고, 처음 증가할 때 별도 트랜잭션에서 행을 만든 뒤 갱신
+ *   (중복 키 오류가 호출 측 트랜잭션을 중단시키지 않도록)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FriendUnreadCounter {
+
+    private static final String SELECT_SQL =
+            "SELECT unread_count FROM friend_unread_counters WHERE user_id = ?";
+
+    private static final String ADD_SQL =
+            "UPDATE friend_unread_counters SET unread_count = GREATEST(unread_count + ?, 0), "
+            + "updated_at = CURRENT_TIMESTAMP WHERE user_id = ?";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO friend_unread_counters (user_id, unread_count) VALUES (?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    public long get(long userId) {
+        List<Integer> rows = jdbcTemplate.query(SELECT_SQL, (rs, i) -> rs.getInt(1), userId);
+        return rows.isEmpty() ? 0 : rows.get(0);
+    }
+
+    public void increment(long userId) {
+        add(userId, 1);
+    }
+
+    public void decrement(long userId, int count) {
+        if (count > 0) add(userId, -count);
+    }
+
+    private void add(long userId, int delta) {
+        if (jdbcTemplate.update(ADD_SQL, delta, userId) > 0 || delta < 0) return;
+        ensureRow(userId);
+        jdbcTemplate.update(ADD_SQL, delta, userId);
+    }
+
+    private void ensureRow(long userId) {
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            requiresNew.executeWithoutResult(status -> jdbcTemplate.update(INSERT_SQL, userId));
+        } catch (DuplicateKeyException e) {
+            // 다른 요청이 먼저 만든 경우
+            log.debug("읽지 않은 상호작용 카운터 행 이미 존재: userId={}", userId);
+        }
+    }
+}
@@ -45,4 +45,10 @@ public interface MascotRepository extends JpaRepository<Mascot, Long> {
      */
     @Query("SELECT m.level FROM Mascot m WHERE m.userId = :userId")
     Integer findLevelByUserId(@Param("userId") Long userId);
+
+    /**
+     * 마스코트 ID 목록으로 (마스코트 ID, 소유자 ID) 일괄 조회 (LOB 회피용 경량 쿼리)
+     */
+    @Query("SELECT m.id, m.userId FROM Mascot m WHERE m.id IN :ids")
+    List<Object[]> findOwnerIdsByIdIn(@Param("ids") List<Long> ids);
 }
@@ -21,6 +21,7 @@ import com.solsolhey.ranking.dto.request.VoteRequest;
 import com.solsolhey.ranking.dto.response.RankingResponse;
 import com.solsolhey.ranking.dto.response.VoteResponse;
 import com.solsolhey.ranking.service.RankingService;
+import com.solsolhey.ranking.service.VoteIngestionService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -40,6 +41,7 @@ import lombok.extern.slf4j.Slf4j;
 public class RankingController {
 
     private final RankingService rankingService;
+    private final VoteIngestionService voteIngestionService;
 
     /**
      * 교내 랭킹 조회
@@ -217,6 +219,16 @@ public class RankingController {
         }
     }
 
+    /**
+     * 투표 적재 파이프라인 상태 조회 (큐 깊이/처리량/거절 수)
+     */
+    @GetMapping("/votes/ingestion-status")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "투표 적재 상태 조회", description = "투표 write-behind 큐의 적재 대기 수, 처리량, 거절 통계를 조회합니다")
+    public ResponseEntity<ApiResponse<VoteIngestionService.IngestionStatus>> getVoteIngestionStatus() {
+        return ResponseEntity.ok(ApiResponse.success("투표 적재 상태 조회 완료", voteIngestionService.getStatus()));
+    }
+
     /**
      * 사용자 투표 히스토리 조회
      */
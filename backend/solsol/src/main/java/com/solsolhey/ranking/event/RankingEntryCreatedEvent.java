@@ -0,0 +1,15 @@
+package com.solsolhey.ranking.event;
+
+import lombok.Getter;
+
+/**
+ * 랭킹 엔트리 등록 이벤트 (커밋 후 리더보드 반영용)
+ */
+@Getter
+public class RankingEntryCreatedEvent {
+    private final Long entryId;
+
+    public RankingEntryCreatedEvent(Long entryId) {
+        this.entryId = entryId;
+    }
+}
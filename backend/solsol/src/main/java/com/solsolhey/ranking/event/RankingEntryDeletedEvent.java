@@ -0,0 +1,15 @@
+package com.solsolhey.ranking.event;
+
+import lombok.Getter;
+
+/**
+ * 랭킹 엔트리 삭제 이벤트 (커밋 후 리더보드 반영용)
+ */
+@Getter
+public class RankingEntryDeletedEvent {
+    private final Long entryId;
+
+    public RankingEntryDeletedEvent(Long entryId) {
+        this.entryId = entryId;
+    }
+}
@@ -0,0 +1,19 @@
+package com.solsolhey.ranking.event;
+
+import com.solsolhey.ranking.entity.Vote;
+
+import lombok.Getter;
+
+/**
+ * 투표 완료 이벤트 (커밋 후 리더보드 반영용)
+ */
+@Getter
+public class VoteCastEvent {
+    private final Long entryId;
+    private final Vote.VoteType voteType;
+
+    public VoteCastEvent(Long entryId, Vote.VoteType voteType) {
+        this.entryId = entryId;
+        this.voteType = voteType;
+    }
+}
@@ -83,6 +83,24 @@ public interface RankingEntryRepository extends JpaRepository<RankingEntry, Long
     @Query("SELECT re FROM RankingEntry re WHERE re.rankingType = :rankingType ORDER BY re.createdAt DESC")
     List<RankingEntry> findByRankingTypeOrderByCreatedAtDesc(@Param("rankingType") String rankingType);
 
+    /**
+     * 리더보드 구성용 경량 조회 (엔트리 ID, 랭킹 타입, 등록일, 소유자 캠퍼스)
+     * 마스코트/소유자가 없는 엔트리는 제외됨
+     */
+    @Query("SELECT re.entryId, re.rankingType, re.createdAt, u.campus FROM RankingEntry re " +
+           "JOIN Mascot m ON m.id = re.mascotId " +
+           "JOIN User u ON u.userId = m.userId")
+    List<Object[]> findLeaderboardRows();
+
+    /**
+     * 단일 엔트리의 리더보드 구성 정보 조회
+     */
+    @Query("SELECT re.entryId, re.rankingType, re.createdAt, u.campus FROM RankingEntry re " +
+           "JOIN Mascot m ON m.id = re.mascotId " +
+           "JOIN User u ON u.userId = m.userId " +
+           "WHERE re.entryId = :entryId")
+    List<Object[]> findLeaderboardRowByEntryId(@Param("entryId") Long entryId);
+
     /**
      * 동일한 이미지 URL로 사용자가 해당 랭킹 타입에 이미 참가했는지 확인
      */
@@ -36,6 +36,18 @@ public interface VoteRepository extends JpaRepository<Vote, Long> {
     boolean existsByVoterIdAndEntryIdAndVoteType(
             Long voterId, Long entryId, Vote.VoteType voteType);
 
+    /**
+     * 엔트리 목록 중 투표자가 이미 투표한 엔트리 ID 조회
+     */
+    @Query("SELECT DISTINCT v.entryId FROM Vote v " +
+           "WHERE v.voterId = :voterId " +
+           "AND v.voteType = :voteType " +
+           "AND v.entryId IN :entryIds")
+    List<Long> findVotedEntryIdsIn(
+            @Param("voterId") Long voterId,
+            @Param("voteType") Vote.VoteType voteType,
+            @Param("entryIds") List<Long> entryIds);
+
     /**
      * 멱등키 중복 체크
      */
@@ -91,6 +103,25 @@ public interface VoteRepository extends JpaRepository<Vote, Long> {
             @Param("voteType") Vote.VoteType voteType,
             @Param("date") LocalDateTime date);
 
+    /**
+     * 투표자의 기간 내 투표 수 조회 (created_at 범위 조건)
+     */
+    @Query("SELECT COUNT(v) FROM Vote v " +
+           "WHERE v.voterId = :voterId " +
+           "AND v.voteType = :voteType " +
+           "AND v.createdAt >= :start AND v.createdAt < :end")
+    long countVotesByVoterBetween(
+            @Param("voterId") Long voterId,
+            @Param("voteType") Vote.VoteType voteType,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end);
+
+    /**
+     * 최근 멱등키 목록 조회 (멱등키 캐시 적재용)
+     */
+    @Query("SELECT v.idempotencyKey FROM Vote v WHERE v.idempotencyKey IS NOT NULL ORDER BY v.createdAt DESC")
+    List<String> findRecentIdempotencyKeys(Pageable pageable);
+
     /**
      * 마스코트별 투표 수 조회 (투표 타입별)
      */
@@ -101,6 +132,12 @@ public interface VoteRepository extends JpaRepository<Vote, Long> {
      */
     long countByEntryIdAndVoteType(Long entryId, Vote.VoteType voteType);
 
+    /**
+     * 엔트리/투표 타입별 투표 수 일괄 집계 (리더보드 재구성용)
+     */
+    @Query("SELECT v.entryId, v.voteType, COUNT(v) FROM Vote v GROUP BY v.entryId, v.voteType")
+    List<Object[]> countVotesGroupedByEntryAndVoteType();
+
     /**
      * 캠퍼스별 투표 수 조회
      */
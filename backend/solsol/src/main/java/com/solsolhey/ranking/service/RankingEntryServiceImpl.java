@@ -4,11 +4,13 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -23,6 +25,9 @@ import com.solsolhey.ranking.dto.request.CreateEntryRequest;
 import com.solsolhey.ranking.dto.response.EntryResponse;
 import com.solsolhey.ranking.dto.response.LeaderboardResponse;
 import com.solsolhey.ranking.entity.RankingEntry;
+import com.solsolhey.ranking.entity.Vote;
+import com.solsolhey.ranking.event.RankingEntryCreatedEvent;
+import com.solsolhey.ranking.event.RankingEntryDeletedEvent;
 import com.solsolhey.ranking.repository.RankingEntryRepository;
 
 /**
@@ -41,6 +46,12 @@ public class RankingEntryServiceImpl implements RankingEntryService {
     @Autowired
     private MascotSnapshotRepository mascotSnapshotRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private VoteTallyService voteTallyService;
+
     private static final int MAX_ENTRIES_PER_USER = 3;
 
     @Override
@@ -94,6 +105,7 @@ public class RankingEntryServiceImpl implements RankingEntryService {
             .build();
 
         RankingEntry savedEntry = rankingEntryRepository.save(entry);
+        eventPublisher.publishEvent(new RankingEntryCreatedEvent(savedEntry.getEntryId()));
         EntryResponse resp = EntryResponse.from(savedEntry);
         String norm = normalizeUrl(resp.imageUrl());
         return new EntryResponse(
@@ -145,23 +157,24 @@ public class RankingEntryServiceImpl implements RankingEntryService {
         }
 
         rankingEntryRepository.delete(entry);
+        eventPublisher.publishEvent(new RankingEntryDeletedEvent(entryId));
     }
 
     @Override
     public LeaderboardResponse getLeaderboard(Pageable pageable) {
         Page<RankingEntry> entryPage = rankingEntryRepository.findAllOrderByCreatedAtDesc(pageable);
+        List<RankingEntry> content = entryPage.getContent();
         
         // 순위 계산 및 설정
-        List<LeaderboardResponse.LeaderboardEntry> entries = entryPage.getContent().stream()
-            .map(entry -> {
-                LeaderboardResponse.LeaderboardEntry leaderboardEntry = LeaderboardResponse.LeaderboardEntry.from(entry);
-                // 순위 계산 (페이지 기반)
-                int rank = (int) (entryPage.getNumber() * entryPage.getSize()) + 
-                           entryPage.getContent().indexOf(entry) + 1;
-                // 투표수는 0으로 설정 (실제로는 Vote 테이블에서 계산해야 함)
-                return leaderboardEntry.withRankAndVoteCount(rank, 0);
-            })
-            .collect(Collectors.toList());
+        List<LeaderboardResponse.LeaderboardEntry> entries = new ArrayList<>(content.size());
+        for (int i = 0; i < content.size(); i++) {
+            RankingEntry entry = content.get(i);
+            // 순위 계산 (페이지 기반)
+            int rank = (int) (entryPage.getNumber() * entryPage.getSize()) + i + 1;
+            // 투표수는 엔트리의 랭킹 타입 기준 득표 카운터에서 조회
+            long voteCount = voteTallyService.getVoteCount(entry.getEntryId(), toVoteType(entry.getRankingType()));
+            entries.add(LeaderboardResponse.LeaderboardEntry.from(entry).withRankAndVoteCount(rank, voteCount));
+        }
 
         // 새로운 LeaderboardResponse 생성
         return new LeaderboardResponse(
@@ -174,6 +187,13 @@ public class RankingEntryServiceImpl implements RankingEntryService {
         );
     }
 
+    private Vote.VoteType toVoteType(String rankingType) {
+        for (Vote.VoteType voteType : Vote.VoteType.values()) {
+            if (voteType.name().equals(rankingType)) return voteType;
+        }
+        return null;
+    }
+
     @Override
     public long getUserEntryCount(Long userId) {
         return rankingEntryRepository.countByUserId(userId);
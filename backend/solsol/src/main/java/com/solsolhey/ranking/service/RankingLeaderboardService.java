@@ -0,0 +1,313 @@
+package com.solsolhey.ranking.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.solsolhey.ranking.entity.Vote;
+import com.solsolhey.ranking.event.RankingEntryCreatedEvent;
+import com.solsolhey.ranking.event.RankingEntryDeletedEvent;
+import com.solsolhey.ranking.event.VoteCastEvent;
+import com.solsolhey.ranking.repository.RankingEntryRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메모리 기반 랭킹 리더보드
+ * - 랭킹 타입(CAMPUS/NATIONAL) x 캠퍼스(전체 포함) 단위로 정렬된 보드를 유지
+ * - 투표/엔트리 등록/삭제 커밋 이벤트로 증분 갱신, 기동 시 ranking_entries 와 득표 카운터로 재구성
+ * - 다른 인스턴스의 투표/엔트리 변경은 주기적인 전체 재구성(득표 카운터 재적재 포함)으로 반영
+ * - 페이지 조회는 정렬된 배열의 구간 복사로 처리 (페이지 크기에 비례)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RankingLeaderboardService {
+
+    private static final String ALL_CAMPUSES = "*";
+
+    // 최신순: 등록일 내림차순 (동률 시 엔트리 ID 내림차순)
+    private static final Comparator<Item> NEWEST_ORDER = Comparator
+            .comparing(Item::createdAt, Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+            .thenComparing(Item::entryId, Comparator.reverseOrder());
+
+    // 득표순: 득표 수 내림차순 (동률 시 최신순)
+    private static final Comparator<Item> VOTES_ORDER = Comparator
+            .comparingLong(Item::votes).reversed()
+            .thenComparing(NEWEST_ORDER);
+
+    private final RankingEntryRepository rankingEntryRepository;
+    private final VoteTallyService voteTallyService;
+
+    private volatile Map<Long, Item> items = new ConcurrentHashMap<>();
+    private volatile Map<String, Board> boards = new ConcurrentHashMap<>();
+    private volatile boolean loaded = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 득표 카운터를 votes 테이블에서 다시 읽은 뒤 전체 재구성 (다른 인스턴스 변경 반영)
+     */
+    @Scheduled(fixedDelayString = "${ranking.leaderboard.reload-interval-ms:300000}",
+            initialDelayString = "${ranking.leaderboard.reload-interval-ms:300000}")
+    public void rebuildScheduled() {
+        try {
+            voteTallyService.reload();
+            rebuild();
+        } catch (Exception e) {
+            log.warn("랭킹 리더보드 재구성 실패 (기존 보드 유지): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * ranking_entries 와 득표 카운터로부터 전체 리더보드 재구성
+     * 재구성 중 커밋된 투표/삭제 이벤트는 모니터에서 대기했다가 새 보드에 반영됨
+     */
+    public synchronized void rebuild() {
+        long started = System.currentTimeMillis();
+
+        Map<Long, Item> newItems = new ConcurrentHashMap<>();
+        Map<String, List<Item>> grouped = new HashMap<>();
+        for (Object[] row : rankingEntryRepository.findLeaderboardRows()) {
+            Item item = toItem(row);
+            if (item == null) continue;
+            newItems.put(item.entryId(), item);
+            for (String key : boardKeys(item)) {
+                grouped.computeIfAbsent(key, k -> new ArrayList<>()).add(item);
+            }
+        }
+
+        Map<String, Board> newBoards = new ConcurrentHashMap<>();
+        grouped.forEach((key, list) -> newBoards.put(key, Board.of(list)));
+
+        this.items = newItems;
+        this.boards = newBoards;
+        this.loaded = true;
+        log.info("랭킹 리더보드 재구성 완료 - 엔트리 수: {}, 보드 수: {}, 소요: {}ms",
+                newItems.size(), newBoards.size(), System.currentTimeMillis() - started);
+    }
+
+    /**
+     * 리더보드 페이지 조회
+     *
+     * @param rankingType CAMPUS 또는 NATIONAL
+     * @param campus      캠퍼스명 (null 이면 전체)
+     * @param sort        정렬 기준 (newest 외에는 득표순)
+     */
+    public LeaderboardPage getPage(String rankingType, String campus, String sort, int page, int size) {
+        ensureLoaded();
+        Board board = boards.get(boardKey(rankingType, campus));
+        if (board == null || size <= 0 || page < 0) {
+            return new LeaderboardPage(board != null ? board.size() : 0, List.of());
+        }
+
+        long offset = (long) page * size;
+        boolean newest = "newest".equals(sort);
+        List<Item> slice = board.slice(newest, offset, size);
+
+        Map<Long, Item> current = items;
+        List<RankedEntry> ranked = new ArrayList<>(slice.size());
+        for (int i = 0; i < slice.size(); i++) {
+            Item item = slice.get(i);
+            // 최신순 배열은 재정렬하지 않으므로 득표 수는 최신 값을 참조
+            Item latest = current.getOrDefault(item.entryId(), item);
+            ranked.add(new RankedEntry(item.entryId(), (int) (offset + i + 1), latest.votes()));
+        }
+        return new LeaderboardPage(board.size(), ranked);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEntryCreated(RankingEntryCreatedEvent event) {
+        if (!loaded) return; // 최초 조회 시 전체 재구성에 포함됨
+        List<Object[]> rows = rankingEntryRepository.findLeaderboardRowByEntryId(event.getEntryId());
+        if (rows.isEmpty()) {
+            log.warn("리더보드 반영 실패 - 엔트리 정보를 찾을 수 없습니다: {}", event.getEntryId());
+            return;
+        }
+        Item item = toItem(rows.get(0));
+        if (item == null) return;
+        synchronized (this) {
+            if (items.putIfAbsent(item.entryId(), item) != null) return;
+            for (String key : boardKeys(item)) {
+                boards.computeIfAbsent(key, k -> new Board()).add(item);
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void onEntryDeleted(RankingEntryDeletedEvent event) {
+        Item item = items.remove(event.getEntryId());
+        if (item == null) return;
+        for (String key : boardKeys(item)) {
+            Board board = boards.get(key);
+            if (board != null) board.remove(item);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void onVoteCast(VoteCastEvent event) {
+        Item before = items.get(event.getEntryId());
+        if (before == null || !before.rankingType().equals(event.getVoteType().name())) return;
+        Item after = before.withVotes(voteTallyService.getVoteCount(before.entryId(), event.getVoteType()));
+        if (after.votes() == before.votes()) return;
+        items.put(after.entryId(), after);
+        for (String key : boardKeys(after)) {
+            Board board = boards.get(key);
+            if (board != null) board.reposition(before, after);
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            rebuild();
+        }
+    }
+
+    private Item toItem(Object[] row) {
+        Long entryId = (Long) row[0];
+        String rankingType = (String) row[1];
+        if (entryId == null || rankingType == null) return null;
+        long votes = 0L;
+        for (Vote.VoteType voteType : Vote.VoteType.values()) {
+            if (voteType.name().equals(rankingType)) {
+                votes = voteTallyService.getVoteCount(entryId, voteType);
+            }
+        }
+        return new Item(entryId, rankingType, (String) row[3], (LocalDateTime) row[2], votes);
+    }
+
+    private static List<String> boardKeys(Item item) {
+        if (item.campus() == null) {
+            return List.of(boardKey(item.rankingType(), null));
+        }
+        return List.of(boardKey(item.rankingType(), null), boardKey(item.rankingType(), item.campus()));
+    }
+
+    private static String boardKey(String rankingType, String campus) {
+        return rankingType + "|" + (campus != null ? campus : ALL_CAMPUSES);
+    }
+
+    /**
+     * 리더보드 페이지 조회 결과
+     */
+    public record LeaderboardPage(int total, List<RankedEntry> entries) {}
+
+    /**
+     * 순위가 매겨진 엔트리 (엔트리 ID, 순위, 득표 수)
+     */
+    public record RankedEntry(Long entryId, int rank, long voteCount) {}
+
+    private record Item(Long entryId, String rankingType, String campus, LocalDateTime createdAt, long votes) {
+        Item withVotes(long newVotes) {
+            return new Item(entryId, rankingType, campus, createdAt, newVotes);
+        }
+    }
+
+    /**
+     * 정렬 상태를 유지하는 단일 보드 (득표순/최신순 두 배열)
+     * 쓰기는 서비스 모니터 하에서만 호출되며, 읽기와는 RW 락으로 분리
+     */
+    private static final class Board {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final ArrayList<Item> byVotes;
+        private final ArrayList<Item> byNewest;
+
+        Board() {
+            this.byVotes = new ArrayList<>();
+            this.byNewest = new ArrayList<>();
+        }
+
+        private Board(ArrayList<Item> byVotes, ArrayList<Item> byNewest) {
+            this.byVotes = byVotes;
+            this.byNewest = byNewest;
+        }
+
+        static Board of(List<Item> items) {
+            ArrayList<Item> byVotes = new ArrayList<>(items);
+            ArrayList<Item> byNewest = new ArrayList<>(items);
+            byVotes.sort(VOTES_ORDER);
+            byNewest.sort(NEWEST_ORDER);
+            return new Board(byVotes, byNewest);
+        }
+
+        int size() {
+            lock.readLock().lock();
+            try {
+                return byVotes.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        List<Item> slice(boolean newest, long offset, int limit) {
+            lock.readLock().lock();
+            try {
+                List<Item> source = newest ? byNewest : byVotes;
+                if (offset >= source.size()) return List.of();
+                int from = (int) offset;
+                int to = (int) Math.min(source.size(), offset + limit);
+                return new ArrayList<>(source.subList(from, to));
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void add(Item item) {
+            lock.writeLock().lock();
+            try {
+                insert(byVotes, item, VOTES_ORDER);
+                insert(byNewest, item, NEWEST_ORDER);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(Item item) {
+            lock.writeLock().lock();
+            try {
+                delete(byVotes, item, VOTES_ORDER);
+                delete(byNewest, item, NEWEST_ORDER);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void reposition(Item before, Item after) {
+            lock.writeLock().lock();
+            try {
+                // 최신순 배열은 등록일/ID 기준이므로 위치 변화 없음
+                delete(byVotes, before, VOTES_ORDER);
+                insert(byVotes, after, VOTES_ORDER);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private static void insert(List<Item> list, Item item, Comparator<Item> order) {
+            int idx = Collections.binarySearch(list, item, order);
+            list.add(idx < 0 ? -idx - 1 : idx, item);
+        }
+
+        private static void delete(List<Item> list, Item item, Comparator<Item> order) {
+            int idx = Collections.binarySearch(list, item, order);
+            if (idx >= 0) list.remove(idx);
+        }
+    }
+}
@@ -3,9 +3,10 @@ package com.solsolhey.ranking.service;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -47,10 +48,9 @@ public class RankingServiceImpl implements RankingService {
     private final MascotSnapshotRepository mascotSnapshotRepository;
     private final RankingEntryRepository rankingEntryRepository;
     private final com.solsolhey.solsol.config.MediaStorageProperties mediaProps;
-
-    // 일일 투표 제한 (교내: 10회, 전국: 5회)
-    private static final int DAILY_CAMPUS_VOTE_LIMIT = 10;
-    private static final int DAILY_NATIONAL_VOTE_LIMIT = 5;
+    private final RankingLeaderboardService rankingLeaderboardService;
+    private final VoteTallyService voteTallyService;
+    private final VoteIngestionService voteIngestionService;
 
     @Override
     @Transactional(readOnly = true)
@@ -62,29 +62,16 @@ public class RankingServiceImpl implements RankingService {
         String targetCampus = request.getCampusId() != null ? 
             getCampusNameById(request.getCampusId()) : userCampus;
 
-        Pageable pageable = PageRequest.of(request.getPage(), request.getSize());
-        
-        // 해당 캠퍼스의 교내 랭킹 RankingEntry를 직접 조회
-        List<RankingEntry> rankingEntries = rankingEntryRepository.findByRankingTypeOrderByCreatedAtDesc("CAMPUS");
+        // 메모리 리더보드에서 해당 캠퍼스의 페이지 구간만 조회
+        RankingLeaderboardService.LeaderboardPage leaderboardPage = rankingLeaderboardService.getPage(
+            "CAMPUS", targetCampus, request.getSort(), request.getPage(), request.getSize());
         
-        // 캠퍼스별로 필터링
-        List<RankingEntry> campusEntries = rankingEntries.stream()
-            .filter(entry -> {
-                Mascot mascot = mascotRepository.findById(entry.getMascotId()).orElse(null);
-                if (mascot == null) return false;
-                User owner = userRepository.findById(mascot.getUserId()).orElse(null);
-                return owner != null && targetCampus.equals(owner.getCampus());
-            })
-            .toList();
-        
-        List<RankingEntryResponse> entryResponses = buildCampusEntryResponsesFromEntries(campusEntries, targetCampus, request.getSort());
-
-        long totalCount = campusEntries.size();
+        List<RankingEntryResponse> entryResponses = buildCampusEntryResponsesFromEntries(leaderboardPage.entries(), targetCampus);
 
         CampusInfo campusInfo = new CampusInfo(request.getCampusId(), targetCampus);
 
         return RankingResponse.forCampus(
-            (int) totalCount,
+            leaderboardPage.total(),
             request.getPage(),
             request.getSize(),
             request.getPeriod(),
@@ -100,35 +87,17 @@ public class RankingServiceImpl implements RankingService {
         log.info("전국 랭킹 조회 요청 - sort: {}, period: {}, region: {}, schoolId: {}", 
                  request.getSort(), request.getPeriod(), request.getRegion(), request.getSchoolId());
 
-        Pageable pageable = PageRequest.of(request.getPage(), request.getSize());
-        
-        // 전국 랭킹 RankingEntry를 직접 조회
-        List<RankingEntry> rankingEntries = rankingEntryRepository.findByRankingTypeOrderByCreatedAtDesc("NATIONAL");
-        
-        // 학교별로 필터링
-        List<RankingEntry> nationalEntries = rankingEntries.stream()
-            .filter(entry -> {
-                Mascot mascot = mascotRepository.findById(entry.getMascotId()).orElse(null);
-                if (mascot == null) return false;
-                
-                if (request.getSchoolId() != null) {
-                    // 특정 학교 필터링
-                    String schoolName = getCampusNameById(request.getSchoolId());
-                    User owner = userRepository.findById(mascot.getUserId()).orElse(null);
-                    return owner != null && schoolName.equals(owner.getCampus());
-                }
-                return true; // 전체 전국
-            })
-            .toList();
-
-        List<RankingEntryResponse> entryResponses = buildNationalEntryResponsesFromEntries(nationalEntries, request.getSort());
+        // 학교 필터가 있으면 해당 학교 보드, 없으면 전국 전체 보드
+        String schoolName = request.getSchoolId() != null ? getCampusNameById(request.getSchoolId()) : null;
+        RankingLeaderboardService.LeaderboardPage leaderboardPage = rankingLeaderboardService.getPage(
+            "NATIONAL", schoolName, request.getSort(), request.getPage(), request.getSize());
 
-        long totalCount = nationalEntries.size();
+        List<RankingEntryResponse> entryResponses = buildNationalEntryResponsesFromEntries(leaderboardPage.entries());
 
         FilterInfo filters = FilterInfo.of(request.getRegion(), request.getSchoolId());
 
         return RankingResponse.forNational(
-            (int) totalCount,
+            leaderboardPage.total(),
             request.getPage(),
             request.getSize(),
             request.getPeriod(),
@@ -147,16 +116,6 @@ public class RankingServiceImpl implements RankingService {
             return VoteResponse.failure("투표할 수 없는 상태입니다.");
         }
 
-        // 일일 투표 한도 확인
-        if (hasReachedDailyVoteLimit(voterId, Vote.VoteType.CAMPUS)) {
-            return VoteResponse.failure("오늘의 투표 한도를 초과했습니다. 내일 다시 시도해주세요.");
-        }
-
-        // 멱등키 중복 확인
-        if (request.getIdempotencyKey() != null && isDuplicateIdempotencyKey(request.getIdempotencyKey())) {
-            return VoteResponse.failure("중복 요청이 감지되었습니다.", request.getIdempotencyKey());
-        }
-
         // RankingEntry에서 마스코트 정보 가져오기
         RankingEntry rankingEntry = rankingEntryRepository.findById(entryId)
             .orElseThrow(() -> new BusinessException("랭킹 엔트리를 찾을 수 없습니다."));
@@ -168,8 +127,8 @@ public class RankingServiceImpl implements RankingService {
             return VoteResponse.failure("해당 캠퍼스 투표 권한이 없습니다.");
         }
 
-        // 투표 처리
-        return processVote(entryId, voterId, request, Vote.VoteType.CAMPUS);
+        // 투표 처리 (일일 한도/멱등키는 적재 파이프라인에서 메모리로 판정)
+        return processVote(rankingEntry, voterId, request, Vote.VoteType.CAMPUS);
     }
 
     @Override
@@ -181,77 +140,24 @@ public class RankingServiceImpl implements RankingService {
             return VoteResponse.failure("투표할 수 없는 상태입니다.");
         }
 
-        // 일일 투표 한도 확인
-        if (hasReachedDailyVoteLimit(voterId, Vote.VoteType.NATIONAL)) {
-            return VoteResponse.failure("투표 한도를 초과했습니다. 잠시 후 다시 시도해주세요.");
-        }
-
-        // 멱등키 중복 확인
-        if (request.getIdempotencyKey() != null && isDuplicateIdempotencyKey(request.getIdempotencyKey())) {
-            return VoteResponse.failure("중복 요청이 감지되었습니다.", request.getIdempotencyKey());
-        }
+        RankingEntry rankingEntry = rankingEntryRepository.findById(entryId)
+            .orElseThrow(() -> new BusinessException("랭킹 엔트리를 찾을 수 없습니다."));
 
-        // 투표 처리
-        return processVote(entryId, voterId, request, Vote.VoteType.NATIONAL);
+        // 투표 처리 (일일 한도/멱등키는 적재 파이프라인에서 메모리로 판정)
+        return processVote(rankingEntry, voterId, request, Vote.VoteType.NATIONAL);
     }
 
     @Override
     @Transactional(readOnly = true)
     public boolean canVote(Long voterId, Long entryId, Vote.VoteType voteType) {
-        log.info("투표 가능 여부 체크 시작 - voterId: {}, entryId: {}, voteType: {}", voterId, entryId, voteType);
-        
-        // 투표 타입별로 중복 투표 확인 (엔트리별로 처리)
-        boolean alreadyVoted = voteRepository.existsByVoterIdAndEntryIdAndVoteType(voterId, entryId, voteType);
-        log.info("이미 투표했는지 확인 - alreadyVoted: {}", alreadyVoted);
-        if (alreadyVoted) {
-            log.info("이미 투표한 엔트리입니다 - voterId: {}, entryId: {}, voteType: {}", voterId, entryId, voteType);
-            return false;
-        }
-
-        // RankingEntry가 존재하는지 확인 (랭킹에 참가한 엔트리만 투표 가능)
-        boolean hasRankingEntry = rankingEntryRepository.existsById(entryId);
-        log.info("랭킹 엔트리 존재 여부 확인 - hasRankingEntry: {}", hasRankingEntry);
-        if (!hasRankingEntry) {
-            log.info("랭킹에 참가하지 않은 엔트리입니다 - entryId: {}", entryId);
-            return false;
-        }
-        
-        // RankingEntry에서 마스코트 정보 가져오기
-        RankingEntry rankingEntry = rankingEntryRepository.findById(entryId)
-            .orElseThrow(() -> new BusinessException("랭킹 엔트리를 찾을 수 없습니다."));
-        
-        // 자기 자신의 마스코트인지 확인
-        Mascot mascot = getMascotById(rankingEntry.getMascotId());
-        boolean isOwnMascot = mascot.getUserId().equals(voterId);
-        log.info("자기 자신의 마스코트인지 확인 - isOwnMascot: {}", isOwnMascot);
-        if (isOwnMascot) {
-            log.info("자기 자신의 마스코트에는 투표할 수 없습니다 - voterId: {}, entryId: {}", voterId, entryId);
-            return false;
-        }
-        
-        // 해당 투표 타입의 RankingEntry가 맞는지 확인
-        boolean hasCorrectRankingType = rankingEntry.getRankingType().equals(voteType.name());
-        log.info("랭킹 타입 일치 여부 확인 - hasCorrectRankingType: {}", hasCorrectRankingType);
-        
-        if (!hasCorrectRankingType) {
-            log.info("해당 랭킹 타입에 참가하지 않은 엔트리입니다 - entryId: {}, voteType: {}", entryId, voteType);
-            return false;
-        }
-
-        log.info("투표 가능합니다 - voterId: {}, entryId: {}, voteType: {}", voterId, entryId, voteType);
-        return true; // 엔트리가 존재하고 랭킹에 참가했으면 투표 가능
+        log.info("투표 가능 여부 체크 - voterId: {}, entryId: {}, voteType: {}", voterId, entryId, voteType);
+        return evaluateVoteable(voterId, List.of(entryId), voteType).getOrDefault(entryId, false);
     }
 
     @Override
     @Transactional(readOnly = true)
     public boolean hasReachedDailyVoteLimit(Long voterId, Vote.VoteType voteType) {
-        LocalDateTime today = LocalDateTime.now();
-        Long dailyVoteCount = voteRepository.countDailyVotesByVoter(voterId, voteType, today);
-        
-        int limit = voteType == Vote.VoteType.CAMPUS ? 
-            DAILY_CAMPUS_VOTE_LIMIT : DAILY_NATIONAL_VOTE_LIMIT;
-            
-        return dailyVoteCount >= limit;
+        return voteIngestionService.hasReachedDailyLimit(voterId, voteType);
     }
 
     // 투표 타입별로 중복 투표 체크하므로 이 메서드는 더 이상 사용하지 않음
@@ -264,7 +170,8 @@ public class RankingServiceImpl implements RankingService {
     @Override
     @Transactional(readOnly = true)
     public boolean isDuplicateIdempotencyKey(String idempotencyKey) {
-        return voteRepository.existsByIdempotencyKey(idempotencyKey);
+        return voteIngestionService.isRecentIdempotencyKey(idempotencyKey)
+            || voteRepository.existsByIdempotencyKey(idempotencyKey);
     }
 
     @Override
@@ -279,19 +186,13 @@ public class RankingServiceImpl implements RankingService {
     public java.util.Map<Long, Boolean> getVoteableStatusForCampusEntries(Long voterId, List<Long> entryIds) {
         log.info("교내 랭킹 엔트리들에 대한 투표 가능 여부 조회 시작 - voterId: {}, entryIds: {}", voterId, entryIds);
         
-        java.util.Map<Long, Boolean> result = new java.util.HashMap<>();
-        
         if (entryIds == null || entryIds.isEmpty()) {
             log.info("엔트리 ID 목록이 비어있습니다.");
-            return result;
+            return new java.util.HashMap<>();
         }
         
-        // 각 엔트리에 대해 투표 가능 여부 확인
-        for (Long entryId : entryIds) {
-            boolean canVote = canVote(voterId, entryId, Vote.VoteType.CAMPUS);
-            result.put(entryId, canVote);
-            log.debug("엔트리 {} 투표 가능 여부: {}", entryId, canVote);
-        }
+        // 목록 전체를 IN 쿼리 3회로 일괄 판정
+        java.util.Map<Long, Boolean> result = evaluateVoteable(voterId, entryIds, Vote.VoteType.CAMPUS);
         
         log.info("교내 랭킹 엔트리들에 대한 투표 가능 여부 조회 완료 - 결과: {}", result);
         return result;
@@ -302,19 +203,13 @@ public class RankingServiceImpl implements RankingService {
     public java.util.Map<Long, Boolean> getVoteableStatusForNationalEntries(Long voterId, List<Long> entryIds) {
         log.info("전국 랭킹 엔트리들에 대한 투표 가능 여부 조회 시작 - voterId: {}, entryIds: {}", voterId, entryIds);
         
-        java.util.Map<Long, Boolean> result = new java.util.HashMap<>();
-        
         if (entryIds == null || entryIds.isEmpty()) {
             log.info("엔트리 ID 목록이 비어있습니다.");
-            return result;
+            return new java.util.HashMap<>();
         }
         
-        // 각 엔트리에 대해 투표 가능 여부 확인
-        for (Long entryId : entryIds) {
-            boolean canVote = canVote(voterId, entryId, Vote.VoteType.NATIONAL);
-            result.put(entryId, canVote);
-            log.debug("엔트리 {} 투표 가능 여부: {}", entryId, canVote);
-        }
+        // 목록 전체를 IN 쿼리 3회로 일괄 판정
+        java.util.Map<Long, Boolean> result = evaluateVoteable(voterId, entryIds, Vote.VoteType.NATIONAL);
         
         log.info("전국 랭킹 엔트리들에 대한 투표 가능 여부 조회 완료 - 결과: {}", result);
         return result;
@@ -322,33 +217,80 @@ public class RankingServiceImpl implements RankingService {
 
     // === Private Helper Methods ===
 
-    private VoteResponse processVote(Long entryId, Long voterId, VoteRequest request, Vote.VoteType voteType) {
+    /**
+     * 엔트리 목록의 투표 가능 여부를 일괄 판정
+     * 투표 이력 / 엔트리 / 마스코트 소유자를 각각 IN 쿼리 1회로 조회한 뒤 메모리에서 판정
+     * - 이미 투표한 엔트리, 존재하지 않는 엔트리, 자기 마스코트, 랭킹 타입 불일치는 투표 불가
+     */
+    private Map<Long, Boolean> evaluateVoteable(Long voterId, List<Long> entryIds, Vote.VoteType voteType) {
+        List<Long> ids = entryIds.stream().filter(java.util.Objects::nonNull).distinct().toList();
+        Map<Long, Boolean> result = new java.util.HashMap<>();
+        if (ids.isEmpty()) return result;
+
+        java.util.Set<Long> votedEntryIds = new java.util.HashSet<>(
+            voteRepository.findVotedEntryIdsIn(voterId, voteType, ids));
+        // 아직 기록되지 않은(적재 대기 중) 투표도 투표한 것으로 간주
+        for (Long id : ids) {
+            if (voteIngestionService.isInFlight(voterId, id, voteType)) votedEntryIds.add(id);
+        }
+
+        Map<Long, RankingEntry> entries = rankingEntryRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(RankingEntry::getEntryId, Function.identity()));
+
+        List<Long> mascotIds = entries.values().stream().map(RankingEntry::getMascotId).distinct().toList();
+        Map<Long, Long> mascotOwnerIds = new java.util.HashMap<>();
+        if (!mascotIds.isEmpty()) {
+            for (Object[] row : mascotRepository.findOwnerIdsByIdIn(mascotIds)) {
+                mascotOwnerIds.put((Long) row[0], (Long) row[1]);
+            }
+        }
+
+        for (Long entryId : ids) {
+            RankingEntry entry = entries.get(entryId);
+            Long ownerId = entry != null ? mascotOwnerIds.get(entry.getMascotId()) : null;
+            boolean voteable = !votedEntryIds.contains(entryId)
+                && entry != null
+                && ownerId != null
+                && !ownerId.equals(voterId)
+                && voteType.name().equals(entry.getRankingType());
+            result.put(entryId, voteable);
+        }
+        log.debug("투표 가능 여부 일괄 판정 - voterId: {}, voteType: {}, 결과: {}", voterId, voteType, result);
+        return result;
+    }
+
+    private VoteResponse processVote(RankingEntry rankingEntry, Long voterId, VoteRequest request, Vote.VoteType voteType) {
+        Long entryId = rankingEntry.getEntryId();
         try {
             log.info("투표 처리 시작 - entryId: {}, voterId: {}, voteType: {}", entryId, voterId, voteType);
             
             // RankingEntry에서 마스코트 ID 가져오기
-            RankingEntry rankingEntry = rankingEntryRepository.findById(entryId)
-                .orElseThrow(() -> new BusinessException("랭킹 엔트리를 찾을 수 없습니다."));
             Long mascotId = rankingEntry.getMascotId();
             
-            // 투표 생성
-            Vote vote = Vote.builder()
-                    .entryId(entryId)
-                    .mascotId(mascotId)
-                    .voterId(voterId)
-                    .voteType(voteType)
-                    .weight(request.getWeight())
-                    .idempotencyKey(request.getIdempotencyKey())
-                    .campusId(request.getCampusId())
-                    .build();
-
-            log.info("투표 엔티티 생성 완료 - vote: {}", vote);
-            voteRepository.save(vote);
-            log.info("투표 저장 완료 - voteId: {}", vote.getVoteId());
-
-            // 투표 후 총 투표 수 조회
-            long totalVotes = getVoteCount(mascotId, voteType);
-            log.info("투표 후 총 투표 수 - mascotId: {}, voteType: {}, totalVotes: {}", mascotId, voteType, totalVotes);
+            // 투표 접수 (votes 테이블에는 적재 파이프라인이 배치로 기록)
+            VoteIngestionService.Admission admission = voteIngestionService.submit(
+                    entryId, mascotId, voterId, voteType,
+                    request.getWeight(), request.getIdempotencyKey(), request.getCampusId());
+            log.info("투표 접수 결과 - entryId: {}, voterId: {}, admission: {}", entryId, voterId, admission);
+
+            switch (admission) {
+                case DUPLICATE_IDEMPOTENCY_KEY:
+                    return VoteResponse.failure("중복 요청이 감지되었습니다.", request.getIdempotencyKey());
+                case ALREADY_VOTED:
+                    return VoteResponse.failure("투표할 수 없는 상태입니다.");
+                case DAILY_LIMIT_REACHED:
+                    return voteType == Vote.VoteType.CAMPUS
+                        ? VoteResponse.failure("오늘의 투표 한도를 초과했습니다. 내일 다시 시도해주세요.")
+                        : VoteResponse.failure("투표 한도를 초과했습니다. 잠시 후 다시 시도해주세요.");
+                case REJECTED_BACKPRESSURE:
+                    return VoteResponse.failure("투표 요청이 많아 처리 한도를 초과했습니다. 잠시 후 다시 시도해주세요.");
+                default:
+                    break;
+            }
+
+            // 득표 카운터와 리더보드는 적재 파이프라인이 votes 테이블에 기록한 뒤 반영하므로, 응답에는 이번 투표를 더한 예상치를 사용
+            long totalVotes = voteTallyService.getVoteCount(entryId, voteType) + 1;
+            log.info("투표 후 예상 총 투표 수 - entryId: {}, voteType: {}, totalVotes: {}", entryId, voteType, totalVotes);
 
             // 응답 생성
             if (voteType == Vote.VoteType.CAMPUS) {
@@ -372,35 +314,19 @@ public class RankingServiceImpl implements RankingService {
         }
     }
 
-    private long getVoteCount(Long entryId, Vote.VoteType voteType) {
-        long count = voteRepository.countByEntryIdAndVoteType(entryId, voteType);
-        log.info("투표 수 조회 - entryId: {}, voteType: {}, count: {}", entryId, voteType, count);
-        return count;
-    }
-
-    private List<RankingEntryResponse> buildCampusEntryResponsesFromEntries(List<RankingEntry> entries, String campus, String sortType) {
-        // RankingEntry를 정렬 기준에 따라 정렬
-        List<RankingEntry> sortedEntries = new ArrayList<>(entries);
-        
-        if ("newest".equals(sortType)) {
-            // 최신순: 등록일 기준 내림차순
-            sortedEntries.sort((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()));
-        } else {
-            // 기본값: 득표순 (votes_desc)
-            sortedEntries.sort((a, b) -> {
-                long votesA = getVoteCount(a.getEntryId(), Vote.VoteType.CAMPUS);
-                long votesB = getVoteCount(b.getEntryId(), Vote.VoteType.CAMPUS);
-                return Long.compare(votesB, votesA);
-            });
-        }
+    private List<RankingEntryResponse> buildCampusEntryResponsesFromEntries(List<RankingLeaderboardService.RankedEntry> rankedPage, String campus) {
+        PageContext context = loadPageContext(rankedPage);
         
-        // 정렬된 순서대로 RankingEntryResponse 생성
+        // 리더보드 순서대로 RankingEntryResponse 생성
         List<RankingEntryResponse> rankedEntries = new ArrayList<>();
-        for (int i = 0; i < sortedEntries.size(); i++) {
-            RankingEntry entry = sortedEntries.get(i);
-            Mascot mascot = getMascotById(entry.getMascotId());
-            User owner = getUserById(mascot.getUserId());
-            long voteCount = getVoteCount(entry.getEntryId(), Vote.VoteType.CAMPUS);
+        for (RankingLeaderboardService.RankedEntry ranked : rankedPage) {
+            RankingEntry entry = context.entries().get(ranked.entryId());
+            if (entry == null) continue; // 조회 사이에 삭제된 엔트리
+            Mascot mascot = context.mascots().get(entry.getMascotId());
+            if (mascot == null) continue;
+            User owner = context.owners().get(mascot.getUserId());
+            if (owner == null) continue;
+            long voteCount = ranked.voteCount();
             
             // 새로 등록한 엔트리(이미지 업로드)인지 확인
             if (entry.getImageUrl() != null && entry.getImageUrl().contains("/uploads/ranking/")) {
@@ -408,7 +334,7 @@ public class RankingServiceImpl implements RankingService {
                 RankingEntryResponse rankedEntry = RankingEntryResponse.fromWithEntry(
                     mascot,
                     null, // 스냅샷 없음
-                    Integer.valueOf(i + 1), // 실제 순위
+                    Integer.valueOf(ranked.rank()), // 실제 순위
                     owner.getNickname(),
                     null, // schoolName
                     null, // schoolId
@@ -434,7 +360,7 @@ public class RankingServiceImpl implements RankingService {
                 RankingEntryResponse rankedEntry = RankingEntryResponse.fromWithEntry(
                     mascot,
                     snapshot,
-                    Integer.valueOf(i + 1), // 실제 순위
+                    Integer.valueOf(ranked.rank()), // 실제 순위
                     owner.getNickname(),
                     null, // schoolName
                     null, // schoolId
@@ -456,29 +382,19 @@ public class RankingServiceImpl implements RankingService {
         return new ArrayList<>();
     }
 
-    private List<RankingEntryResponse> buildNationalEntryResponsesFromEntries(List<RankingEntry> entries, String sortType) {
-        // RankingEntry를 정렬 기준에 따라 정렬
-        List<RankingEntry> sortedEntries = new ArrayList<>(entries);
-        
-        if ("newest".equals(sortType)) {
-            // 최신순: 등록일 기준 내림차순
-            sortedEntries.sort((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()));
-        } else {
-            // 기본값: 득표순 (votes_desc)
-            sortedEntries.sort((a, b) -> {
-                long votesA = getVoteCount(a.getEntryId(), Vote.VoteType.NATIONAL);
-                long votesB = getVoteCount(b.getEntryId(), Vote.VoteType.NATIONAL);
-                return Long.compare(votesB, votesA);
-            });
-        }
+    private List<RankingEntryResponse> buildNationalEntryResponsesFromEntries(List<RankingLeaderboardService.RankedEntry> rankedPage) {
+        PageContext context = loadPageContext(rankedPage);
         
-        // 정렬된 순서대로 RankingEntryResponse 생성
+        // 리더보드 순서대로 RankingEntryResponse 생성
         List<RankingEntryResponse> rankedEntries = new ArrayList<>();
-        for (int i = 0; i < sortedEntries.size(); i++) {
-            RankingEntry entry = sortedEntries.get(i);
-            Mascot mascot = getMascotById(entry.getMascotId());
-            User owner = getUserById(mascot.getUserId());
-            long voteCount = getVoteCount(entry.getEntryId(), Vote.VoteType.NATIONAL);
+        for (RankingLeaderboardService.RankedEntry ranked : rankedPage) {
+            RankingEntry entry = context.entries().get(ranked.entryId());
+            if (entry == null) continue; // 조회 사이에 삭제된 엔트리
+            Mascot mascot = context.mascots().get(entry.getMascotId());
+            if (mascot == null) continue;
+            User owner = context.owners().get(mascot.getUserId());
+            if (owner == null) continue;
+            long voteCount = ranked.voteCount();
             
             // 새로 등록한 엔트리(이미지 업로드)인지 확인
             if (entry.getImageUrl() != null && entry.getImageUrl().contains("/uploads/ranking/")) {
@@ -486,7 +402,7 @@ public class RankingServiceImpl implements RankingService {
                 RankingEntryResponse rankedEntry = RankingEntryResponse.fromWithEntry(
                     mascot,
                     null, // 스냅샷 없음
-                    Integer.valueOf(i + 1), // 실제 순위
+                    Integer.valueOf(ranked.rank()), // 실제 순위
                     owner.getNickname(),
                     owner.getCampus(),
                     null, // schoolId
@@ -497,7 +413,7 @@ public class RankingServiceImpl implements RankingService {
                     entry.getEntryId() // 랭킹 엔트리 ID
                 );
                 rankedEntries.add(rankedEntry);
-                            } else {
+            } else {
                 // 기존 스냅샷 기반 엔트리: 스냅샷 조회
                 MascotSnapshot snapshot = mascotSnapshotRepository.findByMascotIdOrderByCreatedAtDesc(mascot.getId())
                     .stream()
@@ -512,7 +428,7 @@ public class RankingServiceImpl implements RankingService {
                 RankingEntryResponse rankedEntry = RankingEntryResponse.fromWithEntry(
                     mascot,
                     null, // 스냅샷 없음
-                    Integer.valueOf(i + 1), // 실제 순위
+                    Integer.valueOf(ranked.rank()), // 실제 순위
                     owner.getNickname(),
                     owner.getCampus(),
                     null, // schoolId
@@ -534,6 +450,27 @@ public class RankingServiceImpl implements RankingService {
         return new ArrayList<>();
     }
 
+    /**
+     * 페이지에 포함된 엔트리/마스코트/소유자를 일괄 조회
+     */
+    private PageContext loadPageContext(List<RankingLeaderboardService.RankedEntry> rankedPage) {
+        List<Long> entryIds = rankedPage.stream().map(RankingLeaderboardService.RankedEntry::entryId).toList();
+        Map<Long, RankingEntry> entries = rankingEntryRepository.findAllById(entryIds).stream()
+            .collect(Collectors.toMap(RankingEntry::getEntryId, Function.identity()));
+
+        List<Long> mascotIds = entries.values().stream().map(RankingEntry::getMascotId).distinct().toList();
+        Map<Long, Mascot> mascots = mascotRepository.findAllById(mascotIds).stream()
+            .collect(Collectors.toMap(Mascot::getId, Function.identity()));
+
+        List<Long> ownerIds = mascots.values().stream().map(Mascot::getUserId).distinct().toList();
+        Map<Long, User> owners = userRepository.findAllById(ownerIds).stream()
+            .collect(Collectors.toMap(User::getUserId, Function.identity()));
+
+        return new PageContext(entries, mascots, owners);
+    }
+
+    private record PageContext(Map<Long, RankingEntry> entries, Map<Long, Mascot> mascots, Map<Long, User> owners) {}
+
     private User getUserById(Long userId) {
         return userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException("사용자를 찾을 수 없습니다."));
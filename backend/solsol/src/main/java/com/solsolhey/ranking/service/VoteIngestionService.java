@@ -0,0 +1,574 @@
+package com.solsolhey.ranking.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solsolhey.common.quota.DailyQuota;
+import com.solsolhey.common.quota.DailyQuotaService;
+import com.solsolhey.ranking.entity.Vote;
+import com.solsolhey.ranking.event.VoteCastEvent;
+import com.solsolhey.ranking.repository.VoteRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 투표 적재 파이프라인 (write-behind)
+ * - 일일 투표 한도 / 멱등키 / 진행 중 중복 투표를 메모리에서 판정하여 접수
+ * - 접수된 투표는 유한 큐에 쌓이고, 전용 스레드가 JDBC 배치로 votes 테이블에 기록
+ * - 큐가 가득 차면 접수를 거절(backpressure)하고, 종료 시 남은 투표를 모두 기록
+ * - 배치가 실패하면 건별로 다시 기록하고, 제약 위반이거나 재시도 한도를 넘긴 투표는 큐에서 빼내 큐를 막지 않음
+ * - 접수 완료 응답을 보낸 투표는 잃지 않도록 보관 파일(spill-dir)에 남김
+ *   - 종료 시 남은 투표, 재시도 한도를 넘긴 투표: pending.jsonl → 다음 기동 시 재적재
+ *   - 제약 위반 투표(재시도해도 기록 불가): dead-letter.jsonl → 운영자 확인용, 재적재하지 않음
+ *   - 남는 투표는 DB 가 기록을 거부한 것이므로 DB 테이블이 아닌 로컬 파일에 보관
+ * - 득표 카운터 반영과 VoteCastEvent 는 votes 테이블 기록 트랜잭션 안에서 수행 (커밋된 투표만 집계)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VoteIngestionService {
+
+    private static final String PENDING_FILE = "pending.jsonl";
+    private static final String DEAD_LETTER_FILE = "dead-letter.jsonl";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO votes (entry_id, mascot_id, voter_id, vote_type, weight, idempotency_key, campus_id, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // 일일 투표 제한 (교내: 10회, 전국: 5회)
+    private static final int DAILY_CAMPUS_VOTE_LIMIT = 10;
+    private static final int DAILY_NATIONAL_VOTE_LIMIT = 5;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final VoteRepository voteRepository;
+    private final DailyQuotaService dailyQuotaService;
+    private final VoteTallyService voteTallyService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${vote.ingestion.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${vote.ingestion.batch-size:200}")
+    private int batchSize;
+
+    @Value("${vote.ingestion.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    @Value("${vote.ingestion.idempotency-cache-size:50000}")
+    private int idempotencyCacheSize;
+
+    @Value("${vote.ingestion.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${vote.ingestion.spill-dir:data/vote-spill}")
+    private String spillDir;
+
+    private final ObjectMapper spillMapper = new ObjectMapper();
+    private final Object spillLock = new Object();
+
+    private BlockingQueue<PendingVote> queue;
+    private Map<String, Boolean> recentIdempotencyKeys;
+    private ScheduledExecutorService flusher;
+
+    // 플러시 실패 시 재시도 대기 (플러시 스레드 전용)
+    private final ConcurrentLinkedDeque<PendingVote> retryBuffer = new ConcurrentLinkedDeque<>();
+
+    // 기록 전(큐/재시도 대기) 투표의 (투표자, 엔트리, 타입) 키
+    private final Set<String> inFlightVoteKeys = ConcurrentHashMap.newKeySet();
+
+    // 투표 타입별 투표자 당일(KST) 투표 수
+    private final Map<Vote.VoteType, DailyQuota> dailyQuotas = new EnumMap<>(Vote.VoteType.class);
+
+    private volatile boolean accepting = true;
+
+    // 통계 정보
+    private final AtomicLong totalAccepted = new AtomicLong(0);
+    private final AtomicLong rejectedBackpressure = new AtomicLong(0);
+    private final AtomicLong rejectedDuplicate = new AtomicLong(0);
+    private final AtomicLong rejectedQuota = new AtomicLong(0);
+    private final AtomicLong totalFlushed = new AtomicLong(0);
+    private final AtomicLong totalBatches = new AtomicLong(0);
+    private final AtomicLong totalFlushFailures = new AtomicLong(0);
+    private final AtomicLong totalRowRetries = new AtomicLong(0);
+    private final AtomicLong totalDeadLettered = new AtomicLong(0);
+    private final AtomicLong totalSpilled = new AtomicLong(0);
+    private final AtomicLong totalReplayed = new AtomicLong(0);
+    private volatile long lastFlushMillis = 0L;
+
+    @PostConstruct
+    public void init() {
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.recentIdempotencyKeys = Collections.synchronizedMap(new LinkedHashMap<String, Boolean>(1024, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > idempotencyCacheSize;
+            }
+        });
+        seedIdempotencyKeys();
+        for (Vote.VoteType voteType : Vote.VoteType.values()) {
+            dailyQuotas.put(voteType, dailyQuotaService.register("vote." + voteType.name(),
+                    (voterId, day) -> (int) voteRepository.countVotesByVoterBetween(voterId, voteType,
+                            dailyQuotaService.startOfDayInServerZone(day), dailyQuotaService.endOfDayInServerZone(day))));
+        }
+        replaySpilled();
+
+        this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "vote-ingestion-flusher");
+            t.setDaemon(true);
+            return t;
+        });
+        flusher.scheduleWithFixedDelay(this::flushSafely, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        log.info("VoteIngestionService 초기화 완료 - queueCapacity: {}, batchSize: {}, flushInterval: {}ms",
+                queueCapacity, batchSize, flushIntervalMs);
+    }
+
+    /**
+     * 투표 접수
+     * 멱등키 → 진행 중 중복 → 일일 한도 → 큐 적재 순으로 판정하며, 실패 시 앞서 잡은 예약을 되돌림
+     */
+    public Admission submit(Long entryId, Long mascotId, Long voterId, Vote.VoteType voteType,
+                            Integer weight, String idempotencyKey, Long campusId) {
+        if (!accepting) {
+            rejectedBackpressure.incrementAndGet();
+            return Admission.REJECTED_BACKPRESSURE;
+        }
+
+        if (idempotencyKey != null && recentIdempotencyKeys.putIfAbsent(idempotencyKey, Boolean.TRUE) != null) {
+            rejectedDuplicate.incrementAndGet();
+            return Admission.DUPLICATE_IDEMPOTENCY_KEY;
+        }
+
+        String voteKey = voteKey(voterId, entryId, voteType);
+        if (!inFlightVoteKeys.add(voteKey)) {
+            releaseIdempotencyKey(idempotencyKey);
+            rejectedDuplicate.incrementAndGet();
+            return Admission.ALREADY_VOTED;
+        }
+
+        DailyQuota daily = dailyQuotas.get(voteType);
+        if (!daily.tryAcquire(voterId, dailyLimit(voteType))) {
+            inFlightVoteKeys.remove(voteKey);
+            releaseIdempotencyKey(idempotencyKey);
+            rejectedQuota.incrementAndGet();
+            return Admission.DAILY_LIMIT_REACHED;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        PendingVote vote = new PendingVote(entryId, mascotId, voterId, voteType,
+                weight != null ? weight : 1, idempotencyKey, campusId, now, 0, false);
+        if (!queue.offer(vote)) {
+            daily.release(voterId);
+            inFlightVoteKeys.remove(voteKey);
+            releaseIdempotencyKey(idempotencyKey);
+            rejectedBackpressure.incrementAndGet();
+            log.warn("투표 적재 큐 포화 - depth: {}, capacity: {}", queue.size(), queueCapacity);
+            return Admission.REJECTED_BACKPRESSURE;
+        }
+
+        totalAccepted.incrementAndGet();
+        return Admission.ACCEPTED;
+    }
+
+    /**
+     * 일일 투표 한도 도달 여부 (메모리 카운터 기준)
+     */
+    public boolean hasReachedDailyLimit(Long voterId, Vote.VoteType voteType) {
+        return dailyQuotas.get(voteType).current(voterId) >= dailyLimit(voteType);
+    }
+
+    /**
+     * 기록 대기 중인 투표가 있는지 확인 (DB 반영 전 중복 판정용)
+     */
+    public boolean isInFlight(Long voterId, Long entryId, Vote.VoteType voteType) {
+        return inFlightVoteKeys.contains(voteKey(voterId, entryId, voteType));
+    }
+
+    /**
+     * 최근 접수된 멱등키인지 확인
+     */
+    public boolean isRecentIdempotencyKey(String idempotencyKey) {
+        return idempotencyKey != null && recentIdempotencyKeys.containsKey(idempotencyKey);
+    }
+
+    /**
+     * 파이프라인 상태 정보 조회
+     */
+    public IngestionStatus getStatus() {
+        int depth = queue.size();
+        return new IngestionStatus(
+                depth,
+                queueCapacity,
+                queueCapacity > 0 ? (double) depth / queueCapacity : 0.0,
+                retryBuffer.size(),
+                totalAccepted.get(),
+                rejectedBackpressure.get(),
+                rejectedDuplicate.get(),
+                rejectedQuota.get(),
+                totalFlushed.get(),
+                totalBatches.get(),
+                totalFlushFailures.get(),
+                totalRowRetries.get(),
+                totalDeadLettered.get(),
+                totalSpilled.get(),
+                totalReplayed.get(),
+                lastFlushMillis
+        );
+    }
+
+    /**
+     * 종료 시 큐에 남은 투표를 모두 기록하고, 기록하지 못한 투표는 보관 파일에 남김
+     */
+    @PreDestroy
+    public void shutdown() {
+        accepting = false;
+        flusher.shutdown();
+        try {
+            if (!flusher.awaitTermination(10, TimeUnit.SECONDS)) {
+                flusher.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        int attempts = 0;
+        while ((!queue.isEmpty() || !retryBuffer.isEmpty()) && attempts++ < 5) {
+            flushSafely();
+        }
+        List<PendingVote> remaining = new ArrayList<>(retryBuffer);
+        retryBuffer.clear();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            if (spill(PENDING_FILE, remaining)) {
+                log.warn("종료 시 미기록 투표 보관 - {}건, 다음 기동 시 재적재", remaining.size());
+            } else {
+                remaining.forEach(v -> logLost(v, "종료 시 보관 실패"));
+            }
+        } else {
+            log.info("VoteIngestionService 종료 - 누적 기록 투표 수: {}", totalFlushed.get());
+        }
+    }
+
+    private synchronized void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("투표 배치 기록 중 오류", e);
+        }
+    }
+
+    private void flush() {
+        while (true) {
+            List<PendingVote> batch = new ArrayList<>(batchSize);
+            while (batch.size() < batchSize && !retryBuffer.isEmpty()) {
+                batch.add(retryBuffer.pollFirst());
+            }
+            queue.drainTo(batch, batchSize - batch.size());
+            if (batch.isEmpty()) return;
+
+            long started = System.currentTimeMillis();
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, v) -> bind(ps, v));
+                    batch.forEach(this::publishStored);
+                });
+            } catch (Exception e) {
+                totalFlushFailures.incrementAndGet();
+                log.warn("투표 배치 기록 실패 - 건별 재시도: {}건, 원인: {}", batch.size(), e.getMessage());
+                flushRowByRow(batch);
+                return; // 재시도 대기분은 다음 주기에 처리
+            }
+
+            for (PendingVote v : batch) {
+                inFlightVoteKeys.remove(voteKey(v.voterId(), v.entryId(), v.voteType()));
+            }
+            totalFlushed.addAndGet(batch.size());
+            totalBatches.incrementAndGet();
+            lastFlushMillis = System.currentTimeMillis() - started;
+            log.debug("투표 배치 기록 완료 - {}건, {}ms", batch.size(), lastFlushMillis);
+        }
+    }
+
+    /**
+     * 실패한 배치를 건별 트랜잭션으로 기록
+     * - 제약 위반은 재시도해도 성공할 수 없으므로 즉시 폐기
+     * - 그 외 실패는 시도 횟수를 올려 재시도 대기열 뒤쪽으로 보내고, 한도(max-attempts)를 넘기면 폐기
+     * - 한 건도 기록되지 않았다면 DB 장애로 보고 시도 횟수를 올리지 않은 채 순서대로 되돌림
+     */
+    private void flushRowByRow(List<PendingVote> batch) {
+        boolean anyStored = false;
+        List<PendingVote> failed = new ArrayList<>();
+        List<Exception> causes = new ArrayList<>();
+        for (PendingVote v : batch) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, v));
+                    publishStored(v);
+                });
+                inFlightVoteKeys.remove(voteKey(v.voterId(), v.entryId(), v.voteType()));
+                totalFlushed.incrementAndGet();
+                anyStored = true;
+            } catch (DataIntegrityViolationException e) {
+                discard(v, e);
+            } catch (Exception e) {
+                failed.add(v);
+                causes.add(e);
+            }
+        }
+
+        if (!anyStored) {
+            for (int i = failed.size() - 1; i >= 0; i--) {
+                retryBuffer.addFirst(failed.get(i));
+            }
+            return;
+        }
+        for (int i = 0; i < failed.size(); i++) {
+            PendingVote retry = failed.get(i).nextAttempt();
+            if (retry.attempts() >= maxAttempts) {
+                deadLetter(retry, causes.get(i));
+            } else {
+                totalRowRetries.incrementAndGet();
+                retryBuffer.addLast(retry);
+            }
+        }
+    }
+
+    /**
+     * 재시도 한도를 넘긴 투표를 보관 파일로 옮김 (다음 기동 시 재적재)
+     * - 접수 완료된 투표이므로 예약(진행 중 키, 일일 한도, 멱등키)은 유지
+     * - 이미 한 번 재적재된 투표가 다시 한도를 넘기면 기록 불가로 보고 폐기
+     */
+    private void deadLetter(PendingVote v, Exception cause) {
+        if (v.replayed() || !spill(PENDING_FILE, List.of(v))) {
+            discard(v, cause);
+            return;
+        }
+        totalDeadLettered.incrementAndGet();
+        log.warn("투표 기록 재시도 한도 초과 - 보관 후 다음 기동 시 재적재 - entryId: {}, voterId: {}, 시도: {}회, 원인: {}",
+                v.entryId(), v.voterId(), v.attempts(), cause.getMessage());
+    }
+
+    /**
+     * 기록할 수 없는 투표 폐기 - dead-letter 파일에 남기고 예약(진행 중 키, 일일 한도, 멱등키)을 되돌려 재투표가 가능하도록 함
+     */
+    private void discard(PendingVote v, Exception cause) {
+        totalDeadLettered.incrementAndGet();
+        inFlightVoteKeys.remove(voteKey(v.voterId(), v.entryId(), v.voteType()));
+        dailyQuotas.get(v.voteType()).release(v.voterId());
+        releaseIdempotencyKey(v.idempotencyKey());
+        spill(DEAD_LETTER_FILE, List.of(v));
+        logLost(v, cause.getMessage());
+    }
+
+    private void logLost(PendingVote v, String cause) {
+        log.error("투표 기록 포기(dead-letter) - entryId: {}, voterId: {}, voteType: {}, idempotencyKey: {}, 시도: {}회, 원인: {}",
+                v.entryId(), v.voterId(), v.voteType(), v.idempotencyKey(), Math.max(1, v.attempts()), cause);
+    }
+
+    /**
+     * 보관 파일에 투표 추가 (한 줄에 하나씩 JSON)
+     */
+    private boolean spill(String fileName, Collection<PendingVote> votes) {
+        synchronized (spillLock) {
+            try {
+                Path file = Path.of(spillDir).resolve(fileName);
+                Files.createDirectories(file.toAbsolutePath().getParent());
+                try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                    for (PendingVote v : votes) {
+                        writer.write(spillMapper.writeValueAsString(SpilledVote.of(v)));
+                        writer.newLine();
+                    }
+                }
+                if (PENDING_FILE.equals(fileName)) {
+                    totalSpilled.addAndGet(votes.size());
+                }
+                return true;
+            } catch (IOException e) {
+                log.error("투표 보관 파일 기록 실패 - file: {}, {}건, 원인: {}", fileName, votes.size(), e.getMessage());
+                return false;
+            }
+        }
+    }
+
+    /**
+     * 기동 시 보관된 투표를 재시도 대기열에 적재
+     * - 이미 기록된 멱등키(최근 키 캐시 기준)는 건너뜀
+     * - 당일 투표는 일일 한도를 다시 예약 (이미 접수된 투표이므로 한도와 무관하게 반영)
+     * - 적재 후 파일은 삭제하며, 종료 시까지 기록하지 못한 투표는 다시 보관됨
+     */
+    private void replaySpilled() {
+        Path file = Path.of(spillDir).resolve(PENDING_FILE);
+        if (!Files.exists(file)) return;
+        try {
+            LocalDateTime todayStart = dailyQuotaService.startOfDayInServerZone(dailyQuotaService.today());
+            int replayed = 0;
+            int skipped = 0;
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                if (line.isBlank()) continue;
+                PendingVote v = spillMapper.readValue(line, SpilledVote.class).toPendingVote();
+                if (v.idempotencyKey() != null && recentIdempotencyKeys.putIfAbsent(v.idempotencyKey(), Boolean.TRUE) != null) {
+                    skipped++;
+                    continue;
+                }
+                inFlightVoteKeys.add(voteKey(v.voterId(), v.entryId(), v.voteType()));
+                if (!v.createdAt().isBefore(todayStart)) {
+                    dailyQuotas.get(v.voteType()).tryAcquire(v.voterId(), Integer.MAX_VALUE);
+                }
+                retryBuffer.addLast(v);
+                replayed++;
+            }
+            Files.delete(file);
+            totalReplayed.addAndGet(replayed);
+            log.info("보관된 투표 재적재 - {}건 (이미 기록되어 건너뜀: {}건)", replayed, skipped);
+        } catch (IOException | RuntimeException e) {
+            log.error("보관된 투표 재적재 실패 - file: {}, 원인: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * 기록 트랜잭션 안에서 득표 카운터 반영 및 이벤트 발행 (롤백 시 카운터 복구, 리스너는 커밋 후 실행)
+     */
+    private void publishStored(PendingVote v) {
+        voteTallyService.recordVote(v.entryId(), v.voteType());
+        eventPublisher.publishEvent(new VoteCastEvent(v.entryId(), v.voteType()));
+    }
+
+    private static void bind(PreparedStatement ps, PendingVote v) throws SQLException {
+        ps.setLong(1, v.entryId());
+        ps.setLong(2, v.mascotId());
+        ps.setLong(3, v.voterId());
+        ps.setString(4, v.voteType().name());
+        ps.setInt(5, v.weight());
+        ps.setString(6, v.idempotencyKey());
+        if (v.campusId() != null) {
+            ps.setLong(7, v.campusId());
+        } else {
+            ps.setNull(7, Types.BIGINT);
+        }
+        ps.setTimestamp(8, Timestamp.valueOf(v.createdAt()));
+        ps.setTimestamp(9, Timestamp.valueOf(v.createdAt()));
+    }
+
+    private void seedIdempotencyKeys() {
+        try {
+            List<String> keys = voteRepository.findRecentIdempotencyKeys(PageRequest.of(0, idempotencyCacheSize));
+            // 오래된 키부터 넣어 최근 키가 나중에 제거되도록 함
+            for (int i = keys.size() - 1; i >= 0; i--) {
+                recentIdempotencyKeys.put(keys.get(i), Boolean.TRUE);
+            }
+            log.info("멱등키 캐시 적재 완료 - {}건", keys.size());
+        } catch (Exception e) {
+            log.warn("멱등키 캐시 적재 실패 - 빈 캐시로 시작: {}", e.getMessage());
+        }
+    }
+
+    private void releaseIdempotencyKey(String idempotencyKey) {
+        if (idempotencyKey != null) {
+            recentIdempotencyKeys.remove(idempotencyKey);
+        }
+    }
+
+    private static int dailyLimit(Vote.VoteType voteType) {
+        return voteType == Vote.VoteType.CAMPUS ? DAILY_CAMPUS_VOTE_LIMIT : DAILY_NATIONAL_VOTE_LIMIT;
+    }
+
+    private static String voteKey(Long voterId, Long entryId, Vote.VoteType voteType) {
+        return voterId + ":" + entryId + ":" + voteType.name();
+    }
+
+    /**
+     * 접수 결과
+     */
+    public enum Admission {
+        ACCEPTED,
+        DUPLICATE_IDEMPOTENCY_KEY,
+        ALREADY_VOTED,
+        DAILY_LIMIT_REACHED,
+        REJECTED_BACKPRESSURE
+    }
+
+    private record PendingVote(Long entryId, Long mascotId, Long voterId, Vote.VoteType voteType,
+                               int weight, String idempotencyKey, Long campusId, LocalDateTime createdAt,
+                               int attempts, boolean replayed) {
+        PendingVote nextAttempt() {
+            return new PendingVote(entryId, mascotId, voterId, voteType, weight, idempotencyKey, campusId, createdAt,
+                    attempts + 1, replayed);
+        }
+    }
+
+    /**
+     * 보관 파일의 한 줄
+     */
+    record SpilledVote(Long entryId, Long mascotId, Long voterId, String voteType, int weight,
+                       String idempotencyKey, Long campusId, String createdAt) {
+        static SpilledVote of(PendingVote v) {
+            return new SpilledVote(v.entryId(), v.mascotId(), v.voterId(), v.voteType().name(), v.weight(),
+                    v.idempotencyKey(), v.campusId(), v.createdAt().toString());
+        }
+
+        PendingVote toPendingVote() {
+            return new PendingVote(entryId, mascotId, voterId, Vote.VoteType.valueOf(voteType), weight,
+                    idempotencyKey, campusId, LocalDateTime.parse(createdAt), 0, true);
+        }
+    }
+
+    /**
+     * 파이프라인 상태 정보를 담는 record
+     */
+    public record IngestionStatus(
+            int queueDepth,            // 기록 대기 중인 투표 수
+            int queueCapacity,         // 큐 최대 크기
+            double queueUtilization,   // 큐 사용률 (0.0 ~ 1.0)
+            int retryPending,          // 재시도 대기 투표 수
+            long totalAccepted,        // 누적 접수 수
+            long rejectedBackpressure, // 큐 포화로 거절된 수
+            long rejectedDuplicate,    // 멱등키/중복 투표로 거절된 수
+            long rejectedQuota,        // 일일 한도로 거절된 수
+            long totalFlushed,         // 누적 기록 수
+            long totalBatches,         // 누적 배치 수
+            long totalFlushFailures,   // 배치 기록 실패 수
+            long totalRowRetries,      // 건별 재시도 대기로 보낸 수
+            long totalDeadLettered,    // 재시도 한도 초과/제약 위반으로 큐에서 빼낸 투표 수
+            long totalSpilled,         // 재적재용 보관 파일에 남긴 투표 수
+            long totalReplayed,        // 기동 시 재적재한 투표 수
+            long lastFlushMillis       // 마지막 배치 소요 시간(ms)
+    ) {}
+}
@@ -0,0 +1,44 @@
+package com.solsolhey.ranking.service;
+
+import java.util.Collection;
+import java.util.Map;
+
+import com.solsolhey.ranking.entity.Vote;
+
+/**
+ * 엔트리별 득표 수 집계 서비스 (메모리 카운터)
+ */
+public interface VoteTallyService {
+
+    /**
+     * 엔트리의 투표 타입별 득표 수 조회
+     *
+     * @param entryId 랭킹 엔트리 ID
+     * @param voteType 투표 타입
+     * @return 득표 수
+     */
+    long getVoteCount(Long entryId, Vote.VoteType voteType);
+
+    /**
+     * 여러 엔트리의 득표 수를 한 번에 조회
+     *
+     * @param entryIds 랭킹 엔트리 ID 목록
+     * @param voteType 투표 타입
+     * @return 엔트리 ID -> 득표 수
+     */
+    Map<Long, Long> getVoteCounts(Collection<Long> entryIds, Vote.VoteType voteType);
+
+    /**
+     * 투표 1건 반영 (트랜잭션 롤백 시 자동 취소)
+     *
+     * @param entryId 랭킹 엔트리 ID
+     * @param voteType 투표 타입
+     * @return 반영 후 득표 수
+     */
+    long recordVote(Long entryId, Vote.VoteType voteType);
+
+    /**
+     * votes 테이블로부터 전체 카운터 재적재
+     */
+    void reload();
+}
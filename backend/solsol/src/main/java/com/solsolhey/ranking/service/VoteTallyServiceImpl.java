@@ -0,0 +1,123 @@
+package com.solsolhey.ranking.service;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.solsolhey.ranking.entity.Vote;
+import com.solsolhey.ranking.event.RankingEntryDeletedEvent;
+import com.solsolhey.ranking.repository.VoteRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 득표 수 집계 서비스 구현체
+ * - 투표 타입별 엔트리 카운터를 AtomicLong 으로 유지
+ * - 기동 시 GROUP BY 집계 쿼리 1회로 적재
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VoteTallyServiceImpl implements VoteTallyService {
+
+    private final VoteRepository voteRepository;
+
+    private volatile Map<Vote.VoteType, ConcurrentHashMap<Long, AtomicLong>> tallies = emptyTallies();
+    private volatile boolean loaded = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    @Override
+    public synchronized void reload() {
+        Map<Vote.VoteType, ConcurrentHashMap<Long, AtomicLong>> fresh = emptyTallies();
+        long rows = 0;
+        for (Object[] row : voteRepository.countVotesGroupedByEntryAndVoteType()) {
+            Long entryId = (Long) row[0];
+            Vote.VoteType voteType = (Vote.VoteType) row[1];
+            if (entryId == null || voteType == null) continue;
+            fresh.get(voteType).put(entryId, new AtomicLong(((Number) row[2]).longValue()));
+            rows++;
+        }
+        this.tallies = fresh;
+        this.loaded = true;
+        log.info("득표 카운터 적재 완료 - 집계 행 수: {}", rows);
+    }
+
+    @Override
+    public long getVoteCount(Long entryId, Vote.VoteType voteType) {
+        if (entryId == null || voteType == null) return 0L;
+        ensureLoaded();
+        AtomicLong counter = tallies.get(voteType).get(entryId);
+        return counter != null ? counter.get() : 0L;
+    }
+
+    @Override
+    public Map<Long, Long> getVoteCounts(Collection<Long> entryIds, Vote.VoteType voteType) {
+        Map<Long, Long> result = new HashMap<>();
+        if (entryIds == null || voteType == null) return result;
+        ensureLoaded();
+        ConcurrentHashMap<Long, AtomicLong> byEntry = tallies.get(voteType);
+        for (Long entryId : entryIds) {
+            if (entryId == null) continue;
+            AtomicLong counter = byEntry.get(entryId);
+            result.put(entryId, counter != null ? counter.get() : 0L);
+        }
+        return result;
+    }
+
+    @Override
+    public long recordVote(Long entryId, Vote.VoteType voteType) {
+        ensureLoaded();
+        AtomicLong counter = tallies.get(voteType).computeIfAbsent(entryId, k -> new AtomicLong());
+        long total = counter.incrementAndGet();
+
+        // 투표 저장 트랜잭션이 롤백되면 카운터도 되돌림
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        counter.decrementAndGet();
+                    }
+                }
+            });
+        }
+        return total;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEntryDeleted(RankingEntryDeletedEvent event) {
+        for (ConcurrentHashMap<Long, AtomicLong> byEntry : tallies.values()) {
+            byEntry.remove(event.getEntryId());
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            reload();
+        }
+    }
+
+    private static Map<Vote.VoteType, ConcurrentHashMap<Long, AtomicLong>> emptyTallies() {
+        Map<Vote.VoteType, ConcurrentHashMap<Long, AtomicLong>> map = new EnumMap<>(Vote.VoteType.class);
+        for (Vote.VoteType type : Vote.VoteType.values()) {
+            map.put(type, new ConcurrentHashMap<>());
+        }
+        return map;
+    }
+}
@@ -3,6 +3,7 @@ package com.solsolhey.user.controller;
 import com.solsolhey.common.response.ApiResponse;
 import com.solsolhey.user.dto.response.UserResponse;
 import com.solsolhey.user.dto.request.UserUpdateRequest;
+import com.solsolhey.user.service.NicknameSearchIndex;
 import com.solsolhey.user.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -25,6 +26,9 @@ public class UserController {
     
     @Autowired
     private UserService userService;
+
+    @Autowired
+    private NicknameSearchIndex nicknameSearchIndex;
     
     /**
      * 사용자 정보 조회
@@ -74,6 +78,15 @@ public class UserController {
         }
     }
     
+    /**
+     * 닉네임 검색 인덱스 상태
+     */
+    @GetMapping("/search/status")
+    @Operation(summary = "닉네임 검색 인덱스 상태", description = "닉네임 검색 인덱스 적재 상태와 통계를 조회합니다")
+    public ResponseEntity<ApiResponse<NicknameSearchIndex.IndexStatus>> getSearchIndexStatus() {
+        return ResponseEntity.ok(ApiResponse.success("닉네임 검색 인덱스 상태 조회 완료", nicknameSearchIndex.getStatus()));
+    }
+
     /**
      * 사용자 정보 업데이트
      */
@@ -6,7 +6,10 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -39,6 +42,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     List<User> findByNickname(String nickname);
 
+    /**
+     * ID 목록 순서대로 사용자 조회 (없는 ID 는 제외)
+     */
+    default List<User> findAllByIdInOrder(List<Long> userIds) {
+        if (userIds.isEmpty()) return List.of();
+        Map<Long, User> byId = new HashMap<>();
+        for (User user : findAllById(userIds)) byId.put(user.getUserId(), user);
+        return userIds.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
     /**
      * 닉네임 중복 여부
      */
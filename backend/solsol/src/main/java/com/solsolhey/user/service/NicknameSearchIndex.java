@@ -0,0 +1,320 @@
+package com.solsolhey.user.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 닉네임 검색 인덱스 (메모리)
+ * - 정규화(NFC, 소문자) 닉네임의 정렬 맵으로 접두어 검색, 1·2글자 n-gram 역색인으로 부분 일치 검색
+ * - 한글 초성만 입력하면 초성 문자열 기준으로 검색 (예: "ㄱㅁㅈ" → "김민정")
+ * - 순위: 완전 일치 → 접두어 → 부분 일치, 같은 순위는 짧은 닉네임 우선
+ * - 결과 수와 검사 후보 수를 제한해 사용자 수가 늘어도 검색 비용이 일정
+ * - 가입/닉네임 변경은 트랜잭션 커밋 후 반영, 다른 인스턴스 변경은 주기적 재적재로 맞춤
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NicknameSearchIndex {
+
+    private static final String LOAD_SQL = "SELECT user_id, nickname FROM users";
+
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final char HANGUL_BASE = '가';
+    private static final char HANGUL_LAST = '힣';
+    private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;
+
+    // 정렬 맵 키 구분자 (정규화 닉네임 뒤에 붙여 사용자별로 유일하게)
+    private static final char KEY_SEPARATOR = '\u0000';
+    private static final char KEY_UPPER = '\uffff';
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${user.nickname-search.max-results:20}")
+    private int maxResults;
+
+    @Value("${user.nickname-search.max-candidates:2000}")
+    private int maxCandidates;
+
+    private volatile Tables tables = new Tables();
+    private volatile boolean ready = false;
+
+    // 적재 중 커밋된 변경 (적재 완료 후 순서대로 재적용)
+    private final Object loadLock = new Object();
+    private List<Change> changesDuringLoad;
+
+    private final AtomicLong searches = new AtomicLong();
+    private final AtomicLong changesApplied = new AtomicLong();
+    private final AtomicLong reloads = new AtomicLong();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * 전체 재적재 (다른 인스턴스 변경 반영)
+     */
+    @Scheduled(fixedDelayString = "${user.nickname-search.reload-interval-ms:600000}",
+            initialDelayString = "${user.nickname-search.reload-interval-ms:600000}")
+    public void reloadScheduled() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("닉네임 검색 인덱스 재적재 실패: {}", e.getMessage());
+        }
+    }
+
+    public synchronized void reload() {
+        synchronized (loadLock) {
+            changesDuringLoad = new ArrayList<>();
+        }
+        Tables loaded = new Tables();
+        try {
+            jdbcTemplate.query(LOAD_SQL, rs -> {
+                loaded.put(rs.getLong(1), rs.getString(2));
+            });
+        } catch (RuntimeException e) {
+            synchronized (loadLock) {
+                changesDuringLoad = null;
+            }
+            throw e;
+        }
+        synchronized (loadLock) {
+            for (Change change : changesDuringLoad) {
+                loaded.put(change.userId(), change.nickname());
+            }
+            changesDuringLoad = null;
+            tables = loaded;
+            ready = true;
+        }
+        reloads.incrementAndGet();
+        log.info("닉네임 검색 인덱스 적재 완료 - 사용자 {}명", loaded.byId.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 가입/닉네임 변경 반영 (트랜잭션이 있으면 커밋 후)
+     */
+    public void onNicknameChanged(long userId, String nickname) {
+        Change change = new Change(userId, nickname);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyLive(change);
+                }
+            });
+        } else {
+            applyLive(change);
+        }
+    }
+
+    /**
+     * 키워드에 맞는 사용자 ID (순위순, 최대 max-results 개)
+     */
+    public List<Long> search(String keyword) {
+        searches.incrementAndGet();
+        String query = normalize(keyword);
+        if (query.isEmpty()) return List.of();
+
+        Tables t = tables;
+        boolean choseongQuery = isChoseongOnly(query);
+        NavigableMap<String, Long> order = choseongQuery ? t.choseongOrder : t.nameOrder;
+
+        // 1) 완전 일치·접두어: 정렬 맵 범위 조회
+        List<Match> matches = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        for (Long userId : order.subMap(query, true, query + KEY_UPPER, true).values()) {
+            if (matches.size() >= maxCandidates) break;
+            Entry entry = t.byId.get(userId);
+            if (entry == null) continue;
+            String text = entry.text(choseongQuery);
+            if (!text.startsWith(query) || !seen.add(userId)) continue;
+            matches.add(new Match(entry, text.length() == query.length() ? 0 : 1, text.length()));
+        }
+
+        // 2) 부분 일치: 가장 짧은 n-gram 목록만 훑으며 확인
+        if (matches.size() < maxResults) {
+            Set<Long> postings = smallestPostings(t, gramsOf(query, choseongQuery));
+            int examined = 0;
+            for (Long userId : postings) {
+                if (examined++ >= maxCandidates) break;
+                if (seen.contains(userId)) continue;
+                Entry entry = t.byId.get(userId);
+                if (entry == null) continue;
+                String text = entry.text(choseongQuery);
+                if (!text.contains(query)) continue;
+                seen.add(userId);
+                matches.add(new Match(entry, 2, text.length()));
+            }
+        }
+
+        matches.sort(Comparator.comparingInt(Match::rank)
+                .thenComparingInt(Match::length)
+                .thenComparingLong(m -> m.entry().userId()));
+        return matches.stream()
+                .limit(maxResults)
+                .map(m -> m.entry().userId())
+                .toList();
+    }
+
+    public IndexStatus getStatus() {
+        Tables t = tables;
+        return new IndexStatus(ready, t.byId.size(), t.grams.size(), maxResults, maxCandidates,
+                searches.get(), changesApplied.get(), reloads.get());
+    }
+
+    private void applyLive(Change change) {
+        synchronized (loadLock) {
+            if (changesDuringLoad != null) changesDuringLoad.add(change);
+            tables.put(change.userId(), change.nickname());
+        }
+        changesApplied.incrementAndGet();
+    }
+
+    private static Set<Long> smallestPostings(Tables t, List<String> grams) {
+        Set<Long> smallest = null;
+        for (String gram : grams) {
+            Set<Long> postings = t.grams.get(gram);
+            if (postings == null) return Set.of(); // 없는 n-gram 이 있으면 일치할 수 없음
+            if (smallest == null || postings.size() < smallest.size()) smallest = postings;
+        }
+        return smallest == null ? Set.of() : smallest;
+    }
+
+    static String normalize(String s) {
+        if (s == null) return "";
+        return Normalizer.normalize(s, Normalizer.Form.NFC).strip().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 한글 음절은 초성으로, 그 외 문자는 그대로
+     */
+    static String choseongOf(String normalized) {
+        StringBuilder sb = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+                sb.append(CHOSEONG.charAt((c - HANGUL_BASE) / SYLLABLES_PER_CHOSEONG));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static boolean isChoseongOnly(String query) {
+        for (int i = 0; i < query.length(); i++) {
+            if (CHOSEONG.indexOf(query.charAt(i)) < 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * 1글자 검색용 unigram 과 2글자 이상 검색용 bigram (초성 문자열은 별도 접두어로 구분)
+     */
+    private static List<String> gramsOf(String text, boolean choseong) {
+        String prefix = choseong ? "c:" : "n:";
+        List<String> grams = new ArrayList<>();
+        if (text.length() == 1) {
+            grams.add(prefix + text);
+            return grams;
+        }
+        for (int i = 0; i + 2 <= text.length(); i++) {
+            grams.add(prefix + text.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private static Set<String> indexGramsOf(Entry entry) {
+        Set<String> grams = new HashSet<>();
+        for (boolean choseong : new boolean[]{false, true}) {
+            String text = entry.text(choseong);
+            String prefix = choseong ? "c:" : "n:";
+            for (int i = 0; i < text.length(); i++) {
+                grams.add(prefix + text.charAt(i));
+                if (i + 2 <= text.length()) grams.add(prefix + text.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 인덱스 자료구조 묶음. 쓰기는 loadLock(또는 적재 스레드 단독) 아래에서만, 읽기는 잠금 없이
+     */
+    private static final class Tables {
+        final Map<Long, Entry> byId = new ConcurrentHashMap<>();
+        final ConcurrentSkipListMap<String, Long> nameOrder = new ConcurrentSkipListMap<>();
+        final ConcurrentSkipListMap<String, Long> choseongOrder = new ConcurrentSkipListMap<>();
+        final Map<String, Set<Long>> grams = new ConcurrentHashMap<>();
+
+        void put(long userId, String nickname) {
+            Entry previous = byId.get(userId);
+            if (previous != null) {
+                nameOrder.remove(previous.normalized() + KEY_SEPARATOR + userId);
+                choseongOrder.remove(previous.choseong() + KEY_SEPARATOR + userId);
+                for (String gram : indexGramsOf(previous)) {
+                    grams.computeIfPresent(gram, (k, ids) -> {
+                        ids.remove(userId);
+                        return ids.isEmpty() ? null : ids;
+                    });
+                }
+                byId.remove(userId);
+            }
+            String normalized = normalize(nickname);
+            if (normalized.isEmpty()) return;
+            Entry entry = new Entry(userId, normalized, choseongOf(normalized));
+            byId.put(userId, entry);
+            nameOrder.put(entry.normalized() + KEY_SEPARATOR + userId, userId);
+            choseongOrder.put(entry.choseong() + KEY_SEPARATOR + userId, userId);
+            for (String gram : indexGramsOf(entry)) {
+                grams.computeIfAbsent(gram, k -> ConcurrentHashMap.newKeySet()).add(userId);
+            }
+        }
+    }
+
+    private record Entry(long userId, String normalized, String choseong) {
+        String text(boolean choseongQuery) {
+            return choseongQuery ? choseong : normalized;
+        }
+    }
+
+    private record Match(Entry entry, int rank, int length) {}
+
+    private record Change(long userId, String nickname) {}
+
+    public record IndexStatus(
+            boolean ready,
+            int users,
+            int grams,
+            int maxResults,
+            int maxCandidates,
+            long searches,
+            long changesApplied,
+            long reloads
+    ) {}
+}
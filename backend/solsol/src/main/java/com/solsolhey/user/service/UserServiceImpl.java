@@ -1,5 +1,6 @@
 package com.solsolhey.user.service;
 
+import com.solsolhey.auth.service.AuthenticatedPrincipalCache;
 import com.solsolhey.user.dto.response.UserResponse;
 import com.solsolhey.user.dto.request.UserUpdateRequest;
 import com.solsolhey.user.entity.User;
@@ -23,6 +24,12 @@ public class UserServiceImpl implements UserService {
     
     @Autowired
     private UserRepository userRepository;
+
+    @Autowired
+    private NicknameSearchIndex nicknameSearchIndex;
+
+    @Autowired
+    private AuthenticatedPrincipalCache principalCache;
     
     @Override
     public UserResponse getUserById(Long userId) {
@@ -42,7 +49,10 @@ public class UserServiceImpl implements UserService {
     
     @Override
     public List<UserResponse> searchUsersByNickname(String nickname) {
-        List<User> users = userRepository.findByNickname(nickname);
+        // 인덱스 적재 전에는 기존 완전 일치 조회
+        List<User> users = nicknameSearchIndex.isReady()
+                ? userRepository.findAllByIdInOrder(nicknameSearchIndex.search(nickname))
+                : userRepository.findByNickname(nickname);
         return users.stream()
                    .map(this::convertToUserResponse)
                    .collect(Collectors.toList());
@@ -56,6 +66,7 @@ public class UserServiceImpl implements UserService {
         
         if (request.nickname() != null && !request.nickname().isBlank()) {
             user.updateNickname(request.nickname());
+            nicknameSearchIndex.onNicknameChanged(user.getUserId(), request.nickname());
         }
         
         User savedUser = userRepository.save(user);
@@ -98,6 +109,7 @@ public class UserServiceImpl implements UserService {
         
         user.deactivate();
         userRepository.save(user);
+        principalCache.invalidateUser(userId);
         
         log.info("사용자 {} 계정이 비활성화되었습니다", userId);
     }
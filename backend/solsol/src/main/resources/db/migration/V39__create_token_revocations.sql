@@ -0,0 +1,10 @@
+-- Append-only JWT revocation log (logout). Each node tails it into its in-memory blacklist.
+-- token_digest: first 128 bits of SHA-256(token) as lowercase hex, expires_at: token expiry (epoch millis)
+CREATE TABLE IF NOT EXISTS token_revocations (
+    revocation_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    token_digest CHAR(32) NOT NULL,
+    expires_at BIGINT NOT NULL,
+    revoked_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS ix_token_revocations_expires_at ON token_revocations(expires_at);
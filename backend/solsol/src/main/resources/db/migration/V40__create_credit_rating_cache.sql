@@ -0,0 +1,12 @@
+-- 신용등급 조회 결과 캐시 (financeUserKey 당 최신 1건). 재기동 후에도 외부 재조회 없이 제공하기 위함
+-- fetched_at: 외부 조회 시각 (epoch millis)
+CREATE TABLE IF NOT EXISTS credit_rating_cache (
+    finance_user_key VARCHAR(100) PRIMARY KEY,
+    rating_name VARCHAR(50),
+    demand_deposit_asset_value VARCHAR(50),
+    deposit_savings_asset_value VARCHAR(50),
+    total_asset_value VARCHAR(50),
+    fetched_at BIGINT NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS ix_credit_rating_cache_fetched_at ON credit_rating_cache(fetched_at);
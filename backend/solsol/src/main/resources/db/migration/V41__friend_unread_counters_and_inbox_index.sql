@@ -0,0 +1,22 @@
+-- 사용자별 읽지 않은 친구 상호작용 수 (알림 배지 조회용, 상호작용 생성/읽음/모두 읽음 시 갱신)
+-- 행이 없으면 0 으로 취급
+CREATE TABLE IF NOT EXISTS friend_unread_counters (
+    user_id      BIGINT PRIMARY KEY,
+    unread_count INT NOT NULL DEFAULT 0,
+    updated_at   TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+ALTER TABLE friend_unread_counters
+    ADD CONSTRAINT fk_friend_unread_counters_user
+        FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE;
+
+-- 기존 데이터 기준 초기값
+INSERT INTO friend_unread_counters (user_id, unread_count)
+SELECT to_user_id, COUNT(*) FROM friend_interactions WHERE is_read = FALSE GROUP BY to_user_id;
+
+-- 받은 상호작용 목록 커서 페이지네이션 (to_user_id, is_read) 범위에서 (created_at, interaction_id) 역순
+CREATE INDEX IF NOT EXISTS ix_friend_interactions_inbox
+    ON friend_interactions(to_user_id, is_read, created_at DESC, interaction_id DESC);
+
+-- 위 인덱스의 선두 컬럼과 겹치므로 제거
+DROP INDEX IF EXISTS ix_friend_interactions_to_user;
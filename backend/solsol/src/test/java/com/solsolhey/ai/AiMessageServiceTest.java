@@ -0,0 +1,117 @@
+package com.solsolhey.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.solsolhey.ai.gemini.GeminiGateway;
+import com.solsolhey.ai.model.AcademicContext;
+import com.solsolhey.challenge.repository.ChallengeRepository;
+import com.solsolhey.mascot.repository.MascotRepository;
+
+class AiMessageServiceTest {
+
+    private static final String COHORT_A = "major=미대, role=freshman, time=오전/오후, pattern=백투백";
+    private static final String COHORT_B = "major=공대, role=graduating, time=오후";
+
+    private GeminiGateway gemini;
+    private ContextLoader contextLoader;
+    private AiSpeechCache speechCache;
+    private AiMessageService service;
+
+    @BeforeEach
+    void setUp() {
+        gemini = mock(GeminiGateway.class);
+        when(gemini.isCallPermitted()).thenReturn(true);
+        when(gemini.generateText(anyString())).thenReturn("과제 먼저 끝내자");
+
+        // 학사 항목이 하나씩이라 무작위 선택과 포커스가 결정적
+        contextLoader = mock(ContextLoader.class);
+        when(contextLoader.getAcademicContext()).thenReturn(Optional.of(new AcademicContext(
+                List.of(new AcademicContext.Event("알고리즘 과제", "2025-09-02T23:59:00", "ASSIGNMENT", "알고리즘")),
+                List.of(new AcademicContext.Today("자료구조 강의", "2025-08-30T10:00:00", "2025-08-30T11:15:00", "302호")),
+                List.of(new AcademicContext.Notice("수강신청 변경 안내", "2025-08-29T09:00:00")))));
+        when(contextLoader.getUserFacets(anyLong())).thenReturn(Optional.empty());
+
+        speechCache = new AiSpeechCache();
+        ReflectionTestUtils.setField(speechCache, "ttlSeconds", 600L);
+        ReflectionTestUtils.setField(speechCache, "variety", 1);
+        ReflectionTestUtils.setField(speechCache, "maxKeys", 100);
+
+        BanmalNormalizer normalizer = mock(BanmalNormalizer.class);
+        when(normalizer.normalize(anyString())).thenAnswer(inv -> inv.getArgument(0));
+
+        // 챌린지가 없어 항상 학사 멘트로 귀결
+        service = new AiMessageService(gemini, new AcademicDummyProvider(), contextLoader, new PromptBuilder(),
+                mock(MascotRepository.class), mock(ChallengeRepository.class), speechCache, normalizer);
+    }
+
+    @Test
+    @DisplayName("패싯이 같은 두 사용자는 공유 캐시를 적중해 모델을 한 번만 호출")
+    void sameFacetsShareGeneration() {
+        when(contextLoader.getUserSummary(1L)).thenReturn(Optional.of(COHORT_A));
+        when(contextLoader.getUserSummary(3L)).thenReturn(Optional.of(COHORT_A));
+
+        assertThat(service.generateSpeech(1L).getMessage()).isEqualTo("과제 먼저 끝내자");
+        AiMessageService.PreparedSpeech second = service.prepareSpeech(3L);
+
+        assertThat(second.isReady()).isTrue();
+        assertThat(second.cached()).isTrue();
+        assertThat(second.text()).isEqualTo("과제 먼저 끝내자");
+        verify(gemini, times(1)).generateText(anyString());
+        assertThat(speechCache.getStatus().hits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("패싯이 다르면 다른 키라서 공유하지 않음")
+    void differentFacetsDoNotShare() {
+        when(contextLoader.getUserSummary(1L)).thenReturn(Optional.of(COHORT_A));
+        when(contextLoader.getUserSummary(2L)).thenReturn(Optional.of(COHORT_B));
+
+        service.generateSpeech(1L);
+        AiMessageService.PreparedSpeech other = service.prepareSpeech(2L);
+
+        assertThat(other.isReady()).isFalse();
+        assertThat(other.cacheKey()).isNotNull();
+        assertThat(other.prompt()).contains(COHORT_B);
+    }
+
+    @Test
+    @DisplayName("소셜 언급 금지 사용자는 패싯이 같아도 별도 키")
+    void avoidSocialIsPartOfKey() {
+        when(contextLoader.getUserSummary(1L)).thenReturn(Optional.of(COHORT_A));
+        when(contextLoader.getUserSummary(3L)).thenReturn(Optional.of(COHORT_A));
+        when(contextLoader.userNotesSuggestAvoidSocial(3L)).thenReturn(true);
+
+        service.generateSpeech(1L);
+
+        assertThat(service.prepareSpeech(3L).isReady()).isFalse();
+    }
+
+    @Test
+    @DisplayName("호출이 막혀 있으면 폴백 멘트는 캐시에 저장하지 않음")
+    void fallbackIsNotCached() {
+        when(contextLoader.getUserSummary(anyLong())).thenReturn(Optional.of(COHORT_A));
+        when(gemini.isCallPermitted()).thenReturn(false);
+
+        AiMessageService.PreparedSpeech prepared = service.prepareSpeech(1L);
+
+        assertThat(prepared.isReady()).isTrue();
+        assertThat(prepared.cached()).isFalse();
+        assertThat(speechCache.getStatus().stores()).isZero();
+        verify(gemini, never()).generateText(anyString());
+    }
+}
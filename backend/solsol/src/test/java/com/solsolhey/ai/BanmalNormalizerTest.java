@@ -0,0 +1,79 @@
+package com.solsolhey.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 말투 정규화 골든 코퍼스 테스트 (src/test/resources/ai/banmal-golden.tsv)
+ * 규칙 파일을 바꾸면 코퍼스의 기대 출력도 함께 검토해야 함
+ */
+class BanmalNormalizerTest {
+
+    private BanmalNormalizer normalizer;
+
+    @BeforeEach
+    void setUp() {
+        normalizer = new BanmalNormalizer();
+        ReflectionTestUtils.setField(normalizer, "rulesResource", new ClassPathResource("ai/banmal-rules.txt"));
+        normalizer.init();
+    }
+
+    @ParameterizedTest(name = "[{index}] {0}")
+    @MethodSource("goldenCorpus")
+    @DisplayName("골든 코퍼스: 입력별 기대 출력과 일치")
+    void normalizesGoldenCorpus(String input, String expected) {
+        assertThat(normalizer.normalize(input)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest(name = "[{index}] {0}")
+    @MethodSource("goldenCorpus")
+    @DisplayName("골든 코퍼스: 조각 단위 스트리밍 결과가 한 번에 정규화한 결과와 같음")
+    void streamingMatchesBatch(String input, String expected) {
+        for (int chunkSize : new int[] {1, 2, 5}) {
+            BanmalNormalizer.StreamSession session = normalizer.openStream();
+            StringBuilder streamed = new StringBuilder();
+            for (int i = 0; i < input.length(); i += chunkSize) {
+                streamed.append(session.append(input.substring(i, Math.min(input.length(), i + chunkSize))));
+            }
+            String rest = session.finish();
+            String result = rest == null ? session.text() : streamed.append(rest).toString();
+            assertThat(result).as("chunk size %d", chunkSize).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("null 과 공백 입력은 빈 문자열")
+    void emptyInput() {
+        assertThat(normalizer.normalize(null)).isEmpty();
+        assertThat(normalizer.normalize("   \n ")).isEmpty();
+    }
+
+    static List<Arguments> goldenCorpus() throws IOException {
+        List<Arguments> cases = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource("ai/banmal-golden.tsv").getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) continue;
+                String[] cols = line.split("\t", -1);
+                cases.add(Arguments.of(cols[0].replace("\\n", "\n"), cols[1]));
+            }
+        }
+        return cases;
+    }
+}
@@ -0,0 +1,122 @@
+package com.solsolhey.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.solsolhey.ai.model.AcademicContext;
+
+class ContextLoaderTest {
+
+    @TempDir
+    Path dataDir;
+
+    private ContextLoader loader;
+
+    @AfterEach
+    void tearDown() {
+        if (loader != null) loader.shutdown();
+    }
+
+    @Test
+    @DisplayName("스냅샷은 한 번만 구성되어 조회마다 같은 인스턴스를 반환")
+    void servesPrebuiltSnapshot() throws IOException {
+        writeAcademic("과제 제출");
+        writeUser("userA.json", "공대", "freshman");
+        loader = newLoader(false);
+
+        AcademicContext first = loader.getAcademicContext().orElseThrow();
+        assertThat(loader.getAcademicContext()).containsSame(first);
+        assertThat(first.upcomingEvents()).extracting(AcademicContext.Event::title).contains("과제 제출");
+        assertThat(loader.getUserSummary(2L)).contains("major=공대, role=freshman");
+        assertThat(loader.getUserFacets(2L).orElseThrow().roleHint).isEqualTo("기초 다지기");
+        assertThat(loader.userNotesSuggestAvoidSocial(2L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("재적재는 새 스냅샷으로 참조만 교체하고, 이전에 받은 컨텍스트는 그대로 유지")
+    void reloadSwapsSnapshot() throws IOException {
+        writeAcademic("과제 제출");
+        writeUser("userA.json", "공대", "freshman");
+        loader = newLoader(false);
+        AcademicContext before = loader.getAcademicContext().orElseThrow();
+
+        writeAcademic("기말 발표");
+        writeUser("userA.json", "미대", "graduating");
+        loader.reload();
+
+        AcademicContext after = loader.getAcademicContext().orElseThrow();
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.upcomingEvents()).extracting(AcademicContext.Event::title).contains("기말 발표");
+        assertThat(before.upcomingEvents()).extracting(AcademicContext.Event::title).contains("과제 제출");
+        assertThat(loader.getUserSummary(2L)).contains("major=미대, role=graduating");
+        assertThat(loader.getUserFacets(2L).orElseThrow().majorHint).isEqualTo("작업/실습");
+    }
+
+    @Test
+    @DisplayName("깨진 파일로 재적재가 실패하면 기존 스냅샷을 계속 제공")
+    void failedReloadKeepsSnapshot() throws IOException {
+        writeAcademic("과제 제출");
+        writeUser("userA.json", "공대", "freshman");
+        loader = newLoader(false);
+        AcademicContext before = loader.getAcademicContext().orElseThrow();
+
+        Files.writeString(dataDir.resolve("userA.json"), "{ broken");
+        loader.reload();
+
+        assertThat(loader.getAcademicContext()).containsSame(before);
+        assertThat(loader.getUserSummary(2L)).contains("major=공대, role=freshman");
+    }
+
+    @Test
+    @DisplayName("감시 중인 디렉터리의 JSON 이 바뀌면 자동으로 재적재")
+    void watcherReloadsOnFileChange() throws Exception {
+        writeAcademic("과제 제출");
+        writeUser("userA.json", "공대", "freshman");
+        loader = newLoader(true);
+
+        writeAcademic("기말 발표");
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline && !eventTitles().contains("기말 발표")) {
+            Thread.sleep(50);
+        }
+        assertThat(eventTitles()).contains("기말 발표");
+    }
+
+    private String eventTitles() {
+        return loader.getAcademicContext()
+                .map(a -> a.upcomingEvents().stream().map(AcademicContext.Event::title).toList().toString())
+                .orElse("");
+    }
+
+    private ContextLoader newLoader(boolean watch) {
+        ContextLoader l = new ContextLoader();
+        ReflectionTestUtils.setField(l, "dataDir", dataDir.toString());
+        ReflectionTestUtils.setField(l, "watchEnabled", watch);
+        ReflectionTestUtils.setField(l, "reloadDebounceMs", 20L);
+        l.init();
+        return l;
+    }
+
+    private void writeAcademic(String eventTitle) throws IOException {
+        Files.writeString(dataDir.resolve("academic_common.json"), """
+                {"today": "2025-03-01",
+                 "upcoming_events": [{"title": "%s", "dueAtISO": "2025-03-03T23:59:00", "category": "ASSIGNMENT"}]}
+                """.formatted(eventTitle));
+    }
+
+    private void writeUser(String file, String major, String role) throws IOException {
+        Files.writeString(dataDir.resolve(file), """
+                {"major_group": "%s", "role_tags": ["%s"], "notes": ""}
+                """.formatted(major, role));
+    }
+}
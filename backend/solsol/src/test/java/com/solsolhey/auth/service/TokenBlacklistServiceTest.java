@@ -0,0 +1,106 @@
+package com.solsolhey.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class TokenBlacklistServiceTest {
+
+    @Test
+    @DisplayName("만료 구간이 지난 세그먼트만 통째로 제거하고 남은 토큰은 계속 차단")
+    void cleanupDropsExpiredSegmentsOnly() {
+        TokenBlacklistService service = newService(100_000, 0.01);
+        service.blacklistToken("expired-1", LocalDateTime.now().minusMinutes(30));
+        service.blacklistToken("expired-2", LocalDateTime.now().minusMinutes(45));
+        service.blacklistToken("live", LocalDateTime.now().plusHours(1));
+
+        // 정리 전에는 만료된 토큰도 남아 있음
+        assertThat(service.isBlacklisted("expired-1")).isTrue();
+
+        service.cleanupExpiredTokens();
+
+        assertThat(service.isBlacklisted("expired-1")).isFalse();
+        assertThat(service.isBlacklisted("expired-2")).isFalse();
+        assertThat(service.isBlacklisted("live")).isTrue();
+        TokenBlacklistService.BlacklistStatus status = service.getStatus();
+        assertThat(status.currentSize()).isEqualTo(1);
+        assertThat(status.totalCleaned()).isEqualTo(2);
+        assertThat(status.segmentCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("정리 후 Bloom 필터를 재구성해 제거된 토큰 조회는 맵까지 가지 않음")
+    void cleanupRebuildsBloomFilter() {
+        TokenBlacklistService service = newService(100_000, 0.01);
+        service.blacklistToken("expired", LocalDateTime.now().minusMinutes(30));
+        service.blacklistToken("live", LocalDateTime.now().plusHours(1));
+
+        service.cleanupExpiredTokens();
+        long negativesBefore = service.getStatus().bloomNegatives();
+        long falsePositivesBefore = service.getStatus().bloomFalsePositives();
+
+        assertThat(service.isBlacklisted("expired")).isFalse();
+        assertThat(service.getStatus().bloomNegatives()).isEqualTo(negativesBefore + 1);
+        assertThat(service.getStatus().bloomFalsePositives()).isEqualTo(falsePositivesBefore);
+    }
+
+    @Test
+    @DisplayName("재구성 시 엔트리 수가 예상치를 넘으면 필터를 키움")
+    void rebuildGrowsFilterForLargeBlacklist() {
+        TokenBlacklistService service = newService(16, 0.01);
+        long initialBits = service.getStatus().bloomBits();
+        for (int i = 0; i < 200; i++) {
+            service.blacklistToken("live-" + i, LocalDateTime.now().plusHours(1));
+        }
+        service.blacklistToken("expired", LocalDateTime.now().minusMinutes(30));
+
+        service.cleanupExpiredTokens();
+
+        assertThat(service.getStatus().bloomBits()).isGreaterThan(initialBits);
+        for (int i = 0; i < 200; i++) {
+            assertThat(service.isBlacklisted("live-" + i)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Bloom 필터가 포화되어 오탐이 나도 블랙리스트에 없는 토큰은 허용")
+    void falsePositivesNeverBlockUnknownTokens() {
+        TokenBlacklistService service = newService(1, 0.5);
+        for (int i = 0; i < 50; i++) {
+            service.blacklistToken("revoked-" + i, LocalDateTime.now().plusHours(1));
+        }
+
+        for (int i = 0; i < 200; i++) {
+            assertThat(service.isBlacklisted("other-" + i)).isFalse();
+        }
+        assertThat(service.getStatus().bloomFalsePositives()).isPositive();
+    }
+
+    @Test
+    @DisplayName("다이제스트 추가: 토큰과 같은 키로 차단하고, 중복/만료 항목은 무시")
+    void blacklistDigestMatchesTokenDigest() {
+        TokenBlacklistService service = newService(100_000, 0.01);
+        long expiresAt = System.currentTimeMillis() + 60_000;
+
+        service.blacklistDigest(service.digestHex("token-a"), expiresAt);
+        service.blacklistDigest(service.digestHex("token-a"), expiresAt);
+        service.blacklistDigest(service.digestHex("token-b"), System.currentTimeMillis() - 1);
+
+        assertThat(service.isBlacklisted("token-a")).isTrue();
+        assertThat(service.isBlacklisted("token-b")).isFalse();
+        assertThat(service.getStatus().totalBlacklisted()).isEqualTo(1);
+    }
+
+    private static TokenBlacklistService newService(int expectedInsertions, double falsePositiveRate) {
+        TokenBlacklistService service = new TokenBlacklistService();
+        ReflectionTestUtils.setField(service, "segmentMinutes", 10L);
+        ReflectionTestUtils.setField(service, "bloomExpectedInsertions", expectedInsertions);
+        ReflectionTestUtils.setField(service, "bloomFalsePositiveRate", falsePositiveRate);
+        service.init();
+        return service;
+    }
+}
@@ -0,0 +1,141 @@
+package com.solsolhey.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * V39 token_revocations 마이그레이션 위에서 폐기 로그 기록/재시작 후 반영 확인 (H2, PostgreSQL 모드)
+ */
+class TokenRevocationLogServiceTest {
+
+    private static final long HOUR_MILLIS = 3_600_000L;
+
+    private JdbcTemplate jdbcTemplate;
+    private MigrateResult migration;
+
+    @BeforeEach
+    void migrate() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:revocations-" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        migration = Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .target("39")
+                .load()
+                .migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    @DisplayName("V39 까지 적용하면 token_revocations 테이블이 생성됨")
+    void migrationCreatesTable() {
+        assertThat(migration.success).isTrue();
+        assertThat(migration.targetSchemaVersion).isEqualTo("39");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM token_revocations", Integer.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("기록한 폐기는 재시작한 노드가 기동 시 읽어 블랙리스트에 반영 (만료된 항목 제외)")
+    void revocationsSurviveRestart() {
+        Node before = new Node(1000);
+        long now = System.currentTimeMillis();
+        before.revoke("token-active", now + HOUR_MILLIS);
+        before.revoke("token-expired", now - 1);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM token_revocations", Integer.class)).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT token_digest FROM token_revocations WHERE expires_at > ?", String.class, now).trim())
+                .isEqualTo(before.blacklist.digestHex("token-active"));
+
+        // 재시작: 같은 DB 위에 빈 메모리 상태의 새 인스턴스
+        Node after = new Node(1000);
+        after.start();
+
+        assertThat(after.blacklist.isBlacklisted("token-active")).isTrue();
+        assertThat(after.blacklist.isBlacklisted("token-expired")).isFalse();
+        assertThat(after.blacklist.isBlacklisted("token-never-revoked")).isFalse();
+        assertThat(after.log.getTotalApplied()).isEqualTo(1);
+        assertThat(after.log.getLastRevocationId()).isPositive();
+    }
+
+    @Test
+    @DisplayName("기동 후 다른 노드가 기록한 폐기는 주기적 tail 로 반영")
+    void tailPicksUpRevocationsFromOtherNodes() {
+        Node writer = new Node(1000);
+        Node reader = new Node(1000);
+        reader.start();
+        long firstId = reader.log.getLastRevocationId();
+
+        writer.revoke("token-late", System.currentTimeMillis() + HOUR_MILLIS);
+        assertThat(reader.blacklist.isBlacklisted("token-late")).isFalse();
+
+        reader.log.tailScheduled();
+        assertThat(reader.blacklist.isBlacklisted("token-late")).isTrue();
+        assertThat(reader.log.getLastRevocationId()).isGreaterThan(firstId);
+    }
+
+    @Test
+    @DisplayName("배치 크기보다 많은 폐기 로그도 모두 읽음")
+    void tailReadsAllBatches() {
+        Node writer = new Node(2);
+        long expiresAt = System.currentTimeMillis() + HOUR_MILLIS;
+        for (int i = 0; i < 5; i++) {
+            writer.revoke("token-" + i, expiresAt);
+        }
+
+        Node reader = new Node(2);
+        reader.start();
+        for (int i = 0; i < 5; i++) {
+            assertThat(reader.blacklist.isBlacklisted("token-" + i)).as("token-%d", i).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("만료된 폐기 로그는 삭제")
+    void purgeRemovesExpiredRows() {
+        Node node = new Node(1000);
+        long now = System.currentTimeMillis();
+        node.revoke("token-active", now + HOUR_MILLIS);
+        node.revoke("token-expired", now - 1);
+
+        node.log.purgeExpired();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM token_revocations", Integer.class)).isEqualTo(1);
+    }
+
+    /**
+     * 애플리케이션 인스턴스 하나의 메모리 상태 (블랙리스트 + 폐기 로그 커서)
+     */
+    private final class Node {
+        final TokenBlacklistService blacklist = new TokenBlacklistService();
+        final TokenRevocationLogService log;
+
+        Node(int tailBatchSize) {
+            ReflectionTestUtils.setField(blacklist, "segmentMinutes", 10L);
+            ReflectionTestUtils.setField(blacklist, "bloomExpectedInsertions", 1000);
+            ReflectionTestUtils.setField(blacklist, "bloomFalsePositiveRate", 0.01);
+            blacklist.init();
+            log = new TokenRevocationLogService(jdbcTemplate, blacklist);
+            ReflectionTestUtils.setField(log, "tailBatchSize", tailBatchSize);
+            ReflectionTestUtils.setField(log, "tailOverlap", 100L);
+        }
+
+        void start() {
+            log.onApplicationReady();
+        }
+
+        void revoke(String token, long expiresAtMillis) {
+            log.append(blacklist.digestHex(token), expiresAtMillis);
+        }
+    }
+}
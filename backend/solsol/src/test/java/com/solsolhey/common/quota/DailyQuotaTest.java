@@ -0,0 +1,141 @@
+package com.solsolhey.common.quota;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class DailyQuotaTest {
+
+    private final FakeClock clock = new FakeClock(LocalDateTime.of(2025, 3, 1, 23, 58));
+    private final Map<String, Integer> db = new HashMap<>();
+    private final List<String> seedCalls = new ArrayList<>();
+
+    @Test
+    @DisplayName("지연 초기화: 키를 처음 조회할 때 한 번만 DB 의 당일 값을 읽어 기준으로 사용")
+    void seedsLazilyOncePerKey() {
+        db.put("7@2025-03-01", 2);
+        DailyQuota quota = newQuota();
+
+        assertThat(seedCalls).isEmpty();
+        assertThat(quota.tryAcquire(7L, 3)).isTrue();
+        assertThat(quota.tryAcquire(7L, 3)).isFalse();
+        assertThat(quota.current(7L)).isEqualTo(3);
+        assertThat(seedCalls).containsExactly("7@2025-03-01");
+
+        // 처음 보는 키는 DB 값 0 으로 시작
+        assertThat(quota.current(8L)).isZero();
+        assertThat(quota.getStatus().seeds()).isEqualTo(2);
+        assertThat(quota.getStatus().trackedKeys()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("KST 자정이 지나면 새 일자 테이블로 교체하고 새 일자 기준으로 다시 초기화")
+    void rollsOverAtKstMidnight() {
+        db.put("7@2025-03-02", 1);
+        DailyQuota quota = newQuota();
+        assertThat(quota.tryAcquire(7L, 2)).isTrue();
+        assertThat(quota.tryAcquire(7L, 2)).isTrue();
+        assertThat(quota.tryAcquire(7L, 2)).isFalse();
+
+        clock.set(LocalDateTime.of(2025, 3, 1, 23, 59, 59));
+        assertThat(quota.current(7L)).isEqualTo(2);
+
+        clock.set(LocalDateTime.of(2025, 3, 2, 0, 0));
+        assertThat(quota.current(7L)).isEqualTo(1);
+        assertThat(quota.getStatus().day()).isEqualTo(LocalDate.of(2025, 3, 2));
+        assertThat(seedCalls).containsExactly("7@2025-03-01", "7@2025-03-02");
+        assertThat(quota.tryAcquire(7L, 2)).isTrue();
+        assertThat(quota.tryAcquire(7L, 2)).isFalse();
+    }
+
+    @Test
+    @DisplayName("자정 전에 잡은 예약이 자정 후 롤백되어도 새 일자 카운터는 줄지 않음")
+    void rollbackAfterMidnightDoesNotTouchNewDay() {
+        DailyQuota quota = newQuota();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertThat(quota.tryAcquireInTransaction(7L, 5)).isTrue();
+
+            clock.set(LocalDateTime.of(2025, 3, 2, 0, 1));
+            assertThat(quota.tryAcquire(7L, 5)).isTrue();
+
+            for (TransactionSynchronization sync : TransactionSynchronizationManager.getSynchronizations()) {
+                sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(quota.current(7L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 일자 안의 롤백은 증가분을 되돌림")
+    void rollbackSameDayReleases() {
+        DailyQuota quota = newQuota();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertThat(quota.tryAcquireInTransaction(7L, 5)).isTrue();
+            assertThat(quota.current(7L)).isEqualTo(1);
+            for (TransactionSynchronization sync : TransactionSynchronizationManager.getSynchronizations()) {
+                sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(quota.current(7L)).isZero();
+    }
+
+    @Test
+    @DisplayName("pairKey: 32비트 이내 ID 쌍은 결합되고, 범위를 넘는 ID 는 fitsPairKey 로 미리 걸러냄")
+    void pairKeyRange() {
+        long key = DailyQuota.pairKey(0xFFFFFFFFL, 42L);
+        assertThat(key >>> 32).isEqualTo(0xFFFFFFFFL);
+        assertThat(key & 0xFFFFFFFFL).isEqualTo(42L);
+
+        assertThat(DailyQuota.fitsPairKey(1L, 2L)).isTrue();
+        assertThat(DailyQuota.fitsPairKey(1L << 32, 2L)).isFalse();
+        assertThat(DailyQuota.fitsPairKey(1L, -1L)).isFalse();
+        assertThatThrownBy(() -> DailyQuota.pairKey(1L << 32, 2L)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private DailyQuota newQuota() {
+        return clock.register("test", (key, day) -> {
+            String id = key + "@" + day;
+            seedCalls.add(id);
+            return db.getOrDefault(id, 0);
+        });
+    }
+
+    private static final class FakeClock extends DailyQuotaService {
+        private LocalDateTime nowKst;
+
+        FakeClock(LocalDateTime nowKst) {
+            this.nowKst = nowKst;
+        }
+
+        void set(LocalDateTime nowKst) {
+            this.nowKst = nowKst;
+        }
+
+        @Override
+        public LocalDate today() {
+            return nowKst.toLocalDate();
+        }
+
+        @Override
+        long currentTimeMillis() {
+            return nowKst.atZone(KST).toInstant().toEpochMilli();
+        }
+    }
+}
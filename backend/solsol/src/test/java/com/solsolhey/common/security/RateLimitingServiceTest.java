@@ -0,0 +1,190 @@
+package com.solsolhey.common.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class RateLimitingServiceTest {
+
+    private static final long MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.DAYS.toNanos(1));
+
+    @Test
+    @DisplayName("일반 API: 용량(분당 한도의 60%)까지 즉시 허용하고 다음 요청은 거절")
+    void burstAllowedUpToCapacityThenDenied() {
+        RateLimitingService service = newService(new RateLimitPolicyProperties());
+
+        for (int i = 0; i < 6; i++) {
+            assertThat(service.isAllowedByIp("10.0.0.1")).as("request %d", i + 1).isTrue();
+        }
+        assertThat(service.isAllowedByIp("10.0.0.1")).isFalse();
+        assertThat(service.remainingGeneral("10.0.0.1")).isZero();
+
+        // 다른 IP 는 별도 버킷
+        assertThat(service.isAllowedByIp("10.0.0.2")).isTrue();
+    }
+
+    @Test
+    @DisplayName("일반 API: 토큰 1개 회복 간격(6초)이 지나면 정확히 1건만 추가 허용")
+    void refillsOneTokenPerInterval() {
+        RateLimitingService service = newService(new RateLimitPolicyProperties());
+        for (int i = 0; i < 6; i++) {
+            service.isAllowedByIp("10.0.0.1");
+        }
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        assertThat(service.isAllowedByIp("10.0.0.1")).isFalse();
+        assertThat(service.getIpStatus("10.0.0.1").secondsToRefill()).isPositive();
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1001));
+        assertThat(service.isAllowedByIp("10.0.0.1")).isTrue();
+        assertThat(service.isAllowedByIp("10.0.0.1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("인증 전 IP 상한: 일반 버킷과 별도로 분당 한도까지 허용")
+    void ipGuardIsSeparateAndCoarser() {
+        RateLimitingService service = newService(new RateLimitPolicyProperties());
+
+        for (int i = 0; i < 60; i++) {
+            assertThat(service.isAllowedByIpGuard("10.0.0.1")).as("request %d", i + 1).isTrue();
+        }
+        assertThat(service.isAllowedByIpGuard("10.0.0.1")).isFalse();
+        // 일반 IP 버킷은 소모되지 않음
+        assertThat(service.remainingGeneral("10.0.0.1")).isEqualTo(10);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(service.isAllowedByIpGuard("10.0.0.1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("로그인: 15분당 5회까지 허용")
+    void loginAttemptsLimited() {
+        RateLimitingService service = newService(new RateLimitPolicyProperties());
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(service.isLoginAllowed("10.0.0.1")).isTrue();
+        }
+        assertThat(service.isLoginAllowed("10.0.0.1")).isFalse();
+
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(3));
+        assertThat(service.isLoginAllowed("10.0.0.1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("라우트 정책: 엔드포인트 비용만큼 차감하고 용량을 넘는 요청은 거절")
+    void routeCostConsumesBurst() {
+        RateLimitingService service = newService(routePolicy("rankings", 10, 60, "POST", "/api/v1/rankings/*/votes", 4));
+        RateLimitingService.RouteRule rule = service.matchRoute("POST", "/api/v1/rankings/7/votes");
+
+        assertThat(rule).isNotNull();
+        assertThat(service.matchRoute("GET", "/api/v1/rankings/7/votes")).isNull();
+        assertThat(service.isAllowedByRoute(rule, "user:1")).isTrue();
+        assertThat(service.isAllowedByRoute(rule, "user:1")).isTrue();
+        assertThat(service.remainingRoute(rule, "user:1")).isEqualTo(2);
+        assertThat(service.isAllowedByRoute(rule, "user:1")).isFalse();
+        assertThat(service.isAllowedByRoute(rule, "user:2")).isTrue();
+    }
+
+    @Test
+    @DisplayName("동시 요청이 같은 버킷을 두드려도 용량만큼만 허용")
+    void concurrentConsumersNeverExceedBurst() throws Exception {
+        RateLimitingService service = newService(new RateLimitPolicyProperties());
+        int threads = 32;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger allowed = new AtomicInteger();
+        try {
+            for (int i = 0; i < threads; i++) {
+                pool.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < 10; j++) {
+                        if (service.isAllowedForUser(1L)) allowed.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            pool.shutdown();
+            assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(allowed.get()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("타이머 휠: 유휴 시간이 지난 버킷은 예약된 슬롯에서 제거")
+    void wheelEvictsIdleBucket() {
+        RateLimitingService service = newService(new RateLimitPolicyProperties());
+        service.isAllowedByIp("10.0.0.1");
+
+        clock.addAndGet(TimeUnit.HOURS.toNanos(2));
+        advance(service, 59);
+        assertThat(service.getIpStatus("10.0.0.1").availableTokens()).isNotNegative();
+
+        advance(service, 1);
+        assertThat(service.getIpStatus("10.0.0.1").availableTokens()).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("타이머 휠: 사용 중인 버킷은 제거하지 않고 다음 만료 예정 슬롯으로 재예약")
+    void wheelReschedulesActiveBucket() {
+        RateLimitingService service = newService(new RateLimitPolicyProperties());
+        service.isAllowedByIp("10.0.0.1");
+
+        clock.addAndGet(50 * MINUTE);
+        service.isAllowedByIp("10.0.0.1");
+        clock.addAndGet(20 * MINUTE);
+        advance(service, 64);
+        assertThat(service.getIpStatus("10.0.0.1").availableTokens()).isNotNegative();
+
+        clock.addAndGet(2 * 60 * MINUTE);
+        advance(service, 64);
+        assertThat(service.getIpStatus("10.0.0.1").availableTokens()).isEqualTo(-1);
+    }
+
+    private RateLimitingService newService(RateLimitPolicyProperties properties) {
+        RateLimitingService service = new RateLimitingService(properties);
+        ReflectionTestUtils.setField(service, "generalRequestsPerMinute", 10);
+        ReflectionTestUtils.setField(service, "loginAttemptsPer15Min", 5);
+        ReflectionTestUtils.setField(service, "ipGuardRequestsPerMinute", 60);
+        ReflectionTestUtils.setField(service, "cleanupIntervalHours", 1);
+        ReflectionTestUtils.setField(service, "cleanupTickMs", 60_000L);
+        service.nanoClock = clock::get;
+        service.init();
+        return service;
+    }
+
+    private static void advance(RateLimitingService service, int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            service.advanceCleanupWheel();
+        }
+    }
+
+    private static RateLimitPolicyProperties routePolicy(String group, int capacity, int refillPerMinute,
+                                                         String method, String pattern, int cost) {
+        RateLimitPolicyProperties.Endpoint endpoint = new RateLimitPolicyProperties.Endpoint();
+        endpoint.setMethod(method);
+        endpoint.setPattern(pattern);
+        endpoint.setCost(cost);
+        RateLimitPolicyProperties.RoutePolicy policy = new RateLimitPolicyProperties.RoutePolicy();
+        policy.setCapacity(capacity);
+        policy.setRefillPerMinute(refillPerMinute);
+        policy.setEndpoints(List.of(endpoint));
+        RateLimitPolicyProperties properties = new RateLimitPolicyProperties();
+        properties.getRoutes().put(group, policy);
+        return properties;
+    }
+}
@@ -0,0 +1,127 @@
+package com.solsolhey.finance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.solsolhey.finance.client.FinanceApiClient;
+import com.solsolhey.finance.config.FinanceApiProperties;
+import com.solsolhey.finance.dto.response.ExternalCreditRatingResponse;
+import com.solsolhey.finance.exception.ExternalApiException;
+import com.solsolhey.finance.service.CreditRatingCache.Verification;
+
+import reactor.core.publisher.Mono;
+
+class CreditRatingCacheTest {
+
+    private FinanceApiClient financeApiClient;
+    private CreditRatingCache cache;
+
+    @BeforeEach
+    void setUp() {
+        financeApiClient = mock(FinanceApiClient.class);
+        // DB 캐시는 비어 있음 (조회 결과 없음, 저장은 무시)
+        cache = new CreditRatingCache(mock(JdbcTemplate.class), financeApiClient, mock(FinanceApiProperties.class));
+        ReflectionTestUtils.setField(cache, "ttlMs", 60_000L);
+        ReflectionTestUtils.setField(cache, "staleMs", 60_000L);
+        ReflectionTestUtils.setField(cache, "outageWindowMs", 60_000L);
+        ReflectionTestUtils.setField(cache, "outageThreshold", 3);
+        ReflectionTestUtils.setField(cache, "maxMemoryEntries", 100);
+    }
+
+    @Test
+    @DisplayName("한 사용자 키의 4xx 는 반복돼도 다른 사용자 확인을 생략시키지 않음")
+    void clientErrorsDoNotOpenOutage() {
+        when(financeApiClient.getMyCreditRating("bad-key")).thenReturn(Mono.error(
+                new ExternalApiException("신용등급 조회에 실패했습니다", "EXTERNAL_API_ERROR", 400)));
+        when(financeApiClient.getMyCreditRating("other")).thenReturn(Mono.never());
+
+        for (int i = 0; i < 10; i++) load("bad-key");
+
+        assertThat(cache.verifyCached("other")).isEqualTo(Verification.NOT_FOUND);
+        assertThat(cache.getStatus().loadFailures()).isEqualTo(10);
+        assertThat(cache.getStatus().outage()).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 사용자 키의 시간 초과는 횟수와 무관하게 한 명으로 셈")
+    void repeatedFailuresFromOneKeyDoNotOpenOutage() {
+        when(financeApiClient.getMyCreditRating("slow")).thenReturn(Mono.error(new TimeoutException()));
+        when(financeApiClient.getMyCreditRating("other")).thenReturn(Mono.never());
+
+        for (int i = 0; i < 5; i++) load("slow");
+
+        assertThat(cache.verifyCached("other")).isEqualTo(Verification.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("서로 다른 키에서 5xx/시간 초과가 임계치만큼 이어지면 장애로 보고 UNAVAILABLE")
+    void distinctUpstreamFailuresOpenOutage() {
+        when(financeApiClient.getMyCreditRating("k1")).thenReturn(Mono.error(
+                new ExternalApiException("외부 API 오류", "EXTERNAL_API_ERROR", 503)));
+        when(financeApiClient.getMyCreditRating("k2")).thenReturn(Mono.error(new TimeoutException()));
+        when(financeApiClient.getMyCreditRating("k3")).thenReturn(Mono.error(
+                new ExternalApiException("외부 API 오류", "EXTERNAL_API_ERROR", 500)));
+        when(financeApiClient.getMyCreditRating("other")).thenReturn(Mono.never());
+
+        load("k1");
+        load("k2");
+        assertThat(cache.verifyCached("other")).isEqualTo(Verification.NOT_FOUND);
+
+        load("k3");
+        assertThat(cache.verifyCached("someone")).isEqualTo(Verification.UNAVAILABLE);
+        assertThat(cache.getStatus().outage()).isTrue();
+    }
+
+    @Test
+    @DisplayName("조회 성공 시 장애 판정과 연속 실패 기록 초기화")
+    void successClosesOutage() {
+        when(financeApiClient.getMyCreditRating(anyString())).thenReturn(Mono.error(
+                new ExternalApiException("외부 API 오류", "EXTERNAL_API_ERROR", 502)));
+        load("k1");
+        load("k2");
+        load("k3");
+        assertThat(cache.getStatus().outage()).isTrue();
+
+        when(financeApiClient.getMyCreditRating("ok")).thenReturn(Mono.just(rating()));
+        assertThat(cache.get("ok").block().getRatingName()).isEqualTo("A");
+
+        assertThat(cache.getStatus().outage()).isFalse();
+        assertThat(cache.verifyCached("ok")).isEqualTo(Verification.VERIFIED);
+
+        when(financeApiClient.getMyCreditRating("other")).thenReturn(Mono.never());
+        load("k1");
+        assertThat(cache.verifyCached("other")).isEqualTo(Verification.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("장애 분류: 시간 초과/5xx 만 장애, 4xx·빈 응답은 사용자 오류")
+    void classifiesFailures() {
+        assertThat(CreditRatingCache.isUpstreamOutage(new TimeoutException())).isTrue();
+        assertThat(CreditRatingCache.isUpstreamOutage(new ExternalApiException("x", "E", 503))).isTrue();
+        assertThat(CreditRatingCache.isUpstreamOutage(new ExternalApiException("x", "E", 401))).isFalse();
+        assertThat(CreditRatingCache.isUpstreamOutage(new ExternalApiException("x", "CREDIT_RATING_EMPTY", 404))).isFalse();
+        assertThat(CreditRatingCache.isUpstreamOutage(new IllegalArgumentException())).isFalse();
+    }
+
+    private void load(String userKey) {
+        cache.get(userKey).onErrorResume(e -> Mono.empty()).block();
+    }
+
+    private static ExternalCreditRatingResponse rating() {
+        ExternalCreditRatingResponse response = new ExternalCreditRatingResponse();
+        ExternalCreditRatingResponse.Rec rec = new ExternalCreditRatingResponse.Rec();
+        rec.setRatingName("A");
+        response.setRec(rec);
+        return response;
+    }
+}
@@ -0,0 +1,129 @@
+package com.solsolhey.finance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.solsolhey.finance.client.FinanceApiClient;
+import com.solsolhey.finance.dto.request.EstimateRequest;
+import com.solsolhey.finance.dto.response.ExchangeEstimateResponse;
+import com.solsolhey.finance.dto.response.ExternalExchangeEstimateResponse;
+import com.solsolhey.finance.exception.ExternalApiException;
+import com.solsolhey.finance.service.ExchangeRateStore.Quote;
+import com.solsolhey.finance.service.ExchangeRateStore.Snapshot;
+
+import reactor.core.publisher.Mono;
+
+class ExchangeEstimatorTest {
+
+    private FinanceApiClient financeApiClient;
+    private ExchangeRateStore exchangeRateStore;
+    private ExchangeEstimator estimator;
+
+    @BeforeEach
+    void setUp() {
+        financeApiClient = mock(FinanceApiClient.class);
+        exchangeRateStore = mock(ExchangeRateStore.class);
+        estimator = new ExchangeEstimator(financeApiClient, exchangeRateStore);
+        ReflectionTestUtils.setField(estimator, "localEnabled", true);
+        ReflectionTestUtils.setField(estimator, "memoTtlMs", 60_000L);
+        ReflectionTestUtils.setField(estimator, "memoMaxEntries", 100);
+
+        when(exchangeRateStore.fresh()).thenReturn(Optional.of(new Snapshot(List.of(), Map.of(
+                "USD", new Quote("USD", "1,350.50", new BigDecimal("1350.50")),
+                "JPY", new Quote("JPY", "9.12", new BigDecimal("9.12"))), System.currentTimeMillis())));
+        when(financeApiClient.estimateExchange(anyString(), anyString(), anyString()))
+                .thenAnswer(inv -> Mono.just(external(inv.getArgument(0), inv.getArgument(2),
+                        inv.getArgument(1), "upstream")));
+    }
+
+    @Test
+    @DisplayName("신선한 환율표로 계산 가능하면 외부 호출 없이 원화를 거쳐 환산하고 LOCAL 추정치로 표시")
+    void estimatesLocallyAndLabelsResult() {
+        ExchangeEstimateResponse toJpy = estimate("usd", "JPY", "100");
+        ExchangeEstimateResponse toKrw = estimate("USD", "KRW", "1,000.5");
+
+        // 100 × 1350.50 / 9.12 = 14808.114… → 소수 둘째 자리 버림
+        assertThat(toJpy.getTargetAmount()).isEqualTo("14,808.11");
+        assertThat(toJpy.getEstimatedAmount()).isEqualTo("14,808.11");
+        assertThat(toJpy.getEstimateSource()).isEqualTo(ExchangeEstimator.SOURCE_LOCAL);
+        assertThat(toJpy.getMessage()).contains("추정치");
+        // 원화 대상은 정수 단위로 버림
+        assertThat(toKrw.getTargetAmount()).isEqualTo("1,351,175");
+        assertThat(toKrw.getSourceAmount()).isEqualTo("1,000.5");
+        verify(financeApiClient, never()).estimateExchange(anyString(), anyString(), anyString());
+        assertThat(estimator.getStatus().localHits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("환율표에 없는 통화는 외부 결과를 그대로 UPSTREAM 으로 응답하고, 같은 값의 금액은 한 번만 호출")
+    void fallsBackToMemoizedUpstream() {
+        ExchangeEstimateResponse first = estimate("EUR", "JPY", "1,000");
+        ExchangeEstimateResponse second = estimate("eur", "jpy", "1000.0");
+
+        assertThat(first.getTargetAmount()).isEqualTo("upstream");
+        assertThat(first.getEstimateSource()).isEqualTo(ExchangeEstimator.SOURCE_UPSTREAM);
+        assertThat(second).isEqualTo(first);
+        verify(financeApiClient, times(1)).estimateExchange("EUR", "JPY", "1000");
+        assertThat(estimator.getStatus().memoHits()).isEqualTo(1);
+        assertThat(estimator.getStatus().upstreamCalls()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("환율표가 오래됐거나 자체 계산이 꺼져 있으면 외부 호출")
+    void usesUpstreamWithoutFreshSnapshot() {
+        ReflectionTestUtils.setField(estimator, "localEnabled", false);
+        assertThat(estimate("USD", "JPY", "200").getEstimateSource()).isEqualTo(ExchangeEstimator.SOURCE_UPSTREAM);
+
+        ReflectionTestUtils.setField(estimator, "localEnabled", true);
+        when(exchangeRateStore.fresh()).thenReturn(Optional.empty());
+        assertThat(estimate("USD", "JPY", "100").getEstimateSource()).isEqualTo(ExchangeEstimator.SOURCE_UPSTREAM);
+        verify(financeApiClient, times(2)).estimateExchange(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("외부 오류는 메모하지 않아 다음 요청에서 다시 호출")
+    void doesNotMemoizeErrors() {
+        // WebClient 처럼 구독할 때마다 새로 호출되는 Mono
+        AtomicInteger subscriptions = new AtomicInteger();
+        when(financeApiClient.estimateExchange("EUR", "JPY", "5")).thenReturn(Mono.defer(() ->
+                subscriptions.incrementAndGet() == 1
+                        ? Mono.error(new ExternalApiException("down"))
+                        : Mono.just(external("EUR", "5", "JPY", "upstream"))));
+
+        assertThatThrownBy(() -> estimate("EUR", "JPY", "5")).isInstanceOf(ExternalApiException.class);
+        assertThat(estimate("EUR", "JPY", "5").getTargetAmount()).isEqualTo("upstream");
+        assertThat(estimate("EUR", "JPY", "5").getTargetAmount()).isEqualTo("upstream");
+        assertThat(subscriptions.get()).isEqualTo(2);
+    }
+
+    private ExchangeEstimateResponse estimate(String currency, String exchangeCurrency, String amount) {
+        return estimator.estimate(new EstimateRequest(currency, exchangeCurrency, amount)).block();
+    }
+
+    private static ExternalExchangeEstimateResponse external(String currency, String amount,
+                                                             String exchangeCurrency, String exchangeAmount) {
+        return ExternalExchangeEstimateResponse.builder()
+                .rec(ExternalExchangeEstimateResponse.Rec.builder()
+                        .currency(new ExternalExchangeEstimateResponse.Currency(amount, currency, currency))
+                        .exchangeCurrency(new ExternalExchangeEstimateResponse.Currency(exchangeAmount, exchangeCurrency, exchangeCurrency))
+                        .build())
+                .build();
+    }
+}
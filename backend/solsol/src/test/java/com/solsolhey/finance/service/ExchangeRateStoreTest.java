@@ -0,0 +1,114 @@
+package com.solsolhey.finance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.solsolhey.finance.client.FinanceApiClient;
+import com.solsolhey.finance.config.FinanceApiProperties;
+import com.solsolhey.finance.dto.response.ExternalExchangeRateResponse;
+import com.solsolhey.finance.exception.ExternalApiException;
+import com.solsolhey.finance.service.ExchangeRateStore.Snapshot;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class ExchangeRateStoreTest {
+
+    private FinanceApiClient financeApiClient;
+    private ExchangeRateStore store;
+
+    @BeforeEach
+    void setUp() {
+        financeApiClient = mock(FinanceApiClient.class);
+        store = new ExchangeRateStore(financeApiClient, mock(FinanceApiProperties.class));
+        ReflectionTestUtils.setField(store, "maxAgeMs", 60_000L);
+        ReflectionTestUtils.setField(store, "maxStaleMs", 600_000L);
+    }
+
+    @Test
+    @DisplayName("진행 중인 갱신이 있으면 동시 조회는 외부 호출 한 번의 결과를 공유")
+    void coalescesConcurrentRefreshes() {
+        Sinks.One<ExternalExchangeRateResponse> upstream = Sinks.one();
+        when(financeApiClient.getExchangeRates()).thenReturn(upstream.asMono());
+
+        CompletableFuture<Snapshot> first = store.current().toFuture();
+        CompletableFuture<Snapshot> second = store.current().toFuture();
+        store.scheduledRefresh();
+        assertThat(store.getStatus().refreshing()).isTrue();
+
+        upstream.tryEmitValue(rates("USD", "1,350.5"));
+
+        assertThat(first.join()).isSameAs(second.join());
+        assertThat(first.join().find(" usd ").orElseThrow().rate()).isEqualByComparingTo(new BigDecimal("1350.5"));
+        verify(financeApiClient, times(1)).getExchangeRates();
+        assertThat(store.getStatus().refreshes()).isEqualTo(1);
+        assertThat(store.getStatus().refreshesCoalesced()).isEqualTo(2);
+        assertThat(store.getStatus().refreshing()).isFalse();
+    }
+
+    @Test
+    @DisplayName("max-age 이내 스냅샷은 외부 호출 없이 제공")
+    void servesFreshSnapshotFromMemory() {
+        when(financeApiClient.getExchangeRates()).thenReturn(Mono.just(rates("JPY", "9.12")));
+
+        Snapshot loaded = store.current().block();
+        assertThat(store.current().block()).isSameAs(loaded);
+        assertThat(store.fresh()).containsSame(loaded);
+
+        verify(financeApiClient, times(1)).getExchangeRates();
+        assertThat(store.getStatus().hits()).isEqualTo(1);
+        assertThat(store.getStatus().misses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("갱신 실패 시 max-stale 이내 스냅샷은 그대로 제공")
+    void servesStaleSnapshotOnFailure() {
+        Snapshot old = snapshotAgedMillis(120_000L);
+        ReflectionTestUtils.setField(store, "snapshot", old);
+        when(financeApiClient.getExchangeRates()).thenReturn(Mono.error(new ExternalApiException("down")));
+
+        assertThat(store.fresh()).isEmpty();
+        assertThat(store.current().block()).isSameAs(old);
+        assertThat(store.getStatus().staleServed()).isEqualTo(1);
+        assertThat(store.getStatus().refreshFailures()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("max-stale 을 넘긴 스냅샷은 제공하지 않고 오류 전파, 빈 응답도 실패로 처리")
+    void failsBeyondMaxStale() {
+        ReflectionTestUtils.setField(store, "snapshot", snapshotAgedMillis(700_000L));
+        when(financeApiClient.getExchangeRates()).thenReturn(Mono.error(new ExternalApiException("down")));
+        assertThatThrownBy(() -> store.current().block()).isInstanceOf(ExternalApiException.class);
+
+        ReflectionTestUtils.setField(store, "snapshot", null);
+        when(financeApiClient.getExchangeRates()).thenReturn(Mono.empty());
+        assertThatThrownBy(() -> store.current().block()).isInstanceOf(ExternalApiException.class);
+        assertThat(store.getStatus().staleServed()).isZero();
+        assertThat(store.getStatus().refreshFailures()).isEqualTo(2);
+    }
+
+    private static Snapshot snapshotAgedMillis(long ageMs) {
+        return new Snapshot(List.of(), Map.of(), System.currentTimeMillis() - ageMs);
+    }
+
+    private static ExternalExchangeRateResponse rates(String currency, String rate) {
+        return ExternalExchangeRateResponse.builder()
+                .rec(List.of(ExternalExchangeRateResponse.ExchangeRate.builder()
+                        .id(1L).currency(currency).exchangeRate(rate).exchangeMin(rate).build()))
+                .build();
+    }
+}
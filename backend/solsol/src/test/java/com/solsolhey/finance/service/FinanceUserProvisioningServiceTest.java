@@ -0,0 +1,143 @@
+package com.solsolhey.finance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.solsolhey.finance.client.FinanceApiClient;
+import com.solsolhey.finance.config.FinanceApiProperties;
+import com.solsolhey.finance.dto.response.MemberResponse;
+import com.solsolhey.finance.exception.ExternalApiException;
+import com.solsolhey.user.entity.User;
+import com.solsolhey.user.repository.UserRepository;
+
+import reactor.core.publisher.Mono;
+
+class FinanceUserProvisioningServiceTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    private final Map<Long, User> users = new LinkedHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private UserRepository userRepository;
+    private FinanceApiClient financeApiClient;
+    private FinanceUserProvisioningService service;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        financeApiClient = mock(FinanceApiClient.class);
+        FinanceApiProperties properties = new FinanceApiProperties();
+        properties.getMemberClient().setProvisioningConcurrency(3);
+        service = new FinanceUserProvisioningService(userRepository, financeApiClient, properties);
+
+        for (long id = 1; id <= 10; id++) {
+            users.put(id, user(id));
+        }
+        when(userRepository.findTop100ByFinanceUserKeyIsNullAndIsActiveTrueOrderByCreatedAtAsc())
+                .thenAnswer(inv -> List.copyOf(users.values()));
+        when(userRepository.findById(anyLong()))
+                .thenAnswer(inv -> Optional.ofNullable(users.get(inv.<Long>getArgument(0))));
+        when(financeApiClient.createMember(anyString())).thenAnswer(inv -> slowMember("key-" + inv.getArgument(0)));
+    }
+
+    @Test
+    @DisplayName("재시도 배치는 최대 provisioning-concurrency 건씩 동시에 처리하고 배치가 끝난 뒤 반환")
+    void boundsConcurrency() {
+        service.retryPendingFinanceUsers();
+
+        assertThat(maxInFlight.get()).isEqualTo(3);
+        assertThat(inFlight.get()).isZero();
+        assertThat(users.values()).allSatisfy(u -> assertThat(u.getFinanceUserKey()).startsWith("key-user"));
+        verify(financeApiClient, times(10)).createMember(anyString());
+        verify(userRepository, times(10)).save(any(User.class));
+    }
+
+    @Test
+    @DisplayName("생성 실패 시 조회로 키를 회수하고, 둘 다 실패한 사용자만 다음 재시도로 남김")
+    void fallsBackToSearchAndIsolatesFailures() {
+        String email3 = financeEmail(3L);
+        String email4 = financeEmail(4L);
+        when(financeApiClient.createMember(email3)).thenReturn(Mono.error(new ExternalApiException("duplicate")));
+        when(financeApiClient.searchMember(email3)).thenReturn(Mono.just(member("found-3")));
+        when(financeApiClient.createMember(email4)).thenReturn(Mono.error(new ExternalApiException("duplicate")));
+        when(financeApiClient.searchMember(email4)).thenReturn(Mono.error(new ExternalApiException("down")));
+
+        service.retryPendingFinanceUsers();
+
+        assertThat(users.get(3L).getFinanceUserKey()).isEqualTo("found-3");
+        assertThat(users.get(4L).getFinanceUserKey()).isNull();
+        assertThat(users.get(5L).getFinanceUserKey()).isEqualTo("key-" + financeEmail(5L));
+        verify(userRepository, times(9)).save(any(User.class));
+    }
+
+    @Test
+    @DisplayName("동기 발급은 확보한 키를 반환하고, 그 사이 다른 경로가 저장했으면 덮어쓰지 않음")
+    void provisionAndGetUserKeyDoesNotOverwrite() {
+        assertThat(service.provisionAndGetUserKey(1L)).isEqualTo("key-" + financeEmail(1L));
+        verify(userRepository, times(1)).save(users.get(1L));
+
+        when(financeApiClient.createMember(financeEmail(2L))).thenAnswer(inv -> {
+            users.get(2L).setFinanceUserKey("other-path");
+            return Mono.just(member("key-2"));
+        });
+        service.provisionAndGetUserKey(2L);
+        assertThat(users.get(2L).getFinanceUserKey()).isEqualTo("other-path");
+        verify(userRepository, never()).save(users.get(2L));
+
+        // 이미 키가 있으면 외부 호출 없이 그대로 반환
+        assertThat(service.provisionAndGetUserKey(2L)).isEqualTo("other-path");
+        verify(financeApiClient, times(1)).createMember(financeEmail(2L));
+    }
+
+    private Mono<MemberResponse> slowMember(String userKey) {
+        // 완료 신호가 내려가기 전에 감소시켜야 함 (doFinally 는 flatMap 이 다음 호출을 구독한 뒤에 실행될 수 있음)
+        return Mono.defer(() -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return Mono.delay(Duration.ofMillis(50)).map(tick -> {
+                inFlight.decrementAndGet();
+                return member(userKey);
+            });
+        });
+    }
+
+    private static MemberResponse member(String userKey) {
+        MemberResponse response = new MemberResponse();
+        response.setUserKey(userKey);
+        return response;
+    }
+
+    private static String financeEmail(long id) {
+        return FinanceUserProvisioningService.buildFinanceEmail("user" + id + "@test.com",
+                CREATED_AT.toInstant(ZoneOffset.UTC).toEpochMilli());
+    }
+
+    private static User user(long id) {
+        User user = User.builder().email("user" + id + "@test.com").nickname("user" + id).campus("서울").build();
+        ReflectionTestUtils.setField(user, "userId", id);
+        ReflectionTestUtils.setField(user, "createdAt", CREATED_AT);
+        return user;
+    }
+}
@@ -0,0 +1,136 @@
+package com.solsolhey.friend.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import com.solsolhey.friend.entity.Friend;
+import com.solsolhey.friend.entity.Friend.FriendshipStatus;
+import com.solsolhey.solsol.config.JpaConfig;
+import com.solsolhey.user.entity.User;
+import com.solsolhey.user.repository.UserRepository;
+
+/**
+ * 친구 대시보드 집계 네이티브 쿼리가 방향/상태/기간 조건대로 세는지 확인
+ * (H2 PostgreSQL 모드 + Flyway 마이그레이션, V41 은 FriendUnreadCounterConsistencyTest 와 같은 방식으로 적용)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:friend-stats;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.flyway.enabled=true",
+        "spring.flyway.locations=classpath:db/migration",
+        "spring.flyway.target=40"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaConfig.class)
+class FriendRepositoryStatsTest {
+
+    private static final LocalDateTime START_OF_DAY = LocalDateTime.of(2025, 3, 1, 0, 0);
+    private static final LocalDateTime END_OF_DAY = START_OF_DAY.plusDays(1);
+
+    @Autowired private FriendRepository friendRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private DataSource dataSource;
+
+    private User me;
+    private User other;
+
+    @BeforeEach
+    void setUp() {
+        applyV41WithoutDropIndex();
+        me = user("me");
+        other = user("other");
+    }
+
+    @Test
+    @DisplayName("친구 수는 양방향 ACCEPTED 합, 받은/보낸 요청은 방향별 PENDING, 거절은 제외")
+    void countsFriendshipsByDirectionAndStatus() {
+        User a = user("a");
+        User b = user("b");
+        User c = user("c");
+        User d = user("d");
+        User e = user("e");
+        friend(me, a, FriendshipStatus.ACCEPTED);
+        friend(b, me, FriendshipStatus.ACCEPTED);
+        friend(c, me, FriendshipStatus.PENDING);
+        friend(me, d, FriendshipStatus.PENDING);
+        friend(e, me, FriendshipStatus.REJECTED);
+        friend(a, b, FriendshipStatus.ACCEPTED);
+
+        FriendRepository.FriendStatsView stats = friendRepository.aggregateStats(me.getUserId(), START_OF_DAY, END_OF_DAY);
+
+        assertThat(stats.getTotalFriends()).isEqualTo(2L);
+        assertThat(stats.getPendingRequests()).isEqualTo(1L);
+        assertThat(stats.getSentRequests()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("오늘 받은 상호작용은 [startOfDay, endOfDay) 범위만, 읽지 않은 수는 카운터 행 값(없으면 0)")
+    void countsTodayInteractionsAndUnreadCounter() {
+        interaction(other, me, START_OF_DAY);
+        interaction(other, me, END_OF_DAY.minusSeconds(1));
+        interaction(other, me, END_OF_DAY);
+        interaction(other, me, START_OF_DAY.minusSeconds(1));
+        interaction(me, other, START_OF_DAY.plusHours(1));
+        jdbcTemplate.update("INSERT INTO friend_unread_counters (user_id, unread_count) VALUES (?, ?)", me.getUserId(), 4);
+
+        FriendRepository.FriendStatsView stats = friendRepository.aggregateStats(me.getUserId(), START_OF_DAY, END_OF_DAY);
+        FriendRepository.FriendStatsView empty = friendRepository.aggregateStats(user("new").getUserId(), START_OF_DAY, END_OF_DAY);
+
+        assertThat(stats.getTodayInteractions()).isEqualTo(2L);
+        assertThat(stats.getUnreadInteractions()).isEqualTo(4L);
+        assertThat(empty.getTotalFriends()).isZero();
+        assertThat(empty.getUnreadInteractions()).isZero();
+        assertThat(empty.getTodayInteractions()).isZero();
+    }
+
+    private void applyV41WithoutDropIndex() {
+        Integer tables = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.tables WHERE LOWER(table_name) = 'friend_unread_counters'",
+                Integer.class);
+        if (tables != null && tables > 0) return;
+        try (var in = getClass().getResourceAsStream("/db/migration/V41__friend_unread_counters_and_inbox_index.sql")) {
+            String script = new String(in.readAllBytes(), StandardCharsets.UTF_8)
+                    .replace("DROP INDEX IF EXISTS ix_friend_interactions_to_user;", "");
+            new ResourceDatabasePopulator(new ByteArrayResource(script.getBytes(StandardCharsets.UTF_8)))
+                    .execute(dataSource);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void friend(User from, User to, FriendshipStatus status) {
+        friendRepository.saveAndFlush(Friend.builder().user(from).friendUser(to).status(status).build());
+    }
+
+    private void interaction(User from, User to, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO friend_interactions (from_user_id, to_user_id, interaction_type, message, created_at) "
+                + "VALUES (?, ?, 'CHEER', 'hi', ?)", from.getUserId(), to.getUserId(), createdAt);
+    }
+
+    private User user(String name) {
+        String unique = name + System.nanoTime();
+        return userRepository.saveAndFlush(User.builder()
+                .email(unique + "@test.com")
+                .passwordHash("x")
+                .nickname(unique)
+                .build());
+    }
+}
@@ -0,0 +1,165 @@
+package com.solsolhey.friend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class FriendGraphIndexTest {
+
+    // DB 의 ACCEPTED 행: {friend_id, user_id, friend_user_id}
+    private final List<long[]> rows = new ArrayList<>();
+    // 적재 쿼리가 행을 절반쯤 읽었을 때 다른 스레드에서 커밋되는 변경
+    private Runnable duringLoad = () -> { };
+
+    private JdbcTemplate jdbcTemplate;
+    private FriendGraphIndex index;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        doAnswer(inv -> {
+            RowCallbackHandler handler = inv.getArgument(1);
+            List<long[]> snapshot = List.copyOf(rows);
+            for (int i = 0; i < snapshot.size(); i++) {
+                if (i == snapshot.size() / 2) runOnOtherThread(duringLoad);
+                handler.processRow(resultSet(snapshot.get(i)));
+            }
+            if (snapshot.isEmpty()) runOnOtherThread(duringLoad);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+        index = new FriendGraphIndex(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("적재 중 커밋된 수락/삭제는 쿼리가 읽은 시점과 무관하게 적재 결과에 재적용")
+    void replaysChangesCommittedDuringLoad() {
+        rows.add(new long[] {10, 1, 2});
+        rows.add(new long[] {11, 1, 3});
+        rows.add(new long[] {13, 4, 5});
+        // 쿼리는 관계 11 을 이미 읽었고 관계 12 는 보지 못함
+        duringLoad = () -> {
+            index.onRemoved(11, 1, 3);
+            index.onAccepted(12, 2, 3);
+        };
+
+        index.reload();
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.areFriends(1, 2)).isTrue();
+        assertThat(index.areFriends(1, 3)).isFalse();
+        assertThat(index.areFriends(3, 1)).isFalse();
+        assertThat(index.areFriends(2, 3)).isTrue();
+        assertThat(index.areFriends(3, 2)).isTrue();
+        assertThat(index.friendshipIdsPage(2, 0, 10)).containsExactly(10, 12);
+        assertThat(index.getStatus().friendships()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("적재 중 커밋된 변경이 스냅샷에 이미 들어 있어도 중복 반영하지 않고, 삭제 후 재수락은 순서대로 반영")
+    void replayIsIdempotentAndOrdered() {
+        rows.add(new long[] {10, 1, 2});
+        rows.add(new long[] {20, 6, 7});
+        duringLoad = () -> {
+            index.onAccepted(10, 1, 2);
+            index.onRemoved(20, 6, 7);
+            index.onAccepted(21, 7, 6);
+        };
+
+        index.reload();
+
+        assertThat(index.friendCount(1)).isEqualTo(1);
+        assertThat(index.friendCount(2)).isEqualTo(1);
+        assertThat(index.friendshipIdsPage(6, 0, 10)).containsExactly(21);
+        assertThat(index.friendshipIdsPage(7, 0, 10)).containsExactly(21);
+    }
+
+    @Test
+    @DisplayName("재적재 실패 시 기존 인덱스를 유지하고 이후 변경은 바로 반영")
+    void failedReloadKeepsIndex() {
+        rows.add(new long[] {10, 1, 2});
+        index.reload();
+
+        doThrow(new DataAccessResourceFailureException("db down"))
+                .when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+        assertThatThrownBy(index::reload).isInstanceOf(DataAccessResourceFailureException.class);
+        index.reloadScheduled();
+
+        assertThat(index.areFriends(1, 2)).isTrue();
+        index.onAccepted(30, 1, 9);
+        assertThat(index.areFriends(9, 1)).isTrue();
+        assertThat(index.getStatus().reloads()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 변경은 커밋 후에만 반영하고 롤백되면 버림")
+    void appliesOnlyAfterCommit() {
+        rows.add(new long[] {10, 1, 2});
+        index.reload();
+
+        TransactionSynchronizationManager.initSynchronization();
+        index.onRemoved(10, 1, 2);
+        assertThat(index.areFriends(1, 2)).isTrue();
+        complete(false);
+        assertThat(index.areFriends(1, 2)).isTrue();
+
+        TransactionSynchronizationManager.initSynchronization();
+        index.onRemoved(10, 1, 2);
+        complete(true);
+        assertThat(index.areFriends(1, 2)).isFalse();
+        assertThat(index.friendCount(1)).isZero();
+    }
+
+    private static void complete(boolean commit) {
+        try {
+            for (TransactionSynchronization sync : TransactionSynchronizationManager.getSynchronizations()) {
+                if (commit) sync.afterCommit();
+                sync.afterCompletion(commit ? TransactionSynchronization.STATUS_COMMITTED
+                        : TransactionSynchronization.STATUS_ROLLED_BACK);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    // 적재 스레드가 잡고 있는 모니터와 무관하게 반영되는지 확인하기 위해 별도 스레드에서 커밋
+    private static void runOnOtherThread(Runnable task) throws InterruptedException {
+        Thread committer = new Thread(task, "committer");
+        committer.start();
+        committer.join(5_000);
+        assertThat(committer.isAlive()).isFalse();
+    }
+
+    private static ResultSet resultSet(long[] row) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong(1)).thenReturn(row[0]);
+        when(rs.getLong(2)).thenReturn(row[1]);
+        when(rs.getLong(3)).thenReturn(row[2]);
+        return rs;
+    }
+}
@@ -0,0 +1,223 @@
+package com.solsolhey.friend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.solsolhey.friend.dto.response.FriendNotificationResponse;
+import com.solsolhey.friend.entity.FriendInteraction;
+import com.solsolhey.friend.entity.FriendInteraction.InteractionType;
+import com.solsolhey.friend.repository.FriendInteractionRepository;
+import com.solsolhey.user.entity.User;
+
+class FriendNotificationHubTest {
+
+    private final User sender = user(1L);
+    private final User receiver = user(2L);
+    private final User otherReceiver = user(3L);
+    private final List<RecordingEmitter> emitters = new ArrayList<>();
+
+    private FriendInteractionRepository friendInteractionRepository;
+    private FriendNotificationHub hub;
+
+    @BeforeEach
+    void setUp() {
+        friendInteractionRepository = mock(FriendInteractionRepository.class);
+        hub = new FriendNotificationHub(friendInteractionRepository, mock(FriendUnreadCounter.class)) {
+            @Override
+            SseEmitter createEmitter() {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+        ReflectionTestUtils.setField(hub, "emitterTimeoutMs", 60_000L);
+        ReflectionTestUtils.setField(hub, "bufferSize", 64);
+        ReflectionTestUtils.setField(hub, "replayMax", 100);
+        ReflectionTestUtils.setField(hub, "maxConnectionsPerUser", 5);
+        ReflectionTestUtils.setField(hub, "maxConnections", 100);
+        ReflectionTestUtils.setField(hub, "senderThreads", 2);
+        ReflectionTestUtils.setField(hub, "sendTimeoutMs", 10_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        emitters.forEach(e -> e.gate.countDown());
+        hub.shutdown();
+    }
+
+    @Test
+    @DisplayName("재연결 시 Last-Event-ID 이후 상호작용을 먼저 보내고, 재전송 조회 중 커밋된 실시간 이벤트는 중복 없이 이어서 전송")
+    void replaysMissedThenLiveWithoutDuplicates() throws Exception {
+        when(friendInteractionRepository.findReceivedAfter(eq(receiver), eq(5L), any(Pageable.class))).thenAnswer(inv -> {
+            // 조회 도중 커밋된 상호작용 (7 은 조회 결과에도 포함)
+            hub.publishReceived(interaction(7L, receiver));
+            hub.publishReceived(interaction(8L, receiver));
+            return List.of(interaction(6L, receiver), interaction(7L, receiver));
+        });
+        init();
+
+        RecordingEmitter emitter = subscribe(receiver, 5L);
+
+        assertThat(emitter.await(3)).containsExactly("interaction:6", "interaction:7", "interaction:8");
+        assertThat(emitter.sent.poll(200, TimeUnit.MILLISECONDS)).isNull();
+        assertThat(hub.getStatus().replayed()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재전송 한도를 넘거나 조회에 실패하면 resync 이벤트로 목록 재조회를 요청")
+    void requestsResyncWhenReplayIncomplete() throws Exception {
+        ReflectionTestUtils.setField(hub, "replayMax", 2);
+        when(friendInteractionRepository.findReceivedAfter(eq(receiver), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(interaction(6L, receiver), interaction(7L, receiver), interaction(8L, receiver)));
+        when(friendInteractionRepository.findReceivedAfter(eq(otherReceiver), anyLong(), any(Pageable.class)))
+                .thenThrow(new IllegalStateException("db down"));
+        init();
+
+        RecordingEmitter truncated = subscribe(receiver, 5L);
+        RecordingEmitter failed = subscribe(otherReceiver, 5L);
+
+        assertThat(truncated.await(3)).containsExactly("resync", "interaction:6", "interaction:7");
+        assertThat(failed.await(1)).containsExactly("resync");
+        assertThat(hub.getStatus().resyncs()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("전송 버퍼가 넘치면 오래된 이벤트를 버리고 resync 후 남은 이벤트 전송")
+    void overflowDropsOldestAndRequestsResync() throws Exception {
+        ReflectionTestUtils.setField(hub, "bufferSize", 2);
+        init();
+        RecordingEmitter emitter = subscribe(receiver, null);
+        emitter.block();
+
+        hub.publishReceived(interaction(1L, receiver));
+        assertThat(emitter.sending.await(5, TimeUnit.SECONDS)).isTrue();
+        hub.publishReceived(interaction(2L, receiver));
+        hub.publishReceived(interaction(3L, receiver));
+        hub.publishReceived(interaction(4L, receiver));
+        emitter.gate.countDown();
+
+        assertThat(emitter.await(4)).containsExactly("interaction:1", "resync", "interaction:3", "interaction:4");
+        assertThat(hub.getStatus().dropped()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("send 가 send-timeout 을 넘긴 연결은 끊고 전송 스레드를 풀어 다른 연결 전송을 이어감")
+    void closesStalledConnection() throws Exception {
+        ReflectionTestUtils.setField(hub, "senderThreads", 1);
+        ReflectionTestUtils.setField(hub, "sendTimeoutMs", 50L);
+        init();
+        RecordingEmitter stuck = subscribe(receiver, null);
+        RecordingEmitter healthy = subscribe(otherReceiver, null);
+        stuck.block();
+
+        hub.publishReceived(interaction(1L, receiver));
+        assertThat(stuck.sending.await(5, TimeUnit.SECONDS)).isTrue();
+        hub.publishReceived(interaction(2L, otherReceiver));
+        assertThat(healthy.sent.poll(100, TimeUnit.MILLISECONDS)).isNull();
+
+        hub.closeStalledConnections();
+
+        assertThat(healthy.await(1)).containsExactly("interaction:2");
+        assertThat(stuck.sent).isEmpty();
+        assertThat(hub.getStatus().stalled()).isEqualTo(1);
+        assertThat(hub.getStatus().connections()).isEqualTo(1);
+    }
+
+    private void init() {
+        ReflectionTestUtils.invokeMethod(hub, "init");
+    }
+
+    private RecordingEmitter subscribe(User user, Long lastEventId) {
+        return (RecordingEmitter) hub.subscribe(user, lastEventId);
+    }
+
+    private FriendInteraction interaction(long id, User to) {
+        FriendInteraction interaction = FriendInteraction.builder()
+                .fromUser(sender)
+                .toUser(to)
+                .interactionType(InteractionType.CHEER)
+                .message("hi")
+                .build();
+        ReflectionTestUtils.setField(interaction, "interactionId", id);
+        return interaction;
+    }
+
+    private static User user(long id) {
+        User user = User.builder().email("u" + id + "@test.com").nickname("u" + id).build();
+        ReflectionTestUtils.setField(user, "userId", id);
+        return user;
+    }
+
+    /**
+     * 전송된 이벤트를 "interaction:{id}" / "resync" / "ping" 으로 기록. block() 후에는 gate 가 열릴 때까지 send 가 막힘
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+        private final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch gate = new CountDownLatch(1);
+        private volatile boolean blocking;
+
+        void block() {
+            blocking = true;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending.countDown();
+            if (blocking) {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    // 막힌 소켓 쓰기가 인터럽트된 경우와 같이 실패로 끝냄
+                    throw new IOException("interrupted", e);
+                }
+            }
+            sent.add(describe(builder));
+        }
+
+        List<String> await(int count) throws InterruptedException {
+            List<String> received = new ArrayList<>();
+            while (received.size() < count) {
+                String next = sent.poll(5, TimeUnit.SECONDS);
+                if (next == null) break;
+                received.add(next);
+            }
+            return received;
+        }
+
+        private static String describe(SseEventBuilder builder) {
+            StringBuilder text = new StringBuilder();
+            Long interactionId = null;
+            for (var part : builder.build()) {
+                if (part.getData() instanceof FriendNotificationResponse r) {
+                    interactionId = r.interaction().interactionId();
+                } else {
+                    text.append(part.getData());
+                }
+            }
+            if (text.indexOf("event:resync") >= 0) return "resync";
+            if (interactionId != null) return "interaction:" + interactionId;
+            return "ping";
+        }
+    }
+}
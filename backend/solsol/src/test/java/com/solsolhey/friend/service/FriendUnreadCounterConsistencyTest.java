@@ -0,0 +1,212 @@
+package com.solsolhey.friend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.solsolhey.solsol.config.JpaConfig;
+import com.solsolhey.common.quota.DailyQuotaService;
+import com.solsolhey.exp.service.ExpDailyCounterService;
+import com.solsolhey.friend.dto.request.FriendAddRequest;
+import com.solsolhey.friend.dto.request.FriendInteractionRequest;
+import com.solsolhey.friend.dto.response.FriendInteractionResponse;
+import com.solsolhey.friend.dto.response.FriendResponse;
+import com.solsolhey.friend.entity.FriendInteraction.InteractionType;
+import com.solsolhey.friend.repository.FriendInteractionRepository;
+import com.solsolhey.friend.repository.FriendLikeDailyCounterRepository;
+import com.solsolhey.friend.repository.FriendLikePairStateRepository;
+import com.solsolhey.friend.repository.FriendRepository;
+import com.solsolhey.mascot.service.MascotViewService;
+import com.solsolhey.user.entity.User;
+import com.solsolhey.user.repository.UserRepository;
+import com.solsolhey.user.service.NicknameSearchIndex;
+
+/**
+ * 읽지 않은 상호작용 카운터가 생성/읽음/모두 읽음/거절 경로마다 실제 COUNT 와 일치하는지 확인
+ * (H2 PostgreSQL 모드 + Flyway 마이그레이션, 서비스 호출마다 별도 트랜잭션)
+ * V41 의 마지막 DROP INDEX 는 H2 에서 외래 키가 그 인덱스를 쓰고 있어 실패하므로 그 문장만 빼고 직접 적용
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:friend-unread;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.flyway.enabled=true",
+        "spring.flyway.locations=classpath:db/migration",
+        "spring.flyway.target=40"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class FriendUnreadCounterConsistencyTest {
+
+    @Autowired private FriendRepository friendRepository;
+    @Autowired private FriendInteractionRepository friendInteractionRepository;
+    @Autowired private FriendLikeDailyCounterRepository likeDailyCounterRepository;
+    @Autowired private FriendLikePairStateRepository likePairStateRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private DataSource dataSource;
+
+    private TransactionTemplate tx;
+    private FriendUnreadCounter unreadCounter;
+    private FriendServiceImpl friendService;
+
+    private User alice;
+    private User bob;
+    private User carol;
+
+    @BeforeEach
+    void setUp() {
+        applyV41WithoutDropIndex();
+        tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM friend_interactions");
+            jdbcTemplate.update("DELETE FROM friends");
+            jdbcTemplate.update("DELETE FROM friend_unread_counters");
+        });
+        unreadCounter = new FriendUnreadCounter(jdbcTemplate, transactionManager);
+
+        // 친구 여부는 인덱스(모의)로 판정
+        FriendGraphIndex friendGraphIndex = mock(FriendGraphIndex.class);
+        when(friendGraphIndex.isReady()).thenReturn(true);
+        when(friendGraphIndex.areFriends(anyLong(), anyLong())).thenReturn(true);
+
+        friendService = new FriendServiceImpl(
+                friendRepository,
+                friendInteractionRepository,
+                likeDailyCounterRepository,
+                likePairStateRepository,
+                userRepository,
+                mock(ExpDailyCounterService.class),
+                mock(MascotViewService.class),
+                mock(DailyQuotaService.class),
+                friendGraphIndex,
+                mock(NicknameSearchIndex.class),
+                unreadCounter,
+                mock(FriendNotificationHub.class));
+
+        alice = user("alice");
+        bob = user("bob");
+        carol = user("carol");
+    }
+
+    @Test
+    @DisplayName("상호작용 생성 후 카운터 = 읽지 않은 COUNT")
+    void insertPath() {
+        send(alice, bob, InteractionType.CHEER);
+        send(alice, bob, InteractionType.POKE);
+        send(carol, bob, InteractionType.MESSAGE);
+
+        assertConsistent(bob, 3);
+        assertConsistent(alice, 0);
+    }
+
+    @Test
+    @DisplayName("단건 읽음 처리는 한 번만 차감")
+    void markReadPath() {
+        FriendInteractionResponse first = send(alice, bob, InteractionType.CHEER);
+        send(carol, bob, InteractionType.POKE);
+
+        inTx(() -> { friendService.markInteractionAsRead(bob, first.interactionId()); return null; });
+        assertConsistent(bob, 1);
+
+        inTx(() -> { friendService.markInteractionAsRead(bob, first.interactionId()); return null; });
+        assertConsistent(bob, 1);
+    }
+
+    @Test
+    @DisplayName("모두 읽음 처리 후 새로 도착한 상호작용만 남음")
+    void readAllPath() {
+        FriendInteractionResponse first = send(alice, bob, InteractionType.CHEER);
+        send(carol, bob, InteractionType.POKE);
+        send(alice, bob, InteractionType.MESSAGE);
+        inTx(() -> { friendService.markInteractionAsRead(bob, first.interactionId()); return null; });
+
+        inTx(() -> { friendService.markAllReceivedInteractionsAsRead(bob); return null; });
+        assertConsistent(bob, 0);
+
+        send(carol, bob, InteractionType.CHEER);
+        assertConsistent(bob, 1);
+    }
+
+    @Test
+    @DisplayName("친구 요청 알림 생성 후 거절하면 알림과 카운터 함께 제거")
+    void friendRequestAndRejectPath() {
+        FriendResponse request = inTx(() -> friendService.sendFriendRequest(alice, new FriendAddRequest(bob.getUserId(), null)));
+        send(carol, bob, InteractionType.CHEER);
+        assertConsistent(bob, 2);
+
+        inTx(() -> { friendService.rejectFriendRequest(bob, request.friendId()); return null; });
+        assertConsistent(bob, 1);
+
+        // 거절 후 재요청(기존 레코드 재사용 경로)
+        FriendResponse again = inTx(() -> friendService.sendFriendRequest(alice, new FriendAddRequest(bob.getUserId(), null)));
+        assertConsistent(bob, 2);
+
+        inTx(() -> { friendService.markAllReceivedInteractionsAsRead(bob); return null; });
+        inTx(() -> { friendService.rejectFriendRequest(bob, again.friendId()); return null; });
+        assertConsistent(bob, 0);
+    }
+
+    private void applyV41WithoutDropIndex() {
+        Integer tables = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.tables WHERE LOWER(table_name) = 'friend_unread_counters'",
+                Integer.class);
+        if (tables != null && tables > 0) return;
+        try (var in = getClass().getResourceAsStream("/db/migration/V41__friend_unread_counters_and_inbox_index.sql")) {
+            String script = new String(in.readAllBytes(), StandardCharsets.UTF_8)
+                    .replace("DROP INDEX IF EXISTS ix_friend_interactions_to_user;", "");
+            new ResourceDatabasePopulator(new ByteArrayResource(script.getBytes(StandardCharsets.UTF_8)))
+                    .execute(dataSource);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private FriendInteractionResponse send(User from, User to, InteractionType type) {
+        return inTx(() -> friendService.sendInteraction(from,
+                new FriendInteractionRequest(to.getUserId(), type, type.name())));
+    }
+
+    private void assertConsistent(User user, long expected) {
+        long counted = inTx(() -> friendInteractionRepository.countUnreadByToUser(user));
+        assertThat(counted).isEqualTo(expected);
+        assertThat(unreadCounter.get(user.getUserId())).isEqualTo(counted);
+    }
+
+    private User user(String name) {
+        String unique = name + System.nanoTime();
+        return inTx(() -> userRepository.save(User.builder()
+                .email(unique + "@test.com")
+                .passwordHash("x")
+                .nickname(unique)
+                .build()));
+    }
+
+    private <T> T inTx(Supplier<T> action) {
+        return tx.execute(status -> action.get());
+    }
+}
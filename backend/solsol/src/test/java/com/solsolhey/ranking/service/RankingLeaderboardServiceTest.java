@@ -0,0 +1,135 @@
+package com.solsolhey.ranking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.solsolhey.ranking.entity.Vote;
+import com.solsolhey.ranking.event.VoteCastEvent;
+import com.solsolhey.ranking.repository.RankingEntryRepository;
+import com.solsolhey.ranking.service.RankingLeaderboardService.LeaderboardPage;
+import com.solsolhey.ranking.service.RankingLeaderboardService.RankedEntry;
+
+class RankingLeaderboardServiceTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    private final List<Object[]> rows = new ArrayList<>();
+    private final Map<Long, Long> votes = new HashMap<>();
+
+    private RankingEntryRepository rankingEntryRepository;
+    private VoteTallyService voteTallyService;
+    private RankingLeaderboardService service;
+
+    @BeforeEach
+    void setUp() {
+        rankingEntryRepository = mock(RankingEntryRepository.class);
+        voteTallyService = mock(VoteTallyService.class);
+        when(rankingEntryRepository.findLeaderboardRows()).thenAnswer(inv -> new ArrayList<>(rows));
+        when(voteTallyService.getVoteCount(anyLong(), any()))
+                .thenAnswer(inv -> votes.getOrDefault(inv.<Long>getArgument(0), 0L));
+        service = new RankingLeaderboardService(rankingEntryRepository, voteTallyService);
+
+        // 엔트리 ID 가 클수록 최신, 득표 수는 ID 순서와 무관하게 배치
+        entry(1L, "CAMPUS", "서울", 0, 30);
+        entry(2L, "CAMPUS", "부산", 1, 50);
+        entry(3L, "CAMPUS", "서울", 2, 10);
+        entry(4L, "CAMPUS", "서울", 3, 40);
+        entry(5L, "CAMPUS", null, 4, 20);
+        entry(6L, "NATIONAL", "서울", 5, 99);
+    }
+
+    @Test
+    @DisplayName("득표순 페이지: 순위는 전체 기준 위치, 마지막 페이지는 남은 만큼, 범위 밖은 빈 목록")
+    void slicesPagesByVotes() {
+        LeaderboardPage first = service.getPage("CAMPUS", null, "votes", 0, 2);
+        assertThat(first.total()).isEqualTo(5);
+        assertThat(ids(first)).containsExactly(2L, 4L);
+        assertThat(first.entries()).extracting(RankedEntry::rank).containsExactly(1, 2);
+
+        LeaderboardPage last = service.getPage("CAMPUS", null, "votes", 2, 2);
+        assertThat(ids(last)).containsExactly(3L);
+        assertThat(last.entries().get(0).rank()).isEqualTo(5);
+
+        LeaderboardPage beyond = service.getPage("CAMPUS", null, "votes", 3, 2);
+        assertThat(beyond.total()).isEqualTo(5);
+        assertThat(beyond.entries()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최신순/캠퍼스 보드: 등록일 내림차순, 캠퍼스별 보드는 해당 캠퍼스 엔트리만 포함")
+    void slicesNewestAndCampusBoards() {
+        assertThat(ids(service.getPage("CAMPUS", null, "newest", 0, 10))).containsExactly(5L, 4L, 3L, 2L, 1L);
+        assertThat(ids(service.getPage("CAMPUS", "서울", "votes", 0, 10))).containsExactly(4L, 1L, 3L);
+        assertThat(ids(service.getPage("NATIONAL", null, "votes", 0, 10))).containsExactly(6L);
+        assertThat(service.getPage("CAMPUS", "대전", "votes", 0, 10).total()).isZero();
+        assertThat(service.getPage("CAMPUS", null, "votes", -1, 10).entries()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("투표 이벤트: 득표순 위치를 옮기고 최신순 보드는 순서 유지한 채 최신 득표 수 표시")
+    void repositionsOnVoteCast() {
+        service.getPage("CAMPUS", null, "votes", 0, 10);
+
+        votes.put(3L, 45L);
+        service.onVoteCast(new VoteCastEvent(3L, Vote.VoteType.CAMPUS));
+
+        assertThat(ids(service.getPage("CAMPUS", null, "votes", 0, 10))).containsExactly(2L, 3L, 4L, 1L, 5L);
+        assertThat(ids(service.getPage("CAMPUS", "서울", "votes", 0, 10))).containsExactly(3L, 4L, 1L);
+        LeaderboardPage newest = service.getPage("CAMPUS", null, "newest", 0, 10);
+        assertThat(ids(newest)).containsExactly(5L, 4L, 3L, 2L, 1L);
+        assertThat(newest.entries().get(2).voteCount()).isEqualTo(45L);
+    }
+
+    @Test
+    @DisplayName("투표 이벤트: 랭킹 타입이 다르거나 모르는 엔트리는 무시")
+    void ignoresMismatchedVoteCast() {
+        service.getPage("CAMPUS", null, "votes", 0, 10);
+
+        votes.put(3L, 100L);
+        service.onVoteCast(new VoteCastEvent(3L, Vote.VoteType.NATIONAL));
+        service.onVoteCast(new VoteCastEvent(999L, Vote.VoteType.CAMPUS));
+
+        assertThat(ids(service.getPage("CAMPUS", null, "votes", 0, 10))).containsExactly(2L, 4L, 1L, 5L, 3L);
+    }
+
+    @Test
+    @DisplayName("주기 재구성: 득표 카운터를 다시 읽고 다른 인스턴스의 엔트리/득표를 반영, 실패 시 기존 보드 유지")
+    void scheduledRebuildPicksUpRemoteChanges() {
+        service.getPage("CAMPUS", null, "votes", 0, 10);
+
+        entry(7L, "CAMPUS", "서울", 6, 35);
+        votes.put(1L, 60L);
+        service.rebuildScheduled();
+
+        verify(voteTallyService).reload();
+        assertThat(ids(service.getPage("CAMPUS", null, "votes", 0, 10))).containsExactly(1L, 2L, 4L, 7L, 5L, 3L);
+
+        doThrow(new IllegalStateException("db down")).when(voteTallyService).reload();
+        service.rebuildScheduled();
+        assertThat(service.getPage("CAMPUS", null, "votes", 0, 10).total()).isEqualTo(6);
+    }
+
+    private void entry(Long entryId, String rankingType, String campus, int minutes, long voteCount) {
+        rows.add(new Object[] {entryId, rankingType, BASE.plusMinutes(minutes), campus});
+        votes.put(entryId, voteCount);
+    }
+
+    private static List<Long> ids(LeaderboardPage page) {
+        return page.entries().stream().map(RankedEntry::entryId).toList();
+    }
+}
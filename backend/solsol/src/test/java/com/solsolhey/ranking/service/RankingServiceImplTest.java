@@ -0,0 +1,115 @@
+package com.solsolhey.ranking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.solsolhey.mascot.repository.MascotRepository;
+import com.solsolhey.mascot.repository.MascotSnapshotRepository;
+import com.solsolhey.ranking.entity.RankingEntry;
+import com.solsolhey.ranking.entity.Vote;
+import com.solsolhey.ranking.repository.RankingEntryRepository;
+import com.solsolhey.ranking.repository.VoteRepository;
+import com.solsolhey.solsol.config.MediaStorageProperties;
+import com.solsolhey.user.repository.UserRepository;
+
+class RankingServiceImplTest {
+
+    private static final long VOTER = 100L;
+
+    private VoteRepository voteRepository;
+    private MascotRepository mascotRepository;
+    private RankingEntryRepository rankingEntryRepository;
+    private VoteIngestionService voteIngestionService;
+    private RankingServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        voteRepository = mock(VoteRepository.class);
+        mascotRepository = mock(MascotRepository.class);
+        rankingEntryRepository = mock(RankingEntryRepository.class);
+        voteIngestionService = mock(VoteIngestionService.class);
+        service = new RankingServiceImpl(voteRepository, mock(UserRepository.class), mascotRepository,
+                mock(MascotSnapshotRepository.class), rankingEntryRepository, mock(MediaStorageProperties.class),
+                mock(RankingLeaderboardService.class), mock(VoteTallyService.class), voteIngestionService);
+
+        // 엔트리 1~5: 모두 CAMPUS, 마스코트 ID = 엔트리 ID + 10, 엔트리 4 는 투표자 본인 마스코트, 엔트리 5 는 NATIONAL
+        when(rankingEntryRepository.findAllById(anyList())).thenReturn(List.of(
+                entry(1L, "CAMPUS"), entry(2L, "CAMPUS"), entry(3L, "CAMPUS"),
+                entry(4L, "CAMPUS"), entry(5L, "NATIONAL")));
+        when(mascotRepository.findOwnerIdsByIdIn(anyList())).thenReturn(List.of(
+                new Object[] {11L, 1L}, new Object[] {12L, 2L}, new Object[] {13L, 3L},
+                new Object[] {14L, VOTER}, new Object[] {15L, 5L}));
+        when(voteRepository.findVotedEntryIdsIn(eq(VOTER), eq(Vote.VoteType.CAMPUS), anyList())).thenReturn(List.of(2L));
+        when(voteIngestionService.isInFlight(VOTER, 3L, Vote.VoteType.CAMPUS)).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("목록 판정: 투표 이력/적재 대기/없는 엔트리/본인 마스코트/타입 불일치는 불가, 나머지는 가능")
+    void evaluatesEachRule() {
+        Map<Long, Boolean> result = service.getVoteableStatusForCampusEntries(VOTER,
+                Arrays.asList(1L, 2L, 3L, 4L, 5L, 6L, null, 1L));
+
+        assertThat(result).containsOnly(
+                Map.entry(1L, true),
+                Map.entry(2L, false),
+                Map.entry(3L, false),
+                Map.entry(4L, false),
+                Map.entry(5L, false),
+                Map.entry(6L, false));
+    }
+
+    @Test
+    @DisplayName("목록 판정은 항목 수와 무관하게 IN 쿼리 3회로 처리하고 건별 조회를 하지 않음")
+    void usesSetBasedQueries() {
+        service.getVoteableStatusForCampusEntries(VOTER, List.of(1L, 2L, 3L, 4L, 5L, 6L));
+
+        verify(voteRepository, times(1)).findVotedEntryIdsIn(eq(VOTER), eq(Vote.VoteType.CAMPUS),
+                eq(List.of(1L, 2L, 3L, 4L, 5L, 6L)));
+        verify(rankingEntryRepository, times(1)).findAllById(anyList());
+        verify(mascotRepository, times(1)).findOwnerIdsByIdIn(anyList());
+        verify(voteRepository, never()).existsByVoterIdAndEntryIdAndVoteType(anyLong(), anyLong(), any());
+        verify(rankingEntryRepository, never()).findById(anyLong());
+        verify(mascotRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("빈 목록은 조회 없이 빈 결과, 단건 판정도 같은 규칙을 사용")
+    void emptyListAndSingleEntry() {
+        assertThat(service.getVoteableStatusForCampusEntries(VOTER, List.of())).isEmpty();
+        verifyNoInteractions(voteRepository, rankingEntryRepository, mascotRepository);
+
+        assertThat(service.canVote(VOTER, 1L, Vote.VoteType.CAMPUS)).isTrue();
+        assertThat(service.canVote(VOTER, 4L, Vote.VoteType.CAMPUS)).isFalse();
+        assertThat(service.canVote(VOTER, 5L, Vote.VoteType.NATIONAL)).isTrue();
+    }
+
+    private static RankingEntry entry(Long entryId, String rankingType) {
+        RankingEntry entry = RankingEntry.builder()
+                .userId(entryId)
+                .mascotId(entryId + 10)
+                .title("entry" + entryId)
+                .description("desc")
+                .rankingType(rankingType)
+                .build();
+        ReflectionTestUtils.setField(entry, "entryId", entryId);
+        return entry;
+    }
+}
@@ -0,0 +1,254 @@
+package com.solsolhey.ranking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.solsolhey.common.quota.DailyQuotaService;
+import com.solsolhey.ranking.entity.Vote;
+import com.solsolhey.ranking.repository.VoteRepository;
+import com.solsolhey.ranking.service.VoteIngestionService.Admission;
+
+class VoteIngestionServiceTest {
+
+    private static final Vote.VoteType NATIONAL = Vote.VoteType.NATIONAL;
+
+    @TempDir
+    Path spillDir;
+
+    private JdbcTemplate jdbcTemplate;
+    private VoteRepository voteRepository;
+    private VoteIngestionService service;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        voteRepository = mock(VoteRepository.class);
+        service = newService();
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 남은 투표가 보관 파일로 가더라도 임시 디렉터리이므로 무시
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("접수: 같은 멱등키는 DUPLICATE, 같은 (투표자, 엔트리, 타입)은 ALREADY_VOTED 이고 거절된 멱등키는 반환")
+    void rejectsDuplicates() {
+        assertThat(submit(1L, 10L, "k1")).isEqualTo(Admission.ACCEPTED);
+        assertThat(submit(1L, 11L, "k1")).isEqualTo(Admission.DUPLICATE_IDEMPOTENCY_KEY);
+        assertThat(submit(1L, 10L, "k2")).isEqualTo(Admission.ALREADY_VOTED);
+
+        // ALREADY_VOTED 로 거절된 k2 는 다른 엔트리에 다시 쓸 수 있음
+        assertThat(service.isRecentIdempotencyKey("k2")).isFalse();
+        assertThat(submit(1L, 11L, "k2")).isEqualTo(Admission.ACCEPTED);
+        assertThat(service.getStatus().rejectedDuplicate()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("접수: 일일 한도를 넘는 투표는 DAILY_LIMIT_REACHED 이고 예약을 남기지 않음")
+    void rejectsOverDailyLimit() {
+        for (long entry = 1; entry <= 5; entry++) {
+            assertThat(submit(1L, entry, "k" + entry)).isEqualTo(Admission.ACCEPTED);
+            flush();
+        }
+
+        assertThat(submit(1L, 6L, "k6")).isEqualTo(Admission.DAILY_LIMIT_REACHED);
+        assertThat(service.hasReachedDailyLimit(1L, NATIONAL)).isTrue();
+        assertThat(service.isInFlight(1L, 6L, NATIONAL)).isFalse();
+        assertThat(service.isRecentIdempotencyKey("k6")).isFalse();
+        assertThat(service.getStatus().rejectedQuota()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("접수: 큐가 가득 차면 REJECTED_BACKPRESSURE 이고 일일 한도/진행 중 키/멱등키를 모두 되돌림")
+    void backpressureReleasesReservations() {
+        for (long voter = 1; voter <= 3; voter++) {
+            assertThat(submit(voter, 10L, "k" + voter)).isEqualTo(Admission.ACCEPTED);
+        }
+        for (int i = 0; i < 4; i++) {
+            assertThat(submit(9L, 10L, "again")).isEqualTo(Admission.REJECTED_BACKPRESSURE);
+        }
+
+        assertThat(service.isInFlight(9L, 10L, NATIONAL)).isFalse();
+        assertThat(service.isRecentIdempotencyKey("again")).isFalse();
+        assertThat(service.hasReachedDailyLimit(9L, NATIONAL)).isFalse();
+        assertThat(service.getStatus().rejectedBackpressure()).isEqualTo(4);
+
+        flush();
+        assertThat(submit(9L, 10L, "again")).isEqualTo(Admission.ACCEPTED);
+    }
+
+    @Test
+    @DisplayName("건별 재시도: 성공 건은 기록, 제약 위반은 dead-letter 파일로 폐기, 일시 오류는 재시도 대기")
+    void rowByRowRetrySeparatesOutcomes() throws Exception {
+        failBatches();
+        failRows(Set.of(2L), Set.of(3L));
+        submit(1L, 10L, "k1");
+        submit(2L, 10L, "k2");
+        submit(3L, 10L, "k3");
+
+        flush();
+
+        VoteIngestionService.IngestionStatus status = service.getStatus();
+        assertThat(status.totalFlushed()).isEqualTo(1);
+        assertThat(status.totalDeadLettered()).isEqualTo(1);
+        assertThat(status.retryPending()).isEqualTo(1);
+        assertThat(status.totalRowRetries()).isEqualTo(1);
+        assertThat(service.isInFlight(1L, 10L, NATIONAL)).isFalse();
+        // 제약 위반 건은 예약을 되돌려 재투표 가능
+        assertThat(service.isInFlight(2L, 10L, NATIONAL)).isFalse();
+        assertThat(service.isRecentIdempotencyKey("k2")).isFalse();
+        assertThat(Files.readAllLines(spillDir.resolve("dead-letter.jsonl"))).hasSize(1);
+        // 일시 오류 건은 계속 진행 중
+        assertThat(service.isInFlight(3L, 10L, NATIONAL)).isTrue();
+    }
+
+    @Test
+    @DisplayName("건별 재시도: 한 건도 기록되지 않으면 DB 장애로 보고 시도 횟수를 올리지 않은 채 되돌림")
+    void allRowsFailingDoesNotConsumeAttempts() {
+        failBatches();
+        failRows(Set.of(), Set.of(1L, 2L));
+        submit(1L, 10L, "k1");
+        submit(2L, 10L, "k2");
+
+        for (int i = 0; i < 5; i++) {
+            flush();
+        }
+
+        VoteIngestionService.IngestionStatus status = service.getStatus();
+        assertThat(status.retryPending()).isEqualTo(2);
+        assertThat(status.totalRowRetries()).isZero();
+        assertThat(status.totalDeadLettered()).isZero();
+    }
+
+    @Test
+    @DisplayName("재시도 한도를 넘긴 투표는 예약을 유지한 채 보관 파일로 옮김")
+    void exhaustedVoteIsSpilledNotDropped() throws Exception {
+        failBatches();
+        failRows(Set.of(), Set.of(1L));
+        submit(1L, 10L, "k1");
+        // 매 주기 다른 투표가 기록되어야 시도 횟수가 올라감 (maxAttempts = 3)
+        for (long voter = 100; voter < 103; voter++) {
+            submit(voter, 10L, "ok" + voter);
+            flush();
+        }
+
+        assertThat(service.getStatus().retryPending()).isZero();
+        assertThat(service.getStatus().totalSpilled()).isEqualTo(1);
+        assertThat(Files.readAllLines(spillDir.resolve("pending.jsonl"))).hasSize(1);
+        assertThat(service.isInFlight(1L, 10L, NATIONAL)).isTrue();
+        assertThat(service.isRecentIdempotencyKey("k1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("종료 시 기록하지 못한 투표는 보관했다가 다음 기동 시 재적재 (이미 기록된 멱등키는 건너뜀)")
+    void undrainedVotesSurviveRestart() throws Exception {
+        failBatches();
+        failRows(Set.of(), Set.of(1L, 2L));
+        submit(1L, 10L, "k1");
+        submit(2L, 10L, "k2");
+
+        service.shutdown();
+        assertThat(Files.readAllLines(spillDir.resolve("pending.jsonl"))).hasSize(2);
+
+        // 재기동: k1 은 그 사이 기록된 것으로 확인됨
+        jdbcTemplate = mock(JdbcTemplate.class);
+        voteRepository = mock(VoteRepository.class);
+        when(voteRepository.findRecentIdempotencyKeys(any(Pageable.class))).thenReturn(List.of("k1"));
+        service = newService();
+
+        assertThat(Files.exists(spillDir.resolve("pending.jsonl"))).isFalse();
+        assertThat(service.getStatus().totalReplayed()).isEqualTo(1);
+        assertThat(service.getStatus().retryPending()).isEqualTo(1);
+        assertThat(service.isInFlight(2L, 10L, NATIONAL)).isTrue();
+        assertThat(submit(2L, 11L, "k2")).isEqualTo(Admission.DUPLICATE_IDEMPOTENCY_KEY);
+
+        flush();
+        assertThat(service.getStatus().totalFlushed()).isEqualTo(1);
+        assertThat(service.isInFlight(2L, 10L, NATIONAL)).isFalse();
+    }
+
+    private VoteIngestionService newService() {
+        VoteIngestionService s = new VoteIngestionService(jdbcTemplate,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), voteRepository,
+                new DailyQuotaService(), mock(VoteTallyService.class), mock(ApplicationEventPublisher.class));
+        ReflectionTestUtils.setField(s, "queueCapacity", 3);
+        ReflectionTestUtils.setField(s, "batchSize", 10);
+        // 플러시는 테스트에서 직접 호출
+        ReflectionTestUtils.setField(s, "flushIntervalMs", 3_600_000L);
+        ReflectionTestUtils.setField(s, "idempotencyCacheSize", 100);
+        ReflectionTestUtils.setField(s, "maxAttempts", 3);
+        ReflectionTestUtils.setField(s, "spillDir", spillDir.toString());
+        s.init();
+        return s;
+    }
+
+    private Admission submit(Long voterId, Long entryId, String idempotencyKey) {
+        return service.submit(entryId, 1L, voterId, NATIONAL, 1, idempotencyKey, null);
+    }
+
+    private void flush() {
+        ReflectionTestUtils.invokeMethod(service, "flushSafely");
+    }
+
+    @SuppressWarnings("unchecked")
+    private void failBatches() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new QueryTimeoutException("batch failed"));
+    }
+
+    /**
+     * 건별 기록: constraintVoters 는 제약 위반, transientVoters 는 일시 오류, 나머지는 성공
+     */
+    private void failRows(Set<Long> constraintVoters, Set<Long> transientVoters) {
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class))).thenAnswer(invocation -> {
+            long voterId = voterOf(invocation.getArgument(1));
+            if (constraintVoters.contains(voterId)) throw new DataIntegrityViolationException("constraint");
+            if (transientVoters.contains(voterId)) throw new QueryTimeoutException("timeout");
+            return 1;
+        });
+    }
+
+    private static long voterOf(PreparedStatementSetter setter) throws Exception {
+        PreparedStatement ps = mock(PreparedStatement.class);
+        AtomicLong voterId = new AtomicLong();
+        doAnswer(invocation -> {
+            voterId.set(invocation.getArgument(1));
+            return null;
+        }).when(ps).setLong(eq(3), anyLong());
+        setter.setValues(ps);
+        return voterId.get();
+    }
+}
@@ -0,0 +1,116 @@
+package com.solsolhey.ranking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.solsolhey.ranking.entity.Vote;
+import com.solsolhey.ranking.event.RankingEntryDeletedEvent;
+import com.solsolhey.ranking.repository.VoteRepository;
+
+class VoteTallyServiceTest {
+
+    private static final Vote.VoteType CAMPUS = Vote.VoteType.CAMPUS;
+    private static final Vote.VoteType NATIONAL = Vote.VoteType.NATIONAL;
+
+    private final List<Object[]> grouped = new ArrayList<>();
+    private VoteRepository voteRepository;
+    private VoteTallyServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        voteRepository = mock(VoteRepository.class);
+        when(voteRepository.countVotesGroupedByEntryAndVoteType()).thenAnswer(inv -> new ArrayList<>(grouped));
+        service = new VoteTallyServiceImpl(voteRepository);
+        grouped.add(new Object[] {1L, CAMPUS, 5L});
+        grouped.add(new Object[] {1L, NATIONAL, 2L});
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("첫 조회 시 GROUP BY 집계 1회로 적재하고 타입별로 분리")
+    void loadsLazilyFromGroupedCounts() {
+        assertThat(service.getVoteCount(1L, CAMPUS)).isEqualTo(5);
+        assertThat(service.getVoteCount(1L, NATIONAL)).isEqualTo(2);
+        assertThat(service.getVoteCount(2L, CAMPUS)).isZero();
+        assertThat(service.getVoteCounts(List.of(1L, 2L), CAMPUS)).containsEntry(1L, 5L).containsEntry(2L, 0L);
+        verify(voteRepository, times(1)).countVotesGroupedByEntryAndVoteType();
+    }
+
+    @Test
+    @DisplayName("커밋된 투표는 카운터에 남고, 롤백된 투표는 되돌림")
+    void rollbackCompensatesCounter() {
+        TransactionSynchronizationManager.initSynchronization();
+        assertThat(service.recordVote(1L, CAMPUS)).isEqualTo(6);
+        assertThat(service.recordVote(2L, CAMPUS)).isEqualTo(1);
+        assertThat(service.getVoteCount(1L, CAMPUS)).isEqualTo(6);
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertThat(service.getVoteCount(1L, CAMPUS)).isEqualTo(5);
+        assertThat(service.getVoteCount(2L, CAMPUS)).isZero();
+
+        TransactionSynchronizationManager.initSynchronization();
+        service.recordVote(1L, CAMPUS);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertThat(service.getVoteCount(1L, CAMPUS)).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖의 반영은 되돌림 없이 즉시 확정")
+    void recordOutsideTransaction() {
+        assertThat(service.recordVote(1L, NATIONAL)).isEqualTo(3);
+        assertThat(service.getVoteCount(1L, NATIONAL)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("재적재 중에 잡힌 투표가 롤백되어도 새로 적재한 카운터는 건드리지 않음")
+    void rollbackAfterReloadLeavesFreshCounters() {
+        service.getVoteCount(1L, CAMPUS);
+        TransactionSynchronizationManager.initSynchronization();
+        service.recordVote(1L, CAMPUS);
+
+        service.reload();
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(service.getVoteCount(1L, CAMPUS)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("엔트리 삭제 이벤트는 모든 타입의 카운터를 제거")
+    void entryDeletionRemovesCounters() {
+        service.getVoteCount(1L, CAMPUS);
+
+        service.onEntryDeleted(new RankingEntryDeletedEvent(1L));
+
+        assertThat(service.getVoteCount(1L, CAMPUS)).isZero();
+        assertThat(service.getVoteCount(1L, NATIONAL)).isZero();
+    }
+
+    private static void complete(int status) {
+        try {
+            for (TransactionSynchronization sync : TransactionSynchronizationManager.getSynchronizations()) {
+                sync.afterCompletion(status);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
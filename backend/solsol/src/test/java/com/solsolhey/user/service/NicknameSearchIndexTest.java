@@ -0,0 +1,158 @@
+package com.solsolhey.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class NicknameSearchIndexTest {
+
+    private LoadHookJdbcTemplate jdbcTemplate;
+    private NicknameSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new LoadHookJdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:nickname-" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("CREATE TABLE users (user_id BIGINT PRIMARY KEY, nickname VARCHAR(50))");
+        insert(1, "민정");
+        insert(2, "김민정");
+        insert(3, "민정이");
+        insert(4, "최민정수");
+        insert(5, "민");
+        insert(6, "Alice");
+
+        index = new NicknameSearchIndex(jdbcTemplate);
+        ReflectionTestUtils.setField(index, "maxResults", 20);
+        ReflectionTestUtils.setField(index, "maxCandidates", 2000);
+    }
+
+    @Test
+    @DisplayName("완전 일치 → 접두어 → 부분 일치 순, 같은 순위는 짧은 닉네임 우선")
+    void ranksExactThenPrefixThenSubstring() {
+        index.reload();
+
+        assertThat(index.search("민정")).containsExactly(1L, 3L, 2L, 4L);
+        assertThat(index.search("정수")).containsExactly(4L);
+        assertThat(index.search("없는닉네임")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("초성만 입력하면 초성 문자열로 검색")
+    void choseongOnlyQuery() {
+        index.reload();
+
+        assertThat(index.search("ㄱㅁㅈ")).containsExactly(2L);
+        assertThat(index.search("ㅁㅈ")).containsExactly(1L, 3L, 2L, 4L);
+        assertThat(index.search("ㅈㅅ")).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("한 글자 검색은 unigram 색인으로 부분 일치까지 찾음")
+    void singleCharacterUsesUnigrams() {
+        index.reload();
+
+        assertThat(index.search("민")).containsExactly(5L, 1L, 3L, 2L, 4L);
+        assertThat(index.search("수")).containsExactly(4L);
+        assertThat(index.search("ㅊ")).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("정규화: 앞뒤 공백 제거, 대소문자 무시, 빈 검색어는 결과 없음")
+    void normalizesQuery() {
+        index.reload();
+
+        assertThat(index.search("  ALI ")).containsExactly(6L);
+        assertThat(index.search("ce")).containsExactly(6L);
+        assertThat(index.search("   ")).isEmpty();
+        assertThat(index.search(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("결과 수는 max-results 로 제한")
+    void limitsResults() {
+        ReflectionTestUtils.setField(index, "maxResults", 2);
+        index.reload();
+
+        assertThat(index.search("민")).containsExactly(5L, 1L);
+    }
+
+    @Test
+    @DisplayName("적재 이후의 닉네임 변경은 이전 닉네임 색인을 지우고 즉시 반영")
+    void liveChangeReplacesOldNickname() {
+        index.reload();
+
+        index.onNicknameChanged(2L, "박서준");
+
+        assertThat(index.search("김민")).isEmpty();
+        assertThat(index.search("서준")).containsExactly(2L);
+        assertThat(index.search("ㅂㅅㅈ")).containsExactly(2L);
+        assertThat(index.search("민정")).containsExactly(1L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("재적재 도중 커밋된 변경은 읽어온 스냅샷 위에 다시 적용")
+    void changeDuringReloadIsReplayed() {
+        index.reload();
+        // 첫 행을 읽은 직후(스냅샷에는 이전 닉네임) 다른 트랜잭션의 변경이 커밋된 상황
+        jdbcTemplate.duringLoad = () -> {
+            jdbcTemplate.update("UPDATE users SET nickname = ? WHERE user_id = ?", "박서준", 2L);
+            index.onNicknameChanged(2L, "박서준");
+            index.onNicknameChanged(7L, "신규가입");
+        };
+        jdbcTemplate.snapshotBeforeChange = true;
+
+        index.reload();
+
+        assertThat(index.search("김민정")).isEmpty();
+        assertThat(index.search("박서준")).containsExactly(2L);
+        assertThat(index.search("신규")).containsExactly(7L);
+        assertThat(index.getStatus().users()).isEqualTo(7);
+        assertThat(index.getStatus().reloads()).isEqualTo(2);
+    }
+
+    private void insert(long userId, String nickname) {
+        jdbcTemplate.update("INSERT INTO users (user_id, nickname) VALUES (?, ?)", userId, nickname);
+    }
+
+    /**
+     * 적재 쿼리 도중 변경을 끼워 넣기 위한 JdbcTemplate
+     * snapshotBeforeChange 이면 행을 모두 메모리로 읽은 뒤(이전 닉네임) 첫 행 처리 직후에 duringLoad 실행
+     */
+    private static final class LoadHookJdbcTemplate extends JdbcTemplate {
+        Runnable duringLoad;
+        boolean snapshotBeforeChange;
+
+        LoadHookJdbcTemplate(DriverManagerDataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public void query(String sql, RowCallbackHandler rch) {
+            Runnable hook = duringLoad;
+            duringLoad = null;
+            if (hook == null || !snapshotBeforeChange) {
+                super.query(sql, rch);
+                return;
+            }
+            var rows = super.queryForList("SELECT user_id, nickname FROM users ORDER BY user_id");
+            boolean[] first = {true};
+            for (var row : rows) {
+                super.query("SELECT CAST(? AS BIGINT), CAST(? AS VARCHAR(50))", rs -> {
+                    rch.processRow(rs);
+                }, row.get("USER_ID"), row.get("NICKNAME"));
+                if (first[0]) {
+                    first[0] = false;
+                    hook.run();
+                }
+            }
+        }
+    }
+}